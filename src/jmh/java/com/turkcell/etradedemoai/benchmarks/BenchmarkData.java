@@ -0,0 +1,51 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic sample entities shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+        // prevent instantiation
+    }
+
+    static Category category(long id) {
+        Category category = new Category("Category " + id);
+        category.setId(id);
+        category.setCreatedDate(Instant.parse("2025-11-10T10:15:30Z"));
+        category.setUpdatedDate(Instant.parse("2025-11-10T10:15:30Z"));
+        return category;
+    }
+
+    static Product product(long id, Category category) {
+        Product product = new Product(
+            "Product " + id,
+            BigDecimal.valueOf(1000 + id % 5000, 2),
+            (int) (id % 500),
+            "Description of product " + id + " with a realistic amount of text for a catalog listing",
+            category);
+        product.setId(id);
+        product.setCreatedDate(Instant.parse("2025-11-10T10:15:30Z"));
+        product.setUpdatedDate(Instant.parse("2025-11-10T15:30:45Z"));
+        return product;
+    }
+
+    static List<Product> products(int count) {
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            categories.add(category(id));
+        }
+        List<Product> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(product(id, categories.get((int) (id % categories.size()))));
+        }
+        return products;
+    }
+}
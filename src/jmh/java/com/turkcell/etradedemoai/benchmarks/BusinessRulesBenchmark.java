@@ -0,0 +1,60 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.business.rules.ProductBusinessRules;
+import com.turkcell.etradedemoai.common.BusinessException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Price and stock validation rules, on the accepted path and on the
+ * rejected path where a {@link BusinessException} (with stack trace) is built.
+ * The rules used here never touch the repositories, so none are supplied.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessRulesBenchmark {
+
+    private final ProductBusinessRules rules = new ProductBusinessRules(null, null, null);
+    private final BigDecimal validPrice = new BigDecimal("1299.99");
+    private final BigDecimal invalidPrice = new BigDecimal("-1.00");
+    private final Integer validStock = 50;
+    private final Integer invalidStock = -5;
+
+    @Benchmark
+    public void validPriceAndStock() {
+        rules.checkIfProductPriceIsValid(validPrice);
+        rules.checkIfProductStockIsValid(validStock);
+    }
+
+    @Benchmark
+    public void invalidPrice(Blackhole blackhole) {
+        try {
+            rules.checkIfProductPriceIsValid(invalidPrice);
+        } catch (BusinessException ex) {
+            blackhole.consume(ex);
+        }
+    }
+
+    @Benchmark
+    public void invalidStock(Blackhole blackhole) {
+        try {
+            rules.checkIfProductStockIsValid(invalidStock);
+        } catch (BusinessException ex) {
+            blackhole.consume(ex);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.common.cart.Cart;
+import com.turkcell.etradedemoai.common.cart.CartProperties;
+import com.turkcell.etradedemoai.common.cart.CartStore;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Add/remove throughput of the in-memory {@link CartStore} with {@code carts} live carts and
+ * several threads picking carts at random, with the expiry wheel running in the background.
+ * Product validation against the catalog is not part of this measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CartStoreBenchmark {
+
+    private static final BigDecimal UNIT_PRICE = new BigDecimal("19.99");
+    private static final int PRODUCTS = 50;
+
+    @Param({"100000"})
+    private int carts;
+
+    private CartStore store;
+    private String[] cartIds;
+
+    @Setup(Level.Trial)
+    public void fillStore() {
+        CartProperties properties = new CartProperties();
+        properties.setMaxCarts(carts);
+        store = new CartStore(properties);
+        cartIds = new String[carts];
+        for (int i = 0; i < carts; i++) {
+            cartIds[i] = store.create().getId();
+        }
+        store.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeStore() {
+        store.close();
+    }
+
+    @Benchmark
+    public boolean addItem() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Cart cart = store.find(cartIds[random.nextInt(carts)]).orElseThrow();
+        return cart.add((long) random.nextInt(PRODUCTS), 1, UNIT_PRICE, PRODUCTS);
+    }
+
+    @Benchmark
+    public boolean removeItem() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Cart cart = store.find(cartIds[random.nextInt(carts)]).orElseThrow();
+        return cart.remove((long) random.nextInt(PRODUCTS));
+    }
+}
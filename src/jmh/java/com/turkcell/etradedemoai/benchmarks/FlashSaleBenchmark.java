@@ -0,0 +1,85 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.EtradedemoaiApplication;
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleManager;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Single-unit orders per second for one hot product, with every thread updating the product
+ * row ({@code mode=database}) versus taking from the striped flash-sale counters and leaving the
+ * row to the periodic flush ({@code mode=flashSale}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FlashSaleBenchmark {
+
+    @Param({"database", "flashSale"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private CreateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(EtradedemoaiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:flash-sale-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.hikari.maximum-pool-size=8",
+                "--etrade.warmup.enabled=false",
+                "--etrade.slow-query.enabled=false",
+                "--etrade.inventory.jobs-enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.turkcell.etradedemoai=WARN");
+        orderService = context.getBean(OrderService.class);
+        Product product = context.getBean(ProductRepository.class)
+            .save(new Product("Flash sale product", new BigDecimal("19.99"), Integer.MAX_VALUE / 2, null));
+        if ("flashSale".equals(mode)) {
+            context.getBean(FlashSaleManager.class).activate(product.getId());
+        }
+        request = new CreateOrderRequest(List.of(new CreateOrderLineRequest(product.getId(), 1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateOrderResponse placeOrder() {
+        return orderService.placeOrder(request);
+    }
+}
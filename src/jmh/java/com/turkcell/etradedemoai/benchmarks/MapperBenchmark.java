@@ -0,0 +1,63 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.business.dtos.responses.category.GetCategoryResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.mappers.CategoryMapper;
+import com.turkcell.etradedemoai.business.mappers.CategoryMapperImpl;
+import com.turkcell.etradedemoai.business.mappers.ProductMapper;
+import com.turkcell.etradedemoai.business.mappers.ProductMapperImpl;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entity-to-DTO conversion through the MapStruct generated mappers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl();
+
+    private Product product;
+    private Category category;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        category = BenchmarkData.category(1);
+        product = BenchmarkData.product(1, category);
+        products = BenchmarkData.products(1_000);
+    }
+
+    @Benchmark
+    public GetProductResponse productToGetResponse() {
+        return productMapper.toGetResponse(product);
+    }
+
+    @Benchmark
+    public List<GetProductResponse> productListToGetResponses() {
+        return productMapper.toGetResponseList(products);
+    }
+
+    @Benchmark
+    public GetCategoryResponse categoryToGetResponse() {
+        return categoryMapper.toGetResponse(category);
+    }
+}
@@ -0,0 +1,93 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.EtradedemoaiApplication;
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Orders per second through {@link OrderService#placeOrder} on an in-memory H2, with several
+ * threads ordering from a small set of hot products ({@code hotProducts=2}: every order
+ * contends for the same rows) versus a wide catalog where contention is rare.
+ * Each order has three lines in random product order; stock is effectively unlimited.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class OrderPlacementBenchmark {
+
+    private static final int LINES_PER_ORDER = 3;
+
+    @Param({"2", "1000"})
+    private int hotProducts;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private List<Long> productIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(EtradedemoaiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:order-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.hikari.maximum-pool-size=8",
+                "--etrade.warmup.enabled=false",
+                "--etrade.slow-query.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.turkcell.etradedemoai=WARN");
+        orderService = context.getBean(OrderService.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<Product> products = new ArrayList<>(hotProducts);
+        for (int i = 0; i < Math.max(hotProducts, LINES_PER_ORDER); i++) {
+            products.add(new Product("Benchmark product " + i, new BigDecimal("19.99"), Integer.MAX_VALUE, null));
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateOrderResponse placeOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<CreateOrderLineRequest> lines = new ArrayList<>(LINES_PER_ORDER);
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            lines.add(new CreateOrderLineRequest(productIds.get(random.nextInt(productIds.size())), 1));
+        }
+        return orderService.placeOrder(new CreateOrderRequest(lines));
+    }
+}
@@ -0,0 +1,93 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.mappers.ProductMapper;
+import com.turkcell.etradedemoai.business.mappers.ProductMapperImpl;
+import com.turkcell.etradedemoai.common.pricing.PricingEngine;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import com.turkcell.etradedemoai.entities.DiscountScope;
+import com.turkcell.etradedemoai.entities.DiscountType;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Effective-price evaluations per microsecond for a 1000-item listing page. With
+ * {@code discountedShare=0} no rule matches (the common case); otherwise every category has a
+ * rule and that share of products also has two product rules of its own.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingEngineBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({"0", "10"})
+    private int discountedShare;
+
+    private PricingEngine engine;
+    private List<GetProductResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProductMapper mapper = new ProductMapperImpl();
+        page = mapper.toGetResponseList(BenchmarkData.products(PAGE_SIZE));
+        List<DiscountRule> rules = new ArrayList<>();
+        if (discountedShare > 0) {
+            for (long categoryId = 1; categoryId <= 20; categoryId++) {
+                rules.add(rule(rules.size(), DiscountScope.CATEGORY, categoryId, DiscountType.PERCENTAGE, "10"));
+            }
+            for (long productId = 1; productId <= PAGE_SIZE; productId++) {
+                if (productId % 100 < discountedShare) {
+                    rules.add(rule(rules.size(), DiscountScope.PRODUCT, productId, DiscountType.PERCENTAGE, "15"));
+                    rules.add(rule(rules.size(), DiscountScope.PRODUCT, productId, DiscountType.FIXED_AMOUNT, "2.50"));
+                }
+            }
+        }
+        engine = new PricingEngine(repositoryReturning(rules));
+        engine.reload();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<GetProductResponse> applyToPage() {
+        engine.applyTo(page);
+        return page;
+    }
+
+    private static DiscountRule rule(long id, DiscountScope scope, long targetId, DiscountType type, String amount) {
+        DiscountRule rule = new DiscountRule("Rule " + id, scope, targetId, type, new BigDecimal(amount), null, null);
+        rule.setId(id + 1);
+        return rule;
+    }
+
+    private static DiscountRuleRepository repositoryReturning(List<DiscountRule> rules) {
+        return (DiscountRuleRepository) Proxy.newProxyInstance(DiscountRuleRepository.class.getClassLoader(),
+            new Class<?>[] {DiscountRuleRepository.class}, (proxy, method, args) -> {
+                if (method.getName().equals("findLive")) {
+                    return rules;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,63 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Product#equals(Object)} and {@link Product#hashCode()} for persisted
+ * (id-based) and transient (field-based) instances.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductIdentityBenchmark {
+
+    private Product persisted;
+    private Product persistedCopy;
+    private Product transientProduct;
+    private Product transientCopy;
+
+    @Setup
+    public void setUp() {
+        Category category = BenchmarkData.category(1);
+        persisted = BenchmarkData.product(1, category);
+        persistedCopy = BenchmarkData.product(1, category);
+        transientProduct = new Product("Laptop", new BigDecimal("999.99"), 10, "High-performance laptop");
+        transientCopy = new Product("Laptop", new BigDecimal("999.99"), 10, "High-performance laptop");
+    }
+
+    @Benchmark
+    public boolean equalsPersisted() {
+        return persisted.equals(persistedCopy);
+    }
+
+    @Benchmark
+    public boolean equalsTransient() {
+        return transientProduct.equals(transientCopy);
+    }
+
+    @Benchmark
+    public int hashCodePersisted() {
+        return persisted.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeTransient() {
+        return transientProduct.hashCode();
+    }
+}
@@ -0,0 +1,51 @@
+package com.turkcell.etradedemoai.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetAllProductsResponse;
+import com.turkcell.etradedemoai.business.mappers.ProductMapperImpl;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson serialization of {@link GetAllProductsResponse} with the same
+ * ObjectMapper defaults Spring MVC uses. Output is discarded so only
+ * serialization work (not buffer growth) is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000"})
+    private int items;
+
+    private ObjectMapper objectMapper;
+    private GetAllProductsResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = new GetAllProductsResponse(new ProductMapperImpl().toGetResponseList(BenchmarkData.products(items)));
+    }
+
+    @Benchmark
+    public void serializeGetAllProducts() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * JMH micro-benchmarks for mapping, validation, entity identity and serialization hot paths,
+ * plus order placement throughput under stock contention (with and without flash-sale
+ * counters), in-memory cart operations and discount evaluation for listing pages.
+ *
+ * Compiled and run only with the {@code benchmarks} Maven profile:
+ * {@code ./mvnw -Pbenchmarks verify -DskipTests}.
+ */
+package com.turkcell.etradedemoai.benchmarks;
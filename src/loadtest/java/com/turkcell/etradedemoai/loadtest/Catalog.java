@@ -0,0 +1,50 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids and names of the seeded categories and products that requests pick from.
+ * Reads and updates target the seeded rows only, so the working set stays stable.
+ */
+class Catalog {
+
+    private final long[] categoryIds;
+    private final long[] productIds;
+    private final Map<Long, String> productNames;
+    private final AtomicLong createdProducts = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    Catalog(List<Long> categoryIds, Map<Long, String> productNames) {
+        this.categoryIds = categoryIds.stream().mapToLong(Long::longValue).toArray();
+        this.productIds = productNames.keySet().stream().mapToLong(Long::longValue).toArray();
+        this.productNames = productNames;
+    }
+
+    long randomCategoryId() {
+        return categoryIds[ThreadLocalRandom.current().nextInt(categoryIds.length)];
+    }
+
+    long randomProductId() {
+        return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+    }
+
+    String productName(long id) {
+        return productNames.get(id);
+    }
+
+    String nextProductName() {
+        return "LoadTest " + runId + " #" + createdProducts.incrementAndGet();
+    }
+
+    String productJson(String name, long categoryId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BigDecimal price = BigDecimal.valueOf(random.nextDouble(1, 5000)).setScale(2, RoundingMode.HALF_UP);
+        return "{\"name\":\"" + name + "\",\"unitPrice\":" + price + ",\"unitsInStock\":" + random.nextInt(0, 500)
+            + ",\"description\":\"Load test product\",\"categoryId\":" + categoryId + "}";
+    }
+}
@@ -0,0 +1,44 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms. Latency is measured from the request's
+ * intended start time, so queueing caused by a slow server is included
+ * (coordinated-omission corrected) instead of silently lowering the rate.
+ */
+class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void record(Operation operation, long intendedStartNanos, boolean failed) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (failed) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).get();
+    }
+}
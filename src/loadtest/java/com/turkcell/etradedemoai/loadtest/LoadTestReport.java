@@ -0,0 +1,113 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Builds the machine-readable JSON report and compares it with the stored baseline
+ * ({@code loadtest-baseline.json} on the classpath).
+ */
+class LoadTestReport {
+
+    private static final String BASELINE_RESOURCE = "/loadtest-baseline.json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final ObjectNode root = objectMapper.createObjectNode();
+    private boolean regressed;
+
+    LoadTestReport(LoadTestSettings settings, LatencyRecorder recorder, long issued, double elapsedSeconds) {
+        ObjectNode config = root.putObject("config");
+        config.put("targetRate", settings.getRate());
+        config.put("durationSeconds", settings.getDuration().toSeconds());
+        config.put("seedProducts", settings.getSeedProducts());
+        config.put("seedCategories", settings.getSeedCategories());
+        ObjectNode mix = config.putObject("mix");
+        settings.getMix().forEach((operation, weight) -> mix.put(operation.getEndpoint(), weight));
+
+        root.put("requests", issued);
+        root.put("achievedRate", issued / elapsedSeconds);
+
+        ObjectNode endpoints = root.putObject("endpoints");
+        for (Map.Entry<Operation, Integer> entry : settings.getMix().entrySet()) {
+            Operation operation = entry.getKey();
+            Histogram histogram = recorder.histogram(operation);
+            ObjectNode stats = endpoints.putObject(operation.getEndpoint());
+            stats.put("count", histogram.getTotalCount());
+            stats.put("errors", recorder.errors(operation));
+            stats.put("meanMillis", histogram.getMean() / 1000.0);
+            stats.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+            stats.put("p90Millis", histogram.getValueAtPercentile(90) / 1000.0);
+            stats.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+            stats.put("p999Millis", histogram.getValueAtPercentile(99.9) / 1000.0);
+            stats.put("maxMillis", histogram.getMaxValue() / 1000.0);
+        }
+        compareWithBaseline(settings.getRegressionTolerance());
+    }
+
+    /**
+     * Marks an endpoint as regressed when its p99 exceeds the baseline p99 by more than the tolerance factor.
+     */
+    private void compareWithBaseline(double tolerance) {
+        JsonNode baseline = readBaseline();
+        if (baseline == null) {
+            return;
+        }
+        ObjectNode comparison = root.putObject("comparison");
+        comparison.put("tolerance", tolerance);
+        Iterator<Map.Entry<String, JsonNode>> current = root.get("endpoints").fields();
+        while (current.hasNext()) {
+            Map.Entry<String, JsonNode> entry = current.next();
+            JsonNode base = baseline.path("endpoints").path(entry.getKey());
+            if (base.isMissingNode() || base.path("p99Millis").asDouble() <= 0) {
+                continue;
+            }
+            double baseP99 = base.path("p99Millis").asDouble();
+            double currentP99 = entry.getValue().path("p99Millis").asDouble();
+            boolean endpointRegressed = currentP99 > baseP99 * tolerance;
+            ObjectNode result = comparison.putObject(entry.getKey());
+            result.put("baselineP99Millis", baseP99);
+            result.put("currentP99Millis", currentP99);
+            result.put("ratio", currentP99 / baseP99);
+            result.put("regressed", endpointRegressed);
+            regressed |= endpointRegressed;
+        }
+        comparison.put("regressed", regressed);
+    }
+
+    private JsonNode readBaseline() {
+        try (InputStream in = LoadTestReport.class.getResourceAsStream(BASELINE_RESOURCE)) {
+            return in != null ? objectMapper.readTree(in) : null;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read load test baseline", ex);
+        }
+    }
+
+    void write(Path directory, LatencyRecorder recorder, Iterable<Operation> operations) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), root);
+        for (Operation operation : operations) {
+            Path file = directory.resolve(operation.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                recorder.histogram(operation).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    boolean isRegressed() {
+        return regressed;
+    }
+
+    String toPrettyString() {
+        return root.toPrettyString();
+    }
+}
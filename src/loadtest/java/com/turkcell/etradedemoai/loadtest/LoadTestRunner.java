@@ -0,0 +1,179 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.EtradedemoaiApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application on an in-memory H2 database, seeds a catalog and
+ * drives the configured CRUD mix at a constant arrival rate (open model):
+ * requests are sent on schedule whether or not earlier ones have completed.
+ * Exits with status 1 when a p99 regressed against the baseline.
+ */
+public final class LoadTestRunner {
+
+    /** Requests still open after this are recorded as errors so an overloaded run still produces a report. */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        // Command-line style arguments so they win over application.yaml (DEBUG web logging would skew latencies)
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EtradedemoaiApplication.class)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--etrade.warmup.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springdoc=WARN",
+                "--logging.level.com.turkcell.etradedemoai=WARN");
+        int exitCode;
+        try {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            exitCode = new LoadTestRunner(settings).run(base);
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(URI base) throws Exception {
+        Catalog catalog = seed(base);
+        OperationPicker picker = new OperationPicker(settings.getMix());
+
+        System.out.printf("Warming up for %s at %d req/s%n", settings.getWarmup(), settings.getRate());
+        drive(base, catalog, picker, settings.getWarmup(), new LatencyRecorder());
+
+        System.out.printf("Measuring for %s at %d req/s%n", settings.getDuration(), settings.getRate());
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long issued = drive(base, catalog, picker, settings.getDuration(), recorder);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        LoadTestReport report = new LoadTestReport(settings, recorder, issued, elapsedSeconds);
+        report.write(settings.getReportDir(), recorder, settings.getMix().keySet());
+        System.out.println(report.toPrettyString());
+        System.out.println("Report written to " + settings.getReportDir().resolve("report.json"));
+        if (report.isRegressed()) {
+            System.out.println("p99 latency regressed against the baseline");
+            return settings.isFailOnRegression() ? 1 : 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Issues requests at fixed intervals for the given duration and waits for the stragglers.
+     */
+    private long drive(URI base, Catalog catalog, OperationPicker picker, Duration duration, LatencyRecorder recorder)
+            throws InterruptedException, TimeoutException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long total = duration.toSeconds() * settings.getRate();
+        Phaser inFlight = new Phaser(1);
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = picker.next();
+            inFlight.register();
+            client.sendAsync(operation.request(base, catalog), HttpResponse.BodyHandlers.discarding())
+                .orTimeout(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> {
+                    recorder.record(operation, intendedStart, error != null || response.statusCode() >= 400);
+                    inFlight.arriveAndDeregister();
+                });
+        }
+        inFlight.awaitAdvanceInterruptibly(inFlight.arrive(), 2 * REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        return total;
+    }
+
+    private Catalog seed(URI base) throws IOException, InterruptedException {
+        System.out.printf("Seeding %d categories and %d products%n", settings.getSeedCategories(), settings.getSeedProducts());
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 1; i <= settings.getSeedCategories(); i++) {
+            categoryIds.add(post(base.resolve("/api/categories"), "{\"name\":\"Category " + i + "\"}"));
+        }
+        Map<Long, String> productNames = new LinkedHashMap<>();
+        for (int i = 1; i <= settings.getSeedProducts(); i++) {
+            String name = "Product " + i;
+            long categoryId = categoryIds.get(ThreadLocalRandom.current().nextInt(categoryIds.size()));
+            String body = "{\"name\":\"" + name + "\",\"unitPrice\":" + (10 + i % 990) + ".99,\"unitsInStock\":"
+                + (i % 500) + ",\"description\":\"Seeded product " + i + "\",\"categoryId\":" + categoryId + "}";
+            productNames.put(post(base.resolve("/api/products"), body), name);
+        }
+        return new Catalog(categoryIds, productNames);
+    }
+
+    private long post(URI uri, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + uri + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("id").asLong();
+    }
+
+    /**
+     * Weighted random choice over the configured mix.
+     */
+    private static class OperationPicker {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        OperationPicker(Map<Operation, Integer> mix) {
+            operations = mix.keySet().toArray(new Operation[0]);
+            cumulativeWeights = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += mix.get(operations[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        Operation next() {
+            int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+}
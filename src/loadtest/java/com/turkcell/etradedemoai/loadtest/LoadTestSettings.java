@@ -0,0 +1,102 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load test configuration read from {@code loadtest.*} system properties
+ * (forwarded by the Maven profile).
+ */
+class LoadTestSettings {
+
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Map<Operation, Integer> mix;
+    private final int seedCategories;
+    private final int seedProducts;
+    private final double regressionTolerance;
+    private final boolean failOnRegression;
+    private final Path reportDir;
+
+    private LoadTestSettings(int rate, Duration duration, Duration warmup, Map<Operation, Integer> mix,
+            int seedCategories, int seedProducts, double regressionTolerance, boolean failOnRegression, Path reportDir) {
+        this.rate = rate;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.mix = mix;
+        this.seedCategories = seedCategories;
+        this.seedProducts = seedProducts;
+        this.regressionTolerance = regressionTolerance;
+        this.failOnRegression = failOnRegression;
+        this.reportDir = reportDir;
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Integer.parseInt(System.getProperty("loadtest.rate", "50")),
+            DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s")),
+            DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+            parseMix(System.getProperty("loadtest.mix",
+                "getProduct:60,getAllProducts:5,getCategory:15,createProduct:10,updateProduct:10")),
+            Integer.parseInt(System.getProperty("loadtest.seed-categories", "20")),
+            Integer.parseInt(System.getProperty("loadtest.seed-products", "1000")),
+            Double.parseDouble(System.getProperty("loadtest.regression-tolerance", "1.5")),
+            Boolean.parseBoolean(System.getProperty("loadtest.fail-on-regression", "true")),
+            Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")));
+    }
+
+    /**
+     * Parses {@code name:weight,...} pairs, e.g. {@code getProduct:80,updateProduct:20}.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String pair : value.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + pair + "', expected name:weight");
+            }
+            mix.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    int getRate() {
+        return rate;
+    }
+
+    Duration getDuration() {
+        return duration;
+    }
+
+    Duration getWarmup() {
+        return warmup;
+    }
+
+    Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    int getSeedCategories() {
+        return seedCategories;
+    }
+
+    int getSeedProducts() {
+        return seedProducts;
+    }
+
+    double getRegressionTolerance() {
+        return regressionTolerance;
+    }
+
+    boolean isFailOnRegression() {
+        return failOnRegression;
+    }
+
+    Path getReportDir() {
+        return reportDir;
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.etradedemoai.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * The CRUD requests the load test can issue against ProductController and CategoryController.
+ */
+enum Operation {
+
+    GET_PRODUCT("getProduct", "GET /api/products/{id}") {
+        @Override
+        HttpRequest request(URI base, Catalog catalog) {
+            return get(base.resolve("/api/products/" + catalog.randomProductId()));
+        }
+    },
+    GET_ALL_PRODUCTS("getAllProducts", "GET /api/products") {
+        @Override
+        HttpRequest request(URI base, Catalog catalog) {
+            return get(base.resolve("/api/products"));
+        }
+    },
+    GET_CATEGORY("getCategory", "GET /api/categories/{id}") {
+        @Override
+        HttpRequest request(URI base, Catalog catalog) {
+            return get(base.resolve("/api/categories/" + catalog.randomCategoryId()));
+        }
+    },
+    CREATE_PRODUCT("createProduct", "POST /api/products") {
+        @Override
+        HttpRequest request(URI base, Catalog catalog) {
+            String body = catalog.productJson(catalog.nextProductName(), catalog.randomCategoryId());
+            return HttpRequest.newBuilder(base.resolve("/api/products"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+    },
+    UPDATE_PRODUCT("updateProduct", "PUT /api/products/{id}") {
+        @Override
+        HttpRequest request(URI base, Catalog catalog) {
+            long id = catalog.randomProductId();
+            String body = catalog.productJson(catalog.productName(id), catalog.randomCategoryId());
+            return HttpRequest.newBuilder(base.resolve("/api/products/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        }
+    };
+
+    private final String name;
+    private final String endpoint;
+
+    Operation(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    abstract HttpRequest request(URI base, Catalog catalog);
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation '" + name + "'");
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+}
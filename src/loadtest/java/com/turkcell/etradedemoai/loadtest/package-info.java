@@ -0,0 +1,11 @@
+/**
+ * End-to-end load test harness (open-model, constant arrival rate) for the CRUD API.
+ *
+ * Compiled and run only with the {@code loadtest} Maven profile:
+ * {@code ./mvnw -Ploadtest verify -DskipTests}. Latencies are measured from each
+ * request's scheduled start, so queueing delay under overload is not hidden
+ * (coordinated omission). The p99 of every endpoint is compared against
+ * {@code src/loadtest/resources/loadtest-baseline.json}; refresh it by copying
+ * {@code target/loadtest/report.json} after an intended performance change.
+ */
+package com.turkcell.etradedemoai.loadtest;
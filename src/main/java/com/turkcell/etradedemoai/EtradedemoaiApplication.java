@@ -2,12 +2,23 @@ package com.turkcell.etradedemoai;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class EtradedemoaiApplication {
 
+	/** Enough for every bean and context phase step of a full startup; served by /actuator/startup. */
+	private static final int STARTUP_STEP_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(EtradedemoaiApplication.class, args);
+		SpringApplication application = new SpringApplication(EtradedemoaiApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		ConfigurableApplicationContext context = application.run(args);
+		if (context.getEnvironment().matchesProfiles("datagen")) {
+			// One-shot load: the scheduler thread would otherwise keep the JVM alive once the generator has finished
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,94 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.CartService;
+import com.turkcell.etradedemoai.business.dtos.requests.cart.AddCartItemsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.CreateCartResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.GetCartResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/carts")
+@Tag(name = "Carts", description = "Shopping cart endpoints; carts expire after a period of inactivity")
+public class CartController {
+
+    private final CartService cartService;
+
+    public CartController(CartService cartService) {
+        this.cartService = cartService;
+    }
+
+    @Operation(summary = "Create a cart", description = "Creates an empty cart and returns its id")
+    @ApiResponse(responseCode = "201", description = "Cart created",
+        content = @Content(schema = @Schema(implementation = CreateCartResponse.class)))
+    @PostMapping
+    public ResponseEntity<CreateCartResponse> create() {
+        CreateCartResponse created = cartService.createCart();
+        return ResponseEntity.created(URI.create("/api/carts/" + created.getId()))
+            .body(created);
+    }
+
+    @Operation(summary = "Get a cart", description = "Returns the cart priced at current catalog prices")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cart found",
+            content = @Content(schema = @Schema(implementation = GetCartResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Cart not found or expired")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<GetCartResponse> getById(
+        @Parameter(description = "ID of the cart", required = true) @PathVariable String id) {
+        return cartService.getById(id)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Add products to a cart", description = "Adds units of one or more products, validated in a single lookup")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Products added",
+            content = @Content(schema = @Schema(implementation = GetCartResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input or unknown product")
+    })
+    @PostMapping("/{id}/items")
+    public ResponseEntity<GetCartResponse> addItems(
+        @Parameter(description = "ID of the cart", required = true) @PathVariable String id,
+        @Parameter(description = "Products to add", required = true) @RequestBody AddCartItemsRequest request) {
+        return ResponseEntity.ok(cartService.addItems(id, request));
+    }
+
+    @Operation(summary = "Remove a product from a cart", description = "Removes all units of a product")
+    @ApiResponse(responseCode = "200", description = "Product removed",
+        content = @Content(schema = @Schema(implementation = GetCartResponse.class)))
+    @DeleteMapping("/{id}/items/{productId}")
+    public ResponseEntity<GetCartResponse> removeItem(
+        @Parameter(description = "ID of the cart", required = true) @PathVariable String id,
+        @Parameter(description = "ID of the product to remove", required = true) @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.removeItem(id, productId));
+    }
+
+    @Operation(summary = "Delete a cart", description = "Deletes a cart and its contents")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Cart deleted"),
+        @ApiResponse(responseCode = "404", description = "Cart not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+        @Parameter(description = "ID of the cart", required = true) @PathVariable String id) {
+        return cartService.deleteById(id)
+            ? ResponseEntity.noContent().build()
+            : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Change Feed", description = "Server-sent events for product and category changes")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @Operation(summary = "Stream catalog changes",
+        description = "Sends a 'product' or 'category' event for every committed change; the event id is the cursor "
+            + "to resume from. Bursts of changes to the same entity may arrive as only the latest event. A 'reset' "
+            + "event means changes after the cursor are no longer retained and the catalog must be reloaded.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened"),
+        @ApiResponse(responseCode = "503", description = "Too many open streams; retry later")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+        @Parameter(description = "Id of the last event received; sent by EventSource on reconnect")
+        @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+        @Parameter(description = "Event id to resume after, for clients that cannot set the header")
+        @RequestParam(required = false) Long after,
+        @Parameter(description = "Start with changes made at or after this instant", example = "2025-11-10T10:15:30Z")
+        @RequestParam(required = false) Instant since) {
+        return changeFeedService.subscribe(lastEventId != null ? lastEventId : after, since)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
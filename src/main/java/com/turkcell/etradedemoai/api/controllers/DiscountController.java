@@ -0,0 +1,69 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.DiscountService;
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.DiscountRuleResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.GetAllDiscountRulesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/discounts")
+@Tag(name = "Discounts", description = "Product and category discount rule endpoints")
+public class DiscountController {
+
+    private final DiscountService discountService;
+
+    public DiscountController(DiscountService discountService) {
+        this.discountService = discountService;
+    }
+
+    @Operation(summary = "Create a discount rule",
+        description = "Creates a product or category discount; product listings use it once it is stored")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Discount rule created",
+            content = @Content(schema = @Schema(implementation = DiscountRuleResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid rule or unknown target")
+    })
+    @PostMapping
+    public ResponseEntity<DiscountRuleResponse> create(
+        @RequestBody @Parameter(description = "Discount rule details", required = true) CreateDiscountRuleRequest request) {
+        DiscountRuleResponse saved = discountService.create(request);
+        return ResponseEntity.created(URI.create("/api/discounts/" + saved.getId()))
+            .body(saved);
+    }
+
+    @Operation(summary = "Get all discount rules", description = "Returns every discount rule, including ones that have ended")
+    @ApiResponse(responseCode = "200", description = "List of discount rules retrieved",
+        content = @Content(schema = @Schema(implementation = GetAllDiscountRulesResponse.class)))
+    @GetMapping
+    public ResponseEntity<GetAllDiscountRulesResponse> getAll() {
+        return ResponseEntity.ok(discountService.getAll());
+    }
+
+    @Operation(summary = "Delete a discount rule", description = "Deletes a discount rule by its ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Discount rule successfully deleted"),
+        @ApiResponse(responseCode = "404", description = "Discount rule not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+        @Parameter(description = "ID of the discount rule to delete", required = true) @PathVariable Long id) {
+        discountService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+}
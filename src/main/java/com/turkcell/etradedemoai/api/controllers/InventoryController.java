@@ -0,0 +1,60 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.InventoryService;
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.RecordMovementsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.GetStockResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.RecordMovementsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/inventory")
+@Tag(name = "Inventory", description = "Stock movement ledger endpoints")
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    public InventoryController(InventoryService inventoryService) {
+        this.inventoryService = inventoryService;
+    }
+
+    @Operation(summary = "Record stock movements",
+        description = "Applies receipts and adjustments to product stock and appends them to the ledger in one transaction")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Movements recorded",
+            content = @Content(schema = @Schema(implementation = RecordMovementsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid movement, unknown product or stock would go negative")
+    })
+    @PostMapping("/movements")
+    public ResponseEntity<RecordMovementsResponse> recordMovements(
+        @RequestBody @Parameter(description = "Movements to record", required = true) RecordMovementsRequest request) {
+        return ResponseEntity.ok(inventoryService.recordMovements(request));
+    }
+
+    @Operation(summary = "Get stock of a product",
+        description = "Returns the stock on the product next to the ledger stock and the latest movements")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product found",
+            content = @Content(schema = @Schema(implementation = GetStockResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    @GetMapping("/products/{productId}")
+    public ResponseEntity<GetStockResponse> getStock(
+        @Parameter(description = "ID of the product", required = true) @PathVariable Long productId) {
+        return inventoryService.getStock(productId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
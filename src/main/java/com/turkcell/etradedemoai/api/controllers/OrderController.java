@@ -0,0 +1,71 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetAllOrdersResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetOrderResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/orders")
+@Tag(name = "Orders", description = "Order placement endpoints")
+public class OrderController {
+
+    private final OrderService orderService;
+
+    public OrderController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @Operation(summary = "Place an order",
+        description = "Reserves stock for all lines in one transaction; fails without side effects if any product is missing or short")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Order placed",
+            content = @Content(schema = @Schema(implementation = CreateOrderResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input or insufficient stock")
+    })
+    @PostMapping
+    public ResponseEntity<CreateOrderResponse> placeOrder(
+        @RequestBody @Parameter(description = "Order lines", required = true) CreateOrderRequest request) {
+        CreateOrderResponse placed = orderService.placeOrder(request);
+        return ResponseEntity.created(URI.create("/api/orders/" + placed.getId()))
+            .body(placed);
+    }
+
+    @Operation(summary = "Get all orders", description = "Returns all orders with their lines")
+    @ApiResponse(responseCode = "200", description = "List of orders retrieved",
+        content = @Content(schema = @Schema(implementation = GetAllOrdersResponse.class)))
+    @GetMapping
+    public ResponseEntity<GetAllOrdersResponse> getAll() {
+        return ResponseEntity.ok(orderService.getAll());
+    }
+
+    @Operation(summary = "Get an order by ID", description = "Returns an order with its lines")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Order found",
+            content = @Content(schema = @Schema(implementation = GetOrderResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<GetOrderResponse> getById(
+        @Parameter(description = "ID of the order", required = true) @PathVariable Long id) {
+        return orderService.getById(id)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
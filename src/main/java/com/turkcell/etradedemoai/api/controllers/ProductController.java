@@ -6,6 +6,8 @@ import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductReq
 import com.turkcell.etradedemoai.business.dtos.responses.product.CreateProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.DeleteProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetAllProductsResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductPricesResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.UpdateProductResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +18,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -51,7 +56,8 @@ public class ProductController {
             .body(saved);
     }
 
-    @Operation(summary = "Get all products", description = "Returns a list of all available products")
+    @Operation(summary = "Get all products",
+        description = "Returns a list of all available products with their effective prices after discounts")
     @ApiResponse(responseCode = "200", description = "List of products retrieved",
         content = @Content(schema = @Schema(implementation = GetAllProductsResponse.class)))
     @GetMapping
@@ -74,6 +80,36 @@ public class ProductController {
             .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get prices at an instant",
+        description = "Returns the unit price each product had at the given instant, from the price history, with one query")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Prices retrieved",
+            content = @Content(schema = @Schema(implementation = GetProductPricesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Missing instant, or no or too many product ids")
+    })
+    @GetMapping("/prices")
+    public ResponseEntity<GetProductPricesResponse> getPricesAt(
+        @Parameter(description = "IDs of the products, comma separated", required = true) @RequestParam List<Long> ids,
+        @Parameter(description = "ISO-8601 instant, e.g. 2025-01-31T12:00:00Z", required = true) @RequestParam Instant at) {
+        return ResponseEntity.ok(productService.getPricesAt(ids, at));
+    }
+
+    @Operation(summary = "Get changes since a watermark",
+        description = "Returns products created, updated or deleted after the watermark of an earlier sync, "
+            + "or every product without one, one page at a time with the watermark for the next request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved",
+            content = @Content(schema = @Schema(implementation = GetProductChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid watermark or page size")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<GetProductChangesResponse> getChangesSince(
+        @Parameter(description = "Watermark from the previous response, or an ISO-8601 instant; omit for a full sync")
+        @RequestParam(required = false) String since,
+        @Parameter(description = "Changes per page") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(productService.getChangesSince(since, size));
+    }
+
     @Operation(summary = "Update a product", description = "Updates an existing product with new details")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Product updated",
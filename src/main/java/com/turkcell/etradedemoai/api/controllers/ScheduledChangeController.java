@@ -0,0 +1,70 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.turkcell.etradedemoai.business.abstracts.ScheduledChangeService;
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduleProductChangesRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.CreateScheduledChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.GetAllScheduledChangesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/scheduled-changes")
+@Tag(name = "Scheduled Changes", description = "Future product price, stock and description change endpoints")
+public class ScheduledChangeController {
+
+    private final ScheduledChangeService scheduledChangeService;
+
+    public ScheduledChangeController(ScheduledChangeService scheduledChangeService) {
+        this.scheduledChangeService = scheduledChangeService;
+    }
+
+    @Operation(summary = "Schedule product changes",
+        description = "Stores a batch of product changes that are applied at their activation time")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Changes scheduled",
+            content = @Content(schema = @Schema(implementation = CreateScheduledChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid change or unknown product")
+    })
+    @PostMapping
+    public ResponseEntity<CreateScheduledChangesResponse> create(
+        @RequestBody @Parameter(description = "Changes to schedule", required = true) ScheduleProductChangesRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(scheduledChangeService.create(request));
+    }
+
+    @Operation(summary = "Get scheduled changes", description = "Returns scheduled changes in activation order")
+    @ApiResponse(responseCode = "200", description = "List of scheduled changes retrieved",
+        content = @Content(schema = @Schema(implementation = GetAllScheduledChangesResponse.class)))
+    @GetMapping
+    public ResponseEntity<GetAllScheduledChangesResponse> getAll(
+        @Parameter(description = "PENDING, APPLIED, FAILED or CANCELLED; all if omitted")
+        @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(scheduledChangeService.getAll(status));
+    }
+
+    @Operation(summary = "Cancel a scheduled change", description = "Cancels a change that has not been applied yet")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Change cancelled"),
+        @ApiResponse(responseCode = "404", description = "Scheduled change not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(
+        @Parameter(description = "ID of the change to cancel", required = true) @PathVariable Long id) {
+        scheduledChangeService.cancel(id);
+        return ResponseEntity.noContent().build();
+    }
+}
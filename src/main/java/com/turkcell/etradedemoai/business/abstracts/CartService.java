@@ -0,0 +1,19 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import com.turkcell.etradedemoai.business.dtos.requests.cart.AddCartItemsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.CreateCartResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.GetCartResponse;
+import java.util.Optional;
+
+public interface CartService {
+
+    CreateCartResponse createCart();
+
+    Optional<GetCartResponse> getById(String cartId);
+
+    GetCartResponse addItems(String cartId, AddCartItemsRequest request);
+
+    GetCartResponse removeItem(String cartId, Long productId);
+
+    boolean deleteById(String cartId);
+}
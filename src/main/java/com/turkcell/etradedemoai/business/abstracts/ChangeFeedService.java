@@ -0,0 +1,17 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ChangeFeedService {
+
+    /**
+     * Opens a stream of product and category change events.
+     *
+     * @param lastEventId id of the last event the client received; takes precedence over {@code since}
+     * @param since       start with changes written at or after this instant
+     * @return the stream, or empty when no more subscribers can be served
+     */
+    Optional<SseEmitter> subscribe(Long lastEventId, Instant since);
+}
@@ -0,0 +1,17 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.DiscountRuleResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.GetAllDiscountRulesResponse;
+
+public interface DiscountService {
+
+    /**
+     * Stores the rule; listings price with it once the transaction has committed.
+     */
+    DiscountRuleResponse create(CreateDiscountRuleRequest request);
+
+    GetAllDiscountRulesResponse getAll();
+
+    void deleteById(Long id);
+}
@@ -0,0 +1,16 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.RecordMovementsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.GetStockResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.RecordMovementsResponse;
+import java.util.Optional;
+
+public interface InventoryService {
+
+    /**
+     * Applies receipts and adjustments to product stock and appends them to the ledger, all or nothing.
+     */
+    RecordMovementsResponse recordMovements(RecordMovementsRequest request);
+
+    Optional<GetStockResponse> getStock(Long productId);
+}
@@ -0,0 +1,19 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetAllOrdersResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetOrderResponse;
+import java.util.Optional;
+
+public interface OrderService {
+
+    /**
+     * Reserves stock for every line and records the order, all or nothing.
+     */
+    CreateOrderResponse placeOrder(CreateOrderRequest request);
+
+    Optional<GetOrderResponse> getById(Long id);
+
+    GetAllOrdersResponse getAll();
+}
@@ -5,8 +5,13 @@ import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductReq
 import com.turkcell.etradedemoai.business.dtos.responses.product.CreateProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.DeleteProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetAllProductsResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductPricesResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.UpdateProductResponse;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductService {
@@ -15,8 +20,26 @@ public interface ProductService {
 
     Optional<GetProductResponse> getById(Long id);
 
+    /**
+     * Looks up several products with one query; ids that do not exist are absent from the result.
+     */
+    Map<Long, GetProductResponse> getByIds(Collection<Long> ids);
+
     GetAllProductsResponse getAll();
 
+    /**
+     * Unit prices the products had at {@code at}, from the price history, with one query.
+     */
+    GetProductPricesResponse getPricesAt(Collection<Long> ids, Instant at);
+
+    /**
+     * Products created, updated or deleted after the watermark of an earlier sync, or every
+     * product if {@code since} is null, one page at a time.
+     *
+     * @param size changes per page; null for the configured default
+     */
+    GetProductChangesResponse getChangesSince(String since, Integer size);
+
     UpdateProductResponse update(Long id, UpdateProductRequest request);
 
     DeleteProductResponse deleteById(Long id);
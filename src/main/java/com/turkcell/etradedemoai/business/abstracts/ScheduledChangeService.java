@@ -0,0 +1,23 @@
+package com.turkcell.etradedemoai.business.abstracts;
+
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduleProductChangesRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.CreateScheduledChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.GetAllScheduledChangesResponse;
+
+public interface ScheduledChangeService {
+
+    /**
+     * Stores all changes of the request in one transaction; they are applied at their activation time.
+     */
+    CreateScheduledChangesResponse create(ScheduleProductChangesRequest request);
+
+    /**
+     * @param status optional status filter
+     */
+    GetAllScheduledChangesResponse getAll(String status);
+
+    /**
+     * Cancels a pending change; it is skipped when its activation time comes.
+     */
+    void cancel(Long id);
+}
@@ -0,0 +1,124 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.CartService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.cart.AddCartItemsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.CartItemResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.CreateCartResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.GetCartResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.rules.CartBusinessRules;
+import com.turkcell.etradedemoai.common.cart.Cart;
+import com.turkcell.etradedemoai.common.cart.CartItem;
+import com.turkcell.etradedemoai.common.cart.CartProperties;
+import com.turkcell.etradedemoai.common.cart.CartStore;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * Carts live in the in-memory {@link CartStore}, never in the database. Products are
+ * validated and priced with a single {@link ProductService#getByIds} lookup per request.
+ */
+@Service
+public class CartServiceImpl implements CartService {
+
+    private final CartStore cartStore;
+    private final ProductService productService;
+    private final CartBusinessRules cartBusinessRules;
+    private final CartProperties cartProperties;
+
+    public CartServiceImpl(
+            CartStore cartStore,
+            ProductService productService,
+            CartBusinessRules cartBusinessRules,
+            CartProperties cartProperties) {
+        this.cartStore = cartStore;
+        this.productService = productService;
+        this.cartBusinessRules = cartBusinessRules;
+        this.cartProperties = cartProperties;
+    }
+
+    @Override
+    public CreateCartResponse createCart() {
+        return new CreateCartResponse(cartStore.create().getId());
+    }
+
+    @Override
+    public Optional<GetCartResponse> getById(String cartId) {
+        return cartStore.find(cartId).map(cart -> {
+            List<CartItem> items = cart.items();
+            return toResponse(cart, items, lookUp(items, List.of()));
+        });
+    }
+
+    @Override
+    public GetCartResponse addItems(String cartId, AddCartItemsRequest request) {
+        // Business rules validation
+        int maxQuantity = cartProperties.getMaxQuantityPerItem();
+        cartBusinessRules.checkIfItemsAreValid(request.getItems(), maxQuantity);
+        Cart cart = cartBusinessRules.checkIfCartExists(cartId);
+
+        Map<Long, Integer> quantities = cartBusinessRules.quantitiesByProductId(request.getItems(), maxQuantity);
+        // One lookup covers the new products and everything already in the cart
+        Map<Long, GetProductResponse> products = lookUp(cart.items(), quantities.keySet());
+        cartBusinessRules.checkIfProductsExist(quantities.keySet(), products.keySet());
+
+        quantities.forEach((productId, quantity) -> {
+            Cart.AddResult result = cart.add(productId, quantity, products.get(productId).getUnitPrice(),
+                cartProperties.getMaxItemsPerCart(), maxQuantity);
+            cartBusinessRules.checkIfCartHasRoom(result, cartProperties.getMaxItemsPerCart());
+            cartBusinessRules.checkIfQuantityWithinLimit(result, productId, maxQuantity);
+        });
+        return toResponse(cart, cart.items(), products);
+    }
+
+    @Override
+    public GetCartResponse removeItem(String cartId, Long productId) {
+        Cart cart = cartBusinessRules.checkIfCartExists(cartId);
+        cart.remove(productId);
+        List<CartItem> items = cart.items();
+        return toResponse(cart, items, lookUp(items, List.of()));
+    }
+
+    @Override
+    public boolean deleteById(String cartId) {
+        return cartStore.delete(cartId);
+    }
+
+    private Map<Long, GetProductResponse> lookUp(List<CartItem> items, Iterable<Long> additionalIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        items.forEach(item -> ids.add(item.getProductId()));
+        additionalIds.forEach(ids::add);
+        return productService.getByIds(ids);
+    }
+
+    private static GetCartResponse toResponse(Cart cart, List<CartItem> items, Map<Long, GetProductResponse> products) {
+        List<CartItemResponse> lines = new ArrayList<>(items.size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (CartItem item : items) {
+            GetProductResponse product = products.get(item.getProductId());
+            CartItemResponse line = new CartItemResponse();
+            line.setProductId(item.getProductId());
+            line.setQuantity(item.getQuantity());
+            line.setAddedUnitPrice(item.getUnitPrice());
+            line.setAvailable(product != null);
+            if (product != null) {
+                line.setProductName(product.getName());
+                line.setUnitPrice(product.getUnitPrice());
+                line.setPriceChanged(product.getUnitPrice().compareTo(item.getUnitPrice()) != 0);
+                line.setLineTotal(product.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                total = total.add(line.getLineTotal());
+            } else {
+                line.setLineTotal(BigDecimal.ZERO);
+            }
+            lines.add(line);
+        }
+        return new GetCartResponse(cart.getId(), lines, total);
+    }
+}
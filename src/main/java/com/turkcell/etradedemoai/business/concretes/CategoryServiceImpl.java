@@ -10,10 +10,16 @@ import com.turkcell.etradedemoai.business.dtos.responses.category.GetCategoryRes
 import com.turkcell.etradedemoai.business.dtos.responses.category.UpdateCategoryResponse;
 import com.turkcell.etradedemoai.business.mappers.CategoryMapper;
 import com.turkcell.etradedemoai.business.rules.CategoryBusinessRules;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
 import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
 import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,18 +29,22 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryBusinessRules categoryBusinessRules;
     private final CategoryMapper categoryMapper;
+    private final OutboxRecorder outboxRecorder;
 
     public CategoryServiceImpl(
             CategoryRepository categoryRepository, 
             CategoryBusinessRules categoryBusinessRules,
-            CategoryMapper categoryMapper) {
+            CategoryMapper categoryMapper,
+            OutboxRecorder outboxRecorder) {
         this.categoryRepository = categoryRepository;
         this.categoryBusinessRules = categoryBusinessRules;
         this.categoryMapper = categoryMapper;
+        this.outboxRecorder = outboxRecorder;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "#result.id")
     public CreateCategoryResponse create(CreateCategoryRequest request) {
         // Business rules validation
         categoryBusinessRules.checkIfCategoryNameIsValid(request.getName());
@@ -42,10 +52,12 @@ public class CategoryServiceImpl implements CategoryService {
         
         Category entity = categoryMapper.toEntity(request);
         Category saved = categoryRepository.save(entity);
+        outboxRecorder.categorySaved(OutboxEventType.CREATED, saved);
         return categoryMapper.toCreateResponse(saved);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "#id", sync = true)
     public Optional<GetCategoryResponse> getById(Long id) {
         return categoryRepository.findById(id).map(categoryMapper::toGetResponse);
     }
@@ -58,6 +70,11 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "#id"),
+        // cached products carry the category name
+        @CacheEvict(cacheNames = CacheNames.PRODUCTS, allEntries = true)
+    })
     public UpdateCategoryResponse update(Long id, UpdateCategoryRequest request) {
         // Business rules validation
         Category existing = categoryBusinessRules.checkIfCategoryExists(id);
@@ -66,17 +83,20 @@ public class CategoryServiceImpl implements CategoryService {
         
         existing.setName(request.getName());
         Category saved = categoryRepository.save(existing);
+        outboxRecorder.categorySaved(OutboxEventType.UPDATED, saved);
         return categoryMapper.toUpdateResponse(saved);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CATEGORIES, key = "#id")
     public DeleteCategoryResponse deleteById(Long id) {
         // Business rules validation
         categoryBusinessRules.checkIfCategoryExists(id);
         categoryBusinessRules.checkIfCategoryHasProducts(id);
         
         categoryRepository.deleteById(id);
+        outboxRecorder.categoryDeleted(id);
         return new DeleteCategoryResponse(true, "Deleted");
     }
 }
@@ -0,0 +1,33 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.ChangeFeedService;
+import com.turkcell.etradedemoai.business.rules.ChangeFeedBusinessRules;
+import com.turkcell.etradedemoai.common.feed.ChangeFeed;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change events come from the outbox through the {@link ChangeFeed}; this service only
+ * validates the cursor.
+ */
+@Service
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ChangeFeed changeFeed;
+    private final ChangeFeedBusinessRules changeFeedBusinessRules;
+
+    public ChangeFeedServiceImpl(ChangeFeed changeFeed, ChangeFeedBusinessRules changeFeedBusinessRules) {
+        this.changeFeed = changeFeed;
+        this.changeFeedBusinessRules = changeFeedBusinessRules;
+    }
+
+    @Override
+    public Optional<SseEmitter> subscribe(Long lastEventId, Instant since) {
+        // Business rules validation
+        changeFeedBusinessRules.checkIfCursorIsValid(lastEventId);
+
+        return Optional.ofNullable(changeFeed.subscribe(lastEventId, since));
+    }
+}
@@ -0,0 +1,81 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.DiscountService;
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.DiscountRuleResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.GetAllDiscountRulesResponse;
+import com.turkcell.etradedemoai.business.mappers.DiscountMapper;
+import com.turkcell.etradedemoai.business.rules.DiscountBusinessRules;
+import com.turkcell.etradedemoai.common.pricing.PricingEngine;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class DiscountServiceImpl implements DiscountService {
+
+    private final DiscountRuleRepository discountRuleRepository;
+    private final DiscountBusinessRules discountBusinessRules;
+    private final DiscountMapper discountMapper;
+    private final PricingEngine pricingEngine;
+
+    public DiscountServiceImpl(
+            DiscountRuleRepository discountRuleRepository,
+            DiscountBusinessRules discountBusinessRules,
+            DiscountMapper discountMapper,
+            PricingEngine pricingEngine) {
+        this.discountRuleRepository = discountRuleRepository;
+        this.discountBusinessRules = discountBusinessRules;
+        this.discountMapper = discountMapper;
+        this.pricingEngine = pricingEngine;
+    }
+
+    @Override
+    @Transactional
+    public DiscountRuleResponse create(CreateDiscountRuleRequest request) {
+        // Business rules validation
+        discountBusinessRules.checkIfNameIsValid(request.getName());
+        discountBusinessRules.checkIfTargetExists(request);
+        discountBusinessRules.checkIfAmountIsValid(request.getType(), request.getAmount());
+        discountBusinessRules.checkIfPeriodIsValid(request);
+
+        DiscountRule saved = discountRuleRepository.save(discountMapper.toEntity(request));
+        reloadAfterCommit();
+        return discountMapper.toResponse(saved);
+    }
+
+    @Override
+    public GetAllDiscountRulesResponse getAll() {
+        return new GetAllDiscountRulesResponse(discountMapper.toResponseList(discountRuleRepository.findAll(Sort.by("id"))));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        // Business rule validation
+        DiscountRule rule = discountBusinessRules.checkIfDiscountRuleExists(id);
+
+        discountRuleRepository.delete(rule);
+        reloadAfterCommit();
+    }
+
+    /**
+     * Reloading before commit would read the rule set without this change.
+     */
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pricingEngine.reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pricingEngine.reload();
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.InventoryService;
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.InventoryMovementRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.RecordMovementsRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.GetStockResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.RecordMovementsResponse;
+import com.turkcell.etradedemoai.business.mappers.InventoryMapper;
+import com.turkcell.etradedemoai.business.rules.InventoryBusinessRules;
+import com.turkcell.etradedemoai.common.cache.CacheEvictions;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class InventoryServiceImpl implements InventoryService {
+
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final ProductRepository productRepository;
+    private final InventoryBusinessRules inventoryBusinessRules;
+    private final InventoryMapper inventoryMapper;
+    private final CacheManager cacheManager;
+
+    public InventoryServiceImpl(
+            InventoryMovementRepository inventoryMovementRepository,
+            ProductRepository productRepository,
+            InventoryBusinessRules inventoryBusinessRules,
+            InventoryMapper inventoryMapper,
+            CacheManager cacheManager) {
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.productRepository = productRepository;
+        this.inventoryBusinessRules = inventoryBusinessRules;
+        this.inventoryMapper = inventoryMapper;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * The net change per product is applied with one conditional batch update in product id order,
+     * then every movement is appended as given with one batch insert.
+     */
+    @Override
+    @Transactional
+    public RecordMovementsResponse recordMovements(RecordMovementsRequest request) {
+        // Business rules validation
+        inventoryBusinessRules.checkIfMovementsPresent(request.getMovements());
+        List<InventoryMovement> movements = new ArrayList<>(request.getMovements().size());
+        for (InventoryMovementRequest movement : request.getMovements()) {
+            movements.add(new InventoryMovement(movement.getProductId(),
+                inventoryBusinessRules.checkIfMovementIsValid(movement), movement.getQuantity(), request.getReference()));
+        }
+
+        SortedMap<Long, Integer> deltas = inventoryBusinessRules.deltasByProductId(request.getMovements());
+        List<Long> rejected = productRepository.adjustStock(deltas);
+        // Checked after the rows are locked, so a sale cannot start from the values this overwrites
+        inventoryBusinessRules.checkIfNoFlashSale(deltas.keySet());
+        if (!rejected.isEmpty()) {
+            Set<Long> existing = productRepository.findAllById(rejected).stream()
+                .map(Product::getId)
+                .collect(Collectors.toSet());
+            inventoryBusinessRules.checkIfStockAdjusted(rejected, existing);
+        }
+        inventoryMovementRepository.append(movements);
+        CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, deltas.keySet());
+        return new RecordMovementsResponse(movements.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GetStockResponse> getStock(Long productId) {
+        return productRepository.findById(productId).map(product -> {
+            GetStockResponse response = new GetStockResponse();
+            response.setProductId(product.getId());
+            response.setUnitsInStock(product.getUnitsInStock());
+            response.setLedgerUnits(inventoryMovementRepository.findLedgerStock(productId));
+            response.setRecentMovements(inventoryMapper.toMovementResponseList(
+                inventoryMovementRepository.findTop20ByProductIdOrderByIdDesc(productId)));
+            return response;
+        });
+    }
+}
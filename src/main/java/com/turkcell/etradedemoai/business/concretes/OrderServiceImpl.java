@@ -0,0 +1,109 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetAllOrdersResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetOrderResponse;
+import com.turkcell.etradedemoai.business.mappers.OrderMapper;
+import com.turkcell.etradedemoai.business.rules.OrderBusinessRules;
+import com.turkcell.etradedemoai.common.cache.CacheEvictions;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleReservation;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.OrderRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import com.turkcell.etradedemoai.entities.Order;
+import com.turkcell.etradedemoai.entities.OrderLine;
+import com.turkcell.etradedemoai.entities.OrderStatus;
+import com.turkcell.etradedemoai.entities.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OrderServiceImpl implements OrderService {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final OrderBusinessRules orderBusinessRules;
+    private final OrderMapper orderMapper;
+    private final CacheManager cacheManager;
+    private final FlashSaleRegistry flashSaleRegistry;
+
+    public OrderServiceImpl(
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            InventoryMovementRepository inventoryMovementRepository,
+            OrderBusinessRules orderBusinessRules,
+            OrderMapper orderMapper,
+            CacheManager cacheManager,
+            FlashSaleRegistry flashSaleRegistry) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.orderBusinessRules = orderBusinessRules;
+        this.orderMapper = orderMapper;
+        this.cacheManager = cacheManager;
+        this.flashSaleRegistry = flashSaleRegistry;
+    }
+
+    /**
+     * Stock is taken first with one conditional batch update in product id order; only then are
+     * the (now locked) products read for name and price. Any rejected line rolls the whole order back.
+     * Products in a flash sale are served from their in-memory counters instead of the rows.
+     * The sales go to the inventory ledger in one batch, in the same transaction as the stock change.
+     */
+    @Override
+    @Transactional
+    public CreateOrderResponse placeOrder(CreateOrderRequest request) {
+        // Business rules validation
+        orderBusinessRules.checkIfOrderHasLines(request.getLines());
+        orderBusinessRules.checkIfQuantitiesAreValid(request.getLines());
+
+        SortedMap<Long, Integer> quantities = orderBusinessRules.quantitiesByProductId(request.getLines());
+        FlashSaleReservation flashSale = flashSaleRegistry.reserve(quantities);
+        List<Long> rejected = new ArrayList<>(flashSale.getSoldOut());
+        if (!flashSale.getDatabaseQuantities().isEmpty()) {
+            rejected.addAll(productRepository.reserveStock(flashSale.getDatabaseQuantities()));
+            flashSaleRegistry.checkIfStillOutsideFlashSale(flashSale.getDatabaseQuantities().keySet());
+        }
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        orderBusinessRules.checkIfStockReserved(rejected, products.keySet());
+
+        Order order = new Order(OrderStatus.PLACED);
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            order.addLine(new OrderLine(productId, product.getName(), quantity, product.getUnitPrice()));
+        });
+        Order saved = orderRepository.save(order);
+        List<InventoryMovement> sales = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) ->
+            sales.add(new InventoryMovement(productId, InventoryMovementType.SALE, -quantity, "order:" + saved.getId())));
+        inventoryMovementRepository.append(sales);
+        CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, quantities.keySet());
+        return orderMapper.toCreateResponse(saved);
+    }
+
+    @Override
+    public Optional<GetOrderResponse> getById(Long id) {
+        return orderRepository.findWithLinesById(id).map(orderMapper::toGetResponse);
+    }
+
+    @Override
+    public GetAllOrdersResponse getAll() {
+        return new GetAllOrdersResponse(orderMapper.toGetResponseList(orderRepository.findAllWithLinesBy()));
+    }
+}
@@ -6,14 +6,40 @@ import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductReq
 import com.turkcell.etradedemoai.business.dtos.responses.product.CreateProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.DeleteProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetAllProductsResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductPricesResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.UpdateProductResponse;
 import com.turkcell.etradedemoai.business.mappers.ProductMapper;
 import com.turkcell.etradedemoai.business.rules.ProductBusinessRules;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
+import com.turkcell.etradedemoai.common.pricing.PricingEngine;
+import com.turkcell.etradedemoai.common.sync.DeltaSyncProperties;
+import com.turkcell.etradedemoai.common.sync.SyncWatermark;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.PriceChange;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductChange;
 import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import com.turkcell.etradedemoai.entities.PriceHistory;
 import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,18 +49,34 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final ProductBusinessRules productBusinessRules;
     private final ProductMapper productMapper;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final PricingEngine pricingEngine;
+    private final OutboxRecorder outboxRecorder;
+    private final DeltaSyncProperties deltaSyncProperties;
 
     public ProductServiceImpl(
             ProductRepository productRepository, 
             ProductBusinessRules productBusinessRules,
-            ProductMapper productMapper) {
+            ProductMapper productMapper,
+            InventoryMovementRepository inventoryMovementRepository,
+            PriceHistoryRepository priceHistoryRepository,
+            PricingEngine pricingEngine,
+            OutboxRecorder outboxRecorder,
+            DeltaSyncProperties deltaSyncProperties) {
         this.productRepository = productRepository;
         this.productBusinessRules = productBusinessRules;
         this.productMapper = productMapper;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.pricingEngine = pricingEngine;
+        this.outboxRecorder = outboxRecorder;
+        this.deltaSyncProperties = deltaSyncProperties;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PRODUCTS, key = "#result.id")
     public CreateProductResponse create(CreateProductRequest request) {
         // Business rules validation
         productBusinessRules.checkIfProductNameExists(request.getName());
@@ -45,29 +87,114 @@ public class ProductServiceImpl implements ProductService {
         productBusinessRules.getCategoryIfExists(request.getCategoryId())
             .ifPresent(entity::setCategory);
         Product saved = productRepository.save(entity);
+        recordStockChange(saved.getId(), InventoryMovementType.RECEIPT, saved.getUnitsInStock(), "product:create");
+        priceHistoryRepository.insertPrice(saved.getId(), saved.getUnitPrice(), Instant.now(), null);
+        outboxRecorder.productSaved(OutboxEventType.CREATED, saved);
         return productMapper.toCreateResponse(saved);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.PRODUCTS, key = "#id", sync = true)
     public Optional<GetProductResponse> getById(Long id) {
         return productRepository.findById(id).map(productMapper::toGetResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, GetProductResponse> getByIds(Collection<Long> ids) {
+        Map<Long, GetProductResponse> products = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return products;
+        }
+        for (Product product : productRepository.findWithCategoryByIdIn(ids)) {
+            products.put(product.getId(), productMapper.toGetResponse(product));
+        }
+        return products;
+    }
+
     @Override
     public GetAllProductsResponse getAll() {
         List<GetProductResponse> items = productMapper.toGetResponseList(productRepository.findAll());
+        pricingEngine.applyTo(items);
         return new GetAllProductsResponse(items);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public GetProductPricesResponse getPricesAt(Collection<Long> ids, Instant at) {
+        productBusinessRules.checkIfPriceLookupIsValid(ids, at);
+        Set<Long> missing = new TreeSet<>(ids);
+        List<PriceHistory> prices = priceHistoryRepository.findPricesAt(missing, at).stream()
+            .sorted(Comparator.comparing(PriceHistory::getProductId))
+            .toList();
+        prices.forEach(price -> missing.remove(price.getProductId()));
+        return new GetProductPricesResponse(at, productMapper.toPriceResponseList(prices), List.copyOf(missing));
+    }
+
+    /**
+     * Changes younger than the settle time are left for the next sync, so everything before the
+     * returned watermark has committed. A short page means the client is up to date; its
+     * watermark then moves on to the settle horizon, so the next sync starts there even if
+     * nothing has changed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public GetProductChangesResponse getChangesSince(String since, Integer size) {
+        SyncWatermark after = productBusinessRules.checkIfSyncWatermarkIsValid(since);
+        int pageSize = size != null ? size : deltaSyncProperties.getDefaultPageSize();
+        productBusinessRules.checkIfSyncPageSizeIsValid(pageSize, deltaSyncProperties.getMaxPageSize());
+
+        Instant until = Instant.now().minus(deltaSyncProperties.getSettleTime());
+        List<ProductChange> changes = after == null
+            ? productRepository.findLiveUntil(until, pageSize)
+            : productRepository.findChangesAfter(after.getUpdatedDate(), after.getId(), until, pageSize);
+        List<GetProductResponse> products = new ArrayList<>();
+        List<Long> deletedProductIds = new ArrayList<>();
+        for (ProductChange change : changes) {
+            if (change.isDeleted()) {
+                deletedProductIds.add(change.getId());
+            } else {
+                products.add(productMapper.toChangeResponse(change));
+            }
+        }
+
+        boolean hasMore = changes.size() == pageSize;
+        SyncWatermark watermark = after;
+        if (!changes.isEmpty()) {
+            ProductChange last = changes.get(changes.size() - 1);
+            watermark = new SyncWatermark(last.getUpdatedDate(), last.getId());
+        }
+        if (!hasMore) {
+            SyncWatermark horizon = new SyncWatermark(until, 0);
+            if (watermark == null || watermark.compareTo(horizon) < 0) {
+                watermark = horizon;
+            }
+        }
+        return new GetProductChangesResponse(products, deletedProductIds, watermark.toString(), hasMore);
+    }
+
+    /**
+     * The row is locked before it is read, so the stock difference written to the ledger
+     * and the price period closed in the history are taken against the values this update
+     * actually overwrites.
+     */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PRODUCTS, key = "#id")
     public UpdateProductResponse update(Long id, UpdateProductRequest request) {
+        productRepository.lockStock(id);
         // Business rules validation
         Product existing = productBusinessRules.checkIfProductExists(id);
         productBusinessRules.checkIfProductNameExistsForUpdate(id, request.getName());
         productBusinessRules.checkIfProductPriceIsValid(request.getUnitPrice());
         productBusinessRules.checkIfProductStockIsValid(request.getUnitsInStock());
+        if (!request.getUnitsInStock().equals(existing.getUnitsInStock())) {
+            productBusinessRules.checkIfProductNotInFlashSale(id);
+        }
         
+        recordStockChange(id, InventoryMovementType.ADJUSTMENT,
+            request.getUnitsInStock() - existing.getUnitsInStock(), "product:update");
+        recordPriceChange(existing, request.getUnitPrice());
         existing.setName(request.getName());
         existing.setUnitPrice(request.getUnitPrice());
         existing.setUnitsInStock(request.getUnitsInStock());
@@ -75,16 +202,39 @@ public class ProductServiceImpl implements ProductService {
         productBusinessRules.getCategoryIfExists(request.getCategoryId())
             .ifPresent(existing::setCategory);
         Product saved = productRepository.save(existing);
+        outboxRecorder.productSaved(OutboxEventType.UPDATED, saved);
         return productMapper.toUpdateResponse(saved);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.PRODUCTS, key = "#id")
     public DeleteProductResponse deleteById(Long id) {
+        // Locked before the registry is checked, so a sale starting now waits and then finds no row
+        productRepository.lockStock(id);
         // Business rule validation
         productBusinessRules.checkIfProductExists(id);
+        productBusinessRules.checkIfProductNotInFlashSale(id);
         
         productRepository.deleteById(id);
+        priceHistoryRepository.closeCurrentPrice(id, Instant.now());
+        outboxRecorder.productDeleted(id);
         return new DeleteProductResponse(true, "Deleted");
     }
+
+    private void recordPriceChange(Product existing, BigDecimal newPrice) {
+        BigDecimal previousPrice = existing.getUnitPrice();
+        if (previousPrice != null && previousPrice.compareTo(newPrice) == 0) {
+            return;
+        }
+        Instant since = existing.getUpdatedDate() != null ? existing.getUpdatedDate() : existing.getCreatedDate();
+        priceHistoryRepository.recordPriceChanges(
+            List.of(new PriceChange(existing.getId(), previousPrice, since, newPrice)), Instant.now());
+    }
+
+    private void recordStockChange(Long productId, InventoryMovementType type, int quantity, String reference) {
+        if (quantity != 0) {
+            inventoryMovementRepository.append(List.of(new InventoryMovement(productId, type, quantity, reference)));
+        }
+    }
 }
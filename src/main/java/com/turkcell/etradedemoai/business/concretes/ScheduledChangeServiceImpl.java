@@ -0,0 +1,96 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.ScheduledChangeService;
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduleProductChangesRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduledProductChangeRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.CreateScheduledChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.GetAllScheduledChangesResponse;
+import com.turkcell.etradedemoai.business.mappers.ScheduledChangeMapper;
+import com.turkcell.etradedemoai.business.rules.ScheduledChangeBusinessRules;
+import com.turkcell.etradedemoai.common.schedule.ScheduledChangeActivator;
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class ScheduledChangeServiceImpl implements ScheduledChangeService {
+
+    private static final Sort ACTIVATION_ORDER = Sort.by("effectiveAt", "id");
+
+    private final ScheduledProductChangeRepository changeRepository;
+    private final ScheduledChangeBusinessRules scheduledChangeBusinessRules;
+    private final ScheduledChangeMapper scheduledChangeMapper;
+    private final ScheduledChangeActivator activator;
+
+    public ScheduledChangeServiceImpl(
+            ScheduledProductChangeRepository changeRepository,
+            ScheduledChangeBusinessRules scheduledChangeBusinessRules,
+            ScheduledChangeMapper scheduledChangeMapper,
+            ScheduledChangeActivator activator) {
+        this.changeRepository = changeRepository;
+        this.scheduledChangeBusinessRules = scheduledChangeBusinessRules;
+        this.scheduledChangeMapper = scheduledChangeMapper;
+        this.activator = activator;
+    }
+
+    @Override
+    @Transactional
+    public CreateScheduledChangesResponse create(ScheduleProductChangesRequest request) {
+        // Business rules validation
+        List<ScheduledProductChangeRequest> changes = request.getChanges();
+        scheduledChangeBusinessRules.checkIfBatchSizeIsValid(changes);
+        for (ScheduledProductChangeRequest change : changes) {
+            scheduledChangeBusinessRules.checkIfChangeIsComplete(change);
+            scheduledChangeBusinessRules.checkIfValuesAreValid(change);
+        }
+        scheduledChangeBusinessRules.checkIfProductsExist(changes);
+
+        List<ScheduledProductChange> saved = changeRepository.saveAll(scheduledChangeMapper.toEntityList(changes));
+        scheduleAfterCommit(saved);
+        return new CreateScheduledChangesResponse(scheduledChangeMapper.toResponseList(saved));
+    }
+
+    @Override
+    public GetAllScheduledChangesResponse getAll(String status) {
+        ScheduledChangeStatus filter = scheduledChangeBusinessRules.parseStatus(status);
+        List<ScheduledProductChange> changes = filter == null
+            ? changeRepository.findAll(ACTIVATION_ORDER)
+            : changeRepository.findByStatusOrderByEffectiveAtAscIdAsc(filter);
+        return new GetAllScheduledChangesResponse(scheduledChangeMapper.toResponseList(changes));
+    }
+
+    @Override
+    @Transactional
+    public void cancel(Long id) {
+        // Business rules validation
+        ScheduledProductChange change = scheduledChangeBusinessRules.checkIfChangeExists(id);
+        scheduledChangeBusinessRules.checkIfChangeIsPending(change);
+
+        // The wheel entry stays; the applier skips changes that are no longer pending
+        change.setStatus(ScheduledChangeStatus.CANCELLED);
+        changeRepository.save(change);
+    }
+
+    /**
+     * The activation thread must not see ids whose rows are not committed yet.
+     */
+    private void scheduleAfterCommit(List<ScheduledProductChange> changes) {
+        Runnable schedule = () -> changes.forEach(change -> activator.schedule(change.getId(), change.getEffectiveAt()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule.run();
+            }
+        });
+    }
+}
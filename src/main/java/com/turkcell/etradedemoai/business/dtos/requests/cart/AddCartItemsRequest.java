@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.requests.cart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request object for adding products to a cart; all products are validated in one lookup")
+public class AddCartItemsRequest {
+    @Schema(description = "Products and units to add")
+    private List<CartItemRequest> items = new ArrayList<>();
+
+    public AddCartItemsRequest() {
+    }
+
+    public AddCartItemsRequest(List<CartItemRequest> items) {
+        this.items = items;
+    }
+
+    public List<CartItemRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CartItemRequest> items) {
+        this.items = items;
+    }
+}
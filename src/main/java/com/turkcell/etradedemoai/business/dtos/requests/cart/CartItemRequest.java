@@ -0,0 +1,36 @@
+package com.turkcell.etradedemoai.business.dtos.requests.cart;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Product and number of units to add to a cart")
+public class CartItemRequest {
+    @Schema(description = "Id of the product", example = "1")
+    private Long productId;
+
+    @Schema(description = "Units to add", example = "1")
+    private Integer quantity;
+
+    public CartItemRequest() {
+    }
+
+    public CartItemRequest(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
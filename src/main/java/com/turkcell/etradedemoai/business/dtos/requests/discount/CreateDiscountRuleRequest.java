@@ -0,0 +1,97 @@
+package com.turkcell.etradedemoai.business.dtos.requests.discount;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request object for creating a discount rule")
+public class CreateDiscountRuleRequest {
+    @Schema(description = "Name shown to marketing", example = "Winter electronics sale")
+    private String name;
+
+    @Schema(description = "PRODUCT or CATEGORY", example = "CATEGORY")
+    private String scope;
+
+    @Schema(description = "Id of the product or category the rule targets", example = "1")
+    private Long targetId;
+
+    @Schema(description = "PERCENTAGE or FIXED_AMOUNT", example = "PERCENTAGE")
+    private String type;
+
+    @Schema(description = "Percentage off (0-100] or amount off the unit price", example = "15")
+    private BigDecimal amount;
+
+    @Schema(description = "Start of the rule, inclusive; active immediately if omitted", example = "2025-12-01T00:00:00Z")
+    private Instant startsAt;
+
+    @Schema(description = "End of the rule, exclusive; open-ended if omitted", example = "2026-01-01T00:00:00Z")
+    private Instant endsAt;
+
+    public CreateDiscountRuleRequest() {
+    }
+
+    public CreateDiscountRuleRequest(String name, String scope, Long targetId, String type, BigDecimal amount) {
+        this.name = name;
+        this.scope = scope;
+        this.targetId = targetId;
+        this.type = type;
+        this.amount = amount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Instant getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(Instant startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public Instant getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(Instant endsAt) {
+        this.endsAt = endsAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.turkcell.etradedemoai.business.dtos.requests.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One stock movement to record")
+public class InventoryMovementRequest {
+    @Schema(description = "Id of the product", example = "1")
+    private Long productId;
+
+    @Schema(description = "RECEIPT (adds stock) or ADJUSTMENT (either direction); sales come from orders", example = "RECEIPT")
+    private String type;
+
+    @Schema(description = "Units moved; positive for receipts, signed for adjustments", example = "25",
+        minimum = "-1000000", maximum = "1000000")
+    private Integer quantity;
+
+    public InventoryMovementRequest() {
+    }
+
+    public InventoryMovementRequest(Long productId, String type, Integer quantity) {
+        this.productId = productId;
+        this.type = type;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.etradedemoai.business.dtos.requests.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request object for recording stock movements in one batch")
+public class RecordMovementsRequest {
+    @Schema(description = "Free-text reference stored with every movement, e.g. a delivery note", example = "DN-2024-0042")
+    private String reference;
+
+    @Schema(description = "Movements to record; applied all or nothing")
+    private List<InventoryMovementRequest> movements = new ArrayList<>();
+
+    public RecordMovementsRequest() {
+    }
+
+    public RecordMovementsRequest(String reference, List<InventoryMovementRequest> movements) {
+        this.reference = reference;
+        this.movements = movements;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public List<InventoryMovementRequest> getMovements() {
+        return movements;
+    }
+
+    public void setMovements(List<InventoryMovementRequest> movements) {
+        this.movements = movements;
+    }
+}
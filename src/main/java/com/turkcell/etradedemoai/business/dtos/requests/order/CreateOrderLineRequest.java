@@ -0,0 +1,36 @@
+package com.turkcell.etradedemoai.business.dtos.requests.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One product and quantity of a new order")
+public class CreateOrderLineRequest {
+    @Schema(description = "Id of the product to buy", example = "1")
+    private Long productId;
+
+    @Schema(description = "Number of units to buy", example = "2", minimum = "1", maximum = "10000")
+    private Integer quantity;
+
+    public CreateOrderLineRequest() {
+    }
+
+    public CreateOrderLineRequest(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
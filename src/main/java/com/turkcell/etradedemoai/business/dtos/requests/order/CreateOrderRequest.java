@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.requests.order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request object for placing an order")
+public class CreateOrderRequest {
+    @Schema(description = "Products and quantities; lines for the same product are merged")
+    private List<CreateOrderLineRequest> lines = new ArrayList<>();
+
+    public CreateOrderRequest() {
+    }
+
+    public CreateOrderRequest(List<CreateOrderLineRequest> lines) {
+        this.lines = lines;
+    }
+
+    public List<CreateOrderLineRequest> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<CreateOrderLineRequest> lines) {
+        this.lines = lines;
+    }
+}
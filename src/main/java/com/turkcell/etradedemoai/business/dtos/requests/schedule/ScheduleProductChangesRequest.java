@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.requests.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Request object for scheduling product changes in one batch")
+public class ScheduleProductChangesRequest {
+    @Schema(description = "Changes to schedule; stored together or not at all")
+    private List<ScheduledProductChangeRequest> changes = new ArrayList<>();
+
+    public ScheduleProductChangesRequest() {
+    }
+
+    public ScheduleProductChangesRequest(List<ScheduledProductChangeRequest> changes) {
+        this.changes = changes;
+    }
+
+    public List<ScheduledProductChangeRequest> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ScheduledProductChangeRequest> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.turkcell.etradedemoai.business.dtos.requests.schedule;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One product change to apply at a future instant")
+public class ScheduledProductChangeRequest {
+    @Schema(description = "Id of the product to change", example = "1")
+    private Long productId;
+
+    @Schema(description = "Instant the change takes effect", example = "2025-12-01T00:00:00Z")
+    private Instant effectiveAt;
+
+    @Schema(description = "New unit price; unchanged if omitted", example = "899.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "New stock level; unchanged if omitted", example = "40")
+    private Integer unitsInStock;
+
+    @Schema(description = "New description; unchanged if omitted", example = "Holiday edition")
+    private String description;
+
+    public ScheduledProductChangeRequest() {
+    }
+
+    public ScheduledProductChangeRequest(Long productId, Instant effectiveAt, BigDecimal unitPrice, Integer unitsInStock,
+                                         String description) {
+        this.productId = productId;
+        this.effectiveAt = effectiveAt;
+        this.unitPrice = unitPrice;
+        this.unitsInStock = unitsInStock;
+        this.description = description;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Instant getEffectiveAt() {
+        return effectiveAt;
+    }
+
+    public void setEffectiveAt(Instant effectiveAt) {
+        this.effectiveAt = effectiveAt;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Integer getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    public void setUnitsInStock(Integer unitsInStock) {
+        this.unitsInStock = unitsInStock;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
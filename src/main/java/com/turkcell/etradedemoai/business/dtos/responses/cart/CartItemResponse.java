@@ -0,0 +1,113 @@
+package com.turkcell.etradedemoai.business.dtos.responses.cart;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One product in a cart, priced at the current catalog price")
+public class CartItemResponse {
+    @Schema(description = "Id of the product", example = "1")
+    private Long productId;
+
+    @Schema(description = "Current product name; null when the product no longer exists", example = "Laptop")
+    private String productName;
+
+    @Schema(description = "Units in the cart", example = "2")
+    private Integer quantity;
+
+    @Schema(description = "Current unit price", example = "999.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "Unit price when the product was last added", example = "1099.99")
+    private BigDecimal addedUnitPrice;
+
+    @Schema(description = "Whether the price changed since the product was added", example = "true")
+    private boolean priceChanged;
+
+    @Schema(description = "Whether the product still exists", example = "true")
+    private boolean available;
+
+    @Schema(description = "Quantity times current unit price; zero when unavailable", example = "1999.98")
+    private BigDecimal lineTotal;
+
+    public CartItemResponse() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public BigDecimal getAddedUnitPrice() {
+        return addedUnitPrice;
+    }
+
+    public void setAddedUnitPrice(BigDecimal addedUnitPrice) {
+        this.addedUnitPrice = addedUnitPrice;
+    }
+
+    public boolean isPriceChanged() {
+        return priceChanged;
+    }
+
+    public void setPriceChanged(boolean priceChanged) {
+        this.priceChanged = priceChanged;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public void setLineTotal(BigDecimal lineTotal) {
+        this.lineTotal = lineTotal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CartItemResponse that = (CartItemResponse) o;
+        return priceChanged == that.priceChanged && available == that.available && Objects.equals(productId, that.productId) && Objects.equals(productName, that.productName) && Objects.equals(quantity, that.quantity) && Objects.equals(unitPrice, that.unitPrice) && Objects.equals(addedUnitPrice, that.addedUnitPrice) && Objects.equals(lineTotal, that.lineTotal);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, productName, quantity, unitPrice, addedUnitPrice, priceChanged, available, lineTotal);
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.etradedemoai.business.dtos.responses.cart;
+
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response object for a newly created cart")
+public class CreateCartResponse {
+    @Schema(description = "Cart id to use in later cart requests", example = "3f2b9c4e-8a51-4d7e-9b0c-1f6d2a7e5c10")
+    private String id;
+
+    public CreateCartResponse() {
+    }
+
+    public CreateCartResponse(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CreateCartResponse that = (CreateCartResponse) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,65 @@
+package com.turkcell.etradedemoai.business.dtos.responses.cart;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response object containing a cart priced at current catalog prices")
+public class GetCartResponse {
+    @Schema(description = "Cart id", example = "3f2b9c4e-8a51-4d7e-9b0c-1f6d2a7e5c10")
+    private String id;
+
+    @Schema(description = "Products in the order they were first added")
+    private List<CartItemResponse> items;
+
+    @Schema(description = "Sum of line totals of available products", example = "1999.98")
+    private BigDecimal totalPrice;
+
+    public GetCartResponse() {
+    }
+
+    public GetCartResponse(String id, List<CartItemResponse> items, BigDecimal totalPrice) {
+        this.id = id;
+        this.items = items;
+        this.totalPrice = totalPrice;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<CartItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CartItemResponse> items) {
+        this.items = items;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetCartResponse that = (GetCartResponse) o;
+        return Objects.equals(id, that.id) && Objects.equals(items, that.items) && Objects.equals(totalPrice, that.totalPrice);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, items, totalPrice);
+    }
+}
@@ -0,0 +1,111 @@
+package com.turkcell.etradedemoai.business.dtos.responses.discount;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A discount rule")
+public class DiscountRuleResponse {
+    @Schema(description = "Unique identifier of the rule", example = "3")
+    private Long id;
+
+    @Schema(description = "Name shown to marketing", example = "Winter electronics sale")
+    private String name;
+
+    @Schema(description = "PRODUCT or CATEGORY", example = "CATEGORY")
+    private String scope;
+
+    @Schema(description = "Id of the product or category the rule targets", example = "1")
+    private Long targetId;
+
+    @Schema(description = "PERCENTAGE or FIXED_AMOUNT", example = "PERCENTAGE")
+    private String type;
+
+    @Schema(description = "Percentage off or amount off the unit price", example = "15")
+    private BigDecimal amount;
+
+    @Schema(description = "Start of the rule, inclusive; null if active from creation")
+    private Instant startsAt;
+
+    @Schema(description = "End of the rule, exclusive; null if open-ended")
+    private Instant endsAt;
+
+    @Schema(description = "Timestamp when the rule was created", example = "2025-11-10T10:15:30Z")
+    private Instant createdDate;
+
+    public DiscountRuleResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Instant getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(Instant startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public Instant getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(Instant endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.responses.discount;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "All discount rules, including ones that have ended")
+public class GetAllDiscountRulesResponse {
+    @Schema(description = "Discount rules ordered by id")
+    private List<DiscountRuleResponse> items = new ArrayList<>();
+
+    public GetAllDiscountRulesResponse() {
+    }
+
+    public GetAllDiscountRulesResponse(List<DiscountRuleResponse> items) {
+        this.items = items;
+    }
+
+    public List<DiscountRuleResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<DiscountRuleResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.etradedemoai.business.dtos.responses.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Stock of a product on the product row and according to the inventory ledger")
+public class GetStockResponse {
+    @Schema(description = "Id of the product", example = "1")
+    private Long productId;
+
+    @Schema(description = "Units in stock as stored on the product", example = "48")
+    private Integer unitsInStock;
+
+    @Schema(description = "Snapshot plus later movements; null if the product has no ledger history yet", example = "48")
+    private Integer ledgerUnits;
+
+    @Schema(description = "Most recent movements, newest first")
+    private List<InventoryMovementResponse> recentMovements = new ArrayList<>();
+
+    public GetStockResponse() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    public void setUnitsInStock(Integer unitsInStock) {
+        this.unitsInStock = unitsInStock;
+    }
+
+    public Integer getLedgerUnits() {
+        return ledgerUnits;
+    }
+
+    public void setLedgerUnits(Integer ledgerUnits) {
+        this.ledgerUnits = ledgerUnits;
+    }
+
+    public List<InventoryMovementResponse> getRecentMovements() {
+        return recentMovements;
+    }
+
+    public void setRecentMovements(List<InventoryMovementResponse> recentMovements) {
+        this.recentMovements = recentMovements;
+    }
+}
@@ -0,0 +1,66 @@
+package com.turkcell.etradedemoai.business.dtos.responses.inventory;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One recorded stock movement")
+public class InventoryMovementResponse {
+    @Schema(description = "Ledger id; movements are ordered by it", example = "42")
+    private Long id;
+
+    @Schema(description = "RECEIPT, SALE or ADJUSTMENT", example = "SALE")
+    private String type;
+
+    @Schema(description = "Signed units; negative removes stock", example = "-2")
+    private Integer quantity;
+
+    @Schema(description = "Origin of the movement", example = "order:17")
+    private String reference;
+
+    @Schema(description = "When the movement was recorded")
+    private Instant createdDate;
+
+    public InventoryMovementResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,24 @@
+package com.turkcell.etradedemoai.business.dtos.responses.inventory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response object after recording stock movements")
+public class RecordMovementsResponse {
+    @Schema(description = "Number of movements appended to the ledger", example = "3")
+    private int recorded;
+
+    public RecordMovementsResponse() {
+    }
+
+    public RecordMovementsResponse(int recorded) {
+        this.recorded = recorded;
+    }
+
+    public int getRecorded() {
+        return recorded;
+    }
+
+    public void setRecorded(int recorded) {
+        this.recorded = recorded;
+    }
+}
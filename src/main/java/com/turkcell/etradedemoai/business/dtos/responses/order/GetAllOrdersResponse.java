@@ -0,0 +1,36 @@
+package com.turkcell.etradedemoai.business.dtos.responses.order;
+
+import java.util.List;
+import java.util.Objects;
+
+public class GetAllOrdersResponse {
+    private List<GetOrderResponse> items;
+
+    public GetAllOrdersResponse() {
+    }
+
+    public GetAllOrdersResponse(List<GetOrderResponse> items) {
+        this.items = items;
+    }
+
+    public List<GetOrderResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<GetOrderResponse> items) {
+        this.items = items;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetAllOrdersResponse that = (GetAllOrdersResponse) o;
+        return Objects.equals(items, that.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items);
+    }
+}
@@ -0,0 +1,82 @@
+package com.turkcell.etradedemoai.business.dtos.responses.order;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Response object containing order details")
+public class GetOrderResponse {
+    @Schema(description = "Unique identifier of the order", example = "1")
+    private Long id;
+
+    @Schema(description = "Order status", example = "PLACED")
+    private String status;
+
+    @Schema(description = "Sum of all line totals", example = "1999.98")
+    private BigDecimal totalPrice;
+
+    @Schema(description = "Timestamp when the order was placed", example = "2025-11-10T10:15:30Z")
+    private Instant createdDate;
+
+    @Schema(description = "Ordered products, by product id")
+    private List<OrderLineResponse> lines;
+
+    public GetOrderResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public List<OrderLineResponse> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<OrderLineResponse> lines) {
+        this.lines = lines;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GetOrderResponse that = (GetOrderResponse) o;
+        return Objects.equals(id, that.id) && Objects.equals(status, that.status) && Objects.equals(totalPrice, that.totalPrice) && Objects.equals(createdDate, that.createdDate) && Objects.equals(lines, that.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, totalPrice, createdDate, lines);
+    }
+}
@@ -0,0 +1,80 @@
+package com.turkcell.etradedemoai.business.dtos.responses.order;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One line of an order as placed")
+public class OrderLineResponse {
+    @Schema(description = "Id of the ordered product", example = "1")
+    private Long productId;
+
+    @Schema(description = "Product name at the time of the order", example = "Laptop")
+    private String productName;
+
+    @Schema(description = "Number of units ordered", example = "2")
+    private Integer quantity;
+
+    @Schema(description = "Unit price at the time of the order", example = "999.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "Quantity times unit price", example = "1999.98")
+    private BigDecimal lineTotal;
+
+    public OrderLineResponse() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public void setLineTotal(BigDecimal lineTotal) {
+        this.lineTotal = lineTotal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderLineResponse that = (OrderLineResponse) o;
+        return Objects.equals(productId, that.productId) && Objects.equals(productName, that.productName) && Objects.equals(quantity, that.quantity) && Objects.equals(unitPrice, that.unitPrice) && Objects.equals(lineTotal, that.lineTotal);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, productName, quantity, unitPrice, lineTotal);
+    }
+}
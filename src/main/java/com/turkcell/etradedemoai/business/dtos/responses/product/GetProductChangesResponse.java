@@ -0,0 +1,64 @@
+package com.turkcell.etradedemoai.business.dtos.responses.product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One page of catalog changes after a watermark")
+public class GetProductChangesResponse {
+    @Schema(description = "Products created or updated since the watermark, in their current state")
+    private List<GetProductResponse> products = new ArrayList<>();
+
+    @Schema(description = "Products deleted since the watermark")
+    private List<Long> deletedProductIds = new ArrayList<>();
+
+    @Schema(description = "Watermark to pass as 'since' on the next request", example = "2025-11-10T15:30:45.123456Z_42")
+    private String watermark;
+
+    @Schema(description = "True if more changes are waiting; request again right away with the new watermark")
+    private boolean hasMore;
+
+    public GetProductChangesResponse() {
+    }
+
+    public GetProductChangesResponse(List<GetProductResponse> products, List<Long> deletedProductIds, String watermark,
+                                     boolean hasMore) {
+        this.products = products;
+        this.deletedProductIds = deletedProductIds;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    public List<GetProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<GetProductResponse> products) {
+        this.products = products;
+    }
+
+    public List<Long> getDeletedProductIds() {
+        return deletedProductIds;
+    }
+
+    public void setDeletedProductIds(List<Long> deletedProductIds) {
+        this.deletedProductIds = deletedProductIds;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
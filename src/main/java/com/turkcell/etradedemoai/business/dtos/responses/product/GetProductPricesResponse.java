@@ -0,0 +1,52 @@
+package com.turkcell.etradedemoai.business.dtos.responses.product;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Prices of several products at one instant")
+public class GetProductPricesResponse {
+    @Schema(description = "Instant the prices were looked up for")
+    private Instant at;
+
+    @Schema(description = "Prices in effect at that instant, ordered by product id")
+    private List<ProductPriceResponse> prices = new ArrayList<>();
+
+    @Schema(description = "Requested products without a recorded price at that instant")
+    private List<Long> missingProductIds = new ArrayList<>();
+
+    public GetProductPricesResponse() {
+    }
+
+    public GetProductPricesResponse(Instant at, List<ProductPriceResponse> prices, List<Long> missingProductIds) {
+        this.at = at;
+        this.prices = prices;
+        this.missingProductIds = missingProductIds;
+    }
+
+    public Instant getAt() {
+        return at;
+    }
+
+    public void setAt(Instant at) {
+        this.at = at;
+    }
+
+    public List<ProductPriceResponse> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(List<ProductPriceResponse> prices) {
+        this.prices = prices;
+    }
+
+    public List<Long> getMissingProductIds() {
+        return missingProductIds;
+    }
+
+    public void setMissingProductIds(List<Long> missingProductIds) {
+        this.missingProductIds = missingProductIds;
+    }
+}
@@ -34,6 +34,12 @@ public class GetProductResponse {
     private Long categoryId;
     private String categoryName;
 
+    @Schema(description = "Unit price after the best applicable discount; set on catalog listings", example = "899.99")
+    private BigDecimal effectivePrice;
+
+    @Schema(description = "Id of the discount rule behind the effective price; null if none applies", example = "3")
+    private Long appliedDiscountId;
+
     public GetProductResponse() {
     }
 
@@ -79,6 +85,22 @@ public class GetProductResponse {
         this.categoryName = categoryName;
     }
 
+    public BigDecimal getEffectivePrice() {
+        return effectivePrice;
+    }
+
+    public void setEffectivePrice(BigDecimal effectivePrice) {
+        this.effectivePrice = effectivePrice;
+    }
+
+    public Long getAppliedDiscountId() {
+        return appliedDiscountId;
+    }
+
+    public void setAppliedDiscountId(Long appliedDiscountId) {
+        this.appliedDiscountId = appliedDiscountId;
+    }
+
     public Long getId() {
         return id;
     }
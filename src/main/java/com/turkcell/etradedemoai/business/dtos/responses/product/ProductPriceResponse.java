@@ -0,0 +1,56 @@
+package com.turkcell.etradedemoai.business.dtos.responses.product;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Unit price of a product during one period of its price history")
+public class ProductPriceResponse {
+    @Schema(description = "Id of the product", example = "1")
+    private Long productId;
+
+    @Schema(description = "Unit price in effect", example = "1299.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "Start of the period, inclusive")
+    private Instant validFrom;
+
+    @Schema(description = "End of the period, exclusive; null for the current price")
+    private Instant validTo;
+
+    public ProductPriceResponse() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public Instant getValidTo() {
+        return validTo;
+    }
+
+    public void setValidTo(Instant validTo) {
+        this.validTo = validTo;
+    }
+}
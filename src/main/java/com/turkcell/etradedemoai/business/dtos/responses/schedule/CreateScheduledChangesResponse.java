@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.responses.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Product changes that were scheduled")
+public class CreateScheduledChangesResponse {
+    @Schema(description = "Stored changes in request order")
+    private List<ScheduledProductChangeResponse> items = new ArrayList<>();
+
+    public CreateScheduledChangesResponse() {
+    }
+
+    public CreateScheduledChangesResponse(List<ScheduledProductChangeResponse> items) {
+        this.items = items;
+    }
+
+    public List<ScheduledProductChangeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ScheduledProductChangeResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.business.dtos.responses.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Scheduled product changes")
+public class GetAllScheduledChangesResponse {
+    @Schema(description = "Changes ordered by activation time")
+    private List<ScheduledProductChangeResponse> items = new ArrayList<>();
+
+    public GetAllScheduledChangesResponse() {
+    }
+
+    public GetAllScheduledChangesResponse(List<ScheduledProductChangeResponse> items) {
+        this.items = items;
+    }
+
+    public List<ScheduledProductChangeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ScheduledProductChangeResponse> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,122 @@
+package com.turkcell.etradedemoai.business.dtos.responses.schedule;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A scheduled product change")
+public class ScheduledProductChangeResponse {
+    @Schema(description = "Unique identifier of the change", example = "12")
+    private Long id;
+
+    @Schema(description = "Id of the product to change", example = "1")
+    private Long productId;
+
+    @Schema(description = "Instant the change takes effect", example = "2025-12-01T00:00:00Z")
+    private Instant effectiveAt;
+
+    @Schema(description = "New unit price; null if unchanged", example = "899.99")
+    private BigDecimal unitPrice;
+
+    @Schema(description = "New stock level; null if unchanged", example = "40")
+    private Integer unitsInStock;
+
+    @Schema(description = "New description; null if unchanged")
+    private String description;
+
+    @Schema(description = "PENDING, APPLIED, FAILED or CANCELLED", example = "PENDING")
+    private String status;
+
+    @Schema(description = "When the change was applied or failed; null while pending")
+    private Instant appliedAt;
+
+    @Schema(description = "Why the change could not be applied; null unless FAILED")
+    private String failureReason;
+
+    @Schema(description = "Timestamp when the change was scheduled", example = "2025-11-10T10:15:30Z")
+    private Instant createdDate;
+
+    public ScheduledProductChangeResponse() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Instant getEffectiveAt() {
+        return effectiveAt;
+    }
+
+    public void setEffectiveAt(Instant effectiveAt) {
+        this.effectiveAt = effectiveAt;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Integer getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    public void setUnitsInStock(Integer unitsInStock) {
+        this.unitsInStock = unitsInStock;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(Instant appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+}
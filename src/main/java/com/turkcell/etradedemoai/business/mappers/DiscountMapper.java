@@ -0,0 +1,37 @@
+package com.turkcell.etradedemoai.business.mappers;
+
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.DiscountRuleResponse;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for discount rules. Scope and type arrive as strings and are
+ * validated by the business rules before they are mapped to their enums.
+ */
+@Mapper(componentModel = "spring")
+public interface DiscountMapper {
+
+    /**
+     * Maps CreateDiscountRuleRequest DTO to DiscountRule entity.
+     * Ignores fields that should not be set from request (id, timestamps).
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "updatedDate", ignore = true)
+    @Mapping(target = "deletedDate", ignore = true)
+    DiscountRule toEntity(CreateDiscountRuleRequest request);
+
+    /**
+     * Maps a discount rule to its response DTO.
+     */
+    DiscountRuleResponse toResponse(DiscountRule rule);
+
+    /**
+     * Maps list of discount rules to response DTOs.
+     */
+    List<DiscountRuleResponse> toResponseList(List<DiscountRule> rules);
+}
@@ -0,0 +1,25 @@
+package com.turkcell.etradedemoai.business.mappers;
+
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.InventoryMovementResponse;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for inventory ledger movements. Movements are appended by the services
+ * through the ledger repository, so there is no request-to-entity mapping.
+ */
+@Mapper(componentModel = "spring")
+public interface InventoryMapper {
+
+    /**
+     * Maps a ledger movement to its response DTO.
+     */
+    InventoryMovementResponse toMovementResponse(InventoryMovement movement);
+
+    /**
+     * Maps list of ledger movements to response DTOs.
+     */
+    List<InventoryMovementResponse> toMovementResponseList(List<InventoryMovement> movements);
+}
@@ -0,0 +1,38 @@
+package com.turkcell.etradedemoai.business.mappers;
+
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.GetOrderResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.order.OrderLineResponse;
+import com.turkcell.etradedemoai.entities.Order;
+import com.turkcell.etradedemoai.entities.OrderLine;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for Order entity and DTOs.
+ * Orders are only ever created from a request by the service, so there is no request-to-entity mapping.
+ */
+@Mapper(componentModel = "spring")
+public interface OrderMapper {
+
+    /**
+     * Maps Order entity to CreateOrderResponse DTO, including its lines.
+     */
+    CreateOrderResponse toCreateResponse(Order order);
+
+    /**
+     * Maps Order entity to GetOrderResponse DTO, including its lines.
+     */
+    GetOrderResponse toGetResponse(Order order);
+
+    /**
+     * Maps list of Order entities to list of GetOrderResponse DTOs.
+     */
+    List<GetOrderResponse> toGetResponseList(List<Order> orders);
+
+    /**
+     * Maps a single order line.
+     */
+    OrderLineResponse toLineResponse(OrderLine line);
+}
@@ -3,7 +3,10 @@ package com.turkcell.etradedemoai.business.mappers;
 import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
 import com.turkcell.etradedemoai.business.dtos.responses.product.CreateProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.ProductPriceResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.UpdateProductResponse;
+import com.turkcell.etradedemoai.dataAccess.ProductChange;
+import com.turkcell.etradedemoai.entities.PriceHistory;
 import com.turkcell.etradedemoai.entities.Product;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -34,10 +37,13 @@ public interface ProductMapper {
 
     /**
      * Maps Product entity to GetProductResponse DTO.
-     * Extracts categoryId and categoryName from nested Category object.
+     * Extracts categoryId and categoryName from nested Category object; the effective
+     * price is left to the pricing engine.
      */
     @Mapping(target = "categoryId", source = "product", qualifiedByName = "extractCategoryId")
     @Mapping(target = "categoryName", source = "product", qualifiedByName = "extractCategoryName")
+    @Mapping(target = "effectivePrice", ignore = true)
+    @Mapping(target = "appliedDiscountId", ignore = true)
     GetProductResponse toGetResponse(Product product);
 
     /**
@@ -62,6 +68,24 @@ public interface ProductMapper {
      */
     UpdateProductResponse toUpdateResponse(Product product);
 
+    /**
+     * Maps a price history period to ProductPriceResponse DTO.
+     */
+    ProductPriceResponse toPriceResponse(PriceHistory priceHistory);
+
+    /**
+     * Maps list of price history periods to ProductPriceResponse DTOs.
+     */
+    List<ProductPriceResponse> toPriceResponseList(List<PriceHistory> priceHistory);
+
+    /**
+     * Maps a product row read for delta sync to GetProductResponse DTO; list prices only,
+     * since discounts changing does not move a product's watermark.
+     */
+    @Mapping(target = "effectivePrice", ignore = true)
+    @Mapping(target = "appliedDiscountId", ignore = true)
+    GetProductResponse toChangeResponse(ProductChange change);
+
     /**
      * Custom mapping method to safely extract category ID from Product.
      * Returns null if category is null.
@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.business.mappers;
+
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduledProductChangeRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.schedule.ScheduledProductChangeResponse;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for scheduled product changes.
+ */
+@Mapper(componentModel = "spring")
+public interface ScheduledChangeMapper {
+
+    /**
+     * Maps a requested change to a pending entity.
+     * Ignores fields that are only set while the change is applied (status, outcome, timestamps).
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "appliedAt", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "updatedDate", ignore = true)
+    @Mapping(target = "deletedDate", ignore = true)
+    ScheduledProductChange toEntity(ScheduledProductChangeRequest request);
+
+    List<ScheduledProductChange> toEntityList(List<ScheduledProductChangeRequest> requests);
+
+    /**
+     * Maps a scheduled change to its response DTO.
+     */
+    ScheduledProductChangeResponse toResponse(ScheduledProductChange change);
+
+    /**
+     * Maps list of scheduled changes to response DTOs.
+     */
+    List<ScheduledProductChangeResponse> toResponseList(List<ScheduledProductChange> changes);
+}
@@ -0,0 +1,98 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.business.dtos.requests.cart.CartItemRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.cart.Cart;
+import com.turkcell.etradedemoai.common.cart.CartStore;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for cart operations.
+ */
+@Service
+public class CartBusinessRules {
+
+    private final CartStore cartStore;
+
+    public CartBusinessRules(CartStore cartStore) {
+        this.cartStore = cartStore;
+    }
+
+    /**
+     * Rule 1: Cart must exist (and not have expired) before it can be changed.
+     */
+    public Cart checkIfCartExists(String cartId) {
+        return cartStore.find(cartId)
+            .orElseThrow(() -> new BusinessException("Cart not found with id: " + cartId, "CART_NOT_FOUND"));
+    }
+
+    /**
+     * Rule 2: At least one item, each naming a product and adding between one and
+     * {@code maxQuantity} units.
+     */
+    public void checkIfItemsAreValid(List<CartItemRequest> items, int maxQuantity) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException("At least one item must be added", "INVALID_CART_ITEM");
+        }
+        for (CartItemRequest item : items) {
+            if (item == null || item.getProductId() == null || item.getQuantity() == null || item.getQuantity() <= 0
+                    || item.getQuantity() > maxQuantity) {
+                throw new BusinessException("Every cart item needs a product id and a quantity between 1 and " + maxQuantity,
+                    "INVALID_CART_ITEM");
+            }
+        }
+    }
+
+    /**
+     * Rule 3: Every product being added must exist.
+     */
+    public void checkIfProductsExist(Collection<Long> requestedIds, Set<Long> existingIds) {
+        List<Long> missing = requestedIds.stream().filter(id -> !existingIds.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Products not found with ids: " + missing, "PRODUCT_NOT_FOUND");
+        }
+    }
+
+    /**
+     * Rule 4: A cart holds a bounded number of distinct products.
+     */
+    public void checkIfCartHasRoom(Cart.AddResult result, int maxItems) {
+        if (result == Cart.AddResult.CART_FULL) {
+            throw new BusinessException("A cart can hold at most " + maxItems + " different products", "CART_FULL");
+        }
+    }
+
+    /**
+     * Rule 5: A cart holds a bounded number of units of each product.
+     */
+    public void checkIfQuantityWithinLimit(Cart.AddResult result, Long productId, int maxQuantity) {
+        if (result == Cart.AddResult.QUANTITY_LIMIT) {
+            throw quantityLimitExceeded(productId, maxQuantity);
+        }
+    }
+
+    /**
+     * Helper: Merges items for the same product in request order. Expects items that passed
+     * Rule 2, and applies Rule 5's bound to each merged quantity.
+     */
+    public Map<Long, Integer> quantitiesByProductId(List<CartItemRequest> items, int maxQuantity) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (CartItemRequest item : items) {
+            int merged = quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            if (merged > maxQuantity) {
+                throw quantityLimitExceeded(item.getProductId(), maxQuantity);
+            }
+        }
+        return quantities;
+    }
+
+    private static BusinessException quantityLimitExceeded(Long productId, int maxQuantity) {
+        return new BusinessException("A cart can hold at most " + maxQuantity + " units of product " + productId,
+            "CART_QUANTITY_LIMIT");
+    }
+}
@@ -0,0 +1,20 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.common.BusinessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for the change feed.
+ */
+@Service
+public class ChangeFeedBusinessRules {
+
+    /**
+     * Rule 1: An event id to resume from is never negative.
+     */
+    public void checkIfCursorIsValid(Long lastEventId) {
+        if (lastEventId != null && lastEventId < 0) {
+            throw new BusinessException("Last event id cannot be negative: " + lastEventId, "INVALID_FEED_CURSOR");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import com.turkcell.etradedemoai.entities.DiscountScope;
+import com.turkcell.etradedemoai.entities.DiscountType;
+import java.math.BigDecimal;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for discount rule operations.
+ */
+@Service
+public class DiscountBusinessRules {
+
+    private static final BigDecimal MAX_PERCENTAGE = BigDecimal.valueOf(100);
+
+    private final DiscountRuleRepository discountRuleRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    public DiscountBusinessRules(DiscountRuleRepository discountRuleRepository, ProductRepository productRepository,
+                                 CategoryRepository categoryRepository) {
+        this.discountRuleRepository = discountRuleRepository;
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * Rule 1: A discount rule needs a name.
+     */
+    public void checkIfNameIsValid(String name) {
+        if (name == null || name.isBlank()) {
+            throw new BusinessException("Discount rule name cannot be empty", "INVALID_DISCOUNT_RULE");
+        }
+    }
+
+    /**
+     * Rule 2: A discount targets an existing product or category.
+     */
+    public void checkIfTargetExists(CreateDiscountRuleRequest request) {
+        boolean exists;
+        if (DiscountScope.PRODUCT.name().equals(request.getScope())) {
+            exists = request.getTargetId() != null && productRepository.existsById(request.getTargetId());
+        } else if (DiscountScope.CATEGORY.name().equals(request.getScope())) {
+            exists = request.getTargetId() != null && categoryRepository.existsById(request.getTargetId());
+        } else {
+            throw new BusinessException("Discount scope must be PRODUCT or CATEGORY: " + request.getScope(), "INVALID_DISCOUNT_RULE");
+        }
+        if (!exists) {
+            throw new BusinessException("Discount target not found: " + request.getScope() + " " + request.getTargetId(),
+                "DISCOUNT_TARGET_NOT_FOUND");
+        }
+    }
+
+    /**
+     * Rule 3: Percentages are greater than 0 and at most 100; fixed amounts are positive.
+     */
+    public void checkIfAmountIsValid(String type, BigDecimal amount) {
+        if (!DiscountType.PERCENTAGE.name().equals(type) && !DiscountType.FIXED_AMOUNT.name().equals(type)) {
+            throw new BusinessException("Discount type must be PERCENTAGE or FIXED_AMOUNT: " + type, "INVALID_DISCOUNT_RULE");
+        }
+        if (amount == null || amount.signum() <= 0
+            || DiscountType.PERCENTAGE.name().equals(type) && amount.compareTo(MAX_PERCENTAGE) > 0) {
+            throw new BusinessException("Discount amount is out of range: " + amount, "INVALID_DISCOUNT_RULE");
+        }
+    }
+
+    /**
+     * Rule 4: A time-limited discount must end after it starts.
+     */
+    public void checkIfPeriodIsValid(CreateDiscountRuleRequest request) {
+        if (request.getStartsAt() != null && request.getEndsAt() != null
+            && !request.getEndsAt().isAfter(request.getStartsAt())) {
+            throw new BusinessException("Discount must end after it starts", "INVALID_DISCOUNT_RULE");
+        }
+    }
+
+    /**
+     * Rule 5: Discount rule must exist before it can be deleted.
+     */
+    public DiscountRule checkIfDiscountRuleExists(Long id) {
+        return discountRuleRepository.findById(id)
+            .orElseThrow(() -> new BusinessException("Discount rule not found with id: " + id, "DISCOUNT_RULE_NOT_FOUND"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.InventoryMovementRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for recording inventory movements.
+ */
+@Service
+public class InventoryBusinessRules {
+
+    /**
+     * Largest stock change one movement, or the net of one request for a product, may make.
+     */
+    public static final int MAX_MOVEMENT_QUANTITY = 1_000_000;
+
+    private final FlashSaleRegistry flashSaleRegistry;
+
+    public InventoryBusinessRules(FlashSaleRegistry flashSaleRegistry) {
+        this.flashSaleRegistry = flashSaleRegistry;
+    }
+
+    /**
+     * Rule 1: At least one movement must be recorded.
+     */
+    public void checkIfMovementsPresent(List<InventoryMovementRequest> movements) {
+        if (movements == null || movements.isEmpty()) {
+            throw new BusinessException("At least one movement must be recorded", "INVENTORY_MOVEMENTS_EMPTY");
+        }
+    }
+
+    /**
+     * Rule 2: Receipts add stock, adjustments move it either way; sales are only recorded by orders.
+     * No movement may change stock by more than {@link #MAX_MOVEMENT_QUANTITY} units.
+     */
+    public InventoryMovementType checkIfMovementIsValid(InventoryMovementRequest movement) {
+        if (movement == null || movement.getProductId() == null || movement.getQuantity() == null || movement.getQuantity() == 0) {
+            throw new BusinessException("Every movement needs a product id and a non-zero quantity", "INVALID_INVENTORY_MOVEMENT");
+        }
+        if (Math.abs(movement.getQuantity()) > MAX_MOVEMENT_QUANTITY) {
+            throw new BusinessException("Movement quantity must be between -" + MAX_MOVEMENT_QUANTITY + " and "
+                + MAX_MOVEMENT_QUANTITY, "INVALID_INVENTORY_MOVEMENT");
+        }
+        if ("RECEIPT".equals(movement.getType())) {
+            if (movement.getQuantity() < 0) {
+                throw new BusinessException("Receipt quantity must be positive", "INVALID_INVENTORY_MOVEMENT");
+            }
+            return InventoryMovementType.RECEIPT;
+        }
+        if ("ADJUSTMENT".equals(movement.getType())) {
+            return InventoryMovementType.ADJUSTMENT;
+        }
+        throw new BusinessException("Movement type must be RECEIPT or ADJUSTMENT: " + movement.getType(), "INVALID_INVENTORY_MOVEMENT");
+    }
+
+    /**
+     * Rule 3: Every product must exist and no stock may go below zero.
+     * Products that do not exist are reported before products that would go negative.
+     */
+    public void checkIfStockAdjusted(Collection<Long> rejectedProductIds, Set<Long> existingProductIds) {
+        if (rejectedProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> missing = rejectedProductIds.stream().filter(id -> !existingProductIds.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Products not found with ids: " + missing, "PRODUCT_NOT_FOUND");
+        }
+        throw new BusinessException("Stock cannot go below zero for products: " + rejectedProductIds, "NEGATIVE_STOCK");
+    }
+
+    /**
+     * Rule 4: Stock of products in a flash sale is held by the in-memory counters until the sale ends.
+     */
+    public void checkIfNoFlashSale(Collection<Long> productIds) {
+        List<Long> active = productIds.stream().filter(flashSaleRegistry::isActive).toList();
+        if (!active.isEmpty()) {
+            throw new BusinessException("Products are in a flash sale: " + active, "FLASH_SALE_ACTIVE");
+        }
+    }
+
+    /**
+     * Helper: Net stock change per product, ordered by product id,
+     * which is the order stock rows are locked in. Expects movements that passed Rule 2, and
+     * applies its bound to each net change as well.
+     */
+    public SortedMap<Long, Integer> deltasByProductId(List<InventoryMovementRequest> movements) {
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+        for (InventoryMovementRequest movement : movements) {
+            int delta = deltas.merge(movement.getProductId(), movement.getQuantity(), Integer::sum);
+            if (Math.abs(delta) > MAX_MOVEMENT_QUANTITY) {
+                throw new BusinessException("One request may change the stock of product " + movement.getProductId()
+                    + " by at most " + MAX_MOVEMENT_QUANTITY + " units", "INVALID_INVENTORY_MOVEMENT");
+            }
+        }
+        return deltas;
+    }
+}
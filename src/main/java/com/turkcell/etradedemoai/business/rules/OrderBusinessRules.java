@@ -0,0 +1,77 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for Order placement.
+ */
+@Service
+public class OrderBusinessRules {
+
+    /**
+     * Most units of one product a single order may ask for, per line and across merged lines.
+     */
+    public static final int MAX_QUANTITY_PER_PRODUCT = 10_000;
+
+    /**
+     * Rule 1: An order must contain at least one line.
+     */
+    public void checkIfOrderHasLines(List<CreateOrderLineRequest> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new BusinessException("Order must contain at least one line", "ORDER_EMPTY");
+        }
+    }
+
+    /**
+     * Rule 2: Every line must name a product and order between one and
+     * {@link #MAX_QUANTITY_PER_PRODUCT} units.
+     */
+    public void checkIfQuantitiesAreValid(List<CreateOrderLineRequest> lines) {
+        for (CreateOrderLineRequest line : lines) {
+            if (line == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0
+                    || line.getQuantity() > MAX_QUANTITY_PER_PRODUCT) {
+                throw new BusinessException("Every order line needs a product id and a quantity between 1 and "
+                    + MAX_QUANTITY_PER_PRODUCT, "INVALID_ORDER_QUANTITY");
+            }
+        }
+    }
+
+    /**
+     * Rule 3: Stock must have been reserved for every product.
+     * Products that do not exist are reported before products that ran out of stock.
+     */
+    public void checkIfStockReserved(Collection<Long> rejectedProductIds, Set<Long> existingProductIds) {
+        if (rejectedProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> missing = rejectedProductIds.stream().filter(id -> !existingProductIds.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Products not found with ids: " + missing, "PRODUCT_NOT_FOUND");
+        }
+        throw new BusinessException("Insufficient stock for products: " + rejectedProductIds, "INSUFFICIENT_STOCK");
+    }
+
+    /**
+     * Helper: Merges lines for the same product and orders them by product id,
+     * which is the order stock rows are locked in. Expects lines that passed Rule 2, and
+     * applies its bound to each merged quantity as well.
+     */
+    public SortedMap<Long, Integer> quantitiesByProductId(List<CreateOrderLineRequest> lines) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (CreateOrderLineRequest line : lines) {
+            int merged = quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+            if (merged > MAX_QUANTITY_PER_PRODUCT) {
+                throw new BusinessException("An order may ask for at most " + MAX_QUANTITY_PER_PRODUCT
+                    + " units of product " + line.getProductId(), "INVALID_ORDER_QUANTITY");
+            }
+        }
+        return quantities;
+    }
+}
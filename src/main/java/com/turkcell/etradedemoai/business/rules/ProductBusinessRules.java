@@ -1,6 +1,8 @@
 package com.turkcell.etradedemoai.business.rules;
 
 import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.common.sync.SyncWatermark;
 import com.turkcell.etradedemoai.dataAccess.ProductRepository;
 import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
 import com.turkcell.etradedemoai.entities.Product;
@@ -8,6 +10,9 @@ import com.turkcell.etradedemoai.entities.Category;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -17,12 +22,20 @@ import java.util.Optional;
 @Service
 public class ProductBusinessRules {
 
+    /**
+     * Upper bound on products per price lookup; keeps the IN list and the URL reasonable.
+     */
+    public static final int MAX_PRICE_LOOKUP_PRODUCTS = 500;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final FlashSaleRegistry flashSaleRegistry;
 
-    public ProductBusinessRules(ProductRepository productRepository, CategoryRepository categoryRepository) {
+    public ProductBusinessRules(ProductRepository productRepository, CategoryRepository categoryRepository,
+                                FlashSaleRegistry flashSaleRegistry) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.flashSaleRegistry = flashSaleRegistry;
     }
 
     /**
@@ -87,6 +100,55 @@ public class ProductBusinessRules {
         return categoryRepository.findById(categoryId);
     }
 
+    /**
+     * Rule 7: While a product is in a flash sale its stock belongs to the in-memory counters,
+     * so it cannot be overwritten or deleted until the sale has ended.
+     */
+    public void checkIfProductNotInFlashSale(Long id) {
+        if (flashSaleRegistry.isActive(id)) {
+            throw new BusinessException("Product is in a flash sale: " + id, "FLASH_SALE_ACTIVE");
+        }
+    }
+
+    /**
+     * Rule 8: A point-in-time price lookup needs an instant and between one and
+     * {@link #MAX_PRICE_LOOKUP_PRODUCTS} product ids.
+     */
+    public void checkIfPriceLookupIsValid(Collection<Long> productIds, Instant at) {
+        if (at == null) {
+            throw new BusinessException("Price lookup needs an instant", "INVALID_PRICE_LOOKUP");
+        }
+        if (productIds == null || productIds.isEmpty() || productIds.size() > MAX_PRICE_LOOKUP_PRODUCTS
+            || productIds.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("Price lookup needs between 1 and " + MAX_PRICE_LOOKUP_PRODUCTS + " product ids",
+                "INVALID_PRICE_LOOKUP");
+        }
+    }
+
+    /**
+     * Rule 9: A delta sync watermark must be one handed out by an earlier sync, or an instant.
+     * Returns null for a full sync.
+     */
+    public SyncWatermark checkIfSyncWatermarkIsValid(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            return SyncWatermark.parse(since.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("Invalid sync watermark: " + since, "INVALID_SYNC_WATERMARK");
+        }
+    }
+
+    /**
+     * Rule 10: A delta sync page holds between 1 and {@code maxPageSize} changes.
+     */
+    public void checkIfSyncPageSizeIsValid(int size, int maxPageSize) {
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessException("Page size must be between 1 and " + maxPageSize, "INVALID_SYNC_PAGE_SIZE");
+        }
+    }
+
     /**
      * Helper: Extract category ID safely from product.
      */
@@ -0,0 +1,115 @@
+package com.turkcell.etradedemoai.business.rules;
+
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduledProductChangeRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.stereotype.Service;
+
+/**
+ * Business rules for scheduled product changes.
+ */
+@Service
+public class ScheduledChangeBusinessRules {
+
+    /**
+     * Upper bound for one scheduling request; it is stored in a single transaction.
+     */
+    public static final int MAX_CHANGES_PER_REQUEST = 500;
+
+    private final ScheduledProductChangeRepository changeRepository;
+    private final ProductRepository productRepository;
+
+    public ScheduledChangeBusinessRules(ScheduledProductChangeRepository changeRepository, ProductRepository productRepository) {
+        this.changeRepository = changeRepository;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Rule 1: A request schedules between one and {@link #MAX_CHANGES_PER_REQUEST} changes.
+     */
+    public void checkIfBatchSizeIsValid(List<ScheduledProductChangeRequest> changes) {
+        if (changes == null || changes.isEmpty() || changes.size() > MAX_CHANGES_PER_REQUEST
+            || changes.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("A request schedules between 1 and " + MAX_CHANGES_PER_REQUEST + " changes",
+                "INVALID_SCHEDULED_CHANGE");
+        }
+    }
+
+    /**
+     * Rule 2: A change names its product and activation time and changes at least one field.
+     */
+    public void checkIfChangeIsComplete(ScheduledProductChangeRequest change) {
+        if (change.getProductId() == null || change.getEffectiveAt() == null) {
+            throw new BusinessException("A scheduled change needs a product id and an activation time",
+                "INVALID_SCHEDULED_CHANGE");
+        }
+        if (change.getUnitPrice() == null && change.getUnitsInStock() == null && change.getDescription() == null) {
+            throw new BusinessException("A scheduled change must change price, stock or description",
+                "INVALID_SCHEDULED_CHANGE");
+        }
+    }
+
+    /**
+     * Rule 3: Scheduled prices are positive and scheduled stock is not negative, like direct updates.
+     */
+    public void checkIfValuesAreValid(ScheduledProductChangeRequest change) {
+        if (change.getUnitPrice() != null && change.getUnitPrice().signum() <= 0) {
+            throw new BusinessException("Product price must be greater than zero", "INVALID_PRODUCT_PRICE");
+        }
+        if (change.getUnitsInStock() != null && change.getUnitsInStock() < 0) {
+            throw new BusinessException("Product stock cannot be negative", "INVALID_PRODUCT_STOCK");
+        }
+    }
+
+    /**
+     * Rule 4: Every product in the request exists, checked with one query for the whole batch.
+     */
+    public void checkIfProductsExist(List<ScheduledProductChangeRequest> changes) {
+        Set<Long> missing = new TreeSet<>();
+        changes.forEach(change -> missing.add(change.getProductId()));
+        productRepository.findAllById(missing).stream().map(Product::getId).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Product not found with id: " + missing.iterator().next(), "PRODUCT_NOT_FOUND");
+        }
+    }
+
+    /**
+     * Rule 5: Scheduled change must exist before it can be cancelled.
+     */
+    public ScheduledProductChange checkIfChangeExists(Long id) {
+        return changeRepository.findById(id)
+            .orElseThrow(() -> new BusinessException("Scheduled change not found with id: " + id, "SCHEDULED_CHANGE_NOT_FOUND"));
+    }
+
+    /**
+     * Rule 6: Only pending changes can be cancelled.
+     */
+    public void checkIfChangeIsPending(ScheduledProductChange change) {
+        if (change.getStatus() != ScheduledChangeStatus.PENDING) {
+            throw new BusinessException("Scheduled change " + change.getId() + " is already " + change.getStatus(),
+                "SCHEDULED_CHANGE_NOT_PENDING");
+        }
+    }
+
+    /**
+     * Rule 7: A status filter names one of the change statuses.
+     */
+    public ScheduledChangeStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return ScheduledChangeStatus.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("Unknown scheduled change status: " + status, "INVALID_SCHEDULED_CHANGE");
+        }
+    }
+}
@@ -39,7 +39,8 @@ public class CorsConfig {
             "Accept",
             "Origin",
             "Access-Control-Request-Method",
-            "Access-Control-Request-Headers"
+            "Access-Control-Request-Headers",
+            "Server-Timing"
         ));
         
         // Max age for preflight requests (1 hour)
@@ -0,0 +1,26 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import java.util.Collection;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Evicts several keys at once, for changes that {@code @CacheEvict} cannot describe with a single key.
+ */
+public final class CacheEvictions {
+
+    private CacheEvictions() {
+        // prevent instantiation
+    }
+
+    /**
+     * Inside a transaction the evictions happen on commit, since the caches of
+     * {@link HotKeyTrackingCacheManager} are transaction-aware.
+     */
+    public static void evict(CacheManager cacheManager, String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+}
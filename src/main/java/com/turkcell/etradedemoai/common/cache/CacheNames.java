@@ -0,0 +1,14 @@
+package com.turkcell.etradedemoai.common.cache;
+
+/**
+ * Names of the application caches.
+ */
+public final class CacheNames {
+
+    public static final String PRODUCTS = "products";
+    public static final String CATEGORIES = "categories";
+
+    private CacheNames() {
+        // prevent instantiation
+    }
+}
@@ -0,0 +1,165 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * Actuator endpoint ({@code /actuator/cachestats}) reporting per-cache size,
+ * hit ratio, evictions, load latency and hottest keys, and allowing a single
+ * product or category id to be invalidated with the {@code etrade.actuator.token} bearer token.
+ */
+@Endpoint(id = "cachestats")
+public class CacheStatisticsEndpoint {
+
+    private final HotKeyTrackingCacheManager cacheManager;
+
+    public CacheStatisticsEndpoint(HotKeyTrackingCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, CacheReport> caches() {
+        Map<String, CacheReport> reports = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            reports.put(name, report(cacheManager.getCache(name)));
+        }
+        return reports;
+    }
+
+    @ReadOperation
+    public CacheReport cache(@Selector String cache) {
+        HotKeyTrackingCache target = cacheManager.getCache(cache);
+        return target != null ? report(target) : null;
+    }
+
+    /**
+     * Evicts one entry, e.g. {@code DELETE /actuator/cachestats/products/42}.
+     */
+    @DeleteOperation
+    public Map<String, Object> invalidate(@Selector String cache, @Selector String key) {
+        HotKeyTrackingCache target = cacheManager.getCache(cache);
+        if (target == null) {
+            return null;
+        }
+        Object cacheKey = toCacheKey(key);
+        boolean evicted = target.evictIfPresent(cacheKey);
+        target.getTracker().forget(cacheKey);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache", cache);
+        result.put("key", cacheKey);
+        result.put("evicted", evicted);
+        return result;
+    }
+
+    private CacheReport report(HotKeyTrackingCache cache) {
+        CacheReport report = new CacheReport();
+        report.setHotKeys(cache.getTracker().getHotKeys());
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            CacheStats stats = caffeine.stats();
+            report.setSize(caffeine.estimatedSize());
+            report.setHitCount(stats.hitCount());
+            report.setMissCount(stats.missCount());
+            report.setHitRatio(stats.hitRate());
+            report.setEvictionCount(stats.evictionCount());
+            report.setLoadCount(stats.loadCount());
+            report.setAverageLoadMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return report;
+    }
+
+    /**
+     * Our caches are keyed by numeric entity id; anything else is used verbatim.
+     */
+    private static Object toCacheKey(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException ex) {
+            return key;
+        }
+    }
+
+    /**
+     * Statistics of a single cache.
+     */
+    public static class CacheReport {
+        private long size;
+        private long hitCount;
+        private long missCount;
+        private double hitRatio;
+        private long evictionCount;
+        private long loadCount;
+        private double averageLoadMillis;
+        private List<HotKeyTracker.HotKey> hotKeys;
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public void setHitCount(long hitCount) {
+            this.hitCount = hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public void setMissCount(long missCount) {
+            this.missCount = missCount;
+        }
+
+        public double getHitRatio() {
+            return hitRatio;
+        }
+
+        public void setHitRatio(double hitRatio) {
+            this.hitRatio = hitRatio;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public void setEvictionCount(long evictionCount) {
+            this.evictionCount = evictionCount;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public void setLoadCount(long loadCount) {
+            this.loadCount = loadCount;
+        }
+
+        public double getAverageLoadMillis() {
+            return averageLoadMillis;
+        }
+
+        public void setAverageLoadMillis(double averageLoadMillis) {
+            this.averageLoadMillis = averageLoadMillis;
+        }
+
+        public List<HotKeyTracker.HotKey> getHotKeys() {
+            return hotKeys;
+        }
+
+        public void setHotKeys(List<HotKeyTracker.HotKey> hotKeys) {
+            this.hotKeys = hotKeys;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Count-Min sketch for approximate frequency counting.
+ * Memory is {@code depth * width} counters regardless of how many distinct
+ * keys are seen; estimates never undercount and overcount by at most
+ * {@code e / width * total} with probability {@code 1 - e^-depth}.
+ * Increments are lock-free.
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth number of hash rows (1-8)
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        if (width < 1) {
+            throw new IllegalArgumentException("width must be positive");
+        }
+        this.depth = depth;
+        int powerOfTwo = 1;
+        while (powerOfTwo < width) {
+            powerOfTwo <<= 1;
+        }
+        this.width = powerOfTwo;
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(depth * this.width);
+    }
+
+    /**
+     * Adds one occurrence of the key and returns its new estimated count.
+     */
+    public long increment(Object key) {
+        int hash = spread(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long value = counters.incrementAndGet(index(row, hash));
+            estimate = Math.min(estimate, value);
+        }
+        return estimate;
+    }
+
+    public long estimate(Object key) {
+        int hash = spread(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Halves every counter so that old traffic fades and the sketch reflects recent hot keys.
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            long value;
+            do {
+                value = counters.get(i);
+            } while (!counters.compareAndSet(i, value, value >>> 1));
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    private int index(int row, int hash) {
+        long mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        return row * width + (int) ((mixed ^ (mixed >>> 32)) & mask);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,120 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the top-N most frequently accessed keys of a cache in constant memory.
+ * Frequencies come from a {@link CountMinSketch}; only keys whose estimate
+ * beats the current N-th entry take the lock to enter the top list. Keys already
+ * in the list update their count without the lock, and only once it has grown by
+ * an eighth, so hits on the hottest keys neither serialize nor rescan the list.
+ * Counters are halved periodically so the list follows current traffic.
+ */
+public class HotKeyTracker {
+
+    private final CountMinSketch sketch;
+    private final int topN;
+    private final long decayInterval;
+    private final AtomicLong accesses = new AtomicLong();
+    private final Map<Object, Long> top = new ConcurrentHashMap<>();
+    private volatile long admissionThreshold;
+
+    public HotKeyTracker(int topN, int sketchWidth) {
+        this.sketch = new CountMinSketch(4, sketchWidth);
+        this.topN = topN;
+        this.decayInterval = 10L * sketch.getWidth();
+    }
+
+    public void recordAccess(Object key) {
+        if (key == null) {
+            return;
+        }
+        long estimate = sketch.increment(key);
+        if (estimate > admissionThreshold) {
+            Long current = top.get(key);
+            if (current == null) {
+                admit(key, estimate);
+            } else if (estimate >= current + Math.max(1, current >>> 3)) {
+                // Lost races (decay, eviction, a concurrent refresh) just skip this refresh
+                top.replace(key, current, estimate);
+            }
+        }
+        if (accesses.incrementAndGet() % decayInterval == 0) {
+            decay();
+        }
+    }
+
+    public List<HotKey> getHotKeys() {
+        List<HotKey> result = new ArrayList<>();
+        top.forEach((key, count) -> result.add(new HotKey(key, count)));
+        result.sort(Comparator.comparingLong(HotKey::getEstimatedAccesses).reversed());
+        return result;
+    }
+
+    public void forget(Object key) {
+        synchronized (top) {
+            top.remove(key);
+            admissionThreshold = top.size() < topN ? 0 : minimum();
+        }
+    }
+
+    private void admit(Object key, long estimate) {
+        synchronized (top) {
+            top.put(key, estimate);
+            if (top.size() > topN) {
+                Object coldest = null;
+                long coldestCount = Long.MAX_VALUE;
+                for (Map.Entry<Object, Long> entry : top.entrySet()) {
+                    if (entry.getValue() < coldestCount) {
+                        coldest = entry.getKey();
+                        coldestCount = entry.getValue();
+                    }
+                }
+                top.remove(coldest);
+            }
+            admissionThreshold = top.size() < topN ? 0 : minimum();
+        }
+    }
+
+    private void decay() {
+        sketch.decay();
+        synchronized (top) {
+            top.replaceAll((key, count) -> count >>> 1);
+            admissionThreshold = top.size() < topN ? 0 : minimum();
+        }
+    }
+
+    private long minimum() {
+        long min = Long.MAX_VALUE;
+        for (long count : top.values()) {
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    /**
+     * A key together with its estimated access count.
+     */
+    public static class HotKey {
+        private final Object key;
+        private final long estimatedAccesses;
+
+        public HotKey(Object key, long estimatedAccesses) {
+            this.key = key;
+            this.estimatedAccesses = estimatedAccesses;
+        }
+
+        public Object getKey() {
+            return key;
+        }
+
+        public long getEstimatedAccesses() {
+            return estimatedAccesses;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+
+/**
+ * Cache decorator that reports every lookup to a {@link HotKeyTracker}.
+ */
+public class HotKeyTrackingCache implements Cache {
+
+    private final Cache delegate;
+    private final HotKeyTracker tracker;
+
+    public HotKeyTrackingCache(Cache delegate, HotKeyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    public HotKeyTracker getTracker() {
+        return tracker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        tracker.recordAccess(key);
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        tracker.recordAccess(key);
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        tracker.recordAccess(key);
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,49 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+/**
+ * Cache manager decorator that wraps every cache in a {@link HotKeyTrackingCache}.
+ * <p>
+ * Underneath, the caches are transaction-aware: puts and evictions made inside a transaction,
+ * including those of {@code @CacheEvict} on {@code @Transactional} methods, only happen once it
+ * has committed. Evicting earlier would let a concurrent read re-cache the row as it was before
+ * the commit until the entry expires.
+ */
+public class HotKeyTrackingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final int topN;
+    private final int sketchWidth;
+    private final Map<String, HotKeyTrackingCache> caches = new ConcurrentHashMap<>();
+
+    public HotKeyTrackingCacheManager(CacheManager delegate, int topN, int sketchWidth) {
+        this.delegate = delegate;
+        this.topN = topN;
+        this.sketchWidth = sketchWidth;
+    }
+
+    @Override
+    public HotKeyTrackingCache getCache(String name) {
+        HotKeyTrackingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new HotKeyTrackingCache(
+            new TransactionAwareCacheDecorator(target), new HotKeyTracker(topN, sketchWidth)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Caching support: cache names, hot-key tracking and the cache statistics endpoint.
+ */
+package com.turkcell.etradedemoai.common.cache;
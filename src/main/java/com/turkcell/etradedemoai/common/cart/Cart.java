@@ -0,0 +1,83 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cart held by {@link CartStore}. Item changes are synchronized on the cart; a cart is
+ * only ever touched by its owner's requests, so the monitor is practically uncontended.
+ */
+public final class Cart {
+
+    private final String id;
+    private final Map<Long, CartItem> items = new LinkedHashMap<>();
+    private volatile long lastAccessNanos;
+
+    Cart(String id, long lastAccessNanos) {
+        this.id = id;
+        this.lastAccessNanos = lastAccessNanos;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Adds units of a product, keeping the most recently validated price.
+     *
+     * @return {@link AddResult#CART_FULL} when the product is new and the cart already holds
+     *         {@code maxItems} products, {@link AddResult#QUANTITY_LIMIT} when the line would
+     *         exceed {@code maxQuantity} units; the cart is unchanged in both cases
+     */
+    public synchronized AddResult add(Long productId, int quantity, BigDecimal unitPrice, int maxItems, int maxQuantity) {
+        CartItem existing = items.get(productId);
+        if (existing == null && items.size() >= maxItems) {
+            return AddResult.CART_FULL;
+        }
+        long total = (long) quantity + (existing == null ? 0 : existing.getQuantity());
+        if (total > maxQuantity) {
+            return AddResult.QUANTITY_LIMIT;
+        }
+        items.put(productId, new CartItem(productId, (int) total, unitPrice));
+        return AddResult.ADDED;
+    }
+
+    public synchronized boolean remove(Long productId) {
+        return items.remove(productId) != null;
+    }
+
+    public synchronized void clear() {
+        items.clear();
+    }
+
+    /**
+     * Copy of the items in the order they were first added.
+     */
+    public synchronized List<CartItem> items() {
+        return new ArrayList<>(items.values());
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long nowNanos) {
+        lastAccessNanos = nowNanos;
+    }
+
+    synchronized void restore(List<CartItem> restored) {
+        restored.forEach(item -> items.put(item.getProductId(), item));
+    }
+
+    /**
+     * Outcome of {@link #add}.
+     */
+    public enum AddResult {
+        ADDED,
+        CART_FULL,
+        QUANTITY_LIMIT
+    }
+}
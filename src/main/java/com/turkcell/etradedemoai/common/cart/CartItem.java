@@ -0,0 +1,46 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import java.math.BigDecimal;
+
+/**
+ * One product in a cart, with the unit price the customer saw when adding it.
+ */
+public class CartItem {
+
+    private Long productId;
+    private int quantity;
+    private BigDecimal unitPrice;
+
+    public CartItem() {
+    }
+
+    public CartItem(Long productId, int quantity, BigDecimal unitPrice) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+}
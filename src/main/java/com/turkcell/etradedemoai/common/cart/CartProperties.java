@@ -0,0 +1,103 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-memory cart store settings ({@code etrade.cart.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.cart")
+public class CartProperties {
+
+    /**
+     * Maximum number of live carts; creating more fails until idle carts expire.
+     */
+    private int maxCarts = 200_000;
+
+    /**
+     * Maximum number of distinct products in one cart.
+     */
+    private int maxItemsPerCart = 100;
+
+    /**
+     * Maximum number of units of one product in one cart.
+     */
+    private int maxQuantityPerItem = 10_000;
+
+    /**
+     * A cart not read or changed for this long is dropped.
+     */
+    private Duration idleTtl = Duration.ofMinutes(30);
+
+    /**
+     * Resolution of the expiry timing wheel; carts expire up to one tick late.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Number of wheel slots; deadlines further out than {@code tick * wheelSize} wait for extra revolutions.
+     */
+    private int wheelSize = 512;
+
+    /**
+     * File carts are written to on shutdown and restored from on startup; no snapshot when unset.
+     */
+    private Path snapshotFile;
+
+    public int getMaxCarts() {
+        return maxCarts;
+    }
+
+    public void setMaxCarts(int maxCarts) {
+        this.maxCarts = maxCarts;
+    }
+
+    public int getMaxItemsPerCart() {
+        return maxItemsPerCart;
+    }
+
+    public void setMaxItemsPerCart(int maxItemsPerCart) {
+        this.maxItemsPerCart = maxItemsPerCart;
+    }
+
+    public int getMaxQuantityPerItem() {
+        return maxQuantityPerItem;
+    }
+
+    public void setMaxQuantityPerItem(int maxQuantityPerItem) {
+        this.maxQuantityPerItem = maxQuantityPerItem;
+    }
+
+    public Duration getIdleTtl() {
+        return idleTtl;
+    }
+
+    public void setIdleTtl(Duration idleTtl) {
+        this.idleTtl = idleTtl;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    public void setSnapshotFile(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+}
@@ -0,0 +1,116 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes carts to a local JSON file on shutdown and restores them on startup, so a restart
+ * does not empty customers' carts. Idle time is stored as a wall-clock timestamp, so carts
+ * that expired while the application was down are not restored.
+ */
+public class CartSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(CartSnapshot.class);
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public CartSnapshot(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    public void save(CartStore store) {
+        Instant now = Instant.now();
+        List<Entry> entries = new ArrayList<>();
+        for (Cart cart : store.carts()) {
+            Entry entry = new Entry();
+            entry.setId(cart.getId());
+            entry.setLastAccessedAt(now.minusNanos(store.idleNanos(cart)));
+            entry.setItems(cart.items());
+            entries.add(entry);
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write next to the target and move, so a crash mid-write never leaves a truncated snapshot
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), entries);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} carts to {}", entries.size(), file);
+        } catch (IOException ex) {
+            log.warn("Could not save carts to {}: {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * @return number of carts restored
+     */
+    public int restore(CartStore store) {
+        if (!Files.isReadable(file)) {
+            return 0;
+        }
+        List<Entry> entries;
+        try {
+            entries = objectMapper.readValue(file.toFile(), new TypeReference<List<Entry>>() { });
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable cart snapshot {}: {}", file, ex.getMessage());
+            return 0;
+        }
+        Instant now = Instant.now();
+        int restored = 0;
+        for (Entry entry : entries) {
+            long idleNanos = Duration.between(entry.getLastAccessedAt(), now).toNanos();
+            if (store.restore(entry.getId(), idleNanos, entry.getItems())) {
+                restored++;
+            }
+        }
+        log.info("Restored {} of {} carts from {}", restored, entries.size(), file);
+        return restored;
+    }
+
+    /**
+     * One cart as stored in the snapshot file.
+     */
+    public static class Entry {
+        private String id;
+        private Instant lastAccessedAt;
+        private List<CartItem> items;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Instant getLastAccessedAt() {
+            return lastAccessedAt;
+        }
+
+        public void setLastAccessedAt(Instant lastAccessedAt) {
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        public List<CartItem> getItems() {
+            return items;
+        }
+
+        public void setItems(List<CartItem> items) {
+            this.items = items;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import com.turkcell.etradedemoai.common.BusinessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded in-memory cart store with idle-TTL expiry. Every access only stamps the cart's
+ * last-access time; the cart sits in the timing wheel at its original deadline and, when that
+ * tick fires, is either dropped or re-scheduled from its latest access. That keeps reads and
+ * writes free of any scheduling work, which matters because carts are written far more than read.
+ */
+public class CartStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CartStore.class);
+
+    private final CartProperties properties;
+    private final LongSupplier nanoClock;
+    private final long idleTtlNanos;
+    private final ConcurrentHashMap<String, Cart> carts = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final TimingWheel<String> wheel;
+    private ScheduledExecutorService expiryExecutor;
+
+    public CartStore(CartProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    public CartStore(CartProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.idleTtlNanos = properties.getIdleTtl().toNanos();
+        this.wheel = new TimingWheel<>(properties.getTick().toNanos(), properties.getWheelSize(), nanoClock.getAsLong());
+    }
+
+    /**
+     * Starts the background thread that advances the wheel once per tick.
+     */
+    public synchronized void start() {
+        if (expiryExecutor != null) {
+            return;
+        }
+        expiryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickNanos = properties.getTick().toNanos();
+        expiryExecutor.scheduleAtFixedRate(this::expireSafely, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (expiryExecutor != null) {
+            expiryExecutor.shutdownNow();
+            expiryExecutor = null;
+        }
+    }
+
+    public Cart create() {
+        return insert(UUID.randomUUID().toString(), nanoClock.getAsLong());
+    }
+
+    /**
+     * Looks up a cart and counts the lookup as activity.
+     */
+    public Optional<Cart> find(String id) {
+        Cart cart = carts.get(id);
+        if (cart == null) {
+            return Optional.empty();
+        }
+        cart.touch(nanoClock.getAsLong());
+        return Optional.of(cart);
+    }
+
+    public boolean delete(String id) {
+        if (carts.remove(id) != null) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Drops carts idle for longer than the TTL; called by the expiry thread, or directly in tests.
+     *
+     * @return number of carts dropped
+     */
+    public int expire() {
+        long now = nanoClock.getAsLong();
+        int[] expired = {0};
+        wheel.advance(now, id -> {
+            Cart cart = carts.get(id);
+            if (cart == null) {
+                return;
+            }
+            long deadline = cart.getLastAccessNanos() + idleTtlNanos;
+            if (deadline - now <= 0) {
+                if (carts.remove(id, cart)) {
+                    size.decrementAndGet();
+                    expired[0]++;
+                }
+            } else {
+                wheel.schedule(id, deadline);
+            }
+        });
+        return expired[0];
+    }
+
+    /**
+     * Copy of the live carts, for the snapshot.
+     */
+    Collection<Cart> carts() {
+        return new ArrayList<>(carts.values());
+    }
+
+    long idleNanos(Cart cart) {
+        return nanoClock.getAsLong() - cart.getLastAccessNanos();
+    }
+
+    /**
+     * Puts back a cart from a snapshot; ignored when it would already have expired or the store is full.
+     */
+    boolean restore(String id, long idleNanos, Collection<CartItem> items) {
+        if (idleNanos >= idleTtlNanos) {
+            return false;
+        }
+        try {
+            Cart cart = insert(id, nanoClock.getAsLong() - Math.max(0, idleNanos));
+            cart.restore(new ArrayList<>(items));
+            return true;
+        } catch (BusinessException ex) {
+            return false;
+        }
+    }
+
+    private Cart insert(String id, long lastAccessNanos) {
+        if (size.incrementAndGet() > properties.getMaxCarts()) {
+            size.decrementAndGet();
+            throw new BusinessException("Cart limit of " + properties.getMaxCarts() + " reached, try again later", "CART_LIMIT_REACHED");
+        }
+        Cart cart = new Cart(id, lastAccessNanos);
+        if (carts.putIfAbsent(id, cart) != null) {
+            size.decrementAndGet();
+            throw new BusinessException("Cart already exists with id: " + id, "CART_EXISTS");
+        }
+        wheel.schedule(id, lastAccessNanos + idleTtlNanos);
+        return cart;
+    }
+
+    private void expireSafely() {
+        try {
+            int expired = expire();
+            if (expired > 0) {
+                log.debug("Expired {} idle carts, {} left", expired, size());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Cart expiry failed", ex);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: scheduling is O(1) into the slot of the deadline's tick, and advancing
+ * only visits the slots of elapsed ticks. Entries more than one revolution away stay in their
+ * slot until their own tick comes round. Entries are never cancelled; callers re-check on expiry.
+ * {@link #schedule} may be called from any thread, {@link #advance} from one thread at a time.
+ */
+final class TimingWheel<K> {
+
+    private final long tickNanos;
+    private final long originNanos;
+    private final List<Entry<K>>[] slots;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickNanos, int wheelSize, long originNanos) {
+        this.tickNanos = tickNanos;
+        this.originNanos = originNanos;
+        this.slots = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayList<>();
+        }
+    }
+
+    void schedule(K key, long deadlineNanos) {
+        long tick = Math.max(ceilTick(deadlineNanos), currentTick + 1);
+        List<Entry<K>> slot = slots[(int) (tick % slots.length)];
+        synchronized (slot) {
+            slot.add(new Entry<>(key, tick));
+        }
+    }
+
+    /**
+     * Hands every entry whose tick has passed by {@code nowNanos} to {@code expired}.
+     */
+    void advance(long nowNanos, Consumer<K> expired) {
+        long targetTick = Math.floorDiv(nowNanos - originNanos, tickNanos);
+        if (targetTick <= currentTick) {
+            return;
+        }
+        // After a pause longer than one revolution every slot is visited once, not once per lost tick
+        long fromTick = Math.max(currentTick + 1, targetTick - slots.length + 1);
+        List<K> due = new ArrayList<>();
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            List<Entry<K>> slot = slots[(int) (tick % slots.length)];
+            synchronized (slot) {
+                for (Iterator<Entry<K>> it = slot.iterator(); it.hasNext(); ) {
+                    Entry<K> entry = it.next();
+                    if (entry.tick <= targetTick) {
+                        due.add(entry.key);
+                        it.remove();
+                    }
+                }
+            }
+        }
+        currentTick = targetTick;
+        due.forEach(expired);
+    }
+
+    int size() {
+        int size = 0;
+        for (List<Entry<K>> slot : slots) {
+            synchronized (slot) {
+                size += slot.size();
+            }
+        }
+        return size;
+    }
+
+    private long ceilTick(long deadlineNanos) {
+        return -Math.floorDiv(originNanos - deadlineNanos, tickNanos);
+    }
+
+    private record Entry<K>(K key, long tick) {
+    }
+}
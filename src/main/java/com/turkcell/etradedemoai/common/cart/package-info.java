@@ -0,0 +1,5 @@
+/**
+ * In-memory shopping cart storage: a bounded store with idle-TTL expiry driven by a
+ * timing wheel, and an optional file snapshot that carries carts across restarts.
+ */
+package com.turkcell.etradedemoai.common.cart;
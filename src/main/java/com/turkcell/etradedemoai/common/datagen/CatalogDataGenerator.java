@@ -0,0 +1,154 @@
+package com.turkcell.etradedemoai.common.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends synthetic categories and products to the configured database.
+ *
+ * Rows go straight through JDBC batches on a single connection with one
+ * commit per batch, bypassing JPA (no persistence context, no identity
+ * round-trip per row), which keeps 10M products in the range of minutes.
+ * Products are spread over the new categories with a Zipf skew so a few
+ * categories are very large and most are small, like a real catalog.
+ */
+@Component
+@Profile("datagen")
+public class CatalogDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogDataGenerator.class);
+
+    private static final String INSERT_CATEGORY =
+        "insert into categories (name, created_date, updated_date) values (?, ?, ?)";
+    private static final String INSERT_PRODUCT =
+        "insert into products (name, unit_price, units_in_stock, description, category_id, created_date, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final DataGeneratorProperties properties;
+
+    public CatalogDataGenerator(DataSource dataSource, DataGeneratorProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        generate();
+    }
+
+    public void generate() throws SQLException {
+        if (properties.getCategories() <= 0 || properties.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("etrade.datagen.categories and batch-size must be positive");
+        }
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        SyntheticCatalogFactory factory = new SyntheticCatalogFactory(random, Instant.now());
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<Long> categoryIds = insertCategories(connection, factory);
+                insertProducts(connection, factory, random, categoryIds);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        log.info("Generated {} categories and {} products in {} s", properties.getCategories(), properties.getProducts(),
+            TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private List<Long> insertCategories(Connection connection, SyntheticCatalogFactory factory) throws SQLException {
+        long existingMaxId = maxId(connection, "categories");
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_CATEGORY)) {
+            for (int i = 0; i < properties.getCategories(); i++) {
+                Instant created = factory.createdDate();
+                insert.setString(1, factory.categoryName(i));
+                insert.setObject(2, timestamp(created));
+                insert.setObject(3, timestamp(created));
+                insert.addBatch();
+                if ((i + 1) % properties.getBatchSize() == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        List<Long> ids = new ArrayList<>(properties.getCategories());
+        try (PreparedStatement select = connection.prepareStatement("select id from categories where id > ? order by id")) {
+            select.setLong(1, existingMaxId);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void insertProducts(Connection connection, SyntheticCatalogFactory factory, SplittableRandom random,
+            List<Long> categoryIds) throws SQLException {
+        ZipfDistribution categories = new ZipfDistribution(categoryIds.size(), properties.getCategorySkew());
+        long total = properties.getProducts();
+        long sequenceOffset = maxId(connection, "products");
+        long reportEvery = Math.max(properties.getBatchSize(), total / 10);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PRODUCT)) {
+            for (long i = 1; i <= total; i++) {
+                Instant created = factory.createdDate();
+                String description = factory.description();
+                insert.setString(1, factory.productName(sequenceOffset + i));
+                insert.setBigDecimal(2, factory.unitPrice());
+                insert.setInt(3, factory.unitsInStock());
+                if (description == null) {
+                    insert.setNull(4, Types.VARCHAR);
+                } else {
+                    insert.setString(4, description);
+                }
+                insert.setLong(5, categoryIds.get(categories.sample(random)));
+                insert.setObject(6, timestamp(created));
+                insert.setObject(7, timestamp(factory.updatedDate(created)));
+                insert.addBatch();
+                if (i % properties.getBatchSize() == 0 || i == total) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (i % reportEvery == 0) {
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    log.info("Inserted {} / {} products ({} rows/s)", i, total, Math.round(i / seconds));
+                }
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
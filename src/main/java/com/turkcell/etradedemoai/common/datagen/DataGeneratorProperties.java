@@ -0,0 +1,75 @@
+package com.turkcell.etradedemoai.common.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic catalog size and shape settings ({@code etrade.datagen.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.datagen")
+public class DataGeneratorProperties {
+
+    /**
+     * Number of categories to insert.
+     */
+    private int categories = 500;
+
+    /**
+     * Number of products to insert.
+     */
+    private long products = 1_000_000;
+
+    /**
+     * Rows per JDBC batch; each batch is committed on its own.
+     */
+    private int batchSize = 5_000;
+
+    /**
+     * Zipf exponent for products per category; 0 spreads products evenly, around 1 gives a few huge categories.
+     */
+    private double categorySkew = 1.1;
+
+    /**
+     * Random seed so the same settings always produce the same catalog.
+     */
+    private long seed = 42L;
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public void setCategories(int categories) {
+        this.categories = categories;
+    }
+
+    public long getProducts() {
+        return products;
+    }
+
+    public void setProducts(long products) {
+        this.products = products;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public double getCategorySkew() {
+        return categorySkew;
+    }
+
+    public void setCategorySkew(double categorySkew) {
+        this.categorySkew = categorySkew;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
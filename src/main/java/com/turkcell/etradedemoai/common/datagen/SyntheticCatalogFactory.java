@@ -0,0 +1,138 @@
+package com.turkcell.etradedemoai.common.datagen;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces realistic-looking column values: unique names built from word lists,
+ * log-normal prices with retail endings, long-tailed stock levels and
+ * description lengths, and creation dates spread over the last two years.
+ */
+class SyntheticCatalogFactory {
+
+    private static final String[] DEPARTMENTS = {
+        "Home", "Garden", "Kitchen", "Office", "Outdoor", "Kids", "Sports", "Automotive", "Pet", "Beauty",
+        "Health", "Electronics", "Computer", "Mobile", "Audio", "Gaming", "Fashion", "Jewelry", "Travel", "Hobby"
+    };
+
+    private static final String[] GROUPS = {
+        "Furniture", "Lighting", "Storage", "Accessories", "Tools", "Appliances", "Decor", "Textiles", "Cleaning",
+        "Supplies", "Equipment", "Gadgets", "Essentials", "Care", "Wear", "Footwear", "Bags", "Toys", "Books",
+        "Cables", "Displays", "Speakers", "Cameras", "Parts", "Gifts"
+    };
+
+    private static final String[] ADJECTIVES = {
+        "Compact", "Ergonomic", "Premium", "Classic", "Portable", "Wireless", "Smart", "Heavy-Duty", "Lightweight",
+        "Vintage", "Modern", "Foldable", "Rechargeable", "Waterproof", "Adjustable", "Eco", "Deluxe", "Slim"
+    };
+
+    private static final String[] MATERIALS = {
+        "Steel", "Oak", "Cotton", "Leather", "Bamboo", "Aluminium", "Ceramic", "Glass", "Wool", "Carbon",
+        "Silicone", "Linen", "Copper", "Walnut", "Plastic"
+    };
+
+    private static final String[] NOUNS = {
+        "Chair", "Lamp", "Backpack", "Kettle", "Headphones", "Desk", "Bottle", "Jacket", "Speaker", "Charger",
+        "Blender", "Mug", "Monitor", "Keyboard", "Mouse", "Tent", "Watch", "Wallet", "Shelf", "Pillow",
+        "Router", "Camera", "Drill", "Brush", "Scale"
+    };
+
+    private static final String[] SENTENCES = {
+        "Designed for everyday use and built to last.",
+        "Ships in recyclable packaging.",
+        "Backed by a two-year limited warranty.",
+        "Easy to clean with a damp cloth.",
+        "Fits neatly in small spaces and folds flat for storage.",
+        "Tested to withstand thousands of cycles without wear.",
+        "Available while stocks last; colours may vary slightly from the photos.",
+        "Compatible with most standard accessories on the market.",
+        "Assembly takes less than ten minutes with the included tools.",
+        "A customer favourite for its balance of price and quality."
+    };
+
+    private static final Duration HISTORY = Duration.ofDays(730);
+
+    private final RandomGenerator random;
+    private final Instant now;
+
+    SyntheticCatalogFactory(RandomGenerator random, Instant now) {
+        this.random = random;
+        this.now = now;
+    }
+
+    String categoryName(int index) {
+        int combinations = DEPARTMENTS.length * GROUPS.length;
+        String name = DEPARTMENTS[index % DEPARTMENTS.length] + " " + GROUPS[(index / DEPARTMENTS.length) % GROUPS.length];
+        return index < combinations ? name : name + " " + (index / combinations + 1);
+    }
+
+    /**
+     * The sequence number is encoded as a model code, which keeps names unique without a lookup.
+     */
+    String productName(long sequence) {
+        return pick(ADJECTIVES) + " " + pick(MATERIALS) + " " + pick(NOUNS) + " " + Long.toString(sequence, 36).toUpperCase();
+    }
+
+    /**
+     * Log-normal length with a median around 300 characters, capped at the 2000 character column;
+     * about one product in twenty has no description.
+     */
+    String description() {
+        if (random.nextInt(20) == 0) {
+            return null;
+        }
+        int target = (int) Math.min(2000, Math.exp(random.nextGaussian(Math.log(300), 0.8)));
+        StringBuilder description = new StringBuilder(target + 100);
+        while (description.length() < target) {
+            if (!description.isEmpty()) {
+                description.append(' ');
+            }
+            description.append(pick(SENTENCES));
+        }
+        description.setLength(Math.min(description.length(), 2000));
+        return description.toString();
+    }
+
+    /**
+     * Log-normal price with a median around 40, rounded to retail endings (.99 mostly, otherwise .49 or .00).
+     */
+    BigDecimal unitPrice() {
+        double raw = Math.min(100_000, Math.max(1, Math.exp(random.nextGaussian(Math.log(40), 1.2))));
+        long whole = (long) raw;
+        int ending = random.nextInt(10);
+        String cents = ending < 7 ? "0.99" : ending < 9 ? "0.49" : "0.00";
+        return BigDecimal.valueOf(whole).add(new BigDecimal(cents)).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Roughly 8% out of stock, the rest long-tailed around 50 units.
+     */
+    int unitsInStock() {
+        if (random.nextInt(100) < 8) {
+            return 0;
+        }
+        return (int) Math.min(100_000, Math.max(1, Math.exp(random.nextGaussian(Math.log(50), 1.3))));
+    }
+
+    Instant createdDate() {
+        return now.minusSeconds(random.nextLong(HISTORY.toSeconds()));
+    }
+
+    /**
+     * Most rows were never edited; the rest were updated at some point after creation.
+     */
+    Instant updatedDate(Instant createdDate) {
+        if (random.nextInt(10) < 6) {
+            return createdDate;
+        }
+        long age = Duration.between(createdDate, now).toSeconds();
+        return age <= 0 ? createdDate : createdDate.plusSeconds(random.nextLong(age));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Synthetic catalog data generation for scale testing.
+ *
+ * Active only under the {@code datagen} Spring profile, e.g.
+ * {@code ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen -Dspring-boot.run.arguments=--etrade.datagen.products=10000000}.
+ */
+package com.turkcell.etradedemoai.common.datagen;
@@ -0,0 +1,300 @@
+package com.turkcell.etradedemoai.common.feed;
+
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams published outbox events to SSE subscribers. One poller thread reads newly published
+ * events into a ring buffer; a small pool of sender threads then brings each subscriber that is
+ * behind up to date, so idle connections cost no thread and a slow client only delays itself.
+ * <p>
+ * Each subscriber has a cursor, the publish sequence of the last event it was sent, which is
+ * also the SSE event id. Subscribers behind the ring read from the outbox table. Within one
+ * batch only the latest event per product or category is sent: payloads carry the full state,
+ * so skipping superseded events still leaves the client with the current catalog. When the
+ * events after a cursor have been purged, a {@code reset} event tells the client to resync first.
+ */
+public class ChangeFeed implements AutoCloseable {
+
+    static final String RESET_EVENT = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ChangeFeedProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /**
+     * Slots taken towards the subscriber limit; reserved before a subscriber is added and given
+     * back by {@link #remove}, so concurrent subscribes cannot overshoot the limit.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final Counter sent;
+    private final Counter coalesced;
+    private ChangeFeedBuffer buffer;
+    private volatile long head;
+    private long lastHeartbeat;
+    private ScheduledExecutorService poller;
+    private ExecutorService senders;
+
+    public ChangeFeed(OutboxEventRepository outboxEventRepository, ChangeFeedProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.sent = Counter.builder("etrade.feed.events.sent")
+            .description("Change events written to feed subscribers")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("etrade.feed.events.coalesced")
+            .description("Change events skipped because a later event for the same entity was sent instead")
+            .register(meterRegistry);
+        Gauge.builder("etrade.feed.subscribers", subscribers, Set::size)
+            .description("Open change feed connections")
+            .register(meterRegistry);
+    }
+
+    public synchronized void start() {
+        if (poller != null) {
+            return;
+        }
+        Long last = outboxEventRepository.findLastPublishSequence();
+        head = last == null ? 0 : last;
+        buffer = new ChangeFeedBuffer(properties.getBufferSize(), head);
+        lastHeartbeat = System.nanoTime();
+        poller = Executors.newSingleThreadScheduledExecutor(daemon("change-feed-poller"));
+        AtomicInteger senderCount = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(properties.getSendThreads(),
+            runnable -> daemon("change-feed-sender-" + senderCount.incrementAndGet()).newThread(runnable));
+        long pollMillis = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::pollSafely, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream that starts after the given cursor: the last event id the client saw, else
+     * the last event written before {@code since}, else the current head (new events only).
+     *
+     * @return the stream, or {@code null} when this instance is at its subscriber limit
+     */
+    public SseEmitter subscribe(Long lastEventId, Instant since) {
+        if (!reserveSlot()) {
+            return null;
+        }
+        long cursor;
+        try {
+            if (lastEventId != null) {
+                cursor = lastEventId;
+            } else if (since != null) {
+                Long before = outboxEventRepository.findLastPublishSequenceBefore(since);
+                cursor = before == null ? 0 : before;
+            } else {
+                cursor = head;
+            }
+        } catch (RuntimeException ex) {
+            reserved.decrementAndGet();
+            throw ex;
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        subscribers.add(subscriber);
+        // The first write commits the response headers, so the client sees the stream open at once
+        subscriber.heartbeatDue = true;
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int taken = reserved.get();
+            if (taken >= properties.getMaxSubscribers()) {
+                return false;
+            }
+            if (reserved.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives the slot back only for the call that actually removed the subscriber, since
+     * completion, timeout, error and a failed send may all report the same one.
+     */
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            reserved.decrementAndGet();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+            senders.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        });
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("Change feed poll failed", ex);
+        }
+    }
+
+    private void poll() {
+        while (true) {
+            List<OutboxEvent> events = outboxEventRepository.findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(
+                head, PageRequest.of(0, properties.getBatchSize()));
+            if (events.isEmpty()) {
+                break;
+            }
+            events.forEach(event -> buffer.add(ChangeFeedEvent.of(event)));
+            head = events.get(events.size() - 1).getPublishSequence();
+            if (events.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        long now = System.nanoTime();
+        boolean heartbeat = now - lastHeartbeat >= properties.getHeartbeatInterval().toNanos();
+        if (heartbeat) {
+            lastHeartbeat = now;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (heartbeat) {
+                subscriber.heartbeatDue = true;
+            }
+            if (subscriber.cursor < head || subscriber.heartbeatDue) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * At most one task per subscriber is queued or running, so its events go out in order.
+     */
+    private void schedule(Subscriber subscriber) {
+        if (senders != null && subscriber.scheduled.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean turnUsedUp = false;
+        try {
+            boolean wrote = false;
+            for (int batch = 0; batch < properties.getMaxBatchesPerTurn() && subscriber.cursor < head; batch++) {
+                List<ChangeFeedEvent> events = buffer.readAfter(subscriber.cursor, properties.getBatchSize());
+                if (events == null) {
+                    events = outboxEventRepository.findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(
+                            subscriber.cursor, PageRequest.of(0, properties.getBatchSize())).stream()
+                        .map(ChangeFeedEvent::of)
+                        .toList();
+                }
+                if (events.isEmpty()) {
+                    break;
+                }
+                send(subscriber, events);
+                wrote = true;
+                turnUsedUp = batch == properties.getMaxBatchesPerTurn() - 1;
+            }
+            if (subscriber.heartbeatDue) {
+                subscriber.heartbeatDue = false;
+                if (!wrote) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the stream completed meanwhile
+            remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        } catch (RuntimeException ex) {
+            log.warn("Change feed could not be sent to a subscriber", ex);
+        } finally {
+            subscriber.scheduled.set(false);
+            if (turnUsedUp && subscriber.cursor < head && subscribers.contains(subscriber)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, List<ChangeFeedEvent> events) throws IOException {
+        Set<DataWithMediaType> frame = new LinkedHashSet<>();
+        long firstSequence = events.get(0).getSequence();
+        if (firstSequence > subscriber.cursor + 1) {
+            frame.addAll(SseEmitter.event().name(RESET_EVENT)
+                .data(Map.of("reason", "Events after " + subscriber.cursor + " are no longer retained; resync the catalog",
+                    "resumeFrom", firstSequence - 1), MediaType.APPLICATION_JSON)
+                .build());
+        }
+        Map<String, ChangeFeedEvent> latest = new LinkedHashMap<>();
+        for (ChangeFeedEvent event : events) {
+            // Re-inserted at the end, so events still go out in sequence order
+            latest.remove(event.coalescingKey());
+            latest.put(event.coalescingKey(), event);
+        }
+        for (ChangeFeedEvent event : latest.values()) {
+            frame.addAll(SseEmitter.event()
+                .id(Long.toString(event.getSequence()))
+                .name(event.getMessage().getAggregateType().name().toLowerCase(Locale.ROOT))
+                .data(event.getMessage(), MediaType.APPLICATION_JSON)
+                .build());
+        }
+        subscriber.emitter.send(frame);
+        subscriber.cursor = events.get(events.size() - 1).getSequence();
+        sent.increment(latest.size());
+        coalesced.increment(events.size() - latest.size());
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean heartbeatDue;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.turkcell.etradedemoai.common.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring of the most recent events, indexed by publish sequence. Sequences are gap-free, so a
+ * read is a copy of a contiguous slice, however many subscribers ask.
+ */
+final class ChangeFeedBuffer {
+
+    private final ChangeFeedEvent[] events;
+    private long first;
+    private long last;
+
+    ChangeFeedBuffer(int capacity, long head) {
+        this.events = new ChangeFeedEvent[capacity];
+        this.first = head + 1;
+        this.last = head;
+    }
+
+    synchronized void add(ChangeFeedEvent event) {
+        if (event.getSequence() != last + 1) {
+            // Not contiguous with what is buffered, e.g. after a relay restart: start over from here
+            first = event.getSequence();
+        }
+        events[index(event.getSequence())] = event;
+        last = event.getSequence();
+        first = Math.max(first, last - events.length + 1);
+    }
+
+    /**
+     * @return up to {@code max} events after {@code cursor}, empty when the cursor is at the head,
+     *     or {@code null} when the next event is no longer (or not yet) buffered
+     */
+    synchronized List<ChangeFeedEvent> readAfter(long cursor, int max) {
+        if (cursor >= last) {
+            return List.of();
+        }
+        if (cursor + 1 < first) {
+            return null;
+        }
+        long to = Math.min(last, cursor + max);
+        List<ChangeFeedEvent> slice = new ArrayList<>((int) (to - cursor));
+        for (long sequence = cursor + 1; sequence <= to; sequence++) {
+            slice.add(events[index(sequence)]);
+        }
+        return slice;
+    }
+
+    private int index(long sequence) {
+        return (int) Math.floorMod(sequence, (long) events.length);
+    }
+}
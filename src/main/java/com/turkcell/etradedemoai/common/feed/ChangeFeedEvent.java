@@ -0,0 +1,38 @@
+package com.turkcell.etradedemoai.common.feed;
+
+import com.turkcell.etradedemoai.common.outbox.OutboxMessage;
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+
+/**
+ * A published outbox event with its publish sequence, which is the SSE event id.
+ */
+final class ChangeFeedEvent {
+
+    private final long sequence;
+    private final OutboxMessage message;
+
+    ChangeFeedEvent(long sequence, OutboxMessage message) {
+        this.sequence = sequence;
+        this.message = message;
+    }
+
+    static ChangeFeedEvent of(OutboxEvent event) {
+        return new ChangeFeedEvent(event.getPublishSequence(), new OutboxMessage(event.getId(), event.getAggregateType(),
+            event.getAggregateId(), event.getEventType(), event.getPayload(), event.getCreatedDate()));
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    OutboxMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * Events with the same key describe the same entity; the later one supersedes the earlier.
+     */
+    String coalescingKey() {
+        return message.getAggregateType().name() + ':' + message.getAggregateId();
+    }
+}
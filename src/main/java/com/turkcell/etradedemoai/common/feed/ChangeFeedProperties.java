@@ -0,0 +1,116 @@
+package com.turkcell.etradedemoai.common.feed;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Change feed settings ({@code etrade.change-feed.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.change-feed")
+public class ChangeFeedProperties {
+
+    /**
+     * How often newly published outbox events are read; one query per instance, whatever the number of subscribers.
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * Events read or sent at once. Changes to the same entity within one batch are coalesced,
+     * so a subscriber that falls behind receives fewer, newer events.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Recent events kept in memory; subscribers further behind read from the outbox table.
+     */
+    private int bufferSize = 10_000;
+
+    /**
+     * Threads writing to subscribers. Connections hold no thread while idle.
+     */
+    private int sendThreads = 4;
+
+    /**
+     * Batches sent to one subscriber before the thread moves on to the next.
+     */
+    private int maxBatchesPerTurn = 4;
+
+    /**
+     * Concurrent subscribers per instance; further requests are turned away.
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * Idle connections get a comment line this often, so proxies keep them open and dead ones are noticed.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Connections are closed after this long; clients reconnect with the last event id.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getSendThreads() {
+        return sendThreads;
+    }
+
+    public void setSendThreads(int sendThreads) {
+        this.sendThreads = sendThreads;
+    }
+
+    public int getMaxBatchesPerTurn() {
+        return maxBatchesPerTurn;
+    }
+
+    public void setMaxBatchesPerTurn(int maxBatchesPerTurn) {
+        this.maxBatchesPerTurn = maxBatchesPerTurn;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
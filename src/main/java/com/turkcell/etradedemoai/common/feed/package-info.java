@@ -0,0 +1,5 @@
+/**
+ * Server-sent event feed of catalog changes, read from the published outbox events in publish
+ * order so a client can resume from the last event id it saw.
+ */
+package com.turkcell.etradedemoai.common.feed;
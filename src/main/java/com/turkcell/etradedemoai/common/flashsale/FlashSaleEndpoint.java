@@ -0,0 +1,49 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleManager.FlashSaleStatus;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+/**
+ * Actuator endpoint ({@code /actuator/flashsales}) to start a flash sale for a product with
+ * {@code POST /actuator/flashsales/{productId}}, end it with {@code DELETE}, and list running sales.
+ * Starting and ending a sale require the {@code etrade.actuator.token} bearer token.
+ */
+@WebEndpoint(id = "flashsales")
+public class FlashSaleEndpoint {
+
+    private final FlashSaleManager manager;
+
+    public FlashSaleEndpoint(FlashSaleManager manager) {
+        this.manager = manager;
+    }
+
+    @ReadOperation
+    public List<FlashSaleStatus> sales() {
+        return manager.sales();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> activate(@Selector Long productId) {
+        return respond(manager.activate(productId), productId);
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Object> deactivate(@Selector Long productId) {
+        return respond(manager.deactivate(productId), productId);
+    }
+
+    private static WebEndpointResponse<Object> respond(FlashSaleStatus status, Long productId) {
+        if (status == null) {
+            return new WebEndpointResponse<>(Map.of("message", "No product or flash sale with id " + productId),
+                WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(status);
+    }
+}
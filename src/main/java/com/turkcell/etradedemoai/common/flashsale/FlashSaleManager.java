@@ -0,0 +1,237 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import com.turkcell.etradedemoai.common.cache.CacheEvictions;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Starts and ends flash sales and writes the units sold from the counters back to the product
+ * rows. The row is locked while a sale starts or ends, so orders still updating it are either
+ * counted before the counters are filled or wait until the final flush has committed.
+ * <p>
+ * Orders still append their sales to the inventory ledger one by one; only the product row
+ * lags behind by at most one flush interval. Units sold since the last flush are lost from the
+ * row if the process dies, which the next ledger reconciliation reports.
+ */
+public class FlashSaleManager implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FlashSaleManager.class);
+
+    private final FlashSaleRegistry registry;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FlashSaleProperties properties;
+    private final CacheManager cacheManager;
+
+    public FlashSaleManager(FlashSaleRegistry registry, ProductRepository productRepository,
+                            TransactionTemplate transactionTemplate, FlashSaleProperties properties,
+                            CacheManager cacheManager) {
+        this.registry = registry;
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.cacheManager = cacheManager;
+        registry.setClosedReleaseHandler(this::returnToDatabase);
+    }
+
+    /**
+     * Moves the product into flash-sale mode with its current stock.
+     *
+     * @return the running sale, or {@code null} if the product does not exist
+     */
+    public synchronized FlashSaleStatus activate(Long productId) {
+        StripedStockCounter existing = registry.get(productId);
+        if (existing != null) {
+            return status(existing);
+        }
+        StripedStockCounter counter = new StripedStockCounter(productId, properties.getStripes(), properties.getRefillChunk());
+        // Registered before the row is read: orders that have not updated the row yet will now either
+        // use the counter or fail FlashSaleRegistry#checkIfStillOutsideFlashSale
+        registry.register(counter);
+        Integer stock;
+        try {
+            stock = transactionTemplate.execute(status -> {
+                productRepository.lockStock(productId);
+                return productRepository.findById(productId).map(Product::getUnitsInStock).orElse(null);
+            });
+        } catch (RuntimeException ex) {
+            registry.remove(productId);
+            counter.close();
+            throw ex;
+        }
+        if (stock == null) {
+            registry.remove(productId);
+            counter.close();
+            return null;
+        }
+        counter.open(stock, properties.getStripeQuota());
+        log.info("Flash sale started for product {} with {} units on {} stripes", productId, stock, counter.getStripes());
+        return status(counter);
+    }
+
+    /**
+     * Ends the sale and writes the remaining sold units to the product row in the same
+     * transaction that holds the row lock.
+     *
+     * @return the final state of the sale, or {@code null} if the product was not in one
+     */
+    public synchronized FlashSaleStatus deactivate(Long productId) {
+        StripedStockCounter counter = registry.get(productId);
+        if (counter == null) {
+            return null;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.lockStock(productId);
+            registry.remove(productId);
+            long sold = counter.close();
+            if (sold != 0) {
+                writeBack(new TreeMap<>(Map.of(productId, Math.toIntExact(-sold))));
+            }
+        });
+        CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, List.of(productId));
+        log.info("Flash sale ended for product {}", productId);
+        return status(counter);
+    }
+
+    /**
+     * Writes units sold since the last flush back to the product rows in one batch. A failed write
+     * is put back into the counters and retried next time.
+     */
+    @Scheduled(initialDelayString = "${etrade.flash-sale.flush-interval:1s}",
+        fixedDelayString = "${etrade.flash-sale.flush-interval:1s}")
+    public synchronized void flush() {
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+        Map<StripedStockCounter, Long> drained = new LinkedHashMap<>();
+        for (StripedStockCounter counter : registry.counters()) {
+            long sold = counter.drainSold();
+            if (sold != 0) {
+                drained.put(counter, sold);
+                deltas.put(counter.getProductId(), Math.toIntExact(-sold));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBack(deltas));
+            CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, deltas.keySet());
+        } catch (RuntimeException ex) {
+            log.error("Flash-sale flush failed for products {}; retrying next time", deltas.keySet(), ex);
+            drained.forEach((counter, sold) -> {
+                if (!counter.restoreSold(sold)) {
+                    log.error("Flash sale for product {} ended before {} sold units could be written back",
+                        counter.getProductId(), sold);
+                }
+            });
+        }
+    }
+
+    public List<FlashSaleStatus> sales() {
+        List<FlashSaleStatus> sales = new ArrayList<>();
+        registry.counters().forEach(counter -> sales.add(status(counter)));
+        return sales;
+    }
+
+    /**
+     * Ends every running sale so the rows are exact before the datasource goes away.
+     */
+    @Override
+    public void close() {
+        for (Long productId : registry.activeProductIds()) {
+            try {
+                deactivate(productId);
+            } catch (RuntimeException ex) {
+                log.error("Could not end flash sale for product {} on shutdown", productId, ex);
+            }
+        }
+    }
+
+    private void writeBack(SortedMap<Long, Integer> deltas) {
+        List<Long> rejected = productRepository.adjustStock(deltas);
+        if (!rejected.isEmpty()) {
+            // Only deleted products can get here; their sold units have nowhere to go
+            log.warn("Flash-sale stock could not be written back for products {}", rejected);
+        }
+    }
+
+    /**
+     * A take rolled back after its sale ended: the unit was already subtracted from the row by the final flush.
+     */
+    private void returnToDatabase(Long productId, Integer quantity) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBack(new TreeMap<>(Map.of(productId, quantity))));
+            CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, List.of(productId));
+        } catch (RuntimeException ex) {
+            log.error("Could not return {} units of product {} after a rolled-back flash-sale order", quantity, productId, ex);
+        }
+    }
+
+    private static FlashSaleStatus status(StripedStockCounter counter) {
+        return new FlashSaleStatus(counter.getProductId(), counter.getInitialUnits(), counter.remaining(),
+            counter.unflushedSold(), counter.getStripes(), !counter.isClosed());
+    }
+
+    /**
+     * State of one flash sale as served by {@code /actuator/flashsales}.
+     */
+    public static final class FlashSaleStatus {
+
+        private final Long productId;
+        private final int initialUnits;
+        private final long remaining;
+        private final long unflushedSold;
+        private final int stripes;
+        private final boolean active;
+
+        FlashSaleStatus(Long productId, int initialUnits, long remaining, long unflushedSold, int stripes, boolean active) {
+            this.productId = productId;
+            this.initialUnits = initialUnits;
+            this.remaining = remaining;
+            this.unflushedSold = unflushedSold;
+            this.stripes = stripes;
+            this.active = active;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        /**
+         * Stock of the product row when the sale started.
+         */
+        public int getInitialUnits() {
+            return initialUnits;
+        }
+
+        public long getRemaining() {
+            return remaining;
+        }
+
+        /**
+         * Sold units not yet subtracted from the product row.
+         */
+        public long getUnflushedSold() {
+            return unflushedSold;
+        }
+
+        public int getStripes() {
+            return stripes;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
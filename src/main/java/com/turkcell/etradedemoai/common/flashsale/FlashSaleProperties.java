@@ -0,0 +1,64 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Flash-sale counter settings ({@code etrade.flash-sale.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.flash-sale")
+public class FlashSaleProperties {
+
+    /**
+     * Stripes per product, rounded up to a power of two; about twice the number of cores
+     * keeps buyers from sharing a stripe.
+     */
+    private int stripes = 16;
+
+    /**
+     * Units every stripe gets when a sale starts; the rest waits in a shared reserve.
+     */
+    private int stripeQuota = 64;
+
+    /**
+     * Units a dry stripe takes from the reserve at once.
+     */
+    private int refillChunk = 32;
+
+    /**
+     * How often units sold from the counters are written back to the product rows.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getStripeQuota() {
+        return stripeQuota;
+    }
+
+    public void setStripeQuota(int stripeQuota) {
+        this.stripeQuota = stripeQuota;
+    }
+
+    public int getRefillChunk() {
+        return refillChunk;
+    }
+
+    public void setRefillChunk(int refillChunk) {
+        this.refillChunk = refillChunk;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
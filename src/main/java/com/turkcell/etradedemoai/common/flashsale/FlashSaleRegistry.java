@@ -0,0 +1,121 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import com.turkcell.etradedemoai.common.BusinessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The products currently in a flash sale and their counters. Order placement asks it first;
+ * anything it does not serve goes to the product rows as before.
+ */
+public class FlashSaleRegistry {
+
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private volatile BiConsumer<Long, Integer> closedReleaseHandler = (productId, quantity) -> { };
+
+    public boolean isActive(Long productId) {
+        return counters.containsKey(productId);
+    }
+
+    public Set<Long> activeProductIds() {
+        return Set.copyOf(counters.keySet());
+    }
+
+    /**
+     * Takes units from the counters of flash-sale products. Must run inside the order's transaction:
+     * if it rolls back, the units go back to the counters (or, if the sale ended meanwhile, to the row).
+     */
+    public FlashSaleReservation reserve(SortedMap<Long, Integer> quantities) {
+        if (counters.isEmpty()) {
+            return new FlashSaleReservation(quantities, List.of());
+        }
+        SortedMap<Long, Integer> database = new TreeMap<>();
+        List<Long> soldOut = new ArrayList<>();
+        Map<StripedStockCounter, Integer> taken = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            StripedStockCounter counter = counters.get(productId);
+            if (counter == null) {
+                database.put(productId, quantity);
+                return;
+            }
+            switch (counter.tryTake(quantity)) {
+                case TAKEN -> taken.put(counter, quantity);
+                case SOLD_OUT -> soldOut.add(productId);
+                case CLOSED -> database.put(productId, quantity);
+            }
+        });
+        if (!taken.isEmpty()) {
+            releaseOnRollback(taken);
+        }
+        return new FlashSaleReservation(database, soldOut);
+    }
+
+    /**
+     * Guards the window in which a sale starts between an order choosing the product row and
+     * updating it: the sale's counters were filled from the row before that update, so the order
+     * must not commit. Call after the row update, while its lock is still held.
+     */
+    public void checkIfStillOutsideFlashSale(Collection<Long> productIds) {
+        if (counters.isEmpty()) {
+            return;
+        }
+        List<Long> started = productIds.stream().filter(counters::containsKey).toList();
+        if (!started.isEmpty()) {
+            throw new BusinessException("Flash sale started for products " + started + " while ordering; please retry",
+                "FLASH_SALE_STARTED");
+        }
+    }
+
+    StripedStockCounter get(Long productId) {
+        return counters.get(productId);
+    }
+
+    Collection<StripedStockCounter> counters() {
+        return counters.values();
+    }
+
+    boolean register(StripedStockCounter counter) {
+        return counters.putIfAbsent(counter.getProductId(), counter) == null;
+    }
+
+    void remove(Long productId) {
+        counters.remove(productId);
+    }
+
+    void setClosedReleaseHandler(BiConsumer<Long, Integer> closedReleaseHandler) {
+        this.closedReleaseHandler = closedReleaseHandler;
+    }
+
+    private void releaseOnRollback(Map<StripedStockCounter, Integer> taken) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(taken);
+            throw new IllegalStateException("Flash-sale stock must be reserved inside a transaction");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(taken);
+                }
+            }
+        });
+    }
+
+    private void release(Map<StripedStockCounter, Integer> taken) {
+        taken.forEach((counter, quantity) -> {
+            if (!counter.release(quantity)) {
+                closedReleaseHandler.accept(counter.getProductId(), quantity);
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Outcome of {@link FlashSaleRegistry#reserve}: what still has to be reserved on the product rows,
+ * and which flash-sale products could not be served.
+ */
+public class FlashSaleReservation {
+
+    private final SortedMap<Long, Integer> databaseQuantities;
+    private final List<Long> soldOut;
+
+    FlashSaleReservation(SortedMap<Long, Integer> databaseQuantities, List<Long> soldOut) {
+        this.databaseQuantities = databaseQuantities;
+        this.soldOut = soldOut;
+    }
+
+    /**
+     * Quantities of products that are not in a flash sale, in product id order.
+     */
+    public SortedMap<Long, Integer> getDatabaseQuantities() {
+        return databaseQuantities;
+    }
+
+    /**
+     * Flash-sale products whose counters did not have enough units.
+     */
+    public List<Long> getSoldOut() {
+        return soldOut;
+    }
+}
@@ -0,0 +1,301 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stock of one flash-sale product split over cache-line padded stripes, so concurrent buyers
+ * mostly CAS their own stripe instead of a shared counter. Each stripe packs two numbers into
+ * one long: units available to take (low 32 bits, never negative) and units sold since the last
+ * flush (high 32 bits, signed; negative after a release of already flushed units). A take moves
+ * units from one to the other in a single CAS, which is what makes overselling impossible and
+ * lets {@link #close()} account for every sale without waiting for anyone.
+ * <p>
+ * A stripe that runs dry refills from a shared reserve in chunks and, once the reserve is empty,
+ * steals from the other stripes. Units are only ever moved, never created, so near the very end
+ * a buyer can see "sold out" while the last few units are in another thread's hands.
+ */
+final class StripedStockCounter {
+
+    enum TakeResult {
+        TAKEN,
+        SOLD_OUT,
+        /**
+         * The sale has ended; the caller should fall back to the database.
+         */
+        CLOSED
+    }
+
+    /**
+     * 8 longs = 64 bytes between stripes, so two stripes never share a cache line.
+     */
+    private static final int PADDING = 8;
+    private static final long CLOSED_CELL = Long.MIN_VALUE;
+    private static final long AVAILABLE_MASK = 0xFFFF_FFFFL;
+    private static final int MAX_REFILL_ROUNDS = 4;
+
+    private final Long productId;
+    private final int stripeMask;
+    private final AtomicLongArray cells;
+    private final AtomicLong reserve = new AtomicLong();
+    private final int refillChunk;
+    private final CountDownLatch opened = new CountDownLatch(1);
+    private volatile boolean closed;
+    private volatile int initialUnits;
+
+    /**
+     * @param stripes number of stripes; rounded up to a power of two
+     */
+    StripedStockCounter(Long productId, int stripes, int refillChunk) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.productId = productId;
+        this.stripeMask = stripes <= 1 ? 0 : size - 1;
+        this.cells = new AtomicLongArray((stripeMask + 1) * PADDING);
+        this.refillChunk = Math.max(1, refillChunk);
+    }
+
+    /**
+     * Hands out the stock: up to {@code stripeQuota} units to every stripe up front,
+     * the rest into the reserve. Buyers that arrived while the sale was opening proceed now.
+     */
+    void open(int units, int stripeQuota) {
+        int stripes = stripeMask + 1;
+        int perStripe = (int) Math.min(Math.max(0, stripeQuota), units / stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            cells.set(stripe * PADDING, perStripe);
+        }
+        reserve.set(units - (long) perStripe * stripes);
+        initialUnits = units;
+        opened.countDown();
+    }
+
+    TakeResult tryTake(int quantity) {
+        if (!awaitOpen()) {
+            return TakeResult.CLOSED;
+        }
+        int index = homeIndex();
+        for (int round = 0; ; ) {
+            long cell = cells.get(index);
+            if (cell == CLOSED_CELL) {
+                return TakeResult.CLOSED;
+            }
+            if (available(cell) >= quantity) {
+                if (cells.compareAndSet(index, cell, cell - quantity + ((long) quantity << 32))) {
+                    return TakeResult.TAKEN;
+                }
+                continue;
+            }
+            if (round++ == MAX_REFILL_ROUNDS || !refill(index, quantity - available(cell))) {
+                return closed ? TakeResult.CLOSED : TakeResult.SOLD_OUT;
+            }
+        }
+    }
+
+    /**
+     * Gives units of a rolled-back take back to the counter.
+     *
+     * @return false if the sale has closed meanwhile and the units must go back to the database instead
+     */
+    boolean release(int quantity) {
+        int index = homeIndex();
+        while (true) {
+            long cell = cells.get(index);
+            if (cell == CLOSED_CELL) {
+                return false;
+            }
+            if (cells.compareAndSet(index, cell, cell + quantity - ((long) quantity << 32))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Resets every stripe's sold count and returns the total, i.e. the units to subtract from the
+     * product row. Available units are left alone, so buyers carry on while this runs.
+     */
+    long drainSold() {
+        long sold = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int index = stripe * PADDING;
+            while (true) {
+                long cell = cells.get(index);
+                if (cell == CLOSED_CELL || sold(cell) == 0) {
+                    break;
+                }
+                if (cells.compareAndSet(index, cell, available(cell))) {
+                    sold += sold(cell);
+                    break;
+                }
+            }
+        }
+        return sold;
+    }
+
+    /**
+     * Puts back a drained sold count whose write to the database failed, to be retried on the next flush.
+     *
+     * @return false if the counter has closed meanwhile
+     */
+    boolean restoreSold(long sold) {
+        int index = homeIndex();
+        while (true) {
+            long cell = cells.get(index);
+            if (cell == CLOSED_CELL) {
+                return false;
+            }
+            if (cells.compareAndSet(index, cell, cell + (sold << 32))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends the sale: every later take or release sees {@link TakeResult#CLOSED}.
+     *
+     * @return units sold since the last flush
+     */
+    long close() {
+        closed = true;
+        opened.countDown();
+        long sold = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            long cell = cells.getAndSet(stripe * PADDING, CLOSED_CELL);
+            if (cell != CLOSED_CELL) {
+                sold += sold(cell);
+            }
+        }
+        reserve.set(0);
+        return sold;
+    }
+
+    Long getProductId() {
+        return productId;
+    }
+
+    int getStripes() {
+        return stripeMask + 1;
+    }
+
+    int getInitialUnits() {
+        return initialUnits;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Units still available; exact only when nobody is taking concurrently.
+     */
+    long remaining() {
+        long remaining = Math.max(0, reserve.get());
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            long cell = cells.get(stripe * PADDING);
+            if (cell != CLOSED_CELL) {
+                remaining += available(cell);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Units sold but not yet written to the database; exact only when nobody is taking concurrently.
+     */
+    long unflushedSold() {
+        long sold = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            long cell = cells.get(stripe * PADDING);
+            if (cell != CLOSED_CELL) {
+                sold += sold(cell);
+            }
+        }
+        return sold;
+    }
+
+    /**
+     * Moves at least {@code needed} units into the stripe at {@code index}, from the reserve
+     * (a whole chunk at a time) or else from the other stripes.
+     *
+     * @return false if nothing could be moved
+     */
+    private boolean refill(int index, long needed) {
+        long moved = takeFromReserve(Math.max(needed, refillChunk));
+        for (int stripe = 0; stripe <= stripeMask && moved < needed; stripe++) {
+            int other = stripe * PADDING;
+            if (other != index) {
+                moved += steal(other, needed - moved);
+            }
+        }
+        if (moved == 0) {
+            return false;
+        }
+        while (true) {
+            long cell = cells.get(index);
+            if (cell == CLOSED_CELL) {
+                // Sale closed while the units were in transit; they were never sold, so they stay in the database
+                return false;
+            }
+            if (cells.compareAndSet(index, cell, cell + moved)) {
+                return true;
+            }
+        }
+    }
+
+    private long takeFromReserve(long wanted) {
+        while (true) {
+            long left = reserve.get();
+            if (left <= 0) {
+                return 0;
+            }
+            long taken = Math.min(left, wanted);
+            if (reserve.compareAndSet(left, left - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    private long steal(int index, long wanted) {
+        while (true) {
+            long cell = cells.get(index);
+            if (cell == CLOSED_CELL || available(cell) == 0) {
+                return 0;
+            }
+            long taken = Math.min(available(cell), wanted);
+            if (cells.compareAndSet(index, cell, cell - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    private boolean awaitOpen() {
+        if (opened.getCount() == 0) {
+            return !closed;
+        }
+        try {
+            return opened.await(1, TimeUnit.SECONDS) && !closed;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Request threads are pooled and long-lived, so hashing the thread id spreads buyers evenly
+     * and keeps each thread on the same stripe.
+     */
+    private int homeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+        return (hash & stripeMask) * PADDING;
+    }
+
+    private static long available(long cell) {
+        return cell & AVAILABLE_MASK;
+    }
+
+    private static long sold(long cell) {
+        return (cell - available(cell)) >> 32;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Flash-sale mode: the stock of selected hot products is held in striped in-memory counters
+ * instead of being decremented on the product row by every order, and is written back to
+ * {@code products} periodically, when the sale ends and on shutdown.
+ */
+package com.turkcell.etradedemoai.common.flashsale;
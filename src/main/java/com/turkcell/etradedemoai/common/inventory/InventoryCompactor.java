@@ -0,0 +1,47 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import com.turkcell.etradedemoai.dataAccess.InventoryLedgerRepository;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the per-product snapshots forward so that reading ledger stock only has to sum a
+ * short tail of movements. The movements themselves are kept; only the snapshots change.
+ */
+public class InventoryCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryCompactor.class);
+
+    private final InventoryLedgerRepository ledgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryProperties properties;
+
+    public InventoryCompactor(InventoryLedgerRepository ledgerRepository, TransactionTemplate transactionTemplate,
+                              InventoryProperties properties) {
+        this.ledgerRepository = ledgerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Gives untracked products an opening snapshot, then folds every settled movement into the
+     * snapshots, all in one transaction.
+     *
+     * @return number of products whose snapshot was created or moved forward
+     */
+    public synchronized int compact() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        int[] counts = transactionTemplate.execute(status -> {
+            int baselined = ledgerRepository.baselineUntrackedProducts(now);
+            long horizon = ledgerRepository.findCompactionHorizon(now.minus(properties.getSettleTime()));
+            int folded = horizon > 0 ? ledgerRepository.compactUpTo(horizon, now) : 0;
+            return new int[] {baselined, folded};
+        });
+        log.info("Inventory compaction: {} opening snapshots, {} snapshots advanced in {} ms",
+            counts[0], counts[1], (System.nanoTime() - start) / 1_000_000);
+        return counts[0] + counts[1];
+    }
+}
@@ -0,0 +1,36 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import com.turkcell.etradedemoai.common.inventory.InventoryReconciler.ReconciliationReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/inventory}) showing the last ledger reconciliation
+ * and running one on demand. Running one requires the {@code etrade.actuator.token} bearer token.
+ */
+@Endpoint(id = "inventory")
+public class InventoryEndpoint {
+
+    private final InventoryReconciler reconciler;
+
+    public InventoryEndpoint(InventoryReconciler reconciler) {
+        this.reconciler = reconciler;
+    }
+
+    /**
+     * Last report, or 404 until the first reconciliation has run.
+     */
+    @ReadOperation
+    public ReconciliationReport lastReconciliation() {
+        return reconciler.getLastReport();
+    }
+
+    /**
+     * Reconciles now and returns the report, e.g. {@code POST /actuator/inventory}.
+     */
+    @WriteOperation
+    public ReconciliationReport reconcile() {
+        return reconciler.reconcile();
+    }
+}
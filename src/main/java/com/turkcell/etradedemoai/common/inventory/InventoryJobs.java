@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Scheduled ledger maintenance. A failed run is logged and retried on the next interval.
+ */
+public class InventoryJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryJobs.class);
+
+    private final InventoryCompactor compactor;
+    private final InventoryReconciler reconciler;
+
+    public InventoryJobs(InventoryCompactor compactor, InventoryReconciler reconciler) {
+        this.compactor = compactor;
+        this.reconciler = reconciler;
+    }
+
+    @Scheduled(initialDelayString = "${etrade.inventory.compaction-interval:5m}",
+        fixedDelayString = "${etrade.inventory.compaction-interval:5m}")
+    public void compact() {
+        try {
+            compactor.compact();
+        } catch (RuntimeException ex) {
+            log.error("Inventory compaction failed", ex);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${etrade.inventory.reconciliation-interval:1h}",
+        fixedDelayString = "${etrade.inventory.reconciliation-interval:1h}")
+    public void reconcile() {
+        try {
+            reconciler.reconcile();
+        } catch (RuntimeException ex) {
+            log.error("Inventory reconciliation failed", ex);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Inventory ledger maintenance settings ({@code etrade.inventory.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.inventory")
+public class InventoryProperties {
+
+    /**
+     * Whether compaction and reconciliation run on a schedule; both stay available on demand.
+     */
+    private boolean jobsEnabled = true;
+
+    /**
+     * Delay between compaction runs.
+     */
+    private Duration compactionInterval = Duration.ofMinutes(5);
+
+    /**
+     * Only movements at least this old are folded into snapshots. Ids are assigned at insert
+     * but become visible at commit, so this must exceed the longest transaction that appends
+     * movements, or a late-committing movement could end up below a snapshot and be skipped.
+     */
+    private Duration settleTime = Duration.ofMinutes(2);
+
+    /**
+     * Delay between reconciliation runs.
+     */
+    private Duration reconciliationInterval = Duration.ofHours(1);
+
+    /**
+     * Width of the product id range checked by one reconciliation statement.
+     */
+    private int reconciliationChunkSize = 10_000;
+
+    /**
+     * Number of chunks checked concurrently, each on its own connection.
+     */
+    private int reconciliationParallelism = 4;
+
+    /**
+     * Mismatching products listed in a reconciliation report; the count is always exact.
+     */
+    private int maxReportedMismatches = 100;
+
+    public boolean isJobsEnabled() {
+        return jobsEnabled;
+    }
+
+    public void setJobsEnabled(boolean jobsEnabled) {
+        this.jobsEnabled = jobsEnabled;
+    }
+
+    public Duration getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    public void setCompactionInterval(Duration compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    public Duration getSettleTime() {
+        return settleTime;
+    }
+
+    public void setSettleTime(Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    public Duration getReconciliationInterval() {
+        return reconciliationInterval;
+    }
+
+    public void setReconciliationInterval(Duration reconciliationInterval) {
+        this.reconciliationInterval = reconciliationInterval;
+    }
+
+    public int getReconciliationChunkSize() {
+        return reconciliationChunkSize;
+    }
+
+    public void setReconciliationChunkSize(int reconciliationChunkSize) {
+        this.reconciliationChunkSize = reconciliationChunkSize;
+    }
+
+    public int getReconciliationParallelism() {
+        return reconciliationParallelism;
+    }
+
+    public void setReconciliationParallelism(int reconciliationParallelism) {
+        this.reconciliationParallelism = reconciliationParallelism;
+    }
+
+    public int getMaxReportedMismatches() {
+        return maxReportedMismatches;
+    }
+
+    public void setMaxReportedMismatches(int maxReportedMismatches) {
+        this.maxReportedMismatches = maxReportedMismatches;
+    }
+}
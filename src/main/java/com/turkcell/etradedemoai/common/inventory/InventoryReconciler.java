@@ -0,0 +1,194 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import com.turkcell.etradedemoai.dataAccess.InventoryLedgerRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductStockLevel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies {@code products.units_in_stock} against the inventory ledger. The id space is cut
+ * into fixed-width ranges that are checked concurrently; each range is read by one statement,
+ * so product row and ledger are compared as of the same instant without locking anything.
+ */
+public class InventoryReconciler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryReconciler.class);
+
+    private final InventoryLedgerRepository ledgerRepository;
+    private final InventoryProperties properties;
+    private final Predicate<Long> skipProduct;
+    private final ExecutorService executor;
+    private volatile ReconciliationReport lastReport;
+
+    /**
+     * @param skipProduct products whose row is known to lag the ledger right now, e.g. during a flash sale
+     */
+    public InventoryReconciler(InventoryLedgerRepository ledgerRepository, InventoryProperties properties,
+                               Predicate<Long> skipProduct) {
+        this.ledgerRepository = ledgerRepository;
+        this.properties = properties;
+        this.skipProduct = skipProduct;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getReconciliationParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "inventory-reconcile-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a full reconciliation; concurrent callers wait for the running one and then start their own.
+     */
+    public synchronized ReconciliationReport reconcile() {
+        long start = System.nanoTime();
+        ReconciliationReport report = new ReconciliationReport(Instant.now());
+        long[] range = ledgerRepository.findProductIdRange();
+        if (range != null) {
+            List<Future<ChunkResult>> chunks = new ArrayList<>();
+            long chunkSize = Math.max(1, properties.getReconciliationChunkSize());
+            for (long from = range[0]; from <= range[1]; from += chunkSize) {
+                long to = Math.min(range[1], from + chunkSize - 1);
+                long chunkStart = from;
+                chunks.add(executor.submit(() -> checkChunk(chunkStart, to)));
+            }
+            try {
+                for (Future<ChunkResult> chunk : chunks) {
+                    report.add(chunk.get(), properties.getMaxReportedMismatches());
+                }
+            } catch (InterruptedException ex) {
+                chunks.forEach(chunk -> chunk.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Inventory reconciliation interrupted", ex);
+            } catch (ExecutionException ex) {
+                chunks.forEach(chunk -> chunk.cancel(true));
+                throw new IllegalStateException("Inventory reconciliation failed", ex.getCause());
+            }
+        }
+        report.setDurationMillis((System.nanoTime() - start) / 1_000_000);
+        lastReport = report;
+        if (report.getMismatchCount() > 0) {
+            log.warn("Inventory reconciliation: {} of {} products disagree with the ledger, first: {}",
+                report.getMismatchCount(), report.getProductsChecked(),
+                report.getMismatches().stream().map(ProductStockLevel::getProductId).limit(10).toList());
+        } else {
+            log.info("Inventory reconciliation: {} products consistent ({} without ledger history) in {} ms",
+                report.getProductsChecked(), report.getUntrackedProducts(), report.getDurationMillis());
+        }
+        return report;
+    }
+
+    public ReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private ChunkResult checkChunk(long fromProductId, long toProductId) {
+        ChunkResult result = new ChunkResult();
+        for (ProductStockLevel level : ledgerRepository.findStockLevels(fromProductId, toProductId)) {
+            result.checked++;
+            if (skipProduct.test(level.getProductId())) {
+                result.skipped++;
+            } else if (!level.isTracked()) {
+                result.untracked++;
+            } else if (!level.isConsistent()) {
+                result.mismatches.add(level);
+            }
+        }
+        return result;
+    }
+
+    private static final class ChunkResult {
+        private int checked;
+        private int skipped;
+        private int untracked;
+        private final List<ProductStockLevel> mismatches = new ArrayList<>();
+    }
+
+    /**
+     * Outcome of one reconciliation run, as served by {@code /actuator/inventory}.
+     */
+    public static final class ReconciliationReport {
+
+        private final Instant startedAt;
+        private long durationMillis;
+        private int chunks;
+        private long productsChecked;
+        private long skippedProducts;
+        private long untrackedProducts;
+        private long mismatchCount;
+        private final List<ProductStockLevel> mismatches = new ArrayList<>();
+
+        ReconciliationReport(Instant startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        void add(ChunkResult chunk, int maxReportedMismatches) {
+            chunks++;
+            productsChecked += chunk.checked;
+            skippedProducts += chunk.skipped;
+            untrackedProducts += chunk.untracked;
+            mismatchCount += chunk.mismatches.size();
+            for (ProductStockLevel mismatch : chunk.mismatches) {
+                if (mismatches.size() >= maxReportedMismatches) {
+                    break;
+                }
+                mismatches.add(mismatch);
+            }
+        }
+
+        void setDurationMillis(long durationMillis) {
+            this.durationMillis = durationMillis;
+        }
+
+        public Instant getStartedAt() {
+            return startedAt;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public int getChunks() {
+            return chunks;
+        }
+
+        public long getProductsChecked() {
+            return productsChecked;
+        }
+
+        /**
+         * Products not compared because their row was expected to lag, e.g. while in a flash sale.
+         */
+        public long getSkippedProducts() {
+            return skippedProducts;
+        }
+
+        /**
+         * Products with neither snapshot nor movements; the next compaction gives them an opening snapshot.
+         */
+        public long getUntrackedProducts() {
+            return untrackedProducts;
+        }
+
+        public long getMismatchCount() {
+            return mismatchCount;
+        }
+
+        public List<ProductStockLevel> getMismatches() {
+            return mismatches;
+        }
+    }
+}
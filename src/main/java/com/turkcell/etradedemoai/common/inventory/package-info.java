@@ -0,0 +1,6 @@
+/**
+ * Background maintenance of the inventory ledger: periodic compaction of movements into
+ * per-product snapshots, and reconciliation of {@code products.units_in_stock} against the
+ * ledger in parallel id-range chunks.
+ */
+package com.turkcell.etradedemoai.common.inventory;
@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Per-session Hibernate listener that adds JDBC execution time to the current
+ * request statistics. Registered through {@code hibernate.session.events.auto},
+ * so Hibernate creates one instance per session.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestQueryStatistics statistics = QueryStatisticsHolder.current();
+        if (statistics != null && executionStart != 0) {
+            statistics.recordJdbcTime(System.nanoTime() - executionStart);
+        }
+        executionStart = 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps controller handlers, business rule methods and repository calls in
+ * Micrometer observations so every layer shows up as its own span.
+ * JDBC statement spans come from datasource-micrometer underneath these.
+ */
+@Aspect
+@Component
+public class LayerTracingAspect {
+
+    static final String OBSERVATION_NAME = "etrade.layer";
+
+    private static final String REPOSITORY_PACKAGE = "com.turkcell.etradedemoai.dataAccess";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LayerTracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("within(com.turkcell.etradedemoai.api.controllers..*) && execution(public * *(..))")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "controller", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("within(com.turkcell.etradedemoai.business.rules..*) && execution(public * *(..))")
+    public Object observeBusinessRule(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "rules", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "repository", resolveRepositoryName(joinPoint.getThis()));
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String layer, String component) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+            .contextualName(component + "." + method)
+            .lowCardinalityKeyValues(KeyValues.of("layer", layer, "component", component, "method", method));
+        observation.start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            observation.error(ex);
+            throw ex;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Spring Data proxies report the declaring interface of inherited methods
+     * (e.g. CrudRepository), so look up the application repository interface instead.
+     */
+    private String resolveRepositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (candidate.getPackageName().startsWith(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
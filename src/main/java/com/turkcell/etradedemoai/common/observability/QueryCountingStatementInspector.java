@@ -0,0 +1,19 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts every prepared statement against
+ * the current request. The SQL is returned unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics statistics = QueryStatisticsHolder.current();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
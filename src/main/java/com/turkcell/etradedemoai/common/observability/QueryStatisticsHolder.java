@@ -0,0 +1,31 @@
+package com.turkcell.etradedemoai.common.observability;
+
+/**
+ * Thread-bound holder for the current {@link RequestQueryStatistics}.
+ * Hibernate hooks record into it only while a scope is open, so statements
+ * issued by background jobs are simply ignored.
+ */
+public final class QueryStatisticsHolder {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryStatisticsHolder() {
+        // prevent instantiation
+    }
+
+    public static RequestQueryStatistics open() {
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static RequestQueryStatistics close() {
+        RequestQueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+}
@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers a post-load listener so every entity hydrated from a result set
+ * counts as a loaded row for the current request.
+ */
+public class QueryStatisticsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+            .requireService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, new RowCountingPostLoadListener());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // nothing to release
+    }
+
+    private static class RowCountingPostLoadListener implements PostLoadEventListener {
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            RequestQueryStatistics statistics = QueryStatisticsHolder.current();
+            if (statistics != null) {
+                statistics.recordRowLoaded();
+            }
+        }
+    }
+}
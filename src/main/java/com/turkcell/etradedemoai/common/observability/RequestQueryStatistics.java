@@ -0,0 +1,66 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statistics accumulated for a single request (or test scope).
+ * Instances are confined to one thread, so no synchronization is needed.
+ */
+public class RequestQueryStatistics {
+
+    private int statementCount;
+    private long rowsLoaded;
+    private long jdbcNanos;
+    private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+
+    void recordStatement(String sql) {
+        statementCount++;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRowLoaded() {
+        rowsLoaded++;
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowsLoaded() {
+        return rowsLoaded;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getJdbcMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos);
+    }
+
+    /**
+     * Statements (as prepared SQL) mapped to how many times they were issued.
+     */
+    public Map<String, Integer> getStatementCounts() {
+        return statementCounts;
+    }
+
+    /**
+     * Statements issued at least {@code threshold} times - the usual N+1 signature.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
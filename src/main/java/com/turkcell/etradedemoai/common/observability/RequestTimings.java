@@ -0,0 +1,57 @@
+package com.turkcell.etradedemoai.common.observability;
+
+/**
+ * Time spent in each server-side phase of a single request, reported through
+ * the {@code Server-Timing} header. Confined to the request thread.
+ */
+public class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long rulesNanos;
+    private long mappingNanos;
+    private long serializationNanos;
+
+    public static RequestTimings open() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    void addRules(long nanos) {
+        rulesNanos += nanos;
+    }
+
+    void addMapping(long nanos) {
+        mappingNanos += nanos;
+    }
+
+    void addSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getRulesNanos() {
+        return rulesNanos;
+    }
+
+    long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    long getSerializationNanos() {
+        return serializationNanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Accumulates time spent in business rules and MapStruct mappers for the
+ * {@code Server-Timing} header. Rule time excludes the JDBC time of the
+ * queries the rule issued, which is already reported as {@code db}.
+ */
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("within(com.turkcell.etradedemoai.business.rules..*) && execution(public * *(..))")
+    public Object timeBusinessRule(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        RequestQueryStatistics statistics = QueryStatisticsHolder.current();
+        long jdbcBefore = statistics != null ? statistics.getJdbcNanos() : 0;
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long jdbcDuring = statistics != null ? statistics.getJdbcNanos() - jdbcBefore : 0;
+            timings.addRules(System.nanoTime() - start - jdbcDuring);
+        }
+    }
+
+    @Around("within(com.turkcell.etradedemoai.business.mappers..*) && execution(public * *(..))")
+    public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timings.addMapping(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Adds a {@code Server-Timing} header with the DB, business rule, mapping and
+ * serialization breakdown of the request plus its SQL statement count.
+ * <p>
+ * Up to {@value #BUFFER_LIMIT} bytes of the body are held back so the header can be set
+ * after serialization finished. A larger body gets the header with the timings measured
+ * when the limit was reached (its serialization and total are partial) and the rest is
+ * streamed. Async responses (SSE streams, deferred results) get no header: whatever they
+ * wrote during the first dispatch is sent when it ends and everything after goes straight
+ * to the client.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    static final int BUFFER_LIMIT = 64 * 1024;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean ownsStatistics = QueryStatisticsHolder.current() == null;
+        RequestQueryStatistics statistics = ownsStatistics ? QueryStatisticsHolder.open() : QueryStatisticsHolder.current();
+        RequestTimings timings = RequestTimings.open();
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, BUFFER_LIMIT,
+            () -> response.setHeader(HEADER, format(timings, statistics)));
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (!request.isAsyncStarted() && !wrapper.isReleased()) {
+                wrapper.setHeader(HEADER, format(timings, statistics));
+            }
+        } finally {
+            RequestTimings.close();
+            if (ownsStatistics) {
+                QueryStatisticsHolder.close();
+            }
+            wrapper.release();
+        }
+        if (request.isAsyncStarted()) {
+            // Send the headers and early events now rather than with the next event
+            response.flushBuffer();
+        }
+    }
+
+    static String format(RequestTimings timings, RequestQueryStatistics statistics) {
+        long total = System.nanoTime() - timings.getStartNanos();
+        return "db;dur=" + millis(statistics.getJdbcNanos()) + ";desc=\"" + statistics.getStatementCount() + " statements\""
+            + ", rules;dur=" + millis(timings.getRulesNanos())
+            + ", mapping;dur=" + millis(timings.getMappingNanos())
+            + ", serialization;dur=" + millis(timings.getSerializationNanos())
+            + ", total;dur=" + millis(total);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,177 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Holds the body back until {@link #release()}, so headers can still be set after the handler
+ * has written it. Unlike {@code ContentCachingResponseWrapper} it can switch to writing through
+ * mid-request: async handlers such as SSE streams keep writing to this wrapper from other
+ * threads after the filter has returned, and must reach the client as they are written.
+ * Writes are synchronized because those threads may write while the switch happens.
+ * <p>
+ * At most {@code bufferLimit} bytes are held: the write that would go past it runs
+ * {@code beforeOverflow} (which may still set headers) and releases the buffer early.
+ */
+class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    private final ServletOutputStream outputStream = new BufferingOutputStream();
+    private final int bufferLimit;
+    private final Runnable beforeOverflow;
+    private PrintWriter writer;
+    private boolean released;
+
+    ServerTimingResponseWrapper(HttpServletResponse response, int bufferLimit, Runnable beforeOverflow) {
+        super(response);
+        this.bufferLimit = bufferLimit;
+        this.beforeOverflow = beforeOverflow;
+    }
+
+    /**
+     * Sends what has been buffered so far; everything written later goes straight to the response.
+     */
+    void release() throws IOException {
+        flushWriter();
+        synchronized (this) {
+            releaseBuffer();
+        }
+    }
+
+    synchronized boolean isReleased() {
+        return released;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public synchronized PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    /**
+     * Only commits the response once released; before that, flushing would send the headers early.
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        synchronized (this) {
+            if (released) {
+                getResponse().flushBuffer();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void resetBuffer() {
+        buffer.reset();
+        super.resetBuffer();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.reset();
+        super.reset();
+    }
+
+    /**
+     * Caller holds the lock.
+     */
+    private void releaseBuffer() throws IOException {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer.reset();
+        }
+    }
+
+    /**
+     * Caller holds the lock. Bytes still in the writer's encoder arrive after this write, so order is kept.
+     */
+    private void overflowIfNeeded(int len) throws IOException {
+        if (!released && buffer.size() + len > bufferLimit) {
+            beforeOverflow.run();
+            releaseBuffer();
+        }
+    }
+
+    /**
+     * Outside the lock: the writer holds its own lock while it writes into the stream, which takes this one.
+     */
+    private void flushWriter() {
+        PrintWriter current;
+        synchronized (this) {
+            current = writer;
+        }
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    private class BufferingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            synchronized (ServerTimingResponseWrapper.this) {
+                overflowIfNeeded(1);
+                if (released) {
+                    getResponse().getOutputStream().write(b);
+                } else {
+                    buffer.write(b);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            synchronized (ServerTimingResponseWrapper.this) {
+                overflowIfNeeded(len);
+                if (released) {
+                    getResponse().getOutputStream().write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (ServerTimingResponseWrapper.this) {
+                if (released) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(listener);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowqueries}) listing the statement shapes that
+ * spent the most time above the slow-query threshold, with their captured plans.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryProperties properties;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog, SlowQueryProperties properties) {
+        this.slowQueryLog = slowQueryLog;
+        this.properties = properties;
+    }
+
+    /**
+     * Top offenders by total time, e.g. {@code GET /actuator/slowqueries?limit=5}.
+     */
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", properties.getThreshold().toMillis());
+        result.put("shapes", slowQueryLog.size());
+        result.put("droppedShapes", slowQueryLog.getDropped());
+        result.put("queries", slowQueryLog.top(limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+        return result;
+    }
+
+    /**
+     * Clears the aggregates, e.g. after deploying an index so the next plans are captured afresh.
+     * Requires the {@code etrade.actuator.token} bearer token.
+     */
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
@@ -0,0 +1,121 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * datasource-proxy listener that logs statements slower than {@code etrade.slow-query.threshold}
+ * and aggregates them in the {@link SlowQueryLog}. Literals are normalised away and bind values
+ * are reduced to their types, so neither the log nor the endpoint ever shows customer data.
+ * The first slow occurrence of each SELECT shape is re-run as {@code EXPLAIN ANALYZE} on the
+ * same connection with the original binds to capture the plan H2 actually chose.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final String H2_PRODUCT_NAME = "H2";
+
+    /**
+     * Set while a plan is being captured, so the EXPLAIN statement itself is not measured.
+     */
+    private static final ThreadLocal<Boolean> CAPTURING_PLAN = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final SlowQueryProperties properties;
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        this.properties = properties;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (CAPTURING_PLAN.get() || execInfo.getElapsedTime() < properties.getThreshold().toMillis()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String shape = SqlShapes.normalize(queryInfo.getQuery());
+            List<ParameterSetOperation> firstBinds = queryInfo.getParametersList().isEmpty()
+                ? List.of() : queryInfo.getParametersList().get(0);
+            List<String> parameterTypes = parameterTypes(firstBinds);
+            log.warn("Slow query ({} ms{}): {} {}", execInfo.getElapsedTime(),
+                execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "", shape, parameterTypes);
+            SlowQueryLog.ShapeStatistics statistics = slowQueryLog.record(shape, execInfo.getElapsedTime(), parameterTypes);
+            if (statistics != null && shouldCapturePlan(execInfo, shape) && statistics.claimPlan()) {
+                statistics.setPlan(capturePlan(execInfo, queryInfo.getQuery(), firstBinds));
+            }
+        }
+    }
+
+    private boolean shouldCapturePlan(ExecutionInfo execInfo, String shape) {
+        return properties.isCapturePlans()
+            && execInfo.isSuccess()
+            && !execInfo.isBatch()
+            && execInfo.getStatementType() != StatementType.CALLABLE
+            && shape.startsWith("select");
+    }
+
+    private String capturePlan(ExecutionInfo execInfo, String sql, List<ParameterSetOperation> binds) {
+        CAPTURING_PLAN.set(Boolean.TRUE);
+        try {
+            Connection connection = execInfo.getStatement().getConnection();
+            if (!H2_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName())) {
+                return null;
+            }
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN ANALYZE " + sql)) {
+                for (ParameterSetOperation bind : binds) {
+                    bind.getMethod().invoke(explain, bind.getArgs());
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    return plan.next() ? truncate(plan.getString(1)) : null;
+                }
+            }
+        } catch (SQLException | IllegalAccessException | InvocationTargetException ex) {
+            log.debug("Could not capture plan for slow query", ex);
+            return null;
+        } finally {
+            CAPTURING_PLAN.remove();
+        }
+    }
+
+    private String truncate(String plan) {
+        return plan != null && plan.length() > properties.getMaxPlanLength()
+            ? plan.substring(0, properties.getMaxPlanLength()) + "..." : plan;
+    }
+
+    /**
+     * JDBC type of each bind in parameter order, e.g. {@code [Long, String, null]}.
+     */
+    private static List<String> parameterTypes(List<ParameterSetOperation> binds) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(binds);
+        ordered.sort(Comparator.comparingInt(bind -> bind.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE));
+        List<String> types = new ArrayList<>(ordered.size());
+        for (ParameterSetOperation bind : ordered) {
+            Object[] args = bind.getArgs();
+            if (ParameterSetOperation.isSetNullParameterOperation(bind) || args.length < 2 || args[1] == null) {
+                types.add("null");
+            } else {
+                types.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return types;
+    }
+}
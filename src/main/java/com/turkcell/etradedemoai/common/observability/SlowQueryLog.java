@@ -0,0 +1,194 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Slow statements aggregated by normalised SQL. Bind values are never stored;
+ * only the JDBC types of the first occurrence are kept to tell overloads apart.
+ */
+public class SlowQueryLog {
+
+    private final int maxShapes;
+    private final ConcurrentHashMap<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    public SlowQueryLog(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    /**
+     * Records one slow execution and returns its shape, or {@code null} when the shape table is full.
+     */
+    ShapeStatistics record(String shape, long elapsedMillis, List<String> parameterTypes) {
+        ShapeStatistics statistics = shapes.get(shape);
+        if (statistics == null) {
+            if (shapes.size() >= maxShapes) {
+                dropped.increment();
+                return null;
+            }
+            statistics = shapes.computeIfAbsent(shape, key -> new ShapeStatistics(key, parameterTypes));
+        }
+        statistics.add(elapsedMillis);
+        return statistics;
+    }
+
+    /**
+     * Shapes ordered by total time spent, the worst offenders first.
+     */
+    public List<SlowQueryReport> top(int limit) {
+        List<SlowQueryReport> reports = new ArrayList<>();
+        shapes.values().forEach(statistics -> reports.add(statistics.report()));
+        reports.sort(Comparator.comparingLong(SlowQueryReport::getTotalMillis).reversed());
+        return reports.size() > limit ? new ArrayList<>(reports.subList(0, limit)) : reports;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public int size() {
+        return shapes.size();
+    }
+
+    public void reset() {
+        shapes.clear();
+        dropped.reset();
+    }
+
+    /**
+     * Running totals of one statement shape.
+     */
+    static class ShapeStatistics {
+        private final String sql;
+        private final List<String> parameterTypes;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicBoolean planClaimed = new AtomicBoolean();
+        private volatile Instant lastSeen;
+        private volatile String plan;
+
+        ShapeStatistics(String sql, List<String> parameterTypes) {
+            this.sql = sql;
+            this.parameterTypes = List.copyOf(parameterTypes);
+        }
+
+        void add(long elapsedMillis) {
+            count.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+            lastSeen = Instant.now();
+        }
+
+        /**
+         * Only the first caller gets to capture the plan for this shape.
+         */
+        boolean claimPlan() {
+            return planClaimed.compareAndSet(false, true);
+        }
+
+        void setPlan(String plan) {
+            this.plan = plan;
+        }
+
+        SlowQueryReport report() {
+            SlowQueryReport report = new SlowQueryReport();
+            long executions = count.sum();
+            long total = totalMillis.sum();
+            report.setSql(sql);
+            report.setCount(executions);
+            report.setTotalMillis(total);
+            report.setMeanMillis(executions > 0 ? (double) total / executions : 0);
+            report.setMaxMillis(maxMillis.get());
+            report.setLastSeen(lastSeen);
+            report.setParameterTypes(parameterTypes);
+            report.setPlan(plan);
+            return report;
+        }
+    }
+
+    /**
+     * Aggregated view of one statement shape.
+     */
+    public static class SlowQueryReport {
+        private String sql;
+        private long count;
+        private long totalMillis;
+        private double meanMillis;
+        private long maxMillis;
+        private Instant lastSeen;
+        private List<String> parameterTypes;
+        private String plan;
+
+        public String getSql() {
+            return sql;
+        }
+
+        public void setSql(String sql) {
+            this.sql = sql;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public long getTotalMillis() {
+            return totalMillis;
+        }
+
+        public void setTotalMillis(long totalMillis) {
+            this.totalMillis = totalMillis;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public void setMeanMillis(double meanMillis) {
+            this.meanMillis = meanMillis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(long maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+
+        public Instant getLastSeen() {
+            return lastSeen;
+        }
+
+        public void setLastSeen(Instant lastSeen) {
+            this.lastSeen = lastSeen;
+        }
+
+        public List<String> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        public void setParameterTypes(List<String> parameterTypes) {
+            this.parameterTypes = parameterTypes;
+        }
+
+        public String getPlan() {
+            return plan;
+        }
+
+        public void setPlan(String plan) {
+            this.plan = plan;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Slow query log settings ({@code etrade.slow-query.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.slow-query")
+public class SlowQueryProperties {
+
+    /**
+     * Whether statements are timed against the threshold at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Execution time from which a statement counts as slow.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Whether to run {@code EXPLAIN ANALYZE} for the first slow occurrence of each SELECT shape (H2 only).
+     */
+    private boolean capturePlans = true;
+
+    /**
+     * Number of distinct statement shapes kept; slow statements of further shapes are only counted as dropped.
+     */
+    private int maxShapes = 500;
+
+    /**
+     * Captured plans are cut off after this many characters.
+     */
+    private int maxPlanLength = 8000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public boolean isCapturePlans() {
+        return capturePlans;
+    }
+
+    public void setCapturePlans(boolean capturePlans) {
+        this.capturePlans = capturePlans;
+    }
+
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    public void setMaxShapes(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    public int getMaxPlanLength() {
+        return maxPlanLength;
+    }
+
+    public void setMaxPlanLength(int maxPlanLength) {
+        this.maxPlanLength = maxPlanLength;
+    }
+}
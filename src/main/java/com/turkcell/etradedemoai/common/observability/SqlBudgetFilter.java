@@ -0,0 +1,86 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link RequestQueryStatistics} scope around each API request and
+ * checks it against the configured statement budget afterwards.
+ * Budget violations and suspected N+1 patterns are logged and counted in
+ * {@code etrade.sql.budget.violations}.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // An outer filter (e.g. Server-Timing) may already have opened the scope
+        boolean ownsStatistics = QueryStatisticsHolder.current() == null;
+        RequestQueryStatistics statistics = ownsStatistics ? QueryStatisticsHolder.open() : QueryStatisticsHolder.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (ownsStatistics) {
+                QueryStatisticsHolder.close();
+            }
+            evaluate(request, statistics);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    private void evaluate(HttpServletRequest request, RequestQueryStatistics statistics) {
+        String endpoint = request.getMethod() + " " + resolvePattern(request);
+
+        DistributionSummary.builder("etrade.sql.statements")
+            .description("SQL statements issued per request")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record(statistics.getStatementCount());
+
+        if (statistics.getStatementCount() > properties.getMaxStatements()) {
+            log.warn("{} issued {} SQL statements (budget {}), {} rows loaded, {} ms in JDBC",
+                endpoint, statistics.getStatementCount(), properties.getMaxStatements(),
+                statistics.getRowsLoaded(), statistics.getJdbcMillis());
+            meterRegistry.counter("etrade.sql.budget.violations", "endpoint", endpoint, "reason", "statements").increment();
+        }
+
+        Map<String, Integer> repeated = statistics.getRepeatedStatements(properties.getRepeatedStatementThreshold());
+        if (!repeated.isEmpty()) {
+            repeated.forEach((sql, count) ->
+                log.warn("{} repeated the same statement {} times (possible N+1): {}", endpoint, count, sql));
+            meterRegistry.counter("etrade.sql.budget.violations", "endpoint", endpoint, "reason", "repeated").increment();
+        }
+    }
+
+    /**
+     * Uses the matched handler pattern (e.g. /api/products/{id}) to keep metric tags low-cardinality.
+     */
+    private String resolvePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMATCHED";
+    }
+}
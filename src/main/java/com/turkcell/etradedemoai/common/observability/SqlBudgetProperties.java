@@ -0,0 +1,49 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement budget settings ({@code etrade.sql-budget.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.sql-budget")
+public class SqlBudgetProperties {
+
+    /**
+     * Whether per-request statement counting is active.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of statements a single request may issue before a warning is logged.
+     */
+    private int maxStatements = 10;
+
+    /**
+     * Number of identical statements within one request that is reported as a likely N+1.
+     */
+    private int repeatedStatementThreshold = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+}
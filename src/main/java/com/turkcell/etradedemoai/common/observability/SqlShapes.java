@@ -0,0 +1,69 @@
+package com.turkcell.etradedemoai.common.observability;
+
+/**
+ * Reduces SQL to its shape so that statements differing only in literals or
+ * IN-list length aggregate together: string and numeric literals become {@code ?},
+ * runs of whitespace collapse, and {@code in (?, ?, ?)} becomes {@code in (?...)}.
+ */
+final class SqlShapes {
+
+    private SqlShapes() {
+    }
+
+    static String normalize(String sql) {
+        StringBuilder shape = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipQuoted(sql, i);
+                shape.append('?');
+            } else if (Character.isDigit(c) && !partOfIdentifier(shape)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                shape.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!shape.isEmpty()) {
+                    shape.append(' ');
+                }
+            } else {
+                shape.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        return collapseParameterLists(shape.toString().trim());
+    }
+
+    private static int skipQuoted(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                // '' is an escaped quote inside the literal
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean partOfIdentifier(StringBuilder shape) {
+        if (shape.isEmpty()) {
+            return false;
+        }
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    private static String collapseParameterLists(String sql) {
+        return sql.replaceAll("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)", "(?...)");
+    }
+}
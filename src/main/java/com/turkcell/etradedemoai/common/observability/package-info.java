@@ -0,0 +1,4 @@
+/**
+ * Observability support (tracing, per-request statistics) shared across layers.
+ */
+package com.turkcell.etradedemoai.common.observability;
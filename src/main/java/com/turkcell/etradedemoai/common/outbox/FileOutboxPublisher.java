@@ -0,0 +1,59 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Stand-in broker that appends every event to a file as one JSON line, so a local consumer
+ * can tail it. The file is opened per batch and flushed before the batch counts as published.
+ */
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxMessage message : messages) {
+                    writer.write(toJson(message));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append outbox events to " + file, ex);
+        }
+    }
+
+    private String toJson(OutboxMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox event " + message.getId(), ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "file " + file;
+    }
+}
@@ -0,0 +1,43 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Stand-in broker that keeps the most recent events in memory, for tests and local runs.
+ */
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final ArrayDeque<OutboxMessage> messages = new ArrayDeque<>();
+    private final int capacity;
+
+    public InMemoryOutboxPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    /**
+     * Published events, oldest first.
+     */
+    public synchronized List<OutboxMessage> messages() {
+        return List.copyOf(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "in-memory broker (capacity " + capacity + ")";
+    }
+}
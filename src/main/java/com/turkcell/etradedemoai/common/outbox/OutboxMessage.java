@@ -0,0 +1,64 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.turkcell.etradedemoai.entities.OutboxAggregateType;
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import java.time.Instant;
+
+/**
+ * An outbox event as handed to a publisher. The id increases with every event and
+ * identifies redeliveries.
+ */
+public final class OutboxMessage {
+
+    private final Long id;
+    private final OutboxAggregateType aggregateType;
+    private final Long aggregateId;
+    private final OutboxEventType eventType;
+    private final String payload;
+    private final Instant occurredAt;
+
+    public OutboxMessage(Long id, OutboxAggregateType aggregateType, Long aggregateId, OutboxEventType eventType,
+                         String payload, Instant occurredAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(), event.getEventType(),
+            event.getPayload(), event.getCreatedDate());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxAggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * State of the entity after the change as a JSON object; only its id for deletions.
+     */
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,116 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Catalog outbox settings ({@code etrade.outbox.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether the relay runs in this instance; events are written either way.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Pause between relay runs; a run drains up to {@code maxBatchesPerRun} batches.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Events handed to the publisher at once and marked published in one statement batch.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Upper bound on batches per run, so a large backlog does not keep the relay thread busy indefinitely.
+     */
+    private int maxBatchesPerRun = 50;
+
+    /**
+     * How long published events are kept, e.g. for consumers replaying from an event id.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * How often published events older than the retention are deleted.
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    /**
+     * File the stand-in broker appends events to as JSON lines; events are kept in memory when unset.
+     */
+    private Path file;
+
+    /**
+     * Events the in-memory stand-in broker keeps; older ones are dropped.
+     */
+    private int memoryCapacity = 10_000;
+
+    public boolean isRelayEnabled() {
+        return relayEnabled;
+    }
+
+    public void setRelayEnabled(boolean relayEnabled) {
+        this.relayEnabled = relayEnabled;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    public int getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    public void setMemoryCapacity(int memoryCapacity) {
+        this.memoryCapacity = memoryCapacity;
+    }
+}
@@ -0,0 +1,18 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import java.util.List;
+
+/**
+ * Hands outbox events to a broker. Define a bean of this type to replace the stand-in
+ * broker from {@code OutboxConfig}.
+ */
+@FunctionalInterface
+public interface OutboxPublisher {
+
+    /**
+     * Publishes the batch in order, returning only once the broker has accepted all of it.
+     * On failure the whole batch is offered again on the next relay run, so events that were
+     * already accepted are delivered twice; consumers deduplicate by message id.
+     */
+    void publish(List<OutboxMessage> messages);
+}
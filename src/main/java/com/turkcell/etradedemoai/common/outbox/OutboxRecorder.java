@@ -0,0 +1,84 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.OutboxAggregateType;
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import com.turkcell.etradedemoai.entities.Product;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes catalog change events to the outbox. Must be called inside the transaction that
+ * makes the change: the event then commits exactly when the change does, which is the whole
+ * point of the outbox, so calls outside a transaction are rejected.
+ */
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxRecorder(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void productSaved(OutboxEventType type, Product product) {
+        productsSaved(type, List.of(product));
+    }
+
+    /**
+     * Records one event per product in a single batch.
+     */
+    public void productsSaved(OutboxEventType type, Collection<Product> products) {
+        List<OutboxEvent> events = new ArrayList<>(products.size());
+        for (Product product : products) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", product.getId());
+            payload.put("name", product.getName());
+            payload.put("unitPrice", product.getUnitPrice());
+            payload.put("unitsInStock", product.getUnitsInStock());
+            payload.put("description", product.getDescription());
+            payload.put("categoryId", product.getCategory() != null ? product.getCategory().getId() : null);
+            events.add(new OutboxEvent(OutboxAggregateType.PRODUCT, product.getId(), type, toJson(payload)));
+        }
+        append(events);
+    }
+
+    public void productDeleted(Long id) {
+        append(List.of(new OutboxEvent(OutboxAggregateType.PRODUCT, id, OutboxEventType.DELETED, toJson(Map.of("id", id)))));
+    }
+
+    public void categorySaved(OutboxEventType type, Category category) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", category.getId());
+        payload.put("name", category.getName());
+        append(List.of(new OutboxEvent(OutboxAggregateType.CATEGORY, category.getId(), type, toJson(payload))));
+    }
+
+    public void categoryDeleted(Long id) {
+        append(List.of(new OutboxEvent(OutboxAggregateType.CATEGORY, id, OutboxEventType.DELETED, toJson(Map.of("id", id)))));
+    }
+
+    private void append(List<OutboxEvent> events) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be written in the transaction of the change they describe");
+        }
+        outboxEventRepository.append(events);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox payload", ex);
+        }
+    }
+}
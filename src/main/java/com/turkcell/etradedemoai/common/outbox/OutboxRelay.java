@@ -0,0 +1,137 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains committed outbox events to the publisher in id order. Unpublished events are found
+ * by their missing {@code published_at} rather than by the last id relayed, because identity
+ * values are handed out before commit: a transaction holding a lower id can commit after a
+ * higher one has already been relayed.
+ * <p>
+ * Delivery is at least once. An event published just before the process dies is published
+ * again after restart, because it was not marked yet. Product events keep their order per
+ * product, since product writes lock the row; across entities only id order is guaranteed.
+ * Marking an event also gives it the next publish sequence value, so only one relay may run
+ * per database.
+ * <p>
+ * Metrics: {@code etrade.outbox.published} (throughput), {@code etrade.outbox.lag} (time from
+ * the event being written to being published), {@code etrade.outbox.backlog} (unpublished
+ * events after the last run) and {@code etrade.outbox.publish.failures}.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong backlog = new AtomicLong();
+    private Long nextSequence;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher publisher,
+                       TransactionTemplate transactionTemplate, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.published = Counter.builder("etrade.outbox.published")
+            .description("Outbox events handed to the publisher")
+            .register(meterRegistry);
+        this.failures = Counter.builder("etrade.outbox.publish.failures")
+            .description("Outbox batches the publisher rejected")
+            .register(meterRegistry);
+        this.lag = Timer.builder("etrade.outbox.lag")
+            .description("Time from an outbox event being written to being published")
+            .register(meterRegistry);
+        Gauge.builder("etrade.outbox.backlog", backlog, AtomicLong::get)
+            .description("Unpublished outbox events after the last relay run")
+            .register(meterRegistry);
+        log.info("Outbox relay publishing to {}", publisher);
+    }
+
+    /**
+     * Publishes up to {@code maxBatchesPerRun} batches. A batch the publisher rejects stops the
+     * run; it is offered again, with everything after it, on the next run.
+     *
+     * @return number of events published
+     */
+    @Scheduled(initialDelayString = "${etrade.outbox.poll-interval:500ms}",
+        fixedDelayString = "${etrade.outbox.poll-interval:500ms}")
+    public synchronized int relay() {
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<OutboxEvent> events = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(
+                PageRequest.of(0, properties.getBatchSize()));
+            if (events.isEmpty()) {
+                break;
+            }
+            List<OutboxMessage> messages = events.stream().map(OutboxMessage::of).toList();
+            try {
+                publisher.publish(messages);
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Publishing outbox events {}..{} failed; retrying next run",
+                    events.get(0).getId(), events.get(events.size() - 1).getId(), ex);
+                break;
+            }
+            Instant now = Instant.now();
+            List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+            long firstSequence = nextSequence();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markPublished(ids, firstSequence, now));
+            nextSequence = firstSequence + ids.size();
+            events.forEach(event -> lag.record(Duration.between(event.getCreatedDate(), now)));
+            published.increment(events.size());
+            total += events.size();
+            if (events.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0 || backlog.get() > 0) {
+            backlog.set(outboxEventRepository.countByPublishedAtIsNull());
+        }
+        return total;
+    }
+
+    /**
+     * Deletes published events that are older than the retention period.
+     */
+    @Scheduled(initialDelayString = "${etrade.outbox.purge-interval:1h}",
+        fixedDelayString = "${etrade.outbox.purge-interval:1h}")
+    public void purge() {
+        Instant before = Instant.now().minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} outbox events published before {}", deleted, before);
+        }
+    }
+
+    private long nextSequence() {
+        if (nextSequence == null) {
+            Long last = outboxEventRepository.findLastPublishSequence();
+            nextSequence = last == null ? 1 : last + 1;
+        }
+        return nextSequence;
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Transactional outbox for catalog changes: product and category services write change events
+ * in their own transaction, and a relay hands committed events to an {@link
+ * com.turkcell.etradedemoai.common.outbox.OutboxPublisher} in batches, at least once and in id order.
+ */
+package com.turkcell.etradedemoai.common.outbox;
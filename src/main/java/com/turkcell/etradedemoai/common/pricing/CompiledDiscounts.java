@@ -0,0 +1,144 @@
+package com.turkcell.etradedemoai.common.pricing;
+
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import com.turkcell.etradedemoai.entities.DiscountScope;
+import com.turkcell.etradedemoai.entities.DiscountType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the discount rules, indexed by product id and by category id so a
+ * product is priced with two hash lookups and a scan of only the rules that target it.
+ * Percentages are turned into multipliers once, here, instead of on every evaluation.
+ * <p>
+ * Discounts do not stack: a product gets the single applicable rule that gives the lowest
+ * price, product and category rules alike; ties go to the older rule.
+ */
+final class CompiledDiscounts {
+
+    static final CompiledDiscounts EMPTY = new CompiledDiscounts(Map.of(), Map.of(), 0);
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int PRICE_SCALE = 2;
+
+    private final Map<Long, CompiledRule[]> byProduct;
+    private final Map<Long, CompiledRule[]> byCategory;
+    private final int ruleCount;
+
+    private CompiledDiscounts(Map<Long, CompiledRule[]> byProduct, Map<Long, CompiledRule[]> byCategory, int ruleCount) {
+        this.byProduct = byProduct;
+        this.byCategory = byCategory;
+        this.ruleCount = ruleCount;
+    }
+
+    static CompiledDiscounts compile(List<DiscountRule> rules) {
+        if (rules.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, List<CompiledRule>> byProduct = new HashMap<>();
+        Map<Long, List<CompiledRule>> byCategory = new HashMap<>();
+        for (DiscountRule rule : rules) {
+            Map<Long, List<CompiledRule>> index = rule.getScope() == DiscountScope.PRODUCT ? byProduct : byCategory;
+            index.computeIfAbsent(rule.getTargetId(), id -> new ArrayList<>()).add(CompiledRule.of(rule));
+        }
+        return new CompiledDiscounts(freeze(byProduct), freeze(byCategory), rules.size());
+    }
+
+    int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Sets {@code effectivePrice} and {@code appliedDiscountId} on every item; items without
+     * an applicable rule keep their unit price.
+     */
+    void apply(List<GetProductResponse> items, long nowMillis) {
+        for (GetProductResponse item : items) {
+            apply(item, nowMillis);
+        }
+    }
+
+    private void apply(GetProductResponse item, long nowMillis) {
+        BigDecimal unitPrice = item.getUnitPrice();
+        BigDecimal bestPrice = unitPrice;
+        CompiledRule bestRule = null;
+        if (unitPrice != null && ruleCount > 0) {
+            for (int pass = 0; pass < 2; pass++) {
+                CompiledRule[] candidates = pass == 0 ? byProduct.get(item.getId())
+                    : item.getCategoryId() != null ? byCategory.get(item.getCategoryId()) : null;
+                if (candidates == null) {
+                    continue;
+                }
+                for (CompiledRule rule : candidates) {
+                    if (!rule.isActiveAt(nowMillis)) {
+                        continue;
+                    }
+                    BigDecimal price = rule.priceOf(unitPrice);
+                    int comparison = price.compareTo(bestPrice);
+                    if (comparison < 0 || comparison == 0 && bestRule != null && rule.id < bestRule.id) {
+                        bestPrice = price;
+                        bestRule = rule;
+                    }
+                }
+            }
+        }
+        item.setEffectivePrice(bestPrice);
+        item.setAppliedDiscountId(bestRule != null ? bestRule.id : null);
+    }
+
+    private static Map<Long, CompiledRule[]> freeze(Map<Long, List<CompiledRule>> index) {
+        Map<Long, CompiledRule[]> frozen = new HashMap<>(index.size() * 4 / 3 + 1);
+        index.forEach((id, rules) -> frozen.put(id, rules.toArray(new CompiledRule[0])));
+        return frozen;
+    }
+
+    private static final class CompiledRule {
+
+        private final long id;
+        private final DiscountType type;
+        /**
+         * Multiplier for percentages, amount to subtract for fixed discounts.
+         */
+        private final BigDecimal operand;
+        private final long startsAtMillis;
+        private final long endsAtMillis;
+
+        private CompiledRule(long id, DiscountType type, BigDecimal operand, long startsAtMillis, long endsAtMillis) {
+            this.id = id;
+            this.type = type;
+            this.operand = operand;
+            this.startsAtMillis = startsAtMillis;
+            this.endsAtMillis = endsAtMillis;
+        }
+
+        static CompiledRule of(DiscountRule rule) {
+            BigDecimal operand = rule.getType() == DiscountType.PERCENTAGE
+                ? HUNDRED.subtract(rule.getAmount()).divide(HUNDRED)
+                : rule.getAmount();
+            return new CompiledRule(rule.getId(), rule.getType(), operand,
+                millis(rule.getStartsAt(), Long.MIN_VALUE), millis(rule.getEndsAt(), Long.MAX_VALUE));
+        }
+
+        boolean isActiveAt(long nowMillis) {
+            return nowMillis >= startsAtMillis && nowMillis < endsAtMillis;
+        }
+
+        BigDecimal priceOf(BigDecimal unitPrice) {
+            if (type == DiscountType.PERCENTAGE) {
+                return unitPrice.multiply(operand).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+            }
+            BigDecimal price = unitPrice.subtract(operand);
+            return price.signum() < 0 ? BigDecimal.ZERO.setScale(PRICE_SCALE) : price;
+        }
+
+        private static long millis(Instant instant, long unbounded) {
+            return instant != null ? instant.toEpochMilli() : unbounded;
+        }
+    }
+}
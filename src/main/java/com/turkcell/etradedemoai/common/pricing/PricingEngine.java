@@ -0,0 +1,49 @@
+package com.turkcell.etradedemoai.common.pricing;
+
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Effective prices for product listings. Rules are loaded and compiled off the request path;
+ * readers only ever see a complete snapshot, so a reload never shows a half-applied rule set
+ * and evaluation needs no locks and no database access.
+ */
+public class PricingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingEngine.class);
+
+    private final DiscountRuleRepository discountRuleRepository;
+    private volatile CompiledDiscounts discounts = CompiledDiscounts.EMPTY;
+
+    public PricingEngine(DiscountRuleRepository discountRuleRepository) {
+        this.discountRuleRepository = discountRuleRepository;
+    }
+
+    /**
+     * Loads every rule that has not ended yet and swaps in the compiled result. Reloads are
+     * serialized so an older load can never replace a newer one.
+     */
+    @Scheduled(initialDelayString = "${etrade.pricing.reload-interval:1m}",
+        fixedDelayString = "${etrade.pricing.reload-interval:1m}")
+    public synchronized void reload() {
+        CompiledDiscounts compiled = CompiledDiscounts.compile(discountRuleRepository.findLive(Instant.now()));
+        discounts = compiled;
+        log.debug("Compiled {} discount rules", compiled.getRuleCount());
+    }
+
+    /**
+     * Sets the effective price of every item against one snapshot and one instant.
+     */
+    public void applyTo(List<GetProductResponse> items) {
+        discounts.apply(items, System.currentTimeMillis());
+    }
+
+    public int getRuleCount() {
+        return discounts.getRuleCount();
+    }
+}
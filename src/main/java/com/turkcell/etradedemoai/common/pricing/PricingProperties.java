@@ -0,0 +1,25 @@
+package com.turkcell.etradedemoai.common.pricing;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Discount rule engine settings ({@code etrade.pricing.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.pricing")
+public class PricingProperties {
+
+    /**
+     * Rules are reloaded after every change made through this instance; the periodic reload
+     * picks up changes made by other instances or directly in the database.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+
+    public Duration getReloadInterval() {
+        return reloadInterval;
+    }
+
+    public void setReloadInterval(Duration reloadInterval) {
+        this.reloadInterval = reloadInterval;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Discount evaluation for catalog listings: discount rules compiled into an immutable,
+ * id-indexed snapshot that is swapped atomically on reload and applied to whole pages of
+ * products in memory.
+ */
+package com.turkcell.etradedemoai.common.pricing;
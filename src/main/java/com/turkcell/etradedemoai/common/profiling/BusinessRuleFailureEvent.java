@@ -0,0 +1,28 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A business rule rejected a request with a {@link com.turkcell.etradedemoai.common.BusinessException}.
+ */
+@Name("com.turkcell.etradedemoai.BusinessRuleFailure")
+@Label("Business Rule Failure")
+@Category({"eTrade", "Business"})
+@Description("Business rule that threw a BusinessException")
+@StackTrace(false)
+public class BusinessRuleFailureEvent extends Event {
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Business Code")
+    String businessCode;
+
+    @Label("Message")
+    String message;
+}
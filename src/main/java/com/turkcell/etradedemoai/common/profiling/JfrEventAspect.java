@@ -0,0 +1,53 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import com.turkcell.etradedemoai.common.BusinessException;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits the application JFR events. When no recording has them enabled
+ * {@code isEnabled()} is a cheap check and nothing is allocated beyond the event object.
+ */
+@Aspect
+@Component
+public class JfrEventAspect {
+
+    @Around("within(com.turkcell.etradedemoai.business.concretes..*) && execution(public * *(..))")
+    public Object recordServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.operation = joinPoint.getSignature().getName();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @AfterThrowing(pointcut = "within(com.turkcell.etradedemoai.business.rules..*) && execution(public * *(..))",
+        throwing = "ex")
+    public void recordRuleFailure(JoinPoint joinPoint, BusinessException ex) {
+        BusinessRuleFailureEvent event = new BusinessRuleFailureEvent();
+        if (event.shouldCommit()) {
+            event.rule = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+            event.businessCode = ex.getBusinessCode();
+            event.message = ex.getMessage();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * On-demand JFR recording settings ({@code etrade.jfr.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.jfr")
+public class JfrProperties {
+
+    /**
+     * Shared secret expected as {@code Authorization: Bearer <token>} on {@code /actuator/jfr}.
+     * When empty the endpoint rejects every request.
+     */
+    private String token = "";
+
+    /**
+     * Where recording files are written before they are streamed back.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "etrade-jfr");
+
+    /**
+     * Duration used when a start request does not specify one.
+     */
+    private Duration defaultDuration = Duration.ofMinutes(1);
+
+    /**
+     * Longest recording that may be requested; longer requests are capped.
+     */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /**
+     * Recordings that may exist at the same time (running or waiting to be downloaded).
+     */
+    private int maxRecordings = 3;
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public int getMaxRecordings() {
+        return maxRecordings;
+    }
+
+    public void setMaxRecordings(int maxRecordings) {
+        this.maxRecordings = maxRecordings;
+    }
+}
@@ -0,0 +1,235 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/jfr}) that starts and stops Flight Recorder
+ * recordings on demand and streams the result back, e.g.
+ * {@code POST /actuator/jfr {"settings":"profile","duration":"2m"}} followed by
+ * {@code GET /actuator/jfr/{id}} once the recording has stopped (or earlier for a snapshot).
+ * Only recordings started through this endpoint are visible and can be removed here.
+ */
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final String RECORDING_NAME_PREFIX = "etrade-";
+
+    private final JfrProperties properties;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    public JfrRecordingEndpoint(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public List<RecordingReport> recordings() {
+        List<RecordingReport> reports = new ArrayList<>();
+        recordings.values().forEach(recording -> reports.add(report(recording)));
+        return reports;
+    }
+
+    /**
+     * Starts a recording with a JDK settings profile ({@code default} is always-on grade,
+     * {@code profile} adds more detail at a few percent overhead). The recording stops by itself
+     * after {@code duration}, capped at {@code etrade.jfr.max-duration}.
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Object> start(@Nullable String settings,
+            @Nullable Duration duration) {
+        recordings.values().removeIf(recording -> recording.getState() == RecordingState.CLOSED);
+        if (recordings.size() >= properties.getMaxRecordings()) {
+            return new WebEndpointResponse<>(Map.of("message",
+                "At most " + properties.getMaxRecordings() + " recordings may exist; delete one first"),
+                WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        String settingsName = settings != null ? settings : DEFAULT_SETTINGS;
+        Configuration configuration = Configuration.getConfigurations().stream()
+            .filter(candidate -> candidate.getName().equals(settingsName))
+            .findFirst()
+            .orElse(null);
+        if (configuration == null) {
+            return new WebEndpointResponse<>(Map.of("message", "Unknown JFR settings: " + settingsName),
+                WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME_PREFIX + recording.getId());
+        recording.setToDisk(true);
+        recording.setDuration(effectiveDuration(duration));
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("Started JFR recording {} with '{}' settings for {}", recording.getId(), settingsName,
+            recording.getDuration());
+        return new WebEndpointResponse<>(report(recording));
+    }
+
+    /**
+     * Stops a running recording early; its data stays available for download.
+     */
+    @WriteOperation
+    public RecordingReport stop(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+        }
+        return report(recording);
+    }
+
+    /**
+     * Streams the recording as a {@code .jfr} file; a running recording yields what has been captured so far.
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = recordingFile(id);
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Closes the recording, releasing its repository chunks, and deletes the downloaded file.
+     */
+    @DeleteOperation
+    public RecordingReport delete(@Selector long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            return null;
+        }
+        RecordingReport report = report(recording);
+        recording.close();
+        try {
+            Files.deleteIfExists(recordingFile(id));
+        } catch (IOException ex) {
+            log.warn("Could not delete JFR file of recording {}", id, ex);
+        }
+        report.setState(RecordingState.CLOSED.name());
+        return report;
+    }
+
+    private Duration effectiveDuration(Duration requested) {
+        Duration duration = requested != null && !requested.isNegative() && !requested.isZero()
+            ? requested : properties.getDefaultDuration();
+        return duration.compareTo(properties.getMaxDuration()) > 0 ? properties.getMaxDuration() : duration;
+    }
+
+    private Path recordingFile(long id) {
+        return properties.getDirectory().resolve(RECORDING_NAME_PREFIX + id + ".jfr");
+    }
+
+    private static RecordingReport report(Recording recording) {
+        RecordingReport report = new RecordingReport();
+        report.setId(recording.getId());
+        report.setName(recording.getName());
+        report.setState(recording.getState().name());
+        report.setStartTime(recording.getStartTime());
+        report.setStopTime(recording.getStopTime());
+        report.setDuration(recording.getDuration());
+        report.setSize(recording.getSize());
+        return report;
+    }
+
+    /**
+     * State of a single recording.
+     */
+    public static class RecordingReport {
+        private long id;
+        private String name;
+        private String state;
+        private Instant startTime;
+        private Instant stopTime;
+        private Duration duration;
+        private long size;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getState() {
+            return state;
+        }
+
+        public void setState(String state) {
+            this.state = state;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(Instant startTime) {
+            this.startTime = startTime;
+        }
+
+        public Instant getStopTime() {
+            return stopTime;
+        }
+
+        public void setStopTime(Instant stopTime) {
+            this.stopTime = stopTime;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+    }
+}
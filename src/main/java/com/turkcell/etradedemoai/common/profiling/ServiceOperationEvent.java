@@ -0,0 +1,28 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call into a business service; its duration spans the service method including rules and repositories.
+ */
+@Name("com.turkcell.etradedemoai.ServiceOperation")
+@Label("Service Operation")
+@Category({"eTrade", "Business"})
+@Description("Call into ProductService or CategoryService")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Failed")
+    boolean failed;
+}
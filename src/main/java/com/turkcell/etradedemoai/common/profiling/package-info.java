@@ -0,0 +1,5 @@
+/**
+ * On-demand Java Flight Recorder profiling: the secured {@code jfr} actuator endpoint
+ * and application events that line up with the JVM's GC, lock and I/O events.
+ */
+package com.turkcell.etradedemoai.common.profiling;
@@ -0,0 +1,111 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel over wall-clock time. Level {@code k} has {@code wheelSize} slots of
+ * {@code wheelSize^k} ticks each, so four levels of 64 one-second slots reach about six months
+ * with 256 slots in total. An entry sits in the lowest level whose wheel still covers its
+ * deadline and moves down a level each time the slot it is in comes round, until it expires
+ * from level 0. Deadlines beyond the top level wait there for extra revolutions.
+ * <p>
+ * Entries are never cancelled; callers re-check on expiry. All methods synchronize on the wheel.
+ */
+final class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] unitTicks;
+    private final List<Entry<K>>[][] levels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.unitTicks = new long[levelCount];
+        this.levels = new List[levelCount][wheelSize];
+        long unit = 1;
+        for (int level = 0; level < levelCount; level++) {
+            unitTicks[level] = unit;
+            unit = Math.multiplyExact(unit, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new ArrayList<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Deadlines that have already passed expire on the next {@link #advance}.
+     */
+    synchronized void schedule(K key, long deadlineMillis) {
+        long tick = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick + 1);
+        insert(new Entry<>(key, tick));
+        size++;
+    }
+
+    /**
+     * Hands every entry whose deadline has passed by {@code nowMillis} to {@code expired}, in
+     * deadline order at tick resolution. Visits every elapsed tick, so after a long pause the
+     * cost is proportional to the pause, not to the number of entries.
+     */
+    void advance(long nowMillis, Consumer<K> expired) {
+        List<K> due = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = Math.floorDiv(nowMillis, tickMillis);
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = levels.length - 1; level > 0; level--) {
+                    if (currentTick % unitTicks[level] == 0) {
+                        cascade(level, due);
+                    }
+                }
+                List<Entry<K>> slot = levels[0][(int) (currentTick % wheelSize)];
+                slot.forEach(entry -> due.add(entry.key));
+                slot.clear();
+            }
+            size -= due.size();
+        }
+        due.forEach(expired);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Moves the entries of the slot that has just come round one or more levels down.
+     */
+    private void cascade(int level, List<K> due) {
+        List<Entry<K>> slot = levels[level][(int) ((currentTick / unitTicks[level]) % wheelSize)];
+        List<Entry<K>> entries = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<K> entry : entries) {
+            if (entry.tick <= currentTick) {
+                due.add(entry.key);
+            } else {
+                insert(entry);
+            }
+        }
+    }
+
+    /**
+     * The lowest level where the deadline lies less than one revolution of slots ahead; at
+     * that level the entry's slot comes round exactly when its block of ticks starts.
+     */
+    private void insert(Entry<K> entry) {
+        int level = 0;
+        while (level < levels.length - 1
+            && entry.tick / unitTicks[level] - currentTick / unitTicks[level] >= wheelSize) {
+            level++;
+        }
+        levels[level][(int) ((entry.tick / unitTicks[level]) % wheelSize)].add(entry);
+    }
+
+    private record Entry<K>(K key, long tick) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Keeps every pending change in a timing wheel and applies the ones that come due. One thread
+ * does all the work: the initial catch-up, the wheel ticks and the sweep, so batches never
+ * run concurrently within an instance.
+ * <p>
+ * On startup, changes whose activation time passed while the application was down are applied
+ * first, oldest first, and the rest are loaded into the wheel. A batch that fails stays pending
+ * and is picked up again by the next sweep.
+ */
+public class ScheduledChangeActivator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledChangeActivator.class);
+
+    private final ScheduledProductChangeRepository changeRepository;
+    private final ScheduledChangeApplier applier;
+    private final ScheduledChangeProperties properties;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private ScheduledExecutorService executor;
+
+    public ScheduledChangeActivator(ScheduledProductChangeRepository changeRepository, ScheduledChangeApplier applier,
+                                    ScheduledChangeProperties properties) {
+        this.changeRepository = changeRepository;
+        this.applier = applier;
+        this.properties = properties;
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick().toMillis(), properties.getWheelSize(),
+            properties.getLevels(), System.currentTimeMillis());
+    }
+
+    /**
+     * Starts the activation thread; the catch-up runs on it before the first tick.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-changes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(() -> runSafely("catch-up", this::catchUp));
+        long tickMillis = properties.getTick().toMillis();
+        executor.scheduleAtFixedRate(() -> runSafely("tick", this::tick), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        long sweepMillis = properties.getSweepInterval().toMillis();
+        executor.scheduleWithFixedDelay(() -> runSafely("sweep", this::sweep), sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Puts a committed change into the wheel. A change that is due already is applied on the next tick.
+     */
+    public void schedule(Long changeId, Instant effectiveAt) {
+        wheel.schedule(changeId, effectiveAt.toEpochMilli());
+    }
+
+    /**
+     * Changes waiting in the wheel, including cancelled ones that have not come round yet.
+     */
+    public int getWaiting() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void catchUp() {
+        long now = System.currentTimeMillis();
+        List<Long> overdue = new ArrayList<>();
+        int waiting = 0;
+        for (ScheduledProductChange change : changeRepository.findByStatusOrderByEffectiveAtAscIdAsc(ScheduledChangeStatus.PENDING)) {
+            if (change.getEffectiveAt().toEpochMilli() <= now) {
+                overdue.add(change.getId());
+            } else {
+                wheel.schedule(change.getId(), change.getEffectiveAt().toEpochMilli());
+                waiting++;
+            }
+        }
+        int applied = applyInBatches(overdue);
+        log.info("Scheduled changes: applied {} of {} missed activations, {} waiting", applied, overdue.size(), waiting);
+    }
+
+    private void tick() {
+        List<Long> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due::add);
+        if (!due.isEmpty()) {
+            int applied = applyInBatches(due);
+            log.debug("Scheduled changes: {} due, {} applied", due.size(), applied);
+        }
+    }
+
+    private void sweep() {
+        while (true) {
+            List<Long> due = changeRepository.findDueIds(Instant.now(), PageRequest.of(0, properties.getBatchSize()));
+            if (due.isEmpty()) {
+                return;
+            }
+            int applied = applier.apply(due);
+            log.info("Scheduled changes: sweep applied {} of {} due changes", applied, due.size());
+            if (due.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private int applyInBatches(List<Long> changeIds) {
+        int applied = 0;
+        for (int from = 0; from < changeIds.size(); from += properties.getBatchSize()) {
+            List<Long> batch = changeIds.subList(from, Math.min(from + properties.getBatchSize(), changeIds.size()));
+            try {
+                applied += applier.apply(batch);
+            } catch (RuntimeException ex) {
+                log.error("Could not apply {} scheduled changes; the sweep retries them", batch.size(), ex);
+            }
+        }
+        return applied;
+    }
+
+    private static void runSafely(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException ex) {
+            log.error("Scheduled change {} failed", task, ex);
+        }
+    }
+}
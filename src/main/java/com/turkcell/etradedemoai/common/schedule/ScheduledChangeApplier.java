@@ -0,0 +1,164 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import com.turkcell.etradedemoai.common.cache.CacheEvictions;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.PriceChange;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import com.turkcell.etradedemoai.entities.Product;
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies a batch of due changes in one transaction, with the same side effects as a product
+ * update: stock differences go to the inventory ledger, price differences to the price history,
+ * every changed product gets an outbox event, and the products are evicted from the cache after
+ * commit. Rows are locked in product id order, like stock reservations, so a batch never
+ * deadlocks with orders. Each change is claimed with a conditional update before it is applied,
+ * so instances sweeping the same due changes never apply one twice.
+ */
+public class ScheduledChangeApplier {
+
+    static final String LEDGER_REFERENCE = "scheduled-change";
+
+    private final ScheduledProductChangeRepository changeRepository;
+    private final ProductRepository productRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final FlashSaleRegistry flashSaleRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final OutboxRecorder outboxRecorder;
+
+    public ScheduledChangeApplier(ScheduledProductChangeRepository changeRepository, ProductRepository productRepository,
+                                  InventoryMovementRepository inventoryMovementRepository,
+                                  PriceHistoryRepository priceHistoryRepository, FlashSaleRegistry flashSaleRegistry,
+                                  TransactionTemplate transactionTemplate, CacheManager cacheManager,
+                                  OutboxRecorder outboxRecorder) {
+        this.changeRepository = changeRepository;
+        this.productRepository = productRepository;
+        this.inventoryMovementRepository = inventoryMovementRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.flashSaleRegistry = flashSaleRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.outboxRecorder = outboxRecorder;
+    }
+
+    /**
+     * Applies those of the given changes that are still pending and due, in activation order,
+     * so a later change to the same product wins. Changes whose product is gone, or that would
+     * overwrite the stock of a product in a flash sale, are marked failed instead.
+     *
+     * @return number of changes applied
+     */
+    public int apply(Collection<Long> changeIds) {
+        if (changeIds.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        SortedSet<Long> touched = new TreeSet<>();
+        Integer applied = transactionTemplate.execute(status -> {
+            List<ScheduledProductChange> changes = changeRepository
+                .findByIdInAndStatusOrderByEffectiveAtAscIdAsc(changeIds, ScheduledChangeStatus.PENDING).stream()
+                .filter(change -> !change.getEffectiveAt().isAfter(now))
+                // Claimed one by one in activation order; a change another instance applied meanwhile drops out
+                .filter(change -> changeRepository.claim(change.getId()) == 1)
+                .toList();
+            if (changes.isEmpty()) {
+                return 0;
+            }
+            SortedSet<Long> productIds = changes.stream()
+                .map(ScheduledProductChange::getProductId)
+                .collect(Collectors.toCollection(TreeSet::new));
+            productIds.forEach(productRepository::lockStock);
+            Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            Map<Long, Product> before = new LinkedHashMap<>();
+            int count = 0;
+            for (ScheduledProductChange change : changes) {
+                Product product = products.get(change.getProductId());
+                if (product == null) {
+                    fail(change, "Product not found", now);
+                    continue;
+                }
+                if (change.getUnitsInStock() != null && flashSaleRegistry.isActive(product.getId())) {
+                    fail(change, "Product is in a flash sale", now);
+                    continue;
+                }
+                before.computeIfAbsent(product.getId(), id -> copyOf(product));
+                if (change.getUnitPrice() != null) {
+                    product.setUnitPrice(change.getUnitPrice());
+                }
+                if (change.getUnitsInStock() != null) {
+                    product.setUnitsInStock(change.getUnitsInStock());
+                }
+                if (change.getDescription() != null) {
+                    product.setDescription(change.getDescription());
+                }
+                change.setStatus(ScheduledChangeStatus.APPLIED);
+                change.setAppliedAt(now);
+                count++;
+            }
+            recordSideEffects(before, products, now);
+            touched.addAll(before.keySet());
+            return count;
+        });
+        CacheEvictions.evict(cacheManager, CacheNames.PRODUCTS, touched);
+        return applied;
+    }
+
+    private void recordSideEffects(Map<Long, Product> before, Map<Long, Product> products, Instant now) {
+        List<InventoryMovement> movements = new ArrayList<>();
+        List<PriceChange> priceChanges = new ArrayList<>();
+        before.forEach((productId, original) -> {
+            Product product = products.get(productId);
+            int delta = product.getUnitsInStock() - original.getUnitsInStock();
+            if (delta != 0) {
+                movements.add(new InventoryMovement(productId, InventoryMovementType.ADJUSTMENT, delta, LEDGER_REFERENCE));
+            }
+            BigDecimal previousPrice = original.getUnitPrice();
+            if (previousPrice.compareTo(product.getUnitPrice()) != 0) {
+                Instant since = original.getUpdatedDate() != null ? original.getUpdatedDate() : original.getCreatedDate();
+                priceChanges.add(new PriceChange(productId, previousPrice, since, product.getUnitPrice()));
+            }
+        });
+        inventoryMovementRepository.append(movements);
+        priceHistoryRepository.recordPriceChanges(priceChanges, now);
+        outboxRecorder.productsSaved(OutboxEventType.UPDATED, before.keySet().stream().map(products::get).toList());
+    }
+
+    private static void fail(ScheduledProductChange change, String reason, Instant now) {
+        change.setStatus(ScheduledChangeStatus.FAILED);
+        change.setFailureReason(reason);
+        change.setAppliedAt(now);
+    }
+
+    private static Product copyOf(Product product) {
+        Product copy = new Product(product.getName(), product.getUnitPrice(), product.getUnitsInStock(), product.getDescription());
+        copy.setCreatedDate(product.getCreatedDate());
+        copy.setUpdatedDate(product.getUpdatedDate());
+        return copy;
+    }
+}
@@ -0,0 +1,77 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Scheduled product change settings ({@code etrade.scheduled-changes.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.scheduled-changes")
+public class ScheduledChangeProperties {
+
+    /**
+     * Resolution of the timing wheel; changes are applied up to one tick after their activation time.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Slots per wheel level.
+     */
+    private int wheelSize = 64;
+
+    /**
+     * Number of wheel levels; {@code tick * wheelSize^levels} is the span covered without extra revolutions.
+     */
+    private int levels = 4;
+
+    /**
+     * Maximum number of changes applied in one transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How often pending changes that are already due are looked up in the database, e.g. after
+     * a failed batch or when created by another instance.
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    public void setLevels(int levels) {
+        this.levels = levels;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+}
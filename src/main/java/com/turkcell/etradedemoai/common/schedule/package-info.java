@@ -0,0 +1,6 @@
+/**
+ * Scheduled product changes: pending changes wait in a hierarchical timing wheel and are
+ * applied in batches when they become due, with catch-up of missed activations on startup
+ * and a periodic sweep that retries anything left pending.
+ */
+package com.turkcell.etradedemoai.common.schedule;
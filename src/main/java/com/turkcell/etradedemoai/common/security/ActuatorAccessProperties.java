@@ -0,0 +1,24 @@
+package com.turkcell.etradedemoai.common.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Access to the actuator operations that change state ({@code etrade.actuator.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.actuator")
+public class ActuatorAccessProperties {
+
+    /**
+     * Shared secret expected as {@code Authorization: Bearer <token>} on guarded write and delete
+     * operations. When empty those operations reject every request; reads stay open.
+     */
+    private String token = "";
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
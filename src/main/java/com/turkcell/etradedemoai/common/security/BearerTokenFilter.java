@@ -0,0 +1,77 @@
+package com.turkcell.etradedemoai.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Guards actuator endpoints with a bearer token. Responds 403 while no token is configured
+ * and 401 when the request does not carry the configured one.
+ */
+public class BearerTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Supplier<String> token;
+    private final boolean readsOpen;
+
+    /**
+     * Guards every request.
+     */
+    public BearerTokenFilter(Supplier<String> token) {
+        this(token, false);
+    }
+
+    private BearerTokenFilter(Supplier<String> token, boolean readsOpen) {
+        this.token = token;
+        this.readsOpen = readsOpen;
+    }
+
+    /**
+     * Guards only the requests that change state; reads stay open.
+     */
+    public static BearerTokenFilter forWrites(Supplier<String> token) {
+        return new BearerTokenFilter(token, true);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return readsOpen && READ_METHODS.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String expected = token.get();
+        if (!StringUtils.hasText(expected)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "Operation is disabled: no token configured");
+            return;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)
+                || !matches(authorization.substring(BEARER_PREFIX.length()), expected)) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Constant-time comparison so the token cannot be guessed byte by byte from response times.
+     */
+    private static boolean matches(String presented, String expected) {
+        return MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8), expected.getBytes(StandardCharsets.UTF_8));
+    }
+}
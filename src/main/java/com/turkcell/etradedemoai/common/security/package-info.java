@@ -0,0 +1,4 @@
+/**
+ * Bearer-token guards for the actuator endpoints that can change application state.
+ */
+package com.turkcell.etradedemoai.common.security;
@@ -0,0 +1,66 @@
+package com.turkcell.etradedemoai.common.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * Marks beans that the API does not need at startup as lazy, so they are created
+ * on first use instead (e.g. springdoc on the first {@code /v3/api-docs} request).
+ *
+ * A bean matches when its class, or the class of the configuration that declares
+ * it, starts with one of the configured prefixes. Beans that the container pulls
+ * in eagerly anyway, such as servlet filters and registrations picked up by the
+ * embedded server, are still created during startup; the startup report shows
+ * which ones actually moved.
+ */
+public class LazyNonCriticalBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(LazyNonCriticalBeansPostProcessor.class);
+
+    private final List<String> classPrefixes;
+
+    public LazyNonCriticalBeansPostProcessor(List<String> classPrefixes) {
+        this.classPrefixes = List.copyOf(classPrefixes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        List<String> lazyBeans = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            if (matches(definition.getBeanClassName()) || matches(declaringClassName(beanFactory, definition))) {
+                definition.setLazyInit(true);
+                lazyBeans.add(beanName);
+            }
+        }
+        log.info("Lazy initialisation enabled for {} non-critical beans: {}", lazyBeans.size(), lazyBeans);
+    }
+
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName == null || !beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return null;
+        }
+        return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+    }
+
+    private boolean matches(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : classPrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
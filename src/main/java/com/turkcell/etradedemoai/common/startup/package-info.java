@@ -0,0 +1,4 @@
+/**
+ * Startup instrumentation: opt-in lazy initialisation of beans that are not needed to serve the API.
+ */
+package com.turkcell.etradedemoai.common.startup;
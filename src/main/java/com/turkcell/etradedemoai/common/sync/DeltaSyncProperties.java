@@ -0,0 +1,52 @@
+package com.turkcell.etradedemoai.common.sync;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Delta sync settings ({@code etrade.delta-sync.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.delta-sync")
+public class DeltaSyncProperties {
+
+    /**
+     * Changes younger than this are held back until the next sync. A row's update time is set
+     * before its transaction commits, so this must exceed the longest transaction writing
+     * products, or a late commit could fall behind a watermark already handed out.
+     */
+    private Duration settleTime = Duration.ofSeconds(5);
+
+    /**
+     * Changes per page when the client does not ask for a size.
+     */
+    private int defaultPageSize = 500;
+
+    /**
+     * Largest page a client may ask for.
+     */
+    private int maxPageSize = 2_000;
+
+    public Duration getSettleTime() {
+        return settleTime;
+    }
+
+    public void setSettleTime(Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public void setDefaultPageSize(int defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+}
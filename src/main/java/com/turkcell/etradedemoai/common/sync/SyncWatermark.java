@@ -0,0 +1,74 @@
+package com.turkcell.etradedemoai.common.sync;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Position in the {@code (updated_date, id)} order of products up to which a client has synced.
+ * Written as {@code <ISO-8601 instant>_<id>}; a bare instant stands for the position before
+ * every product updated at that instant.
+ */
+public final class SyncWatermark implements Comparable<SyncWatermark> {
+
+    private static final char SEPARATOR = '_';
+
+    private static final Comparator<SyncWatermark> ORDER =
+        Comparator.comparing(SyncWatermark::getUpdatedDate).thenComparingLong(SyncWatermark::getId);
+
+    private final Instant updatedDate;
+    private final long id;
+
+    public SyncWatermark(Instant updatedDate, long id) {
+        this.updatedDate = Objects.requireNonNull(updatedDate, "updatedDate");
+        this.id = id;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is neither a watermark nor an instant
+     */
+    public static SyncWatermark parse(String value) {
+        int separator = value.lastIndexOf(SEPARATOR);
+        try {
+            if (separator < 0) {
+                return new SyncWatermark(Instant.parse(value), 0);
+            }
+            return new SyncWatermark(Instant.parse(value.substring(0, separator)),
+                Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Not a sync watermark: " + value, ex);
+        }
+    }
+
+    public Instant getUpdatedDate() {
+        return updatedDate;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public int compareTo(SyncWatermark other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SyncWatermark other = (SyncWatermark) o;
+        return id == other.id && updatedDate.equals(other.updatedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updatedDate, id);
+    }
+
+    @Override
+    public String toString() {
+        return updatedDate.toString() + SEPARATOR + id;
+    }
+}
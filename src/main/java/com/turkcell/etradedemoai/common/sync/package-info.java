@@ -0,0 +1,5 @@
+/**
+ * Delta sync for clients that keep a local copy of the catalog: changes are read in
+ * {@code (updated_date, id)} order after a watermark the client got from its previous sync.
+ */
+package com.turkcell.etradedemoai.common.sync;
@@ -0,0 +1,71 @@
+package com.turkcell.etradedemoai.common.warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.common.cache.HotKeyTracker;
+import com.turkcell.etradedemoai.common.cache.HotKeyTrackingCache;
+import com.turkcell.etradedemoai.common.cache.HotKeyTrackingCacheManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the hottest cache keys across restarts: saved on shutdown from the hot-key
+ * trackers, read back by the next warm-up so it preloads what traffic actually asked for.
+ */
+public class HotKeySnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeySnapshot.class);
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public HotKeySnapshot(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    public void save(HotKeyTrackingCacheManager cacheManager) {
+        Map<String, List<Long>> keys = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            HotKeyTrackingCache cache = cacheManager.getCache(cacheName);
+            List<Long> ids = new ArrayList<>();
+            for (HotKeyTracker.HotKey hotKey : cache.getTracker().getHotKeys()) {
+                if (hotKey.getKey() instanceof Long id) {
+                    ids.add(id);
+                }
+            }
+            keys.put(cacheName, ids);
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            objectMapper.writeValue(file.toFile(), keys);
+        } catch (IOException ex) {
+            log.warn("Could not save hot keys to {}: {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * Hottest ids per cache name, hottest first; empty when no snapshot exists or it cannot be read.
+     */
+    public Map<String, List<Long>> load() {
+        if (!Files.isReadable(file)) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), new TypeReference<Map<String, List<Long>>>() { });
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable hot key snapshot {}: {}", file, ex.getMessage());
+            return Map.of();
+        }
+    }
+}
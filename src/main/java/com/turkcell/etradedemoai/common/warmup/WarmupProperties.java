@@ -0,0 +1,132 @@
+package com.turkcell.etradedemoai.common.warmup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Startup warm-up settings ({@code etrade.warmup.*}).
+ */
+@ConfigurationProperties(prefix = "etrade.warmup")
+public class WarmupProperties {
+
+    /**
+     * Whether to warm up before the instance reports ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound for the whole warm-up; readiness turns green when it expires even if latency is still moving.
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    /**
+     * Number of pool connections to open up front (capped at the pool's maximum size).
+     */
+    private int poolConnections = 10;
+
+    /**
+     * Number of products and categories to load into the caches.
+     */
+    private int preloadSize = 200;
+
+    /**
+     * Where the hottest cache keys are saved on shutdown and read back on the next warm-up.
+     */
+    private Path hotKeysFile = Path.of("data", "hot-keys.json");
+
+    /**
+     * Service calls per measurement round.
+     */
+    private int roundSize = 200;
+
+    /**
+     * Relative change of the round median below which a round counts as stable.
+     */
+    private double stabilityTolerance = 0.1;
+
+    /**
+     * Consecutive stable rounds needed to finish early.
+     */
+    private int stableRounds = 3;
+
+    /**
+     * Read-only operation weights replayed through the services: getProduct, getCategory,
+     * getAllProducts and getAllCategories. Listings are off by default because they scale with catalog size.
+     */
+    private Map<String, Integer> mix = new LinkedHashMap<>(Map.of("getProduct", 80, "getCategory", 20));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public int getPoolConnections() {
+        return poolConnections;
+    }
+
+    public void setPoolConnections(int poolConnections) {
+        this.poolConnections = poolConnections;
+    }
+
+    public int getPreloadSize() {
+        return preloadSize;
+    }
+
+    public void setPreloadSize(int preloadSize) {
+        this.preloadSize = preloadSize;
+    }
+
+    public Path getHotKeysFile() {
+        return hotKeysFile;
+    }
+
+    public void setHotKeysFile(Path hotKeysFile) {
+        this.hotKeysFile = hotKeysFile;
+    }
+
+    public int getRoundSize() {
+        return roundSize;
+    }
+
+    public void setRoundSize(int roundSize) {
+        this.roundSize = roundSize;
+    }
+
+    public double getStabilityTolerance() {
+        return stabilityTolerance;
+    }
+
+    public void setStabilityTolerance(double stabilityTolerance) {
+        this.stabilityTolerance = stabilityTolerance;
+    }
+
+    public int getStableRounds() {
+        return stableRounds;
+    }
+
+    public void setStableRounds(int stableRounds) {
+        this.stableRounds = stableRounds;
+    }
+
+    public Map<String, Integer> getMix() {
+        return mix;
+    }
+
+    public void setMix(Map<String, Integer> mix) {
+        this.mix = mix;
+    }
+}
@@ -0,0 +1,62 @@
+package com.turkcell.etradedemoai.common.warmup;
+
+/**
+ * Outcome of one warm-up run, logged at startup.
+ */
+public class WarmupResult {
+
+    private final int poolConnections;
+    private final int preloadedProducts;
+    private final int preloadedCategories;
+    private final int rounds;
+    private final double lastRoundMedianMicros;
+    private final boolean stabilised;
+    private final long elapsedMillis;
+
+    public WarmupResult(int poolConnections, int preloadedProducts, int preloadedCategories, int rounds,
+            double lastRoundMedianMicros, boolean stabilised, long elapsedMillis) {
+        this.poolConnections = poolConnections;
+        this.preloadedProducts = preloadedProducts;
+        this.preloadedCategories = preloadedCategories;
+        this.rounds = rounds;
+        this.lastRoundMedianMicros = lastRoundMedianMicros;
+        this.stabilised = stabilised;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getPoolConnections() {
+        return poolConnections;
+    }
+
+    public int getPreloadedProducts() {
+        return preloadedProducts;
+    }
+
+    public int getPreloadedCategories() {
+        return preloadedCategories;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public double getLastRoundMedianMicros() {
+        return lastRoundMedianMicros;
+    }
+
+    public boolean isStabilised() {
+        return stabilised;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "pool connections=" + poolConnections + ", preloaded products=" + preloadedProducts
+            + ", preloaded categories=" + preloadedCategories + ", rounds=" + rounds
+            + ", last round median=" + Math.round(lastRoundMedianMicros) + " us, stabilised=" + stabilised
+            + ", elapsed=" + elapsedMillis + " ms";
+    }
+}
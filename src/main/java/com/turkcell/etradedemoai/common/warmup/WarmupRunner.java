@@ -0,0 +1,231 @@
+package com.turkcell.etradedemoai.common.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.business.abstracts.CategoryService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Warms the instance up before it reports ready. Spring Boot only switches
+ * readiness to ACCEPTING_TRAFFIC after all application runners have returned,
+ * so while this runs the readiness probe stays red.
+ *
+ * Steps: open pool connections, load the hottest products and categories into
+ * the caches (from the last shutdown's hot-key snapshot, else the first ids),
+ * then replay a read-only mix through the services, including JSON
+ * serialization, in rounds until the round median stops moving or the time
+ * budget runs out. Writes are never replayed. Warm-up reads are counted in the
+ * cache statistics like any other traffic.
+ */
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final List<String> OPERATIONS = List.of("getProduct", "getCategory", "getAllProducts", "getAllCategories");
+
+    private final DataSource dataSource;
+    private final ProductService productService;
+    private final CategoryService categoryService;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final HotKeySnapshot hotKeySnapshot;
+    private final WarmupProperties properties;
+    private final String[] operations;
+    private final int[] cumulativeWeights;
+
+    public WarmupRunner(DataSource dataSource, ProductService productService, CategoryService categoryService,
+            ProductRepository productRepository, CategoryRepository categoryRepository,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper, HotKeySnapshot hotKeySnapshot,
+            WarmupProperties properties) {
+        this.dataSource = dataSource;
+        this.productService = productService;
+        this.categoryService = categoryService;
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.hotKeySnapshot = hotKeySnapshot;
+        this.properties = properties;
+
+        List<String> names = new ArrayList<>();
+        List<Integer> sums = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<String, Integer> entry : properties.getMix().entrySet()) {
+            if (!OPERATIONS.contains(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown warm-up operation '" + entry.getKey() + "', expected one of " + OPERATIONS);
+            }
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                names.add(entry.getKey());
+                sums.add(sum);
+            }
+        }
+        this.operations = names.toArray(new String[0]);
+        this.cumulativeWeights = sums.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Warm-up finished: {}", warmUp());
+    }
+
+    public WarmupResult warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeBudget().toNanos();
+
+        int connections = openPoolConnections();
+
+        Map<String, List<Long>> hotKeys = hotKeySnapshot.load();
+        List<Long> productIds = idsToPreload(hotKeys.get(CacheNames.PRODUCTS), productRepository::findIds);
+        List<Long> categoryIds = idsToPreload(hotKeys.get(CacheNames.CATEGORIES), categoryRepository::findIds);
+        int preloadedProducts = preload(productIds, "getProduct", deadline);
+        int preloadedCategories = preload(categoryIds, "getCategory", deadline);
+
+        int rounds = 0;
+        int stableRounds = 0;
+        double previousMedian = Double.NaN;
+        double median = Double.NaN;
+        boolean canReplay = operations.length > 0 && !productIds.isEmpty() && !categoryIds.isEmpty();
+        while (canReplay && stableRounds < properties.getStableRounds() && System.nanoTime() < deadline) {
+            median = replayRound(productIds, categoryIds, deadline);
+            rounds++;
+            boolean stable = !Double.isNaN(previousMedian)
+                && Math.abs(median - previousMedian) <= properties.getStabilityTolerance() * previousMedian;
+            stableRounds = stable ? stableRounds + 1 : 0;
+            previousMedian = median;
+        }
+        return new WarmupResult(connections, preloadedProducts, preloadedCategories, rounds, median / 1_000,
+            stableRounds >= properties.getStableRounds(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Holds the connections at the same time so the pool really grows to that size.
+     */
+    private int openPoolConnections() {
+        int target = properties.getPoolConnections();
+        List<Connection> connections = new ArrayList<>();
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                target = Math.min(target, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize());
+            }
+            while (connections.size() < target) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException ex) {
+            log.warn("Opened {} of {} pool connections during warm-up: {}", connections.size(), target, ex.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException ex) {
+                    log.debug("Could not return warm-up connection", ex);
+                }
+            }
+        }
+        return connections.size();
+    }
+
+    /**
+     * Snapshot ids first (hottest first), topped up with the lowest ids when the snapshot is short or missing.
+     */
+    private List<Long> idsToPreload(List<Long> hottest, Function<Pageable, List<Long>> firstIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (hottest != null) {
+            hottest.stream().limit(properties.getPreloadSize()).forEach(ids::add);
+        }
+        if (ids.size() < properties.getPreloadSize()) {
+            ids.addAll(firstIds.apply(PageRequest.of(0, properties.getPreloadSize())));
+        }
+        return new ArrayList<>(ids).subList(0, Math.min(ids.size(), properties.getPreloadSize()));
+    }
+
+    private int preload(List<Long> ids, String operation, long deadline) {
+        int loaded = 0;
+        for (Long id : ids) {
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            invoke(operation, id);
+            loaded++;
+        }
+        return loaded;
+    }
+
+    private double replayRound(List<Long> productIds, List<Long> categoryIds, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[properties.getRoundSize()];
+        int count = 0;
+        while (count < latencies.length && System.nanoTime() < deadline) {
+            String operation = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+            Long id = operation.equals("getCategory")
+                ? categoryIds.get(random.nextInt(categoryIds.size()))
+                : productIds.get(random.nextInt(productIds.size()));
+            long start = System.nanoTime();
+            invoke(operation, id);
+            latencies[count++] = System.nanoTime() - start;
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long[] measured = Arrays.copyOf(latencies, count);
+        Arrays.sort(measured);
+        return measured[count / 2];
+    }
+
+    private String pick(int roll) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * One request's worth of work: a read-only transaction (like open-in-view would give the
+     * controller) around the service call and the JSON rendering of its result.
+     */
+    private void invoke(String operation, Long id) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Object response = switch (operation) {
+                case "getProduct" -> productService.getById(id).orElse(null);
+                case "getCategory" -> categoryService.getById(id).orElse(null);
+                case "getAllProducts" -> productService.getAll();
+                case "getAllCategories" -> categoryService.getAll();
+                default -> throw new IllegalArgumentException("Unknown warm-up operation " + operation);
+            };
+            try {
+                objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Could not serialize warm-up response for " + operation, ex);
+            }
+        });
+    }
+}
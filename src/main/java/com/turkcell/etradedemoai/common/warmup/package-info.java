@@ -0,0 +1,4 @@
+/**
+ * Startup warm-up that runs before the readiness probe reports the instance as ready.
+ */
+package com.turkcell.etradedemoai.common.warmup;
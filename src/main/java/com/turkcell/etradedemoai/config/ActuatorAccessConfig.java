@@ -0,0 +1,30 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.security.ActuatorAccessProperties;
+import com.turkcell.etradedemoai.common.security.BearerTokenFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts the write and delete operations of our operational actuator endpoints behind
+ * {@code etrade.actuator.token}; their read operations stay open.
+ */
+@Configuration
+@EnableConfigurationProperties(ActuatorAccessProperties.class)
+public class ActuatorAccessConfig {
+
+    @Bean
+    public FilterRegistrationBean<BearerTokenFilter> actuatorWriteAccessFilter(ActuatorAccessProperties properties) {
+        FilterRegistrationBean<BearerTokenFilter> registration =
+            new FilterRegistrationBean<>(BearerTokenFilter.forWrites(properties::getToken));
+        registration.setName("actuatorWriteAccessFilter");
+        registration.addUrlPatterns(
+            "/actuator/flashsales", "/actuator/flashsales/*",
+            "/actuator/inventory",
+            "/actuator/cachestats/*",
+            "/actuator/slowqueries");
+        return registration;
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.etradedemoai.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.cache.CacheStatisticsEndpoint;
+import com.turkcell.etradedemoai.common.cache.HotKeyTrackingCacheManager;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine caches for products and categories, decorated with hot-key tracking.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public HotKeyTrackingCacheManager cacheManager(
+            @Value("${etrade.cache.maximum-size:10000}") long maximumSize,
+            @Value("${etrade.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            @Value("${etrade.cache.hot-keys.top-n:20}") int topN,
+            @Value("${etrade.cache.hot-keys.sketch-width:4096}") int sketchWidth) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(CacheNames.PRODUCTS, CacheNames.CATEGORIES);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats());
+        return new HotKeyTrackingCacheManager(caffeineCacheManager, topN, sketchWidth);
+    }
+
+    @Bean
+    public CacheStatisticsEndpoint cacheStatisticsEndpoint(HotKeyTrackingCacheManager cacheManager) {
+        return new CacheStatisticsEndpoint(cacheManager);
+    }
+}
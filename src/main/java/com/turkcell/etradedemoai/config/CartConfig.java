@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.common.cart.CartProperties;
+import com.turkcell.etradedemoai.common.cart.CartSnapshot;
+import com.turkcell.etradedemoai.common.cart.CartStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+
+/**
+ * In-memory cart store, its expiry thread, and the optional restart snapshot.
+ */
+@Configuration
+@EnableConfigurationProperties(CartProperties.class)
+public class CartConfig {
+
+    @Bean(destroyMethod = "close")
+    public CartStore cartStore(CartProperties properties, ObjectProvider<CartSnapshot> cartSnapshot) {
+        CartStore store = new CartStore(properties);
+        cartSnapshot.ifAvailable(snapshot -> snapshot.restore(store));
+        store.start();
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "etrade.cart", name = "snapshot-file")
+    public CartSnapshot cartSnapshot(CartProperties properties, ObjectMapper objectMapper) {
+        return new CartSnapshot(properties.getSnapshotFile(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "etrade.cart", name = "snapshot-file")
+    public ApplicationListener<ContextClosedEvent> cartSnapshotOnShutdown(CartSnapshot cartSnapshot, CartStore cartStore) {
+        return event -> cartSnapshot.save(cartStore);
+    }
+}
@@ -0,0 +1,23 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.feed.ChangeFeed;
+import com.turkcell.etradedemoai.common.feed.ChangeFeedProperties;
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Server-sent event feed of catalog changes, read from the outbox.
+ */
+@Configuration
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ChangeFeed changeFeed(OutboxEventRepository outboxEventRepository, ChangeFeedProperties properties,
+                                 MeterRegistry meterRegistry) {
+        return new ChangeFeed(outboxEventRepository, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.datagen.DataGeneratorProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Binds the synthetic data generator settings when the {@code datagen} profile is active.
+ */
+@Configuration
+@Profile("datagen")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+public class DataGeneratorConfig {
+}
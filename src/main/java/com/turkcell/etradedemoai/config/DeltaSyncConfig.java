@@ -0,0 +1,13 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.sync.DeltaSyncProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Delta sync of the product catalog for clients with a local copy.
+ */
+@Configuration
+@EnableConfigurationProperties(DeltaSyncProperties.class)
+public class DeltaSyncConfig {
+}
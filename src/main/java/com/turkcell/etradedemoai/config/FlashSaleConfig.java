@@ -0,0 +1,40 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleEndpoint;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleManager;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleProperties;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Flash-sale counters, their periodic write-back, and {@code /actuator/flashsales}.
+ * The manager is closed before the datasource, which ends running sales on shutdown.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(FlashSaleProperties.class)
+public class FlashSaleConfig {
+
+    @Bean
+    public FlashSaleRegistry flashSaleRegistry() {
+        return new FlashSaleRegistry();
+    }
+
+    @Bean(destroyMethod = "close")
+    public FlashSaleManager flashSaleManager(FlashSaleRegistry flashSaleRegistry, ProductRepository productRepository,
+                                             TransactionTemplate transactionTemplate, FlashSaleProperties properties,
+                                             CacheManager cacheManager) {
+        return new FlashSaleManager(flashSaleRegistry, productRepository, transactionTemplate, properties, cacheManager);
+    }
+
+    @Bean
+    public FlashSaleEndpoint flashSaleEndpoint(FlashSaleManager flashSaleManager) {
+        return new FlashSaleEndpoint(flashSaleManager);
+    }
+}
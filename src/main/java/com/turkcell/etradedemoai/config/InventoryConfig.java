@@ -0,0 +1,47 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.common.inventory.InventoryCompactor;
+import com.turkcell.etradedemoai.common.inventory.InventoryEndpoint;
+import com.turkcell.etradedemoai.common.inventory.InventoryJobs;
+import com.turkcell.etradedemoai.common.inventory.InventoryProperties;
+import com.turkcell.etradedemoai.common.inventory.InventoryReconciler;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inventory ledger compaction and reconciliation, on a schedule and through {@code /actuator/inventory}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(InventoryProperties.class)
+public class InventoryConfig {
+
+    @Bean
+    public InventoryCompactor inventoryCompactor(InventoryMovementRepository inventoryMovementRepository,
+                                                 TransactionTemplate transactionTemplate, InventoryProperties properties) {
+        return new InventoryCompactor(inventoryMovementRepository, transactionTemplate, properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    public InventoryReconciler inventoryReconciler(InventoryMovementRepository inventoryMovementRepository,
+                                                   InventoryProperties properties, FlashSaleRegistry flashSaleRegistry) {
+        return new InventoryReconciler(inventoryMovementRepository, properties, flashSaleRegistry::isActive);
+    }
+
+    @Bean
+    public InventoryEndpoint inventoryEndpoint(InventoryReconciler inventoryReconciler) {
+        return new InventoryEndpoint(inventoryReconciler);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "etrade.inventory", name = "jobs-enabled", havingValue = "true", matchIfMissing = true)
+    public InventoryJobs inventoryJobs(InventoryCompactor inventoryCompactor, InventoryReconciler inventoryReconciler) {
+        return new InventoryJobs(inventoryCompactor, inventoryReconciler);
+    }
+}
@@ -0,0 +1,30 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.profiling.JfrProperties;
+import com.turkcell.etradedemoai.common.profiling.JfrRecordingEndpoint;
+import com.turkcell.etradedemoai.common.security.BearerTokenFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * On-demand JFR recordings behind a bearer-token filter.
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+public class JfrConfig {
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint(JfrProperties properties) {
+        return new JfrRecordingEndpoint(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<BearerTokenFilter> jfrAccessFilter(JfrProperties properties) {
+        FilterRegistrationBean<BearerTokenFilter> registration = new FilterRegistrationBean<>(new BearerTokenFilter(properties::getToken));
+        registration.setName("jfrAccessFilter");
+        registration.addUrlPatterns("/actuator/jfr", "/actuator/jfr/*");
+        return registration;
+    }
+}
@@ -0,0 +1,82 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.BaseEntity;
+import com.turkcell.etradedemoai.common.BusinessProblemDetail;
+import com.turkcell.etradedemoai.common.CustomProblemDetail;
+import com.turkcell.etradedemoai.common.observability.JdbcTimingSessionListener;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reachability metadata for the GraalVM native image ({@code ./mvnw -Pnative package}).
+ * Spring AOT already covers beans and controller signatures; this adds what is
+ * reached only reflectively: Hibernate entity access, Jackson binding of every
+ * DTO (including nested types), the MapStruct implementations and the Hibernate
+ * session listener configured by class name. Packages are scanned when the AOT
+ * step runs on the JVM, so new entities, DTOs and mappers are picked up.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageHints.Registrar.class)
+public class NativeImageHints {
+
+    static final String ENTITIES_PACKAGE = "com.turkcell.etradedemoai.entities";
+    static final String DTOS_PACKAGE = "com.turkcell.etradedemoai.business.dtos";
+    static final String MAPPERS_PACKAGE = "com.turkcell.etradedemoai.business.mappers";
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            List<Class<?>> entities = new ArrayList<>(scan(ENTITIES_PACKAGE, classLoader));
+            entities.add(BaseEntity.class);
+            for (Class<?> entity : entities) {
+                hints.reflection().registerType(entity,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            bindingRegistrar.registerReflectionHints(hints.reflection(), scan(DTOS_PACKAGE, classLoader).toArray(new Class<?>[0]));
+            bindingRegistrar.registerReflectionHints(hints.reflection(), CustomProblemDetail.class, BusinessProblemDetail.class);
+
+            for (Class<?> mapper : scan(MAPPERS_PACKAGE, classLoader)) {
+                hints.reflection().registerType(mapper,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            hints.reflection().registerType(JdbcTimingSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+
+        /**
+         * Top-level classes below the package, abstract ones included; interfaces such as the
+         * {@code @Mapper} declarations are reached through their generated implementations.
+         */
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isInterface();
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+            return types;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.turkcell.etradedemoai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.common.outbox.FileOutboxPublisher;
+import com.turkcell.etradedemoai.common.outbox.InMemoryOutboxPublisher;
+import com.turkcell.etradedemoai.common.outbox.OutboxProperties;
+import com.turkcell.etradedemoai.common.outbox.OutboxPublisher;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
+import com.turkcell.etradedemoai.common.outbox.OutboxRelay;
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Catalog outbox: the recorder used by the services, the relay and a stand-in broker
+ * unless the application defines its own {@link OutboxPublisher}.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxRecorder outboxRecorder(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxRecorder(outboxEventRepository, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    public OutboxPublisher outboxPublisher(OutboxProperties properties, ObjectMapper objectMapper) {
+        if (properties.getFile() != null) {
+            return new FileOutboxPublisher(properties.getFile(), objectMapper);
+        }
+        return new InMemoryOutboxPublisher(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "etrade.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, OutboxPublisher outboxPublisher,
+                                   TransactionTemplate transactionTemplate, OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, outboxPublisher, transactionTemplate, properties, meterRegistry);
+    }
+}
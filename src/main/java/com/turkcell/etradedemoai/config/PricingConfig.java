@@ -0,0 +1,23 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.pricing.PricingEngine;
+import com.turkcell.etradedemoai.common.pricing.PricingProperties;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Discount rule engine, compiled once at startup and reloaded on change and periodically.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PricingProperties.class)
+public class PricingConfig {
+
+    @Bean(initMethod = "reload")
+    public PricingEngine pricingEngine(DiscountRuleRepository discountRuleRepository) {
+        return new PricingEngine(discountRuleRepository);
+    }
+}
@@ -0,0 +1,44 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
+import com.turkcell.etradedemoai.common.schedule.ScheduledChangeActivator;
+import com.turkcell.etradedemoai.common.schedule.ScheduledChangeApplier;
+import com.turkcell.etradedemoai.common.schedule.ScheduledChangeProperties;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Scheduled product changes: the batch applier and the timing-wheel thread that drives it.
+ */
+@Configuration
+@EnableConfigurationProperties(ScheduledChangeProperties.class)
+public class ScheduledChangeConfig {
+
+    @Bean
+    public ScheduledChangeApplier scheduledChangeApplier(ScheduledProductChangeRepository changeRepository,
+                                                         ProductRepository productRepository,
+                                                         InventoryMovementRepository inventoryMovementRepository,
+                                                         PriceHistoryRepository priceHistoryRepository,
+                                                         FlashSaleRegistry flashSaleRegistry,
+                                                         TransactionTemplate transactionTemplate,
+                                                         CacheManager cacheManager,
+                                                         OutboxRecorder outboxRecorder) {
+        return new ScheduledChangeApplier(changeRepository, productRepository, inventoryMovementRepository,
+            priceHistoryRepository, flashSaleRegistry, transactionTemplate, cacheManager, outboxRecorder);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ScheduledChangeActivator scheduledChangeActivator(ScheduledProductChangeRepository changeRepository,
+                                                             ScheduledChangeApplier scheduledChangeApplier,
+                                                             ScheduledChangeProperties properties) {
+        return new ScheduledChangeActivator(changeRepository, scheduledChangeApplier, properties);
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.etradedemoai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.common.observability.ServerTimingAspect;
+import com.turkcell.etradedemoai.common.observability.ServerTimingFilter;
+import com.turkcell.etradedemoai.common.observability.TimedJacksonHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Opt-in Server-Timing support ({@code etrade.server-timing.enabled=true}).
+ * None of these beans exist unless the header is switched on.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "etrade.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.addUrlPatterns("/api/*");
+        // Outermost of our filters so the total covers the SQL budget filter as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public TimedJacksonHttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,34 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.observability.SlowQueryEndpoint;
+import com.turkcell.etradedemoai.common.observability.SlowQueryListener;
+import com.turkcell.etradedemoai.common.observability.SlowQueryLog;
+import com.turkcell.etradedemoai.common.observability.SlowQueryProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Slow query log: the listener is picked up by datasource-micrometer's datasource-proxy wrapper.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "etrade.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties.getMaxShapes());
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog) {
+        return new SlowQueryListener(properties, slowQueryLog);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog, SlowQueryProperties properties) {
+        return new SlowQueryEndpoint(slowQueryLog, properties);
+    }
+}
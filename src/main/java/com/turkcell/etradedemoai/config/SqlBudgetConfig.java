@@ -0,0 +1,42 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.observability.JdbcTimingSessionListener;
+import com.turkcell.etradedemoai.common.observability.QueryCountingStatementInspector;
+import com.turkcell.etradedemoai.common.observability.QueryStatisticsIntegrator;
+import com.turkcell.etradedemoai.common.observability.SqlBudgetFilter;
+import com.turkcell.etradedemoai.common.observability.SqlBudgetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires per-request SQL statistics into Hibernate and the servlet filter chain.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new QueryStatisticsIntegrator()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration =
+            new FilterRegistrationBean<>(new SqlBudgetFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.common.startup.LazyNonCriticalBeansPostProcessor;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Opt-in lazy initialisation of non-critical beans ({@code etrade.startup.lazy-non-critical=true}).
+ * The post-processor runs before configuration properties beans exist, so the prefixes are bound directly.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "etrade.startup", name = "lazy-non-critical", havingValue = "true")
+public class StartupConfig {
+
+    @Bean
+    public static LazyNonCriticalBeansPostProcessor lazyNonCriticalBeansPostProcessor(Environment environment) {
+        List<String> prefixes = Binder.get(environment)
+            .bind("etrade.startup.lazy-class-prefixes", Bindable.listOf(String.class))
+            .orElse(List.of());
+        return new LazyNonCriticalBeansPostProcessor(prefixes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.turkcell.etradedemoai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.business.abstracts.CategoryService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.common.cache.HotKeyTrackingCacheManager;
+import com.turkcell.etradedemoai.common.warmup.HotKeySnapshot;
+import com.turkcell.etradedemoai.common.warmup.WarmupProperties;
+import com.turkcell.etradedemoai.common.warmup.WarmupRunner;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Startup warm-up ahead of readiness, and the hot-key snapshot it preloads from.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "etrade.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public HotKeySnapshot hotKeySnapshot(WarmupProperties properties, ObjectMapper objectMapper) {
+        return new HotKeySnapshot(properties.getHotKeysFile(), objectMapper);
+    }
+
+    @Bean
+    public ApplicationListener<ContextClosedEvent> hotKeySnapshotOnShutdown(HotKeySnapshot hotKeySnapshot,
+            HotKeyTrackingCacheManager cacheManager) {
+        return event -> hotKeySnapshot.save(cacheManager);
+    }
+
+    @Bean
+    public WarmupRunner warmupRunner(DataSource dataSource, ProductService productService, CategoryService categoryService,
+            ProductRepository productRepository, CategoryRepository categoryRepository,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper, HotKeySnapshot hotKeySnapshot,
+            WarmupProperties properties) {
+        return new WarmupRunner(dataSource, productService, categoryService, productRepository, categoryRepository,
+            transactionManager, objectMapper, hotKeySnapshot, properties);
+    }
+}
@@ -1,11 +1,17 @@
 package com.turkcell.etradedemoai.dataAccess;
 
 import com.turkcell.etradedemoai.entities.Category;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     boolean existsByNameIgnoreCase(String name);
     
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+
+    @Query("select c.id from Category c order by c.id")
+    List<Long> findIds(Pageable pageable);
 }
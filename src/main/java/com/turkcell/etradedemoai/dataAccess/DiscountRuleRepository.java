@@ -0,0 +1,22 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for discount rules. The pricing engine loads the whole live rule set
+ * at once and evaluates it in memory.
+ */
+public interface DiscountRuleRepository extends JpaRepository<DiscountRule, Long> {
+
+    /**
+     * Rules that have not ended by {@code now}; rules starting later are included so they
+     * take effect without a reload.
+     */
+    @Query("select r from DiscountRule r where r.endsAt is null or r.endsAt > :now")
+    List<DiscountRule> findLive(@Param("now") Instant now);
+}
@@ -0,0 +1,55 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC access to {@code inventory_movements} and {@code inventory_snapshots}, mixed into
+ * {@link InventoryMovementRepository}. The ledger stock of a product is its snapshot units
+ * plus the sum of the movements after the snapshot's last movement id.
+ */
+public interface InventoryLedgerRepository {
+
+    /**
+     * Inserts the movements in one JDBC batch inside the caller's transaction.
+     */
+    void append(List<InventoryMovement> movements);
+
+    /**
+     * @return ledger stock of the product, or {@code null} if it has neither a snapshot nor movements
+     */
+    Integer findLedgerStock(Long productId);
+
+    /**
+     * Gives every product without ledger history an opening snapshot at its current
+     * {@code units_in_stock}, e.g. rows that predate the ledger or came from the data generator.
+     *
+     * @return number of snapshots created
+     */
+    int baselineUntrackedProducts(Instant takenAt);
+
+    /**
+     * @return highest movement id created before {@code createdBefore}, or 0 if there is none
+     */
+    long findCompactionHorizon(Instant createdBefore);
+
+    /**
+     * Folds all movements up to {@code horizonId} into the snapshots with one grouped read
+     * and two JDBC batches. Movements are never deleted.
+     *
+     * @return number of products whose snapshot moved forward
+     */
+    int compactUpTo(long horizonId, Instant takenAt);
+
+    /**
+     * @return lowest and highest product id, or {@code null} when there are no products
+     */
+    long[] findProductIdRange();
+
+    /**
+     * Reads {@code units_in_stock} and ledger stock of every product with an id in the range
+     * in a single statement, so both sides come from the same point in time.
+     */
+    List<ProductStockLevel> findStockLevels(long fromProductId, long toProductId);
+}
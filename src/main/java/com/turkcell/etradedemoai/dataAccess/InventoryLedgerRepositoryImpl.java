@@ -0,0 +1,156 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC behind {@link InventoryLedgerRepository}: movement ids come from the identity
+ * column, so appending through JPA would cost one round trip per row.
+ */
+class InventoryLedgerRepositoryImpl implements InventoryLedgerRepository {
+
+    private static final String APPEND_SQL =
+        "insert into inventory_movements (product_id, type, quantity, reference, created_date, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?)";
+
+    private static final String SNAPSHOT_SQL =
+        "select units, last_movement_id from inventory_snapshots where product_id = ?";
+
+    private static final String TAIL_SQL =
+        "select count(*), coalesce(sum(quantity), 0) from inventory_movements where product_id = ? and id > ?";
+
+    private static final String BASELINE_SQL =
+        "insert into inventory_snapshots (product_id, units, last_movement_id, taken_at)"
+            + " select p.id, p.units_in_stock, 0, ? from products p"
+            + " where p.deleted_date is null"
+            + " and not exists (select 1 from inventory_snapshots s where s.product_id = p.id)"
+            + " and not exists (select 1 from inventory_movements m where m.product_id = p.id)";
+
+    private static final String HORIZON_SQL =
+        "select id from inventory_movements where created_date < ? order by id desc fetch first 1 rows only";
+
+    private static final String FOLD_SQL =
+        "select m.product_id, sum(m.quantity), s.product_id is not null from inventory_movements m"
+            + " left join inventory_snapshots s on s.product_id = m.product_id"
+            + " where m.id <= ? and m.id > coalesce(s.last_movement_id, 0)"
+            + " group by m.product_id, s.product_id";
+
+    private static final String ADVANCE_SNAPSHOT_SQL =
+        "update inventory_snapshots set units = units + ?, last_movement_id = ?, taken_at = ? where product_id = ?";
+
+    private static final String INSERT_SNAPSHOT_SQL =
+        "insert into inventory_snapshots (product_id, units, last_movement_id, taken_at) values (?, ?, ?, ?)";
+
+    private static final String PRODUCT_ID_RANGE_SQL = "select min(id), max(id) from products where deleted_date is null";
+
+    private static final String STOCK_LEVELS_SQL =
+        "select p.id, p.units_in_stock, s.units, t.delta from products p"
+            + " left join inventory_snapshots s on s.product_id = p.id"
+            + " left join (select m.product_id, sum(m.quantity) as delta from inventory_movements m"
+            + "   left join inventory_snapshots ms on ms.product_id = m.product_id"
+            + "   where m.product_id between ? and ? and m.id > coalesce(ms.last_movement_id, 0)"
+            + "   group by m.product_id) t on t.product_id = p.id"
+            + " where p.id between ? and ? and p.deleted_date is null"
+            + " order by p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    InventoryLedgerRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<InventoryMovement> movements) {
+        if (movements.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(APPEND_SQL, movements, movements.size(), (statement, movement) -> {
+            statement.setLong(1, movement.getProductId());
+            statement.setString(2, movement.getType().name());
+            statement.setInt(3, movement.getQuantity());
+            statement.setString(4, movement.getReference());
+            statement.setObject(5, now);
+            statement.setObject(6, now);
+        });
+    }
+
+    @Override
+    public Integer findLedgerStock(Long productId) {
+        List<long[]> snapshot = jdbcTemplate.query(SNAPSHOT_SQL,
+            (rs, rowNum) -> new long[] {rs.getInt(1), rs.getLong(2)}, productId);
+        long lastMovementId = snapshot.isEmpty() ? 0 : snapshot.get(0)[1];
+        long[] tail = jdbcTemplate.queryForObject(TAIL_SQL,
+            (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, productId, lastMovementId);
+        if (snapshot.isEmpty() && tail[0] == 0) {
+            return null;
+        }
+        return Math.toIntExact((snapshot.isEmpty() ? 0 : snapshot.get(0)[0]) + tail[1]);
+    }
+
+    @Override
+    public int baselineUntrackedProducts(Instant takenAt) {
+        return jdbcTemplate.update(BASELINE_SQL, utc(takenAt));
+    }
+
+    @Override
+    public long findCompactionHorizon(Instant createdBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(HORIZON_SQL, Long.class, utc(createdBefore));
+        return ids.isEmpty() ? 0 : ids.get(0);
+    }
+
+    @Override
+    public int compactUpTo(long horizonId, Instant takenAt) {
+        List<long[]> advanced = new ArrayList<>();
+        List<long[]> created = new ArrayList<>();
+        jdbcTemplate.query(FOLD_SQL, rs -> {
+            long[] fold = {rs.getLong(1), rs.getLong(2)};
+            (rs.getBoolean(3) ? advanced : created).add(fold);
+        }, horizonId);
+        OffsetDateTime now = utc(takenAt);
+        if (!advanced.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADVANCE_SNAPSHOT_SQL, advanced, advanced.size(), (statement, fold) -> {
+                statement.setLong(1, fold[1]);
+                statement.setLong(2, horizonId);
+                statement.setObject(3, now);
+                statement.setLong(4, fold[0]);
+            });
+        }
+        if (!created.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, created, created.size(), (statement, fold) -> {
+                statement.setLong(1, fold[0]);
+                statement.setLong(2, fold[1]);
+                statement.setLong(3, horizonId);
+                statement.setObject(4, now);
+            });
+        }
+        return advanced.size() + created.size();
+    }
+
+    @Override
+    public long[] findProductIdRange() {
+        return jdbcTemplate.queryForObject(PRODUCT_ID_RANGE_SQL,
+            (rs, rowNum) -> rs.getObject(1) == null ? null : new long[] {rs.getLong(1), rs.getLong(2)});
+    }
+
+    @Override
+    public List<ProductStockLevel> findStockLevels(long fromProductId, long toProductId) {
+        return jdbcTemplate.query(STOCK_LEVELS_SQL, (rs, rowNum) -> {
+            Integer snapshotUnits = rs.getObject(3, Integer.class);
+            Long delta = rs.getObject(4, Long.class);
+            Integer ledgerUnits = snapshotUnits == null && delta == null
+                ? null
+                : Math.toIntExact((snapshotUnits == null ? 0 : snapshotUnits) + (delta == null ? 0 : delta));
+            return new ProductStockLevel(rs.getLong(1), rs.getInt(2), ledgerUnits);
+        }, fromProductId, toProductId, fromProductId, toProductId);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,14 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Spring Data repository for the inventory ledger. Writes, compaction and the stock
+ * queries over snapshot plus tail come from the {@link InventoryLedgerRepository} fragment.
+ */
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long>, InventoryLedgerRepository {
+
+    List<InventoryMovement> findTop20ByProductIdOrderByIdDesc(Long productId);
+}
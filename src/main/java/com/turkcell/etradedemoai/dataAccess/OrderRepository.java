@@ -0,0 +1,16 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.Order;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @EntityGraph(attributePaths = "lines")
+    Optional<Order> findWithLinesById(Long id);
+
+    @EntityGraph(attributePaths = "lines")
+    List<Order> findAllWithLinesBy();
+}
@@ -0,0 +1,33 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for the catalog outbox. Unpublished events are read in id order
+ * through the {@code (published_at, id)} index, published ones in publish order through the
+ * {@code publish_seq} index; writes come from the {@link OutboxWriter} fragment.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxWriter {
+
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    long countByPublishedAtIsNull();
+
+    List<OutboxEvent> findByPublishSequenceGreaterThanOrderByPublishSequenceAsc(Long publishSequence, Pageable pageable);
+
+    @Query("select max(e.publishSequence) from OutboxEvent e")
+    Long findLastPublishSequence();
+
+    /**
+     * Publish sequence of the last event written before the given instant, or {@code null} if
+     * no retained event is that old.
+     */
+    @Query("select max(e.publishSequence) from OutboxEvent e where e.createdDate < :before")
+    Long findLastPublishSequenceBefore(@Param("before") Instant before);
+}
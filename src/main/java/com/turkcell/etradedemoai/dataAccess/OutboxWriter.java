@@ -0,0 +1,30 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC writes to {@code outbox_events}, mixed into {@link OutboxEventRepository}.
+ */
+public interface OutboxWriter {
+
+    /**
+     * Inserts the events in one JDBC batch inside the caller's transaction, so they commit or
+     * roll back together with the change they describe.
+     */
+    void append(List<OutboxEvent> events);
+
+    /**
+     * Marks the events as handed to the publisher with one batched update, numbering them
+     * with consecutive publish sequence values starting at {@code firstSequence}.
+     */
+    void markPublished(List<Long> eventIds, long firstSequence, Instant publishedAt);
+
+    /**
+     * Deletes events published before the given instant, except the most recently published one.
+     *
+     * @return number of events deleted
+     */
+    int deletePublishedBefore(Instant publishedBefore);
+}
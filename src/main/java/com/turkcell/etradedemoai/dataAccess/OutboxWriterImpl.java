@@ -0,0 +1,75 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.OutboxEvent;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC behind {@link OutboxWriter}: event ids come from the identity column, so
+ * appending through JPA would cost one round trip per event.
+ */
+class OutboxWriterImpl implements OutboxWriter {
+
+    private static final String APPEND_SQL =
+        "insert into outbox_events (aggregate_type, aggregate_id, event_type, payload, created_date, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?)";
+
+    private static final String MARK_PUBLISHED_SQL =
+        "update outbox_events set published_at = ?, publish_seq = ? where id = ?";
+
+    /**
+     * Keeps the last published event, so the publish sequence continues after a restart
+     * even when everything else has been purged.
+     */
+    private static final String DELETE_PUBLISHED_SQL =
+        "delete from outbox_events where published_at < ?"
+            + " and publish_seq < (select max(publish_seq) from outbox_events)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OutboxWriterImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(APPEND_SQL, events, events.size(), (statement, event) -> {
+            statement.setString(1, event.getAggregateType().name());
+            statement.setLong(2, event.getAggregateId());
+            statement.setString(3, event.getEventType().name());
+            statement.setString(4, event.getPayload());
+            statement.setObject(5, now);
+            statement.setObject(6, now);
+        });
+    }
+
+    @Override
+    public void markPublished(List<Long> eventIds, long firstSequence, Instant publishedAt) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        OffsetDateTime at = publishedAt.atOffset(ZoneOffset.UTC);
+        List<long[]> rows = new ArrayList<>(eventIds.size());
+        for (int i = 0; i < eventIds.size(); i++) {
+            rows.add(new long[] {eventIds.get(i), firstSequence + i});
+        }
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setObject(1, at);
+            statement.setLong(2, row[1]);
+            statement.setLong(3, row[0]);
+        });
+    }
+
+    @Override
+    public int deletePublishedBefore(Instant publishedBefore) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_SQL, publishedBefore.atOffset(ZoneOffset.UTC));
+    }
+}
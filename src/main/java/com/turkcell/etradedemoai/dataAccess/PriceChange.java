@@ -0,0 +1,42 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One price change to record in the price history.
+ */
+public class PriceChange {
+
+    private final Long productId;
+    private final BigDecimal previousPrice;
+    private final Instant previousSince;
+    private final BigDecimal newPrice;
+
+    /**
+     * @param previousSince earliest instant the previous price is known to have been in effect;
+     *                      only used for products without an open period
+     */
+    public PriceChange(Long productId, BigDecimal previousPrice, Instant previousSince, BigDecimal newPrice) {
+        this.productId = productId;
+        this.previousPrice = previousPrice;
+        this.previousSince = previousSince;
+        this.newPrice = newPrice;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public BigDecimal getPreviousPrice() {
+        return previousPrice;
+    }
+
+    public Instant getPreviousSince() {
+        return previousSince;
+    }
+
+    public BigDecimal getNewPrice() {
+        return newPrice;
+    }
+}
@@ -0,0 +1,27 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.PriceHistory;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for the price history. Writes come from the
+ * {@link PriceHistoryWriter} fragment so they join the caller's transaction without
+ * loading entities.
+ */
+public interface PriceHistoryRepository extends JpaRepository<PriceHistory, Long>, PriceHistoryWriter {
+
+    /**
+     * Prices in effect at {@code at} for the given products, in one query over the
+     * {@code (product_id, valid_from)} index. Products without a price at that instant are absent.
+     */
+    @Query("select h from PriceHistory h where h.productId in :productIds"
+        + " and h.validFrom <= :at and (h.validTo is null or h.validTo > :at)")
+    List<PriceHistory> findPricesAt(@Param("productIds") Collection<Long> productIds, @Param("at") Instant at);
+
+    List<PriceHistory> findByProductIdOrderByValidFromAsc(Long productId);
+}
@@ -0,0 +1,32 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JDBC writes to {@code price_history}, mixed into {@link PriceHistoryRepository}.
+ * Callers hold the product row lock, so the open period of a product is never closed twice.
+ */
+public interface PriceHistoryWriter {
+
+    /**
+     * Starts a price period; {@code validTo} is {@code null} for the current price.
+     */
+    void insertPrice(Long productId, BigDecimal unitPrice, Instant validFrom, Instant validTo);
+
+    /**
+     * Ends the product's current price period at {@code at}.
+     *
+     * @return false if the product had no open period, e.g. rows that predate the history
+     */
+    boolean closeCurrentPrice(Long productId, Instant at);
+
+    /**
+     * Ends each product's current price period at {@code at} and starts one at its new price,
+     * with one JDBC batch per step. Products without an open period, e.g. rows that predate the
+     * history, first get their previous price recorded from {@link PriceChange#getPreviousSince()};
+     * the history does not claim anything about earlier instants.
+     */
+    void recordPriceChanges(List<PriceChange> changes, Instant at);
+}
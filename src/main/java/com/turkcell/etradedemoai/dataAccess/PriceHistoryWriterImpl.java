@@ -0,0 +1,69 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC behind {@link PriceHistoryWriter}, in the same transaction as the product write.
+ */
+class PriceHistoryWriterImpl implements PriceHistoryWriter {
+
+    private static final String INSERT_SQL =
+        "insert into price_history (product_id, unit_price, valid_from, valid_to, created_date, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?)";
+
+    private static final String CLOSE_SQL =
+        "update price_history set valid_to = ?, updated_date = ? where product_id = ? and valid_to is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PriceHistoryWriterImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertPrice(Long productId, BigDecimal unitPrice, Instant validFrom, Instant validTo) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.update(INSERT_SQL, productId, unitPrice, utc(validFrom), validTo == null ? null : utc(validTo), now, now);
+    }
+
+    @Override
+    public boolean closeCurrentPrice(Long productId, Instant at) {
+        return jdbcTemplate.update(CLOSE_SQL, utc(at), OffsetDateTime.now(ZoneOffset.UTC), productId) > 0;
+    }
+
+    @Override
+    public void recordPriceChanges(List<PriceChange> changes, Instant at) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int[][] closed = jdbcTemplate.batchUpdate(CLOSE_SQL, changes, changes.size(), (statement, change) -> {
+            statement.setObject(1, utc(at));
+            statement.setObject(2, now);
+            statement.setLong(3, change.getProductId());
+        });
+        List<PriceChange> untracked = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            PriceChange change = changes.get(i);
+            if (closed[0][i] == 0 && change.getPreviousPrice() != null
+                && change.getPreviousSince() != null && change.getPreviousSince().isBefore(at)) {
+                untracked.add(change);
+            }
+        }
+        List<Object[]> rows = new ArrayList<>(untracked.size() + changes.size());
+        untracked.forEach(change -> rows.add(new Object[] {
+            change.getProductId(), change.getPreviousPrice(), utc(change.getPreviousSince()), utc(at), now, now}));
+        changes.forEach(change -> rows.add(new Object[] {change.getProductId(), change.getNewPrice(), utc(at), null, now, now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,83 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A product row as read for delta sync, including rows of deleted products.
+ */
+public class ProductChange {
+
+    private final Long id;
+    private final String name;
+    private final BigDecimal unitPrice;
+    private final Integer unitsInStock;
+    private final String description;
+    private final Long categoryId;
+    private final String categoryName;
+    private final Instant createdDate;
+    private final Instant updatedDate;
+    private final Instant deletedDate;
+
+    public ProductChange(Long id, String name, BigDecimal unitPrice, Integer unitsInStock, String description,
+                         Long categoryId, String categoryName, Instant createdDate, Instant updatedDate,
+                         Instant deletedDate) {
+        this.id = id;
+        this.name = name;
+        this.unitPrice = unitPrice;
+        this.unitsInStock = unitsInStock;
+        this.description = description;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.createdDate = createdDate;
+        this.updatedDate = updatedDate;
+        this.deletedDate = deletedDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public Integer getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public Instant getUpdatedDate() {
+        return updatedDate;
+    }
+
+    /**
+     * Set for tombstones only.
+     */
+    public Instant getDeletedDate() {
+        return deletedDate;
+    }
+
+    public boolean isDeleted() {
+        return deletedDate != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Delta sync reads on {@code products}, mixed into {@link ProductRepository}. Both walk the
+ * {@code (updated_date, id)} index in order, so a page costs the rows it returns rather than
+ * the size of the catalog. Deleting a product counts as an update, so tombstones come out of
+ * the same walk.
+ */
+public interface ProductChangeRepository {
+
+    /**
+     * Products created, updated or deleted after the position {@code (updatedDate, id)} and no
+     * later than {@code until}, ordered by that position.
+     */
+    List<ProductChange> findChangesAfter(Instant updatedDate, long id, Instant until, int limit);
+
+    /**
+     * Products that exist, updated no later than {@code until}, ordered by {@code (updated_date, id)};
+     * the first page of a full sync, which has no use for tombstones.
+     */
+    List<ProductChange> findLiveUntil(Instant until, int limit);
+}
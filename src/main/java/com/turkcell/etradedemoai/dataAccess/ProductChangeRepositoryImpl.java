@@ -0,0 +1,73 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Plain JDBC behind {@link ProductChangeRepository}: entity queries filter deleted products
+ * out, and the category name comes from the same join instead of one lazy load per category.
+ */
+class ProductChangeRepositoryImpl implements ProductChangeRepository {
+
+    private static final String SELECT_SQL =
+        "select p.id, p.name, p.unit_price, p.units_in_stock, p.description, p.category_id, c.name,"
+            + " p.created_date, p.updated_date, p.deleted_date from products p"
+            + " left join categories c on c.id = p.category_id";
+
+    /**
+     * The redundant {@code updated_date >= ?} bounds the index range; the OR alone would not.
+     */
+    private static final String CHANGES_AFTER_SQL = SELECT_SQL
+        + " where p.updated_date >= ? and p.updated_date <= ? and (p.updated_date > ? or p.id > ?)"
+        + " order by p.updated_date, p.id fetch first ? rows only";
+
+    private static final String LIVE_UNTIL_SQL = SELECT_SQL
+        + " where p.updated_date <= ? and p.deleted_date is null"
+        + " order by p.updated_date, p.id fetch first ? rows only";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductChangeRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ProductChange> findChangesAfter(Instant updatedDate, long id, Instant until, int limit) {
+        OffsetDateTime from = utc(updatedDate);
+        return jdbcTemplate.query(CHANGES_AFTER_SQL, ProductChangeRepositoryImpl::toChange,
+            from, utc(until), from, id, limit);
+    }
+
+    @Override
+    public List<ProductChange> findLiveUntil(Instant until, int limit) {
+        return jdbcTemplate.query(LIVE_UNTIL_SQL, ProductChangeRepositoryImpl::toChange, utc(until), limit);
+    }
+
+    private static ProductChange toChange(ResultSet rs, int rowNum) throws SQLException {
+        return new ProductChange(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getBigDecimal(3),
+            rs.getInt(4),
+            rs.getString(5),
+            rs.getObject(6, Long.class),
+            rs.getString(7),
+            instant(rs, 8),
+            instant(rs, 9),
+            instant(rs, 10));
+    }
+
+    private static Instant instant(ResultSet rs, int column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
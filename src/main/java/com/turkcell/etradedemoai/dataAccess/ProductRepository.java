@@ -1,19 +1,33 @@
 package com.turkcell.etradedemoai.dataAccess;
 
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.turkcell.etradedemoai.entities.Product;
 
 /**
  * Spring Data repository for Product entities.
- * No custom operations are defined — use standard CRUD methods from JpaRepository.
+ * Standard CRUD comes from JpaRepository; the derived queries back the business rules.
+ * Stock reservation comes from the {@link ProductStockRepository} fragment, and delta sync
+ * reads, which also see deleted products, from the {@link ProductChangeRepository} fragment.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository,
+        ProductChangeRepository {
     
     boolean existsByNameIgnoreCase(String name);
     
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
     
     long countByCategoryId(Long categoryId);
-}
\ No newline at end of file
+
+    @Query("select p.id from Product p order by p.id")
+    List<Long> findIds(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findWithCategoryByIdIn(Collection<Long> ids);
+}
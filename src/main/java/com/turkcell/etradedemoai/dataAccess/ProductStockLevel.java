@@ -0,0 +1,40 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+/**
+ * Stock of one product as kept on the product row and as derived from the inventory ledger.
+ */
+public class ProductStockLevel {
+
+    private final Long productId;
+    private final int unitsInStock;
+    private final Integer ledgerUnits;
+
+    public ProductStockLevel(Long productId, int unitsInStock, Integer ledgerUnits) {
+        this.productId = productId;
+        this.unitsInStock = unitsInStock;
+        this.ledgerUnits = ledgerUnits;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    /**
+     * @return ledger stock, or {@code null} if the product has no ledger history yet
+     */
+    public Integer getLedgerUnits() {
+        return ledgerUnits;
+    }
+
+    public boolean isTracked() {
+        return ledgerUnits != null;
+    }
+
+    public boolean isConsistent() {
+        return ledgerUnits != null && ledgerUnits == unitsInStock;
+    }
+}
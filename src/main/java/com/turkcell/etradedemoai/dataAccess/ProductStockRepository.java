@@ -0,0 +1,35 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Stock changes on {@code products}, mixed into {@link ProductRepository}.
+ */
+public interface ProductStockRepository {
+
+    /**
+     * Decrements stock for every product in one JDBC batch, in ascending product id order,
+     * each row only if it still has enough units. Must run inside the caller's transaction,
+     * which should roll back when anything is returned.
+     *
+     * @param quantities units to take per product id
+     * @return ids of products that were missing or did not have enough stock
+     */
+    List<Long> reserveStock(SortedMap<Long, Integer> quantities);
+
+    /**
+     * Applies signed stock changes in one JDBC batch, in ascending product id order, each row
+     * only if its stock would not go negative. Same transaction contract as {@link #reserveStock}.
+     *
+     * @param deltas units to add (positive) or remove (negative) per product id
+     * @return ids of products that were missing or would have gone below zero
+     */
+    List<Long> adjustStock(SortedMap<Long, Integer> deltas);
+
+    /**
+     * Takes the row lock of a product for the rest of the transaction, so its stock can be
+     * read and overwritten without a concurrent reservation slipping in between.
+     */
+    void lockStock(Long productId);
+}
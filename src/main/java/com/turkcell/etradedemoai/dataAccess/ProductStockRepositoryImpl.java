@@ -0,0 +1,74 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Conditional batch updates behind {@link ProductStockRepository}. Row locks are taken
+ * in ascending id order, so concurrent orders touching the same products queue up instead of
+ * deadlocking, and the {@code units_in_stock >= ?} guard makes overselling impossible without a prior read.
+ * Deleted products are never changed.
+ */
+class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String RESERVE_SQL =
+        "update products set units_in_stock = units_in_stock - ?, updated_date = ? where id = ? and units_in_stock >= ?"
+            + " and deleted_date is null";
+
+    private static final String ADJUST_SQL =
+        "update products set units_in_stock = units_in_stock + ?, updated_date = ? where id = ? and units_in_stock + ? >= 0"
+            + " and deleted_date is null";
+
+    private static final String LOCK_SQL = "select id from products where id = ? for update";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> reserveStock(SortedMap<Long, Integer> quantities) {
+        return updateInIdOrder(RESERVE_SQL, quantities);
+    }
+
+    @Override
+    public List<Long> adjustStock(SortedMap<Long, Integer> deltas) {
+        return updateInIdOrder(ADJUST_SQL, deltas);
+    }
+
+    @Override
+    public void lockStock(Long productId) {
+        jdbcTemplate.queryForList(LOCK_SQL, Long.class, productId);
+    }
+
+    /**
+     * Both statements bind (quantity, now, id, quantity) and leave the row alone when the guard fails.
+     */
+    private List<Long> updateInIdOrder(String sql, SortedMap<Long, Integer> changes) {
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(changes.entrySet());
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        int[][] counts = jdbcTemplate.batchUpdate(sql, lines, lines.size(), (statement, line) -> {
+            statement.setInt(1, line.getValue());
+            statement.setObject(2, now);
+            statement.setLong(3, line.getKey());
+            statement.setInt(4, line.getValue());
+        });
+        List<Long> rejected = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    rejected.add(lines.get(index).getKey());
+                }
+                index++;
+            }
+        }
+        return rejected;
+    }
+}
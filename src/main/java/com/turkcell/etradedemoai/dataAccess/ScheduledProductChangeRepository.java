@@ -0,0 +1,41 @@
+package com.turkcell.etradedemoai.dataAccess;
+
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Spring Data repository for scheduled product changes. Pending changes are read through the
+ * {@code (status, effective_at)} index.
+ */
+public interface ScheduledProductChangeRepository extends JpaRepository<ScheduledProductChange, Long> {
+
+    List<ScheduledProductChange> findByStatusOrderByEffectiveAtAscIdAsc(ScheduledChangeStatus status);
+
+    List<ScheduledProductChange> findByIdInAndStatusOrderByEffectiveAtAscIdAsc(Collection<Long> ids, ScheduledChangeStatus status);
+
+    /**
+     * Pending changes whose activation time has passed, oldest first.
+     */
+    @Query("select c.id from ScheduledProductChange c"
+        + " where c.status = com.turkcell.etradedemoai.entities.ScheduledChangeStatus.PENDING and c.effectiveAt <= :now"
+        + " order by c.effectiveAt, c.id")
+    List<Long> findDueIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Takes a pending change for the calling transaction. The update waits for another
+     * transaction holding the row and only counts when the change is still pending afterwards,
+     * so exactly one instance gets 1 for each change.
+     */
+    @Modifying
+    @Query("update ScheduledProductChange c set c.status = com.turkcell.etradedemoai.entities.ScheduledChangeStatus.APPLIED"
+        + " where c.id = :id and c.status = com.turkcell.etradedemoai.entities.ScheduledChangeStatus.PENDING")
+    int claim(@Param("id") Long id);
+}
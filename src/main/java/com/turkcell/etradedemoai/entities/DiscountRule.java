@@ -0,0 +1,126 @@
+package com.turkcell.etradedemoai.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A marketing discount on one product or on every product of a category, optionally limited
+ * to a time window. Like inventory movements, the target is referenced by id only; rules for
+ * deleted products or categories simply never match.
+ */
+@Entity
+@Table(name = "discount_rules")
+public class DiscountRule extends BaseEntity {
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiscountScope scope;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiscountType type;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "starts_at")
+    private Instant startsAt;
+
+    @Column(name = "ends_at")
+    private Instant endsAt;
+
+    public DiscountRule() {
+    }
+
+    public DiscountRule(String name, DiscountScope scope, Long targetId, DiscountType type, BigDecimal amount,
+                        Instant startsAt, Instant endsAt) {
+        this.name = name;
+        this.scope = scope;
+        this.targetId = targetId;
+        this.type = type;
+        this.amount = amount;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public DiscountScope getScope() {
+        return scope;
+    }
+
+    public void setScope(DiscountScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public DiscountType getType() {
+        return type;
+    }
+
+    public void setType(DiscountType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Instant getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(Instant startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public Instant getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(Instant endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DiscountRule rule = (DiscountRule) o;
+        return getId() != null && Objects.equals(getId(), rule.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,15 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * What a discount rule's target id refers to.
+ */
+public enum DiscountScope {
+    /**
+     * One product.
+     */
+    PRODUCT,
+    /**
+     * Every product of one category.
+     */
+    CATEGORY
+}
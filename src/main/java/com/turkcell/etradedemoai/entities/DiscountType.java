@@ -0,0 +1,15 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * How a discount rule's amount reduces the unit price.
+ */
+public enum DiscountType {
+    /**
+     * Amount is a percentage of the unit price, greater than 0 and at most 100.
+     */
+    PERCENTAGE,
+    /**
+     * Amount is subtracted from the unit price; the price never goes below zero.
+     */
+    FIXED_AMOUNT
+}
@@ -0,0 +1,88 @@
+package com.turkcell.etradedemoai.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.Objects;
+
+/**
+ * One append-only entry of the inventory ledger. The quantity is signed (negative for sales),
+ * so the stock of a product is the sum of its movements. Like order lines, the product is
+ * referenced by id only so the history outlives the product.
+ */
+@Entity
+@Table(name = "inventory_movements",
+    indexes = @Index(name = "idx_inventory_movements_product_id", columnList = "product_id, id"))
+public class InventoryMovement extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InventoryMovementType type;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(length = 100)
+    private String reference;
+
+    public InventoryMovement() {
+    }
+
+    public InventoryMovement(Long productId, InventoryMovementType type, Integer quantity, String reference) {
+        this.productId = productId;
+        this.type = type;
+        this.quantity = quantity;
+        this.reference = reference;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public InventoryMovementType getType() {
+        return type;
+    }
+
+    public void setType(InventoryMovementType type) {
+        this.type = type;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InventoryMovement movement = (InventoryMovement) o;
+        return getId() != null && Objects.equals(getId(), movement.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,19 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * Reason for a stock movement in the inventory ledger.
+ */
+public enum InventoryMovementType {
+    /**
+     * Goods received; always adds stock.
+     */
+    RECEIPT,
+    /**
+     * Stock taken by a placed order; always removes stock.
+     */
+    SALE,
+    /**
+     * Manual correction in either direction, e.g. a stock count or a product update.
+     */
+    ADJUSTMENT
+}
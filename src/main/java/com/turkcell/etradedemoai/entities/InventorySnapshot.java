@@ -0,0 +1,78 @@
+package com.turkcell.etradedemoai.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Compacted stock of one product: the sum of its ledger movements up to and including
+ * {@code lastMovementId}. Current stock is these units plus the movements after it.
+ */
+@Entity
+@Table(name = "inventory_snapshots")
+public class InventorySnapshot {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer units;
+
+    @Column(name = "last_movement_id", nullable = false)
+    private Long lastMovementId;
+
+    @Column(name = "taken_at", nullable = false)
+    private Instant takenAt;
+
+    public InventorySnapshot() {
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getUnits() {
+        return units;
+    }
+
+    public void setUnits(Integer units) {
+        this.units = units;
+    }
+
+    public Long getLastMovementId() {
+        return lastMovementId;
+    }
+
+    public void setLastMovementId(Long lastMovementId) {
+        this.lastMovementId = lastMovementId;
+    }
+
+    public Instant getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(Instant takenAt) {
+        this.takenAt = takenAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InventorySnapshot snapshot = (InventorySnapshot) o;
+        return productId != null && Objects.equals(productId, snapshot.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,11 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * Lifecycle state of an order.
+ */
+public enum OrderStatus {
+    /**
+     * Stock has been reserved for every line.
+     */
+    PLACED
+}
@@ -0,0 +1,9 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * Kind of catalog entity an outbox event describes.
+ */
+public enum OutboxAggregateType {
+    PRODUCT,
+    CATEGORY
+}
@@ -0,0 +1,119 @@
+package com.turkcell.etradedemoai.entities;
+
+import com.turkcell.etradedemoai.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A catalog change written in the same transaction as the change itself and handed to the
+ * publisher later by the outbox relay. The payload is the entity's state after the change as
+ * JSON ({@code {"id": ...}} only for deletions). Events stay after publishing until the
+ * retention period has passed.
+ * <p>
+ * The publish sequence numbers events gap-free in the order the relay published them, which
+ * unlike the id is also the order they became visible, so it can serve as a resume cursor.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_published_at", columnList = "published_at, id"),
+    @Index(name = "idx_outbox_events_publish_seq", columnList = "publish_seq", unique = true)
+})
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false, length = 8000)
+    private String payload;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "publish_seq")
+    private Long publishSequence;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(OutboxAggregateType aggregateType, Long aggregateId, OutboxEventType eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    public OutboxAggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(OutboxAggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(OutboxEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(Instant publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getPublishSequence() {
+        return publishSequence;
+    }
+
+    public void setPublishSequence(Long publishSequence) {
+        this.publishSequence = publishSequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return getId() != null && Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,10 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * What happened to the entity an outbox event describes.
+ */
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,87 @@
+package com.turkcell.etradedemoai.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One period during which a product had a given unit price. The current price has no
+ * {@code validTo}; periods of a product never overlap, so at most one row matches an instant.
+ * Like inventory movements, the product is referenced by id only so the history outlives the product.
+ */
+@Entity
+@Table(name = "price_history",
+    indexes = @Index(name = "idx_price_history_product_valid_from", columnList = "product_id, valid_from"))
+public class PriceHistory extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "unit_price", nullable = false)
+    private BigDecimal unitPrice;
+
+    @Column(name = "valid_from", nullable = false)
+    private Instant validFrom;
+
+    @Column(name = "valid_to")
+    private Instant validTo;
+
+    public PriceHistory() {
+    }
+
+    public PriceHistory(Long productId, BigDecimal unitPrice, Instant validFrom, Instant validTo) {
+        this.productId = productId;
+        this.unitPrice = unitPrice;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    public void setValidFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public Instant getValidTo() {
+        return validTo;
+    }
+
+    public void setValidTo(Instant validTo) {
+        this.validTo = validTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PriceHistory history = (PriceHistory) o;
+        return getId() != null && Objects.equals(getId(), history.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
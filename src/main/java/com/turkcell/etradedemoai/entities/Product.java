@@ -3,17 +3,27 @@ package com.turkcell.etradedemoai.entities;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.util.Objects;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Product entity representing a product in the catalog.
+ * <p>
+ * Deleting a product only marks the row, which stays behind as a tombstone for delta sync
+ * clients; entity queries never see it. The deletion also counts as an update and detaches
+ * the row from its category, so the category can still be deleted.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = @Index(name = "idx_products_updated_date", columnList = "updated_date, id"))
+@SQLDelete(sql = "update products set deleted_date = current_timestamp, updated_date = current_timestamp,"
+    + " category_id = null where id = ?")
+@SQLRestriction("deleted_date is null")
 public class Product extends com.turkcell.etradedemoai.common.BaseEntity {
 
     @Column(nullable = false)
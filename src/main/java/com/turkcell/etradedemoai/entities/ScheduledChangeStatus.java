@@ -0,0 +1,23 @@
+package com.turkcell.etradedemoai.entities;
+
+/**
+ * Lifecycle of a scheduled product change.
+ */
+public enum ScheduledChangeStatus {
+    /**
+     * Waiting for its activation time.
+     */
+    PENDING,
+    /**
+     * Written to the product.
+     */
+    APPLIED,
+    /**
+     * Could not be applied, e.g. the product was deleted; see the failure reason.
+     */
+    FAILED,
+    /**
+     * Withdrawn before activation.
+     */
+    CANCELLED
+}
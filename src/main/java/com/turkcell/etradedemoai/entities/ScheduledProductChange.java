@@ -0,0 +1,136 @@
+package com.turkcell.etradedemoai.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A price, stock and/or description change that takes effect on a product at
+ * {@code effectiveAt}. Fields left {@code null} are not changed. Like inventory movements,
+ * the product is referenced by id only so the record outlives the product.
+ */
+@Entity
+@Table(name = "scheduled_product_changes",
+    indexes = @Index(name = "idx_scheduled_product_changes_status_effective_at", columnList = "status, effective_at"))
+public class ScheduledProductChange extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "effective_at", nullable = false)
+    private Instant effectiveAt;
+
+    @Column(name = "unit_price")
+    private BigDecimal unitPrice;
+
+    @Column(name = "units_in_stock")
+    private Integer unitsInStock;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ScheduledChangeStatus status = ScheduledChangeStatus.PENDING;
+
+    @Column(name = "applied_at")
+    private Instant appliedAt;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    public ScheduledProductChange() {
+    }
+
+    public ScheduledProductChange(Long productId, Instant effectiveAt, BigDecimal unitPrice, Integer unitsInStock,
+                                  String description) {
+        this.productId = productId;
+        this.effectiveAt = effectiveAt;
+        this.unitPrice = unitPrice;
+        this.unitsInStock = unitsInStock;
+        this.description = description;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Instant getEffectiveAt() {
+        return effectiveAt;
+    }
+
+    public void setEffectiveAt(Instant effectiveAt) {
+        this.effectiveAt = effectiveAt;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Integer getUnitsInStock() {
+        return unitsInStock;
+    }
+
+    public void setUnitsInStock(Integer unitsInStock) {
+        this.unitsInStock = unitsInStock;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public ScheduledChangeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ScheduledChangeStatus status) {
+        this.status = status;
+    }
+
+    public Instant getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(Instant appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScheduledProductChange change = (ScheduledProductChange) o;
+        return getId() != null && Objects.equals(getId(), change.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
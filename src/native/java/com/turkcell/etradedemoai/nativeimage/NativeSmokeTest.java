@@ -0,0 +1,174 @@
+package com.turkcell.etradedemoai.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the native executable, waits for the first successful {@code GET /api/products},
+ * then runs the product/category CRUD flow against it. Startup time and resident set
+ * size (after startup and after the flow) go to {@code smoke-report.json}; any
+ * unexpected status or body fails the build with exit code 1.
+ */
+public final class NativeSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private URI base;
+
+    public static void main(String[] args) throws Exception {
+        Path executable = Path.of(System.getProperty("smoke.executable", "target/etradedemoai"));
+        Path reportDirectory = Path.of(System.getProperty("smoke.report-dir", "target/native"));
+        int exitCode = new NativeSmokeTest().run(executable, reportDirectory);
+        System.exit(exitCode);
+    }
+
+    private int run(Path executable, Path reportDirectory) throws IOException, InterruptedException {
+        int port = freePort();
+        base = URI.create("http://localhost:" + port);
+        Files.createDirectories(reportDirectory);
+        Path log = reportDirectory.resolve("smoke-app.log");
+        List<String> command = new ArrayList<>(List.of(
+            executable.toAbsolutePath().toString(),
+            "--server.port=" + port,
+            "--spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.org.springdoc=WARN",
+            "--logging.level.com.turkcell.etradedemoai=WARN"));
+
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("executable", executable.toString());
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            awaitFirstResponse(process, start, log);
+            report.put("startupMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            report.put("rssKilobytesAfterStartup", residentSetKilobytes(process.pid()));
+
+            crudFlow();
+            report.put("rssKilobytesAfterCrud", residentSetKilobytes(process.pid()));
+            report.put("result", "passed");
+            return 0;
+        } catch (IllegalStateException ex) {
+            report.put("result", "failed");
+            report.put("failure", ex.getMessage());
+            return 1;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            Path reportFile = reportDirectory.resolve("smoke-report.json");
+            objectMapper.writeValue(reportFile.toFile(), report);
+            System.out.println(objectMapper.writeValueAsString(report));
+            System.out.println("Report written to " + reportFile);
+        }
+    }
+
+    private void crudFlow() throws IOException, InterruptedException {
+        JsonNode category = expect(201, send("POST", "/api/categories", "{\"name\":\"Electronics\"}"));
+        long categoryId = category.path("id").asLong();
+
+        JsonNode created = expect(201, send("POST", "/api/products",
+            "{\"name\":\"Laptop\",\"unitPrice\":999.99,\"unitsInStock\":10,\"description\":\"Native smoke\",\"categoryId\":"
+                + categoryId + "}"));
+        long productId = created.path("id").asLong();
+
+        JsonNode fetched = expect(200, send("GET", "/api/products/" + productId, null));
+        check("Laptop".equals(fetched.path("name").asText()), "GET returned " + fetched);
+        check("Electronics".equals(fetched.path("categoryName").asText()), "category not mapped: " + fetched);
+
+        JsonNode updated = expect(200, send("PUT", "/api/products/" + productId,
+            "{\"name\":\"Laptop Pro\",\"unitPrice\":1299.99,\"unitsInStock\":5,\"description\":\"Native smoke\",\"categoryId\":"
+                + categoryId + "}"));
+        check("Laptop Pro".equals(updated.path("name").asText()), "PUT returned " + updated);
+
+        JsonNode all = expect(200, send("GET", "/api/products", null));
+        check(all.path("items").size() == 1, "GET all returned " + all);
+
+        expect(204, send("DELETE", "/api/products/" + productId, null));
+        expect(404, send("GET", "/api/products/" + productId, null));
+        expect(200, send("GET", "/api/categories/" + categoryId, null));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path)).timeout(Duration.ofSeconds(10));
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(body));
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode expect(int status, HttpResponse<String> response) throws IOException {
+        check(response.statusCode() == status, response.request().method() + " " + response.uri() + " returned "
+            + response.statusCode() + " (expected " + status + "): " + response.body());
+        return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+    }
+
+    private void awaitFirstResponse(Process process, long start, Path log) throws IOException, InterruptedException {
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            check(process.isAlive(), "executable exited with " + (process.isAlive() ? 0 : process.exitValue()) + ", see " + log);
+            try {
+                if (send("GET", "/api/products", null).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException ex) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("no successful GET /api/products within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    /**
+     * VmRSS from procfs on Linux, {@code ps} elsewhere.
+     */
+    private static long residentSetKilobytes(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Smoke test for the GraalVM native executable.
+ *
+ * Compiled and run only with the {@code native} Maven profile:
+ * {@code ./mvnw -Pnative verify -DskipTests} (requires a GraalVM JDK with native-image).
+ */
+package com.turkcell.etradedemoai.nativeimage;
@@ -0,0 +1,73 @@
+package com.turkcell.etradedemoai.openapi;
+
+import com.turkcell.etradedemoai.EtradedemoaiApplication;
+import io.swagger.v3.oas.models.servers.Server;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application once on an in-memory database, lets springdoc scan the
+ * controllers and writes the resulting document, plus a gzip copy, into the
+ * static resources of the build output. The {@code prod} profile serves those
+ * files instead of scanning at runtime.
+ */
+public final class OpenApiSpecGenerator {
+
+    private OpenApiSpecGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path outputDirectory = Path.of(System.getProperty("openapi.output-dir", "target/classes/static/openapi"));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EtradedemoaiApplication.class)
+            // springdoc would otherwise record this throwaway server's random port as the server URL
+            .initializers(applicationContext -> applicationContext.getBeanFactory().registerSingleton("relativeServerUrl",
+                (OpenApiCustomizer) openApi -> openApi.setServers(List.of(new Server().url("/")))))
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:openapi;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--etrade.warmup.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springdoc=WARN",
+                "--logging.level.com.turkcell.etradedemoai=WARN");
+        try {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            Files.createDirectories(outputDirectory);
+            write(fetch(base.resolve("/v3/api-docs")), outputDirectory.resolve("openapi.json"));
+            write(fetch(base.resolve("/v3/api-docs.yaml")), outputDirectory.resolve("openapi.yaml"));
+        } finally {
+            context.close();
+        }
+        System.out.println("OpenAPI document written to " + outputDirectory.toAbsolutePath());
+    }
+
+    private static byte[] fetch(URI uri) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient()
+            .send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static void write(byte[] document, Path file) throws IOException {
+        Files.write(file, document);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file.resolveSibling(file.getFileName() + ".gz")))) {
+            out.write(document);
+        }
+    }
+}
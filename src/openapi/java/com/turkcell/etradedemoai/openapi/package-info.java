@@ -0,0 +1,7 @@
+/**
+ * Build-time OpenAPI document generation.
+ *
+ * Compiled and run only with the {@code openapi} Maven profile:
+ * {@code ./mvnw -Popenapi package}.
+ */
+package com.turkcell.etradedemoai.openapi;
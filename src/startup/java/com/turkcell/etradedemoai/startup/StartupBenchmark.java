@@ -0,0 +1,159 @@
+package com.turkcell.etradedemoai.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches the extracted application jar repeatedly for each variant and measures
+ * the wall-clock time from process start to the first successful {@code GET /api/products}.
+ * That is what the autoscaler waits for, so it includes JVM boot, context refresh,
+ * the first request's lazy initialisation and the first database round trip.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Path appDirectory;
+    private final Path jar;
+    private final int iterations;
+    private final Path reportDirectory;
+    private final List<String> applicationArguments;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark(Path appDirectory, String jarName, int iterations, Path reportDirectory,
+            List<String> applicationArguments) {
+        this.appDirectory = appDirectory;
+        this.jar = appDirectory.resolve(jarName);
+        this.iterations = iterations;
+        this.reportDirectory = reportDirectory;
+        this.applicationArguments = applicationArguments;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark(
+            Path.of(System.getProperty("startup.app-dir", "target/startup/app")),
+            System.getProperty("startup.jar", "etradedemoai-0.0.1-SNAPSHOT.jar"),
+            Integer.parseInt(System.getProperty("startup.iterations", "5")),
+            Path.of(System.getProperty("startup.report-dir", "target/startup")),
+            // Same arguments as the CDS training runs, so the archives match what is measured
+            Arrays.stream(System.getProperty("startup.app-args", "").split("\\s+")).filter(arg -> !arg.isBlank()).toList());
+        benchmark.run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        List<Variant> variants = List.of(
+            new Variant("default", List.of()),
+            new Variant("aot", List.of("-Dspring.aot.enabled=true")),
+            new Variant("cds", List.of("-XX:SharedArchiveFile=" + appDirectory.resolve("app.jsa"))),
+            new Variant("aot-cds", List.of("-Dspring.aot.enabled=true",
+                "-XX:SharedArchiveFile=" + appDirectory.resolve("app-aot.jsa"))));
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("iterations", iterations);
+        ObjectNode results = report.putObject("variants");
+        double defaultMedian = Double.NaN;
+        for (Variant variant : variants) {
+            long[] millis = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                millis[i] = timeToFirstResponse(variant, i);
+                System.out.printf("%-8s run %d: %d ms%n", variant.name(), i + 1, millis[i]);
+            }
+            Arrays.sort(millis);
+            double median = median(millis);
+            if (variant.name().equals("default")) {
+                defaultMedian = median;
+            }
+            ObjectNode result = results.putObject(variant.name());
+            ArrayNode runs = result.putArray("runsMillis");
+            Arrays.stream(millis).forEach(runs::add);
+            result.put("minMillis", millis[0]);
+            result.put("medianMillis", median);
+            result.put("maxMillis", millis[millis.length - 1]);
+            result.put("speedupVsDefault", defaultMedian / median);
+        }
+
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve("startup-report.json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report));
+        System.out.println("Report written to " + reportFile);
+    }
+
+    private long timeToFirstResponse(Variant variant, int iteration) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(variant.jvmArguments());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(applicationArguments);
+
+        Path log = reportDirectory.resolve(variant.name() + "-" + (iteration + 1) + ".log");
+        Files.createDirectories(reportDirectory);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products"))
+            .timeout(Duration.ofSeconds(5))
+            .GET()
+            .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(appDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException ex) {
+                    // not listening yet
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static double median(long[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, List<String> jvmArguments) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.turkcell.etradedemoai.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the extracted application jar with and without
+ * {@code etrade.startup.lazy-non-critical}, reads the buffered startup steps from
+ * {@code /actuator/startup} and writes a before/after breakdown: context refresh
+ * time, the beans with the highest self time (their own instantiation minus
+ * nested beans), and the beans that lazy mode took off the startup path.
+ */
+public final class StartupStepsReport {
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final String REFRESH_STEP = "spring.context.refresh";
+    private static final int TOP_BEANS = 20;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final Path appDirectory;
+    private final Path jar;
+    private final Path reportDirectory;
+    private final List<String> applicationArguments;
+
+    private StartupStepsReport(Path appDirectory, String jarName, Path reportDirectory, List<String> applicationArguments) {
+        this.appDirectory = appDirectory;
+        this.jar = appDirectory.resolve(jarName);
+        this.reportDirectory = reportDirectory;
+        this.applicationArguments = applicationArguments;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupStepsReport(
+            Path.of(System.getProperty("startup.app-dir", "target/startup/app")),
+            System.getProperty("startup.jar", "etradedemoai-0.0.1-SNAPSHOT.jar"),
+            Path.of(System.getProperty("startup.report-dir", "target/startup")),
+            Arrays.stream(System.getProperty("startup.app-args", "").split("\\s+")).filter(arg -> !arg.isBlank()).toList())
+            .run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Breakdown eager = measure("eager", false);
+        Breakdown lazy = measure("lazy", true);
+
+        ObjectNode report = objectMapper.createObjectNode();
+        report.set("eager", eager.toJson(objectMapper));
+        report.set("lazy", lazy.toJson(objectMapper));
+
+        ArrayNode deferred = report.putArray("deferredBeans");
+        double deferredMillis = 0;
+        for (Map.Entry<String, Double> bean : sortedBySelfTime(eager.beanSelfMillis())) {
+            if (!lazy.beanSelfMillis().containsKey(bean.getKey())) {
+                deferred.addObject().put("bean", bean.getKey()).put("selfMillis", bean.getValue());
+                deferredMillis += bean.getValue();
+            }
+        }
+        report.put("deferredBeanCount", deferred.size());
+        report.put("deferredSelfMillis", deferredMillis);
+        report.put("refreshSavedMillis", eager.refreshMillis() - lazy.refreshMillis());
+
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve("startup-steps-report.json");
+        objectMapper.writeValue(reportFile.toFile(), report);
+        System.out.printf("Context refresh: eager %.0f ms, lazy %.0f ms; %d beans deferred (%.0f ms of bean self time)%n",
+            eager.refreshMillis(), lazy.refreshMillis(), deferred.size(), deferredMillis);
+        System.out.println("Report written to " + reportFile);
+    }
+
+    private Breakdown measure(String name, boolean lazy) throws IOException, InterruptedException {
+        int port = freePort();
+        URI base = URI.create("http://localhost:" + port);
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--etrade.startup.lazy-non-critical=" + lazy);
+        command.addAll(applicationArguments);
+
+        Files.createDirectories(reportDirectory);
+        Path log = reportDirectory.resolve("steps-" + name + ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(appDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            awaitFirstResponse(process, base.resolve("/api/products"), start, log);
+            long firstResponseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            HttpResponse<String> steps = client.send(HttpRequest.newBuilder(base.resolve("/actuator/startup")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (steps.statusCode() != 200) {
+                throw new IllegalStateException("/actuator/startup returned " + steps.statusCode() + ", see " + log);
+            }
+            return Breakdown.from(objectMapper.readTree(steps.body()), firstResponseMillis);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process, URI uri, long start, Path log) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("application exited with " + process.exitValue() + ", see " + log);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException ex) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("no successful GET " + uri + " within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private static List<Map.Entry<String, Double>> sortedBySelfTime(Map<String, Double> beans) {
+        return beans.entrySet().stream()
+            .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+            .toList();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Breakdown(long firstResponseMillis, double refreshMillis, Map<String, Double> beanSelfMillis) {
+
+        /**
+         * Self time of a step is its duration minus the durations of its direct children,
+         * so nested bean creation is not counted twice.
+         */
+        static Breakdown from(JsonNode startup, long firstResponseMillis) {
+            Map<Long, Double> durations = new HashMap<>();
+            Map<Long, Double> childDurations = new HashMap<>();
+            Map<Long, JsonNode> stepsById = new HashMap<>();
+            double refreshMillis = 0;
+            for (JsonNode event : startup.path("timeline").path("events")) {
+                JsonNode step = event.path("startupStep");
+                long id = step.path("id").asLong();
+                double millis = Duration.parse(event.path("duration").asText()).toNanos() / 1e6;
+                durations.put(id, millis);
+                stepsById.put(id, step);
+                if (step.hasNonNull("parentId")) {
+                    childDurations.merge(step.path("parentId").asLong(), millis, Double::sum);
+                }
+                if (REFRESH_STEP.equals(step.path("name").asText())) {
+                    refreshMillis = millis;
+                }
+            }
+            Map<String, Double> beans = new LinkedHashMap<>();
+            for (Map.Entry<Long, JsonNode> entry : stepsById.entrySet()) {
+                JsonNode step = entry.getValue();
+                if (!BEAN_STEP.equals(step.path("name").asText())) {
+                    continue;
+                }
+                for (JsonNode tag : step.path("tags")) {
+                    if ("beanName".equals(tag.path("key").asText())) {
+                        double self = durations.get(entry.getKey()) - childDurations.getOrDefault(entry.getKey(), 0.0);
+                        beans.merge(tag.path("value").asText(), Math.max(0, self), Double::sum);
+                    }
+                }
+            }
+            return new Breakdown(firstResponseMillis, refreshMillis, beans);
+        }
+
+        ObjectNode toJson(ObjectMapper objectMapper) {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("firstResponseMillis", firstResponseMillis);
+            node.put("refreshMillis", refreshMillis);
+            node.put("instantiatedBeans", beanSelfMillis.size());
+            ArrayNode top = node.putArray("topBeansBySelfTime");
+            sortedBySelfTime(beanSelfMillis).stream().limit(TOP_BEANS)
+                .forEach(bean -> top.addObject().put("bean", bean.getKey()).put("selfMillis", bean.getValue()));
+            return node;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Startup-time benchmark comparing the plain JVM launch of the packaged
+ * application with Spring AOT and AppCDS variants.
+ *
+ * Compiled and run only with the {@code startup} Maven profile:
+ * {@code ./mvnw -Pstartup verify -DskipTests}.
+ */
+package com.turkcell.etradedemoai.startup;
@@ -0,0 +1,129 @@
+package com.turkcell.etradedemoai.api.controllers;
+
+import com.sun.management.ThreadMXBean;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards GC pressure on the hot read endpoints. MockMvc dispatches on the calling
+ * thread, so the thread's allocated-bytes counter covers filters, controller,
+ * service, Hibernate and JSON serialization (plus the fixed MockMvc overhead,
+ * which the budgets in {@code allocation-budgets.properties} include).
+ * The context is discarded afterwards because the hundreds of reads skew the
+ * shared cache statistics and hot-key tracker for later tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Per-request allocation budget tests")
+class ProductControllerAllocationTest {
+
+    private static final int WARMUP_REQUESTS = 300;
+    private static final int MEASURED_REQUESTS = 200;
+    private static final int ROUNDS = 3;
+    private static final int LIST_SIZE = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        List<Category> categories = categoryRepository.saveAll(
+            List.of(new Category("Electronics"), new Category("Books"), new Category("Garden")));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < LIST_SIZE; i++) {
+            products.add(new Product("Product " + i, new BigDecimal("19.99"), i, "Description of product " + i,
+                categories.get(i % categories.size())));
+        }
+        productId = productRepository.saveAll(products).get(0).getId();
+    }
+
+    @Test
+    @DisplayName("GET /api/products/{id} should stay within its allocation budget")
+    void givenCachedProduct_whenGetById_thenAllocationWithinBudget() throws Exception {
+        // When
+        long bytesPerRequest = bytesPerRequest(get("/api/products/{id}", productId));
+
+        // Then
+        assertThat(bytesPerRequest)
+            .as("bytes allocated per GET /api/products/{id}")
+            .isLessThanOrEqualTo(budget("get-product-by-id"));
+    }
+
+    @Test
+    @DisplayName("GET /api/products should stay within its allocation budget for " + LIST_SIZE + " products")
+    void givenHundredProducts_whenGetAll_thenAllocationWithinBudget() throws Exception {
+        // When
+        long bytesPerRequest = bytesPerRequest(get("/api/products"));
+
+        // Then
+        assertThat(bytesPerRequest)
+            .as("bytes allocated per GET /api/products with " + LIST_SIZE + " products")
+            .isLessThanOrEqualTo(budget("get-all-products"));
+    }
+
+    /**
+     * Lowest per-request average over a few rounds, after warm-up, to filter out
+     * one-off allocations such as JIT deoptimisation or lazily built caches.
+     */
+    private long bytesPerRequest(RequestBuilder request) throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                mockMvc.perform(request);
+            }
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+            best = Math.min(best, allocated / MEASURED_REQUESTS);
+        }
+        return best;
+    }
+
+    private static long budget(String endpoint) throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = ProductControllerAllocationTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+        return Long.parseLong(budgets.getProperty(endpoint));
+    }
+}
@@ -0,0 +1,180 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.cart.AddCartItemsRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.cart.CartItemRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.cart.GetCartResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.rules.CartBusinessRules;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.cart.CartProperties;
+import com.turkcell.etradedemoai.common.cart.CartStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CartServiceImpl with a real in-memory store and a mocked ProductService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CartServiceImpl Unit Tests")
+class CartServiceImplTest {
+
+    @Mock
+    private ProductService productService;
+
+    private CartStore cartStore;
+    private CartServiceImpl cartService;
+    private String cartId;
+
+    @BeforeEach
+    void setUp() {
+        CartProperties properties = new CartProperties();
+        properties.setMaxItemsPerCart(2);
+        properties.setMaxQuantityPerItem(10);
+        cartStore = new CartStore(properties);
+        cartService = new CartServiceImpl(cartStore, productService, new CartBusinessRules(cartStore), properties);
+        cartId = cartService.createCart().getId();
+    }
+
+    private static GetProductResponse product(long id, String price) {
+        GetProductResponse product = new GetProductResponse();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setUnitPrice(new BigDecimal(price));
+        return product;
+    }
+
+    @Nested
+    @DisplayName("Add Items Tests")
+    class AddItemsTests {
+
+        @Test
+        @DisplayName("Should validate and price all products with a single lookup")
+        void givenSeveralProducts_whenAddItems_thenOneLookupAndTotal() {
+            // Given
+            when(productService.getByIds(Set.of(1L, 2L)))
+                .thenReturn(Map.of(1L, product(1L, "10.00"), 2L, product(2L, "2.50")));
+            AddCartItemsRequest request = new AddCartItemsRequest(List.of(
+                new CartItemRequest(1L, 1), new CartItemRequest(2L, 2), new CartItemRequest(1L, 1)));
+
+            // When
+            GetCartResponse response = cartService.addItems(cartId, request);
+
+            // Then
+            assertThat(response.getItems()).extracting("productId").containsExactly(1L, 2L);
+            assertThat(response.getItems()).extracting("quantity").containsExactly(2, 2);
+            assertThat(response.getTotalPrice()).isEqualByComparingTo("25.00");
+            verify(productService, times(1)).getByIds(any());
+        }
+
+        @Test
+        @DisplayName("Should reject the whole request when a product does not exist")
+        void givenUnknownProduct_whenAddItems_thenThrowAndCartUnchanged() {
+            // Given
+            when(productService.getByIds(any())).thenReturn(Map.of(1L, product(1L, "10.00")));
+            AddCartItemsRequest request = new AddCartItemsRequest(List.of(
+                new CartItemRequest(1L, 1), new CartItemRequest(99L, 1)));
+
+            // When & Then
+            assertThatThrownBy(() -> cartService.addItems(cartId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "PRODUCT_NOT_FOUND");
+            assertThat(cartStore.find(cartId).orElseThrow().items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject products beyond the per-cart limit")
+        void givenFullCart_whenAddNewProduct_thenThrowBusinessException() {
+            // Given
+            when(productService.getByIds(any())).thenReturn(Map.of(
+                1L, product(1L, "1.00"), 2L, product(2L, "1.00"), 3L, product(3L, "1.00")));
+            cartService.addItems(cartId, new AddCartItemsRequest(List.of(new CartItemRequest(1L, 1), new CartItemRequest(2L, 1))));
+
+            // When & Then
+            assertThatThrownBy(() -> cartService.addItems(cartId, new AddCartItemsRequest(List.of(new CartItemRequest(3L, 1)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "CART_FULL");
+        }
+
+        @Test
+        @DisplayName("Should reject quantities beyond the per-item limit, per request and across adds")
+        void givenOversizedQuantity_whenAddItems_thenThrowBusinessException() {
+            // Given
+            when(productService.getByIds(any())).thenReturn(Map.of(1L, product(1L, "1.00")));
+            cartService.addItems(cartId, new AddCartItemsRequest(List.of(new CartItemRequest(1L, 8))));
+
+            // When & Then
+            assertThatThrownBy(() -> cartService.addItems(cartId,
+                    new AddCartItemsRequest(List.of(new CartItemRequest(1L, Integer.MAX_VALUE)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "INVALID_CART_ITEM");
+            assertThatThrownBy(() -> cartService.addItems(cartId,
+                    new AddCartItemsRequest(List.of(new CartItemRequest(1L, 6), new CartItemRequest(1L, 6)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "CART_QUANTITY_LIMIT");
+            assertThatThrownBy(() -> cartService.addItems(cartId,
+                    new AddCartItemsRequest(List.of(new CartItemRequest(1L, 3)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "CART_QUANTITY_LIMIT");
+            assertThat(cartStore.find(cartId).orElseThrow().items()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(8));
+        }
+
+        @Test
+        @DisplayName("Should throw BusinessException for an unknown cart")
+        void givenUnknownCart_whenAddItems_thenThrowBusinessException() {
+            // When & Then
+            assertThatThrownBy(() -> cartService.addItems("missing", new AddCartItemsRequest(List.of(new CartItemRequest(1L, 1)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "CART_NOT_FOUND");
+            verify(productService, never()).getByIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Cart Tests")
+    class GetCartTests {
+
+        @Test
+        @DisplayName("Should flag changed prices and products that no longer exist")
+        void givenPriceChangeAndDeletedProduct_whenGetById_thenFlagged() {
+            // Given
+            when(productService.getByIds(any()))
+                .thenReturn(Map.of(1L, product(1L, "10.00"), 2L, product(2L, "5.00")))
+                .thenReturn(Map.of(1L, product(1L, "12.00")));
+            cartService.addItems(cartId, new AddCartItemsRequest(List.of(new CartItemRequest(1L, 1), new CartItemRequest(2L, 1))));
+
+            // When
+            GetCartResponse response = cartService.getById(cartId).orElseThrow();
+
+            // Then
+            assertThat(response.getItems()).hasSize(2);
+            assertThat(response.getItems().get(0).isPriceChanged()).isTrue();
+            assertThat(response.getItems().get(0).getUnitPrice()).isEqualByComparingTo("12.00");
+            assertThat(response.getItems().get(1).isAvailable()).isFalse();
+            assertThat(response.getTotalPrice()).isEqualByComparingTo("12.00");
+        }
+
+        @Test
+        @DisplayName("Should return empty Optional for an unknown cart")
+        void givenUnknownCart_whenGetById_thenEmpty() {
+            // When & Then
+            assertThat(cartService.getById("missing")).isEmpty();
+        }
+    }
+}
@@ -7,8 +7,11 @@ import com.turkcell.etradedemoai.business.dtos.responses.category.DeleteCategory
 import com.turkcell.etradedemoai.business.dtos.responses.category.GetAllCategoriesResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.category.GetCategoryResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.category.UpdateCategoryResponse;
+import com.turkcell.etradedemoai.business.mappers.CategoryMapper;
+import com.turkcell.etradedemoai.business.mappers.CategoryMapperImpl;
 import com.turkcell.etradedemoai.business.rules.CategoryBusinessRules;
 import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
 import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
 import com.turkcell.etradedemoai.entities.Category;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
@@ -52,6 +56,12 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryBusinessRules categoryBusinessRules;
 
+    @Mock
+    private OutboxRecorder outboxRecorder;
+
+    @Spy
+    private CategoryMapper categoryMapper = new CategoryMapperImpl();
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -550,6 +560,7 @@ class CategoryServiceImplTest {
             verify(categoryBusinessRules).checkIfCategoryExists(1L);
             verify(categoryBusinessRules).checkIfCategoryHasProducts(1L);
             verify(categoryRepository).deleteById(1L);
+            verify(outboxRecorder).categoryDeleted(1L);
         }
 
         @Test
@@ -0,0 +1,109 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.DiscountService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.discount.CreateDiscountRuleRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.discount.DiscountRuleResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Discount rules stored through DiscountService show up in product listings as soon as the
+ * creating or deleting transaction has committed.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:discount-pricing-test;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Discount pricing tests")
+class DiscountPricingTest {
+
+    @Autowired
+    private DiscountService discountService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private DiscountRuleRepository discountRuleRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long categoryId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        discountRuleRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        Category category = categoryRepository.save(new Category("Electronics"));
+        categoryId = category.getId();
+        productId = productRepository.save(new Product("Laptop", new BigDecimal("1000.00"), 5, null, category)).getId();
+    }
+
+    /**
+     * Inside a transaction, as open-session-in-view provides for web requests.
+     */
+    private GetProductResponse listedProduct() {
+        return transactionTemplate.execute(status -> productService.getAll().getItems().stream()
+            .filter(product -> product.getId().equals(productId))
+            .findFirst()
+            .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should price listings with a new rule and drop it again once deleted")
+    void givenCategoryRule_whenCreatedAndDeleted_thenListingPriceFollows() {
+        // Given
+        CreateDiscountRuleRequest request = new CreateDiscountRuleRequest(
+            "Electronics week", "CATEGORY", categoryId, "PERCENTAGE", new BigDecimal("20"));
+
+        // When
+        DiscountRuleResponse rule = discountService.create(request);
+        GetProductResponse discounted = listedProduct();
+        discountService.deleteById(rule.getId());
+        GetProductResponse undiscounted = listedProduct();
+
+        // Then
+        assertThat(discounted.getEffectivePrice()).isEqualByComparingTo("800.00");
+        assertThat(discounted.getAppliedDiscountId()).isEqualTo(rule.getId());
+        assertThat(undiscounted.getEffectivePrice()).isEqualByComparingTo("1000.00");
+        assertThat(undiscounted.getAppliedDiscountId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a discount for a product that does not exist")
+    void givenUnknownProduct_whenCreate_thenThrowBusinessException() {
+        // Given
+        CreateDiscountRuleRequest request = new CreateDiscountRuleRequest(
+            "Ghost", "PRODUCT", -1L, "FIXED_AMOUNT", new BigDecimal("5"));
+
+        // When & Then
+        assertThatThrownBy(() -> discountService.create(request))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "DISCOUNT_TARGET_NOT_FOUND");
+    }
+}
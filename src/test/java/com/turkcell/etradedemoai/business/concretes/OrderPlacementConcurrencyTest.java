@@ -0,0 +1,116 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.dataAccess.OrderRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Order placement against a real database: concurrent orders over the same hot products,
+ * listed in opposite orders so that unordered locking would deadlock, must neither oversell nor fail
+ * for any reason other than running out of stock.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:orders-test;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Order placement concurrency tests")
+class OrderPlacementConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long firstId;
+    private Long secondId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        firstId = productRepository.save(new Product("Hot Phone", new BigDecimal("500.00"), INITIAL_STOCK, "Phone")).getId();
+        secondId = productRepository.save(new Product("Hot Case", new BigDecimal("20.00"), INITIAL_STOCK, "Case")).getId();
+    }
+
+    @Test
+    @DisplayName("Should never oversell hot products under concurrent opposite-order lines")
+    void givenConcurrentOrdersOnHotProducts_whenPlaceOrder_thenStockMatchesPlacedOrders() throws Exception {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 10;
+        AtomicInteger placed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            boolean reversed = t % 2 == 1;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    List<CreateOrderLineRequest> lines = reversed
+                        ? List.of(new CreateOrderLineRequest(secondId, 1), new CreateOrderLineRequest(firstId, 1))
+                        : List.of(new CreateOrderLineRequest(firstId, 1), new CreateOrderLineRequest(secondId, 1));
+                    try {
+                        orderService.placeOrder(new CreateOrderRequest(lines));
+                        placed.incrementAndGet();
+                    } catch (BusinessException ex) {
+                        assertThat(ex.getBusinessCode()).isEqualTo("INSUFFICIENT_STOCK");
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(placed.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(orderRepository.count()).isEqualTo(INITIAL_STOCK);
+        assertThat(productRepository.findById(firstId).orElseThrow().getUnitsInStock()).isZero();
+        assertThat(productRepository.findById(secondId).orElseThrow().getUnitsInStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should roll back every reservation when one line is short")
+    void givenOneShortLine_whenPlaceOrder_thenNoStockTaken() {
+        // Given
+        CreateOrderRequest request = new CreateOrderRequest(List.of(
+            new CreateOrderLineRequest(firstId, 1),
+            new CreateOrderLineRequest(secondId, INITIAL_STOCK + 1)));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.placeOrder(request))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "INSUFFICIENT_STOCK");
+        assertThat(productRepository.findById(firstId).orElseThrow().getUnitsInStock()).isEqualTo(INITIAL_STOCK);
+        assertThat(orderRepository.count()).isZero();
+    }
+}
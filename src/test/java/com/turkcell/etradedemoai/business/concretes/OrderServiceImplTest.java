@@ -0,0 +1,201 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.order.CreateOrderResponse;
+import com.turkcell.etradedemoai.business.mappers.OrderMapper;
+import com.turkcell.etradedemoai.business.mappers.OrderMapperImpl;
+import com.turkcell.etradedemoai.business.rules.OrderBusinessRules;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.flashsale.FlashSaleRegistry;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.OrderRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.Order;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderServiceImpl.
+ * Repositories are mocked; the order rules are pure and used as-is.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl Unit Tests")
+class OrderServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Spy
+    private OrderBusinessRules orderBusinessRules = new OrderBusinessRules();
+
+    @Spy
+    private OrderMapper orderMapper = new OrderMapperImpl();
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache productCache;
+
+    @Spy
+    private FlashSaleRegistry flashSaleRegistry = new FlashSaleRegistry();
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    private Product laptop;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        laptop = new Product("Laptop", new BigDecimal("1000.00"), 8, "Laptop");
+        laptop.setId(1L);
+        mouse = new Product("Mouse", new BigDecimal("25.50"), 98, "Mouse");
+        mouse.setId(2L);
+    }
+
+    @Nested
+    @DisplayName("Place Order Tests")
+    class PlaceOrderTests {
+
+        @Test
+        @DisplayName("Should reserve merged quantities in product id order and total the lines")
+        @SuppressWarnings("unchecked")
+        void givenUnorderedDuplicateLines_whenPlaceOrder_thenReservedInIdOrderAndTotalled() {
+            // Given
+            CreateOrderRequest request = new CreateOrderRequest(List.of(
+                new CreateOrderLineRequest(2L, 1),
+                new CreateOrderLineRequest(1L, 2),
+                new CreateOrderLineRequest(2L, 1)));
+            when(productRepository.reserveStock(any())).thenReturn(List.of());
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, mouse));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+                Order order = invocation.getArgument(0);
+                order.setId(10L);
+                return order;
+            });
+            when(cacheManager.getCache(CacheNames.PRODUCTS)).thenReturn(productCache);
+
+            // When
+            CreateOrderResponse response = orderService.placeOrder(request);
+
+            // Then
+            ArgumentCaptor<SortedMap<Long, Integer>> quantities = ArgumentCaptor.forClass(SortedMap.class);
+            verify(productRepository).reserveStock(quantities.capture());
+            assertThat(quantities.getValue()).containsExactly(entry(1L, 2), entry(2L, 2));
+
+            assertThat(response.getId()).isEqualTo(10L);
+            assertThat(response.getStatus()).isEqualTo("PLACED");
+            assertThat(response.getTotalPrice()).isEqualByComparingTo("2051.00");
+            assertThat(response.getLines()).extracting("productId").containsExactly(1L, 2L);
+            assertThat(response.getLines()).extracting("productName").containsExactly("Laptop", "Mouse");
+            verify(productCache).evict(1L);
+            verify(productCache).evict(2L);
+
+            ArgumentCaptor<List<InventoryMovement>> sales = ArgumentCaptor.forClass(List.class);
+            verify(inventoryMovementRepository).append(sales.capture());
+            assertThat(sales.getValue()).extracting("productId", "quantity", "reference")
+                .containsExactly(tuple(1L, -2, "order:10"), tuple(2L, -2, "order:10"));
+        }
+
+        @Test
+        @DisplayName("Should throw BusinessException when a product is short of stock")
+        void givenInsufficientStock_whenPlaceOrder_thenThrowBusinessException() {
+            // Given
+            CreateOrderRequest request = new CreateOrderRequest(List.of(
+                new CreateOrderLineRequest(1L, 100),
+                new CreateOrderLineRequest(2L, 1)));
+            when(productRepository.reserveStock(any())).thenReturn(List.of(1L));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of(laptop, mouse));
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.placeOrder(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Insufficient stock")
+                .hasFieldOrPropertyWithValue("businessCode", "INSUFFICIENT_STOCK");
+
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(inventoryMovementRepository, never()).append(any());
+        }
+
+        @Test
+        @DisplayName("Should throw BusinessException when a product does not exist")
+        void givenUnknownProduct_whenPlaceOrder_thenThrowBusinessException() {
+            // Given
+            CreateOrderRequest request = new CreateOrderRequest(List.of(new CreateOrderLineRequest(99L, 1)));
+            when(productRepository.reserveStock(any())).thenReturn(List.of(99L));
+            when(productRepository.findAllById(anyCollection())).thenReturn(List.of());
+
+            // When & Then
+            assertThatThrownBy(() -> orderService.placeOrder(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "PRODUCT_NOT_FOUND");
+
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("Should reject empty orders and non-positive quantities before touching stock")
+        void givenInvalidLines_whenPlaceOrder_thenThrowBeforeReserving() {
+            // When & Then
+            assertThatThrownBy(() -> orderService.placeOrder(new CreateOrderRequest(List.of())))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "ORDER_EMPTY");
+            assertThatThrownBy(() -> orderService.placeOrder(
+                    new CreateOrderRequest(List.of(new CreateOrderLineRequest(1L, 0)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "INVALID_ORDER_QUANTITY");
+
+            verify(productRepository, never()).reserveStock(any());
+        }
+
+        @Test
+        @DisplayName("Should reject quantities above the limit per line and across merged lines")
+        void givenOversizedQuantities_whenPlaceOrder_thenThrowBeforeReserving() {
+            // When & Then
+            assertThatThrownBy(() -> orderService.placeOrder(new CreateOrderRequest(List.of(
+                    new CreateOrderLineRequest(1L, Integer.MAX_VALUE)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "INVALID_ORDER_QUANTITY");
+            assertThatThrownBy(() -> orderService.placeOrder(new CreateOrderRequest(List.of(
+                    new CreateOrderLineRequest(1L, OrderBusinessRules.MAX_QUANTITY_PER_PRODUCT),
+                    new CreateOrderLineRequest(1L, 1)))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "INVALID_ORDER_QUANTITY");
+
+            verify(productRepository, never()).reserveStock(any());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.CategoryService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.category.CreateCategoryRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductChangesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.common.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Delta sync against a real database without a settle time: a client that syncs from its last
+ * watermark sees every change exactly once, deletions as tombstones.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:delta-sync-test;DB_CLOSE_DELAY=-1",
+    "etrade.delta-sync.settle-time=0s"
+})
+@ActiveProfiles("test")
+@DisplayName("Product delta sync tests")
+class ProductDeltaSyncTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Hard delete, so tombstones of earlier tests do not show up
+        jdbcTemplate.update("delete from products");
+    }
+
+    private Long create(String name, Long categoryId) {
+        return productService.create(
+            new CreateProductRequest(name, new BigDecimal("10.00"), 5, null, categoryId)).getId();
+    }
+
+    @Test
+    @DisplayName("Should page through the whole catalog and return every product once")
+    void givenNoWatermark_whenGetChangesPageByPage_thenEveryProductReturnedOnce() {
+        // Given
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(create("Sync Product " + i, null));
+        }
+
+        // When
+        List<Long> synced = new ArrayList<>();
+        GetProductChangesResponse page = productService.getChangesSince(null, 2);
+        synced.addAll(page.getProducts().stream().map(GetProductResponse::getId).toList());
+        while (page.isHasMore()) {
+            page = productService.getChangesSince(page.getWatermark(), 2);
+            synced.addAll(page.getProducts().stream().map(GetProductResponse::getId).toList());
+        }
+        GetProductChangesResponse upToDate = productService.getChangesSince(page.getWatermark(), 2);
+
+        // Then
+        assertThat(synced).containsExactlyElementsOf(created);
+        assertThat(upToDate.getProducts()).isEmpty();
+        assertThat(upToDate.getDeletedProductIds()).isEmpty();
+        assertThat(upToDate.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return only updates and tombstones after the watermark")
+    void givenWatermark_whenProductsUpdatedAndDeleted_thenOnlyThoseReturned() throws InterruptedException {
+        // Given
+        Long categoryId = categoryService.create(new CreateCategoryRequest("Sync Category")).getId();
+        Long unchanged = create("Unchanged", null);
+        Long updated = create("Updated", null);
+        Long deleted = create("Deleted", categoryId);
+        String watermark = productService.getChangesSince(null, null).getWatermark();
+        Thread.sleep(5);
+
+        // When
+        productService.update(updated, new UpdateProductRequest("Updated", new BigDecimal("12.00"), 5, null, null));
+        productService.deleteById(deleted);
+        GetProductChangesResponse changes = productService.getChangesSince(watermark, null);
+
+        // Then
+        assertThat(changes.getProducts()).singleElement().satisfies(product -> {
+            assertThat(product.getId()).isEqualTo(updated);
+            assertThat(product.getUnitPrice()).isEqualByComparingTo("12.00");
+        });
+        assertThat(changes.getDeletedProductIds()).containsExactly(deleted);
+        assertThat(productService.getById(deleted)).isEmpty();
+        assertThat(productService.getChangesSince(null, null).getProducts())
+            .extracting(GetProductResponse::getId)
+            .containsExactly(unchanged, updated);
+        // The tombstone no longer holds on to its category
+        assertThat(categoryService.deleteById(categoryId).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a watermark that was not handed out by a sync")
+    void givenMalformedWatermark_whenGetChanges_thenBusinessException() {
+        // When & Then
+        assertThatThrownBy(() -> productService.getChangesSince("yesterday", null))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "INVALID_SYNC_WATERMARK");
+        assertThatThrownBy(() -> productService.getChangesSince(null, 0))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "INVALID_SYNC_PAGE_SIZE");
+    }
+}
@@ -0,0 +1,126 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductPricesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.ProductPriceResponse;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.PriceHistory;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Price history written by ProductServiceImpl against a real database: every price change
+ * closes one period and opens the next, and point-in-time lookups see exactly one of them.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:price-history-test;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Product price history tests")
+class ProductPriceHistoryTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceHistoryRepository priceHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        priceHistoryRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+    }
+
+    private Long create(String name, String price) {
+        return productService.create(new CreateProductRequest(name, new BigDecimal(price), 10, null, null)).getId();
+    }
+
+    private void changePrice(Long id, String name, String price) {
+        productService.update(id, new UpdateProductRequest(name, new BigDecimal(price), 10, null, null));
+    }
+
+    @Test
+    @DisplayName("Should return the price each product had at the requested instant")
+    void givenPriceChanges_whenGetPricesAt_thenPriceInEffectReturned() throws InterruptedException {
+        // Given
+        Long laptopId = create("Laptop", "1000.00");
+        Long phoneId = create("Phone", "500.00");
+        Thread.sleep(5);
+        Instant beforeChange = Instant.now();
+        Thread.sleep(5);
+        changePrice(laptopId, "Laptop", "900.00");
+        changePrice(laptopId, "Laptop", "850.00");
+        Thread.sleep(5);
+        Instant afterChange = Instant.now();
+
+        // When
+        GetProductPricesResponse before = productService.getPricesAt(List.of(laptopId, phoneId, -1L), beforeChange);
+        GetProductPricesResponse after = productService.getPricesAt(List.of(laptopId, phoneId), afterChange);
+
+        // Then
+        assertThat(before.getPrices()).extracting(ProductPriceResponse::getUnitPrice)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("1000.00"), new BigDecimal("500.00"));
+        assertThat(before.getMissingProductIds()).containsExactly(-1L);
+        assertThat(after.getPrices()).extracting(ProductPriceResponse::getUnitPrice)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("850.00"), new BigDecimal("500.00"));
+        List<PriceHistory> laptopHistory = priceHistoryRepository.findByProductIdOrderByValidFromAsc(laptopId);
+        assertThat(laptopHistory).hasSize(3);
+        assertThat(laptopHistory.get(0).getValidTo()).isEqualTo(laptopHistory.get(1).getValidFrom());
+        assertThat(laptopHistory.get(2).getValidTo()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should start the history of a product that predates it at its previous price")
+    void givenProductWithoutHistory_whenPriceChanges_thenPreviousPriceBackfilled() throws InterruptedException {
+        // Given
+        Long id = productRepository.save(new Product(
+            "Legacy", new BigDecimal("20.00"), 5, null)).getId();
+        Thread.sleep(5);
+        Instant beforeChange = Instant.now();
+
+        // When
+        changePrice(id, "Legacy", "25.00");
+
+        // Then
+        assertThat(productService.getPricesAt(List.of(id), beforeChange).getPrices())
+            .singleElement()
+            .satisfies(price -> assertThat(price.getUnitPrice()).isEqualByComparingTo("20.00"));
+        assertThat(productService.getPricesAt(List.of(id), Instant.now()).getPrices())
+            .singleElement()
+            .satisfies(price -> assertThat(price.getUnitPrice()).isEqualByComparingTo("25.00"));
+    }
+
+    @Test
+    @DisplayName("Should end the current price when the product is deleted")
+    void givenDeletedProduct_whenGetPricesAt_thenPriceOnlyBeforeDeletion() throws InterruptedException {
+        // Given
+        Long id = create("Tablet", "300.00");
+        Thread.sleep(5);
+        Instant beforeDelete = Instant.now();
+        Thread.sleep(5);
+
+        // When
+        productService.deleteById(id);
+
+        // Then
+        assertThat(productService.getPricesAt(List.of(id), beforeDelete).getPrices()).hasSize(1);
+        assertThat(productService.getPricesAt(List.of(id), Instant.now()).getMissingProductIds()).containsExactly(id);
+    }
+}
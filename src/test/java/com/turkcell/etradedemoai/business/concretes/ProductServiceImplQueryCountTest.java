@@ -0,0 +1,103 @@
+package com.turkcell.etradedemoai.business.concretes;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.common.observability.QueryCountExtension;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-count tests for ProductServiceImpl against the in-memory test database.
+ * Guards the number of SQL statements each operation issues so a regression
+ * (e.g. an accidental N+1) fails the build instead of slowing production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ProductServiceImpl Query Count Tests")
+class ProductServiceImplQueryCountTest {
+
+    @RegisterExtension
+    QueryCountExtension queries = new QueryCountExtension();
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Category category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        category = categoryRepository.save(new Category("Electronics"));
+        product = productRepository.save(
+            new Product("Laptop", new BigDecimal("999.99"), 10, "Laptop", category));
+        queries.reset();
+    }
+
+    @Test
+    @DisplayName("Should issue exists, name check, category lookup and update statements on update")
+    void givenValidRequest_whenUpdate_thenIssueFourStatements() {
+        // Given
+        UpdateProductRequest request = new UpdateProductRequest(
+            "Laptop Pro", new BigDecimal("1099.99"), 5, "Updated", category.getId());
+
+        // When
+        productService.update(product.getId(), request);
+
+        // Then
+        queries.assertStatementCount(4);
+        queries.assertNoRepeatedStatements();
+        assertThat(queries.statistics().getRowsLoaded()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should issue name check, category lookup and insert statements on create")
+    void givenValidRequest_whenCreate_thenIssueThreeStatements() {
+        // Given
+        CreateProductRequest request = new CreateProductRequest(
+            "Phone", new BigDecimal("499.99"), 20, "Phone", category.getId());
+
+        // When
+        productService.create(request);
+
+        // Then
+        queries.assertStatementCount(3);
+        queries.assertNoRepeatedStatements();
+    }
+
+    @Test
+    @DisplayName("Should select product and its lazy category on getById")
+    void givenExistingId_whenGetById_thenIssueTwoStatements() {
+        // When (inside a transaction, as open-session-in-view provides for web requests)
+        transactionTemplate.executeWithoutResult(status -> productService.getById(product.getId()));
+
+        // Then
+        queries.assertStatementCount(2);
+        assertThat(queries.statistics().getJdbcNanos()).isPositive();
+    }
+}
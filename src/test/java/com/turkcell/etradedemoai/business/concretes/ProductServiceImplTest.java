@@ -5,12 +5,22 @@ import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductReq
 import com.turkcell.etradedemoai.business.dtos.responses.product.CreateProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.DeleteProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetAllProductsResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductPricesResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
 import com.turkcell.etradedemoai.business.dtos.responses.product.UpdateProductResponse;
+import com.turkcell.etradedemoai.business.mappers.ProductMapper;
+import com.turkcell.etradedemoai.business.mappers.ProductMapperImpl;
 import com.turkcell.etradedemoai.business.rules.ProductBusinessRules;
 import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.outbox.OutboxRecorder;
+import com.turkcell.etradedemoai.common.pricing.PricingEngine;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
 import com.turkcell.etradedemoai.dataAccess.ProductRepository;
 import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import com.turkcell.etradedemoai.entities.PriceHistory;
 import com.turkcell.etradedemoai.entities.Product;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,18 +29,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -53,6 +67,21 @@ class ProductServiceImplTest {
     @Mock
     private ProductBusinessRules productBusinessRules;
 
+    @Mock
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Mock
+    private PriceHistoryRepository priceHistoryRepository;
+
+    @Mock
+    private PricingEngine pricingEngine;
+
+    @Mock
+    private OutboxRecorder outboxRecorder;
+
+    @Spy
+    private ProductMapper productMapper = new ProductMapperImpl();
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -111,10 +140,6 @@ class ProductServiceImplTest {
             // Given
             when(productBusinessRules.getCategoryIfExists(1L))
                 .thenReturn(Optional.of(sampleCategory));
-            when(productBusinessRules.extractCategoryId(any(Product.class)))
-                .thenReturn(1L);
-            when(productBusinessRules.extractCategoryName(any(Product.class)))
-                .thenReturn("Electronics");
             when(productRepository.save(any(Product.class)))
                 .thenReturn(sampleProduct);
 
@@ -138,6 +163,8 @@ class ProductServiceImplTest {
             verify(productBusinessRules).checkIfProductStockIsValid(50);
             verify(productBusinessRules).getCategoryIfExists(1L);
             verify(productRepository).save(any(Product.class));
+            verify(priceHistoryRepository).insertPrice(eq(1L), eq(new BigDecimal("1299.99")), any(Instant.class), isNull());
+            verify(outboxRecorder).productSaved(eq(OutboxEventType.CREATED), any(Product.class));
         }
 
         @Test
@@ -149,10 +176,6 @@ class ProductServiceImplTest {
             
             when(productBusinessRules.getCategoryIfExists(null))
                 .thenReturn(Optional.empty());
-            when(productBusinessRules.extractCategoryId(any(Product.class)))
-                .thenReturn(null);
-            when(productBusinessRules.extractCategoryName(any(Product.class)))
-                .thenReturn(null);
             when(productRepository.save(any(Product.class)))
                 .thenReturn(sampleProduct);
 
@@ -232,10 +255,6 @@ class ProductServiceImplTest {
             // Given
             when(productRepository.findById(1L))
                 .thenReturn(Optional.of(sampleProduct));
-            when(productBusinessRules.extractCategoryId(sampleProduct))
-                .thenReturn(1L);
-            when(productBusinessRules.extractCategoryName(sampleProduct))
-                .thenReturn("Electronics");
 
             // When
             Optional<GetProductResponse> response = productService.getById(1L);
@@ -274,10 +293,6 @@ class ProductServiceImplTest {
             sampleProduct.setCategory(null);
             when(productRepository.findById(1L))
                 .thenReturn(Optional.of(sampleProduct));
-            when(productBusinessRules.extractCategoryId(sampleProduct))
-                .thenReturn(null);
-            when(productBusinessRules.extractCategoryName(sampleProduct))
-                .thenReturn(null);
 
             // When
             Optional<GetProductResponse> response = productService.getById(1L);
@@ -287,6 +302,22 @@ class ProductServiceImplTest {
             assertThat(response.get().getCategoryId()).isNull();
             assertThat(response.get().getCategoryName()).isNull();
         }
+
+        @Test
+        @DisplayName("Should look up several ids with one query and omit missing ones")
+        void givenExistingAndMissingIds_whenGetByIds_thenReturnOnlyExisting() {
+            // Given
+            when(productRepository.findWithCategoryByIdIn(List.of(1L, 999L)))
+                .thenReturn(List.of(sampleProduct));
+
+            // When
+            Map<Long, GetProductResponse> response = productService.getByIds(List.of(1L, 999L));
+
+            // Then
+            assertThat(response).containsOnlyKeys(1L);
+            assertThat(response.get(1L).getName()).isEqualTo("Laptop Dell XPS 15");
+            verify(productRepository).findWithCategoryByIdIn(List.of(1L, 999L));
+        }
     }
 
     // ========================================
@@ -310,10 +341,6 @@ class ProductServiceImplTest {
 
             List<Product> products = Arrays.asList(sampleProduct, product2);
             when(productRepository.findAll()).thenReturn(products);
-            when(productBusinessRules.extractCategoryId(any(Product.class)))
-                .thenReturn(1L);
-            when(productBusinessRules.extractCategoryName(any(Product.class)))
-                .thenReturn("Electronics");
 
             // When
             GetAllProductsResponse response = productService.getAll();
@@ -325,6 +352,7 @@ class ProductServiceImplTest {
             assertThat(response.getItems().get(1).getName()).isEqualTo("Wireless Mouse");
 
             verify(productRepository).findAll();
+            verify(pricingEngine).applyTo(response.getItems());
         }
 
         @Test
@@ -358,14 +386,6 @@ class ProductServiceImplTest {
             when(productRepository.findAll())
                 .thenReturn(Arrays.asList(productWithCategory, productWithoutCategory));
             
-            when(productBusinessRules.extractCategoryId(productWithCategory))
-                .thenReturn(1L);
-            when(productBusinessRules.extractCategoryName(productWithCategory))
-                .thenReturn("Electronics");
-            when(productBusinessRules.extractCategoryId(productWithoutCategory))
-                .thenReturn(null);
-            when(productBusinessRules.extractCategoryName(productWithoutCategory))
-                .thenReturn(null);
 
             // When
             GetAllProductsResponse response = productService.getAll();
@@ -421,6 +441,13 @@ class ProductServiceImplTest {
             verify(productBusinessRules).checkIfProductPriceIsValid(new BigDecimal("1199.99"));
             verify(productBusinessRules).checkIfProductStockIsValid(45);
             verify(productRepository).save(any(Product.class));
+            verify(productRepository).lockStock(1L);
+            verify(inventoryMovementRepository).append(argThat(movements -> movements.size() == 1
+                && movements.get(0).getType() == InventoryMovementType.ADJUSTMENT
+                && movements.get(0).getQuantity() == -5));
+            verify(priceHistoryRepository).recordPriceChanges(argThat(changes -> changes.size() == 1
+                && changes.get(0).getProductId() == 1L
+                && changes.get(0).getNewPrice().compareTo(new BigDecimal("1199.99")) == 0), any(Instant.class));
         }
 
         @Test
@@ -548,6 +575,7 @@ class ProductServiceImplTest {
 
             verify(productBusinessRules).checkIfProductExists(1L);
             verify(productRepository).deleteById(1L);
+            verify(outboxRecorder).productDeleted(1L);
         }
 
         @Test
@@ -582,6 +610,78 @@ class ProductServiceImplTest {
         }
     }
 
+    // ========================================
+    // PRICE HISTORY TESTS
+    // ========================================
+
+    @Nested
+    @DisplayName("Price History Tests")
+    class PriceHistoryTests {
+
+        @Test
+        @DisplayName("Should leave the price history alone when the price does not change")
+        void givenSamePrice_whenUpdate_thenPriceHistoryUntouched() {
+            // Given
+            updateRequest.setUnitPrice(new BigDecimal("1299.990"));
+            when(productBusinessRules.checkIfProductExists(1L))
+                .thenReturn(sampleProduct);
+            when(productBusinessRules.getCategoryIfExists(1L))
+                .thenReturn(Optional.of(sampleCategory));
+            when(productRepository.save(any(Product.class)))
+                .thenReturn(sampleProduct);
+
+            // When
+            productService.update(1L, updateRequest);
+
+            // Then
+            verifyNoInteractions(priceHistoryRepository);
+        }
+
+        @Test
+        @DisplayName("Should pass the previous price and its last update on for products without history")
+        void givenPriceChange_whenUpdate_thenPreviousPriceAndSincePassedOn() {
+            // Given
+            Instant lastUpdate = Instant.now().minusSeconds(3600);
+            sampleProduct.setUpdatedDate(lastUpdate);
+            when(productBusinessRules.checkIfProductExists(1L))
+                .thenReturn(sampleProduct);
+            when(productBusinessRules.getCategoryIfExists(1L))
+                .thenReturn(Optional.of(sampleCategory));
+            when(productRepository.save(any(Product.class)))
+                .thenReturn(sampleProduct);
+
+            // When
+            productService.update(1L, updateRequest);
+
+            // Then
+            verify(priceHistoryRepository).recordPriceChanges(argThat(changes -> changes.size() == 1
+                && changes.get(0).getPreviousPrice().compareTo(new BigDecimal("1299.99")) == 0
+                && changes.get(0).getPreviousSince().equals(lastUpdate)), any(Instant.class));
+        }
+
+        @Test
+        @DisplayName("Should list requested products without a price at the instant as missing")
+        void givenSomeProductsWithoutPrice_whenGetPricesAt_thenReportMissing() {
+            // Given
+            Instant at = Instant.parse("2025-01-31T12:00:00Z");
+            PriceHistory price = new PriceHistory(2L, new BigDecimal("10.00"), at.minusSeconds(60), null);
+            when(priceHistoryRepository.findPricesAt(any(), eq(at)))
+                .thenReturn(List.of(price));
+
+            // When
+            GetProductPricesResponse response = productService.getPricesAt(List.of(3L, 2L, 1L, 2L), at);
+
+            // Then
+            assertThat(response.getAt()).isEqualTo(at);
+            assertThat(response.getPrices()).singleElement().satisfies(p -> {
+                assertThat(p.getProductId()).isEqualTo(2L);
+                assertThat(p.getUnitPrice()).isEqualByComparingTo("10.00");
+            });
+            assertThat(response.getMissingProductIds()).containsExactly(1L, 3L);
+            verify(productBusinessRules).checkIfPriceLookupIsValid(List.of(3L, 2L, 1L, 2L), at);
+        }
+    }
+
     // ========================================
     // INTEGRATION & EDGE CASE TESTS
     // ========================================
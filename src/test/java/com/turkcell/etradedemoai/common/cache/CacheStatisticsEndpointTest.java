@@ -0,0 +1,95 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "etrade.actuator.token=" + CacheStatisticsEndpointTest.TOKEN)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Cache statistics endpoint tests")
+class CacheStatisticsEndpointTest {
+
+    static final String TOKEN = "test-actuator-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        cacheManager.getCache(CacheNames.PRODUCTS).clear();
+        productId = productRepository.save(new Product("Laptop", new BigDecimal("999.99"), 10, "Laptop")).getId();
+    }
+
+    @Test
+    @DisplayName("Should report hits and the hot key after repeated reads")
+    void givenRepeatedReads_whenReadStats_thenHitsAndHotKeyReported() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/actuator/cachestats/products"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size").value(1))
+            .andExpect(jsonPath("$.hotKeys[0].key").value(productId))
+            .andExpect(jsonPath("$.hitRatio").isNumber());
+    }
+
+    @Test
+    @DisplayName("Should evict a single product id")
+    void givenCachedProduct_whenInvalidate_thenEntryEvicted() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(delete("/actuator/cachestats/products/{key}", productId).header("Authorization", "Bearer " + TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.evicted").value(true));
+        mockMvc.perform(get("/actuator/cachestats/products"))
+            .andExpect(jsonPath("$.size").value(0));
+    }
+
+    @Test
+    @DisplayName("Should not evict without the bearer token")
+    void givenNoToken_whenInvalidate_thenUnauthorizedAndEntryKept() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(delete("/actuator/cachestats/products/{key}", productId))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/cachestats/products"))
+            .andExpect(jsonPath("$.size").value(1));
+    }
+}
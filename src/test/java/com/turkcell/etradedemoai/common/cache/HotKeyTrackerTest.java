@@ -0,0 +1,120 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hot key tracking Unit Tests")
+class HotKeyTrackerTest {
+
+    @Nested
+    @DisplayName("Count-Min Sketch Tests")
+    class CountMinSketchTests {
+
+        @Test
+        @DisplayName("Should never underestimate counts")
+        void givenManyKeys_whenIncrement_thenEstimateIsAtLeastTrueCount() {
+            // Given
+            CountMinSketch sketch = new CountMinSketch(4, 256);
+
+            // When
+            for (long key = 0; key < 1000; key++) {
+                for (int i = 0; i < key % 7; i++) {
+                    sketch.increment(key);
+                }
+            }
+
+            // Then
+            for (long key = 0; key < 1000; key++) {
+                assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key % 7);
+            }
+        }
+
+        @Test
+        @DisplayName("Should halve counters on decay")
+        void givenCountedKey_whenDecay_thenEstimateIsHalved() {
+            // Given
+            CountMinSketch sketch = new CountMinSketch(4, 1024);
+            for (int i = 0; i < 10; i++) {
+                sketch.increment("hot");
+            }
+
+            // When
+            sketch.decay();
+
+            // Then
+            assertThat(sketch.estimate("hot")).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should round width up to a power of two")
+        void givenOddWidth_whenCreate_thenWidthIsPowerOfTwo() {
+            assertThat(new CountMinSketch(2, 1000).getWidth()).isEqualTo(1024);
+            assertThat(new CountMinSketch(2, 1).getWidth()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Top-N Tests")
+    class TopNTests {
+
+        @Test
+        @DisplayName("Should report the most accessed keys first")
+        void givenSkewedAccesses_whenGetHotKeys_thenHottestKeysAreReported() {
+            // Given
+            HotKeyTracker tracker = new HotKeyTracker(3, 4096);
+
+            // When
+            for (int round = 0; round < 100; round++) {
+                tracker.recordAccess(1L);
+                if (round % 2 == 0) {
+                    tracker.recordAccess(2L);
+                }
+                if (round % 4 == 0) {
+                    tracker.recordAccess(3L);
+                }
+                tracker.recordAccess(1000L + round);
+            }
+
+            // Then
+            List<HotKeyTracker.HotKey> hotKeys = tracker.getHotKeys();
+            assertThat(hotKeys).hasSize(3);
+            assertThat(hotKeys).extracting(HotKeyTracker.HotKey::getKey).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should keep a listed key's count within an eighth of its estimate")
+        void givenListedKey_whenAccessedRepeatedly_thenCountRefreshedInSteps() {
+            // Given
+            HotKeyTracker tracker = new HotKeyTracker(3, 4096);
+
+            // When
+            for (int i = 0; i < 1000; i++) {
+                tracker.recordAccess(7L);
+            }
+
+            // Then
+            assertThat(tracker.getHotKeys()).singleElement()
+                .extracting(HotKeyTracker.HotKey::getEstimatedAccesses)
+                .satisfies(count -> assertThat(count).isBetween(1000L - 1000L / 8, 1000L));
+        }
+
+        @Test
+        @DisplayName("Should drop a key that was forgotten")
+        void givenHotKey_whenForget_thenKeyIsNotReported() {
+            // Given
+            HotKeyTracker tracker = new HotKeyTracker(3, 4096);
+            tracker.recordAccess(42L);
+
+            // When
+            tracker.forget(42L);
+
+            // Then
+            assertThat(tracker.getHotKeys()).isEmpty();
+        }
+    }
+}
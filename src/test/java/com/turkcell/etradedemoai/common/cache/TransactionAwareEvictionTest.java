@@ -0,0 +1,83 @@
+package com.turkcell.etradedemoai.common.cache;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code @CacheEvict} on a transactional service method only takes effect once the surrounding
+ * transaction has committed, and not at all if it rolls back.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:transaction-aware-cache-test;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Transaction-aware cache eviction tests")
+class TransactionAwareEvictionTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cache cache;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheNames.PRODUCTS);
+        cache.clear();
+        productId = productService.create(
+            new CreateProductRequest("Cached Lamp " + System.nanoTime(), new BigDecimal("10.00"), 5, null, null)).getId();
+        productService.getById(productId);
+    }
+
+    private void update(String price) {
+        productService.update(productId,
+            new UpdateProductRequest("Cached Lamp " + productId, new BigDecimal(price), 5, null, null));
+    }
+
+    @Test
+    @DisplayName("Should keep the entry until the transaction commits")
+    void givenCachedProduct_whenUpdatedInTransaction_thenEvictedOnlyAfterCommit() {
+        // When
+        Boolean cachedBeforeCommit = transactionTemplate.execute(status -> {
+            update("12.00");
+            return cache.get(productId) != null;
+        });
+
+        // Then
+        assertThat(cachedBeforeCommit).isTrue();
+        assertThat(cache.get(productId)).isNull();
+        assertThat(productService.getById(productId)).hasValueSatisfying(
+            product -> assertThat(product.getUnitPrice()).isEqualByComparingTo("12.00"));
+    }
+
+    @Test
+    @DisplayName("Should keep the entry when the transaction rolls back")
+    void givenCachedProduct_whenUpdateRolledBack_thenEntryKept() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            update("13.00");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(cache.get(productId)).isNotNull();
+    }
+}
@@ -0,0 +1,156 @@
+package com.turkcell.etradedemoai.common.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.turkcell.etradedemoai.common.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("In-memory cart store tests")
+class CartStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private CartProperties properties;
+    private CartStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CartProperties();
+        properties.setIdleTtl(Duration.ofSeconds(10));
+        properties.setTick(Duration.ofSeconds(1));
+        properties.setWheelSize(4);
+        properties.setMaxCarts(3);
+        store = new CartStore(properties, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("Idle expiry")
+    class Expiry {
+
+        @Test
+        @DisplayName("Should drop a cart once it has been idle longer than the TTL, across several wheel revolutions")
+        void givenIdleCart_whenTtlPasses_thenExpired() {
+            // Given
+            Cart cart = store.create();
+
+            // When
+            advance(Duration.ofSeconds(9));
+            int expiredEarly = store.expire();
+            advance(Duration.ofSeconds(2));
+            int expiredLate = store.expire();
+
+            // Then
+            assertThat(expiredEarly).isZero();
+            assertThat(expiredLate).isEqualTo(1);
+            assertThat(store.find(cart.getId())).isEmpty();
+            assertThat(store.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep a cart alive while it is being used and expire it a TTL after the last access")
+        void givenTouchedCart_whenOriginalDeadlinePasses_thenRescheduled() {
+            // Given
+            Cart cart = store.create();
+            advance(Duration.ofSeconds(8));
+            store.find(cart.getId());
+
+            // When
+            advance(Duration.ofSeconds(4));
+            int expiredAtOriginalDeadline = store.expire();
+            advance(Duration.ofSeconds(7));
+            int expiredAfterLastAccess = store.expire();
+
+            // Then
+            assertThat(expiredAtOriginalDeadline).isZero();
+            assertThat(expiredAfterLastAccess).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds")
+    class Bounds {
+
+        @Test
+        @DisplayName("Should refuse new carts beyond the limit until one is deleted")
+        void givenFullStore_whenCreate_thenRejectedUntilDeleted() {
+            // Given
+            Cart first = store.create();
+            store.create();
+            store.create();
+
+            // When & Then
+            assertThatThrownBy(() -> store.create())
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("businessCode", "CART_LIMIT_REACHED");
+            assertThat(store.delete(first.getId())).isTrue();
+            assertThat(store.create()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should refuse a new product beyond the per-cart limit but keep adding to existing ones")
+        void givenFullCart_whenAddNewProduct_thenRefused() {
+            // Given
+            Cart cart = store.create();
+            cart.add(1L, 1, BigDecimal.TEN, 1, 100);
+
+            // When & Then
+            assertThat(cart.add(2L, 1, BigDecimal.TEN, 1, 100)).isEqualTo(Cart.AddResult.CART_FULL);
+            assertThat(cart.add(1L, 2, BigDecimal.ONE, 1, 100)).isEqualTo(Cart.AddResult.ADDED);
+            assertThat(cart.items()).singleElement()
+                .satisfies(item -> {
+                    assertThat(item.getQuantity()).isEqualTo(3);
+                    assertThat(item.getUnitPrice()).isEqualByComparingTo("1");
+                });
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot")
+    class Snapshot {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("Should restore live carts with their items and skip carts that expired meanwhile")
+        void givenSavedCarts_whenRestore_thenLiveCartsBack() {
+            // Given
+            ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+            CartSnapshot snapshot = new CartSnapshot(tempDir.resolve("carts.json"), objectMapper);
+            Cart stale = store.create();
+            advance(Duration.ofSeconds(10));
+            Cart fresh = store.create();
+            fresh.add(7L, 2, new BigDecimal("19.99"), 10, 100);
+            snapshot.save(store);
+
+            // When
+            CartStore restarted = new CartStore(properties, clock::get);
+            int restored = snapshot.restore(restarted);
+
+            // Then
+            assertThat(restored).isEqualTo(1);
+            assertThat(restarted.find(stale.getId())).isEmpty();
+            assertThat(restarted.find(fresh.getId())).get()
+                .satisfies(cart -> assertThat(cart.items()).singleElement()
+                    .satisfies(item -> {
+                        assertThat(item.getProductId()).isEqualTo(7L);
+                        assertThat(item.getQuantity()).isEqualTo(2);
+                    }));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.turkcell.etradedemoai.common.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Synthetic catalog data generator tests")
+class CatalogDataGeneratorTest {
+
+    @Nested
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:datagen-test;DB_CLOSE_DELAY=-1",
+        "etrade.datagen.categories=20",
+        "etrade.datagen.products=5000",
+        "etrade.datagen.batch-size=700"
+    })
+    @ActiveProfiles({"datagen", "test"})
+    @DisplayName("Generated catalog")
+    class GeneratedCatalog {
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        @DisplayName("Should insert the configured number of rows with unique names")
+        void givenDatagenProfile_whenStarted_thenConfiguredRowsInserted() {
+            // When & Then
+            assertThat(jdbcTemplate.queryForObject("select count(*) from categories", Long.class)).isEqualTo(20);
+            assertThat(jdbcTemplate.queryForObject("select count(*) from products", Long.class)).isEqualTo(5000);
+            assertThat(jdbcTemplate.queryForObject("select count(distinct lower(name)) from products", Long.class))
+                .isEqualTo(5000);
+        }
+
+        @Test
+        @DisplayName("Should skew products towards a few large categories")
+        void givenZipfSkew_whenStarted_thenCategorySizesAreSkewed() {
+            // When
+            List<Long> sizes = jdbcTemplate.queryForList(
+                "select count(*) from products group by category_id order by count(*) desc", Long.class);
+
+            // Then
+            assertThat(sizes.get(0)).isGreaterThan(10 * sizes.get(sizes.size() - 1));
+        }
+
+        @Test
+        @DisplayName("Should keep prices, stock and descriptions within column limits")
+        void givenGeneratedRows_whenInspected_thenValuesWithinLimits() {
+            // When
+            BigDecimal minPrice = jdbcTemplate.queryForObject("select min(unit_price) from products", BigDecimal.class);
+            Integer minStock = jdbcTemplate.queryForObject("select min(units_in_stock) from products", Integer.class);
+            Integer maxDescription = jdbcTemplate.queryForObject("select max(length(description)) from products", Integer.class);
+            Long withoutCategory = jdbcTemplate.queryForObject(
+                "select count(*) from products where category_id is null or created_date is null", Long.class);
+
+            // Then
+            assertThat(minPrice).isGreaterThanOrEqualTo(BigDecimal.ONE);
+            assertThat(minStock).isZero();
+            assertThat(maxDescription).isLessThanOrEqualTo(2000);
+            assertThat(withoutCategory).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Zipf distribution")
+    class Zipf {
+
+        @Test
+        @DisplayName("Should follow the rank-frequency law")
+        void givenExponentOne_whenSampled_thenFirstRankTwiceAsFrequentAsSecond() {
+            // Given
+            ZipfDistribution distribution = new ZipfDistribution(100, 1.0);
+            SplittableRandom random = new SplittableRandom(7);
+            int[] counts = new int[100];
+
+            // When
+            for (int i = 0; i < 200_000; i++) {
+                counts[distribution.sample(random)]++;
+            }
+
+            // Then
+            assertThat(distribution.probability(0) / distribution.probability(1)).isCloseTo(2.0, within(1e-9));
+            assertThat((double) counts[0] / counts[1]).isCloseTo(2.0, within(0.1));
+        }
+
+        @Test
+        @DisplayName("Should sample uniformly when the exponent is zero")
+        void givenExponentZero_whenProbabilityRead_thenUniform() {
+            // Given
+            ZipfDistribution distribution = new ZipfDistribution(4, 0.0);
+
+            // When & Then
+            for (int rank = 0; rank < 4; rank++) {
+                assertThat(distribution.probability(rank)).isCloseTo(0.25, within(1e-9));
+            }
+        }
+    }
+}
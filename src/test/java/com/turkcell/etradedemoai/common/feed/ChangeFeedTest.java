@@ -0,0 +1,221 @@
+package com.turkcell.etradedemoai.common.feed;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.common.outbox.OutboxRelay;
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * The SSE change feed end to end: outbox events published by the relay reach open streams,
+ * reconnects resume after the last event id with bursts coalesced, and a cursor whose events
+ * have been purged gets a reset event. The buffer holds two events, so resumes read the table.
+ * The Server-Timing filter is on, so streams must get past its response buffering.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:change-feed-test;DB_CLOSE_DELAY=-1",
+    "etrade.outbox.poll-interval=1h",
+    "etrade.change-feed.poll-interval=50ms",
+    "etrade.change-feed.buffer-size=2",
+    "etrade.change-feed.heartbeat-interval=1h",
+    "etrade.server-timing.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Change feed tests")
+class ChangeFeedTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)\\nevent:product");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        relay.relay();
+    }
+
+    private MockHttpServletResponse open(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+        return result.getResponse();
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        for (int attempt = 0; attempt < 100 && !response.getContentAsString().contains(expected); attempt++) {
+            Thread.sleep(50);
+        }
+        return response.getContentAsString();
+    }
+
+    private Long createProduct(String name) {
+        return productService.create(new CreateProductRequest(name, new BigDecimal("10.00"), 5, null, null)).getId();
+    }
+
+    private void changePrice(Long id, String name, String price) {
+        productService.update(id, new UpdateProductRequest(name, new BigDecimal(price), 5, null, null));
+    }
+
+    @Test
+    @DisplayName("Should stream a change to an open connection once it has been published")
+    void givenOpenStream_whenChangePublished_thenEventReceived() throws Exception {
+        // Given
+        MockHttpServletResponse stream = open(get("/api/changes/stream"));
+
+        // When
+        Long productId = createProduct("Feed Kettle");
+        relay.relay();
+
+        // Then
+        String content = awaitContent(stream, "\"aggregateId\":" + productId);
+        assertThat(content).contains("event:product", "\"eventType\":\"CREATED\"", "\"name\":\"Feed Kettle\"");
+        assertThat(EVENT_ID.matcher(content).find()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep streaming events written after the first dispatch through the Server-Timing filter")
+    void givenServerTimingEnabled_whenSeveralChangesPublished_thenEachStreamedWithoutContentLength() throws Exception {
+        // Given
+        MockHttpServletResponse stream = open(get("/api/changes/stream"));
+        Long first = createProduct("Feed Grinder");
+        relay.relay();
+        awaitContent(stream, "\"aggregateId\":" + first);
+
+        // When
+        Long second = createProduct("Feed Grater");
+        relay.relay();
+
+        // Then
+        String content = awaitContent(stream, "\"aggregateId\":" + second);
+        assertThat(content).contains("\"name\":\"Feed Grinder\"", "\"name\":\"Feed Grater\"");
+        assertThat(stream.getHeader("Content-Length")).isNull();
+        assertThat(stream.getHeader("Server-Timing")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resume after the last event id and send only the latest of a burst of changes")
+    void givenLastEventId_whenReconnect_thenLaterChangesCoalesced() throws Exception {
+        // Given
+        Long productId = createProduct("Feed Toaster");
+        relay.relay();
+        long created = outboxEventRepository.findLastPublishSequence();
+        changePrice(productId, "Feed Toaster", "11.00");
+        changePrice(productId, "Feed Toaster", "12.00");
+        changePrice(productId, "Feed Toaster", "13.00");
+        relay.relay();
+        long last = outboxEventRepository.findLastPublishSequence();
+
+        // When
+        MockHttpServletResponse stream = open(get("/api/changes/stream").header("Last-Event-ID", created));
+
+        // Then
+        String content = awaitContent(stream, "\"unitPrice\":13.00");
+        assertThat(content).contains("id:" + last + "\n").doesNotContain("11.00", "12.00", "\"CREATED\"");
+        Matcher ids = EVENT_ID.matcher(content);
+        assertThat(ids.find()).isTrue();
+        assertThat(Long.parseLong(ids.group(1))).isEqualTo(last);
+        assertThat(ids.find()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should send a reset event when the events after the cursor have been purged")
+    void givenPurgedEvents_whenResumeFromOldCursor_thenResetSent() throws Exception {
+        // Given
+        createProduct("Feed Blender");
+        createProduct("Feed Mixer");
+        relay.relay();
+        outboxEventRepository.deletePublishedBefore(Instant.now().plusSeconds(1));
+
+        // When
+        MockHttpServletResponse stream = open(get("/api/changes/stream").param("after", "0"));
+
+        // Then
+        String content = awaitContent(stream, "Feed Mixer");
+        assertThat(content).startsWith("event:reset").doesNotContain("Feed Blender");
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never admit more subscribers than the limit, even when they arrive at once")
+    void givenConcurrentSubscribes_whenAtLimit_thenExactlyLimitAdmitted() throws Exception {
+        // Given
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setMaxSubscribers(5);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> admitted = new ArrayList<>();
+
+        try (ChangeFeed feed = new ChangeFeed(outboxEventRepository, properties, new SimpleMeterRegistry())) {
+            // When
+            for (int t = 0; t < threads; t++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < 10; i++) {
+                        SseEmitter emitter = feed.subscribe(null, null);
+                        if (emitter != null) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> future : admitted) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            assertThat(total).isEqualTo(5);
+            assertThat(feed.getSubscriberCount()).isEqualTo(5);
+            feed.close();
+            assertThat(feed.getSubscriberCount()).isZero();
+            assertThat(feed.subscribe(null, null)).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.inventory.InventoryReconciler;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.OrderRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Flash-sale mode against a real database: orders are served from the counters, the row only
+ * changes on write-back, and row and ledger agree again once the sale's units are written back.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:flashsale-test;DB_CLOSE_DELAY=-1",
+    "etrade.flash-sale.flush-interval=1h",
+    "etrade.flash-sale.stripes=4",
+    "etrade.flash-sale.stripe-quota=2",
+    "etrade.actuator.token=" + FlashSaleTest.TOKEN
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Flash sale tests")
+class FlashSaleTest {
+
+    static final String TOKEN = "test-actuator-token";
+
+    private static final int INITIAL_STOCK = 30;
+
+    @Autowired
+    private FlashSaleManager flashSaleManager;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private InventoryReconciler reconciler;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from inventory_snapshots");
+        inventoryMovementRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        CreateProductRequest request = new CreateProductRequest();
+        request.setName("Flash Console");
+        request.setUnitPrice(new BigDecimal("299.00"));
+        request.setUnitsInStock(INITIAL_STOCK);
+        productId = productService.create(request).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flashSaleManager.close();
+    }
+
+    private int unitsInStock() {
+        return productRepository.findById(productId).orElseThrow().getUnitsInStock();
+    }
+
+    @Test
+    @DisplayName("Should sell exactly the stock to concurrent buyers and write it back on flush")
+    void givenConcurrentBuyers_whenFlashSale_thenExactlyStockSoldAndWrittenBack() throws Exception {
+        // Given
+        flashSaleManager.activate(productId);
+        int threads = 8;
+        int ordersPerThread = 6;
+        AtomicInteger placed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < ordersPerThread; i++) {
+                    try {
+                        orderService.placeOrder(new CreateOrderRequest(List.of(new CreateOrderLineRequest(productId, 1))));
+                        placed.incrementAndGet();
+                    } catch (BusinessException ex) {
+                        assertThat(ex.getBusinessCode()).isEqualTo("INSUFFICIENT_STOCK");
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        int stockBeforeFlush = unitsInStock();
+        assertThat(reconciler.reconcile().getSkippedProducts()).isEqualTo(1);
+        flashSaleManager.flush();
+
+        // Then
+        assertThat(placed.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(orderRepository.count()).isEqualTo(INITIAL_STOCK);
+        assertThat(stockBeforeFlush).isEqualTo(INITIAL_STOCK);
+        assertThat(unitsInStock()).isZero();
+        flashSaleManager.deactivate(productId);
+        assertThat(reconciler.reconcile().getMismatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give units back to the counter when the order rolls back")
+    void givenOrderWithUnknownProduct_whenPlaceOrder_thenFlashUnitsReleased() {
+        // Given
+        flashSaleManager.activate(productId);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.placeOrder(new CreateOrderRequest(List.of(
+            new CreateOrderLineRequest(productId, 5), new CreateOrderLineRequest(-1L, 1)))))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "PRODUCT_NOT_FOUND");
+        assertThat(flashSaleManager.sales()).singleElement().satisfies(sale -> {
+            assertThat(sale.getRemaining()).isEqualTo(INITIAL_STOCK);
+            assertThat(sale.getUnflushedSold()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should write unflushed sales back when the sale ends and go back to the row afterwards")
+    void givenUnflushedSales_whenDeactivate_thenRowUpdatedAndDatabasePathResumes() {
+        // Given
+        flashSaleManager.activate(productId);
+        orderService.placeOrder(new CreateOrderRequest(List.of(new CreateOrderLineRequest(productId, 4))));
+
+        // When
+        flashSaleManager.deactivate(productId);
+        orderService.placeOrder(new CreateOrderRequest(List.of(new CreateOrderLineRequest(productId, 1))));
+
+        // Then
+        assertThat(flashSaleManager.sales()).isEmpty();
+        assertThat(unitsInStock()).isEqualTo(INITIAL_STOCK - 5);
+    }
+
+    @Test
+    @DisplayName("Should refuse to overwrite stock of a product in a flash sale")
+    void givenActiveSale_whenUpdateStock_thenThrowBusinessException() {
+        // Given
+        flashSaleManager.activate(productId);
+        UpdateProductRequest request = new UpdateProductRequest();
+        request.setName("Flash Console");
+        request.setUnitPrice(new BigDecimal("299.00"));
+        request.setUnitsInStock(100);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.update(productId, request))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "FLASH_SALE_ACTIVE");
+        assertThat(unitsInStock()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete a product in a flash sale")
+    void givenActiveSale_whenDelete_thenThrowBusinessException() {
+        // Given
+        flashSaleManager.activate(productId);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.deleteById(productId))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "FLASH_SALE_ACTIVE");
+        assertThat(productRepository.findById(productId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should only start or end a sale through the actuator with the bearer token")
+    void givenNoToken_whenActivateThroughActuator_thenUnauthorizedAndNoSaleStarted() throws Exception {
+        // When
+        mockMvc.perform(post("/actuator/flashsales/{productId}", productId)).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/flashsales/{productId}", productId).header("Authorization", "Bearer wrong"))
+            .andExpect(status().isUnauthorized());
+
+        // Then
+        mockMvc.perform(get("/actuator/flashsales")).andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(post("/actuator/flashsales/{productId}", productId).header("Authorization", "Bearer " + TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.active").value(true));
+        mockMvc.perform(delete("/actuator/flashsales/{productId}", productId)).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/flashsales/{productId}", productId).header("Authorization", "Bearer " + TOKEN))
+            .andExpect(status().isOk());
+    }
+}
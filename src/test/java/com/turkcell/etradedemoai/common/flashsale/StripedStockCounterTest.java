@@ -0,0 +1,120 @@
+package com.turkcell.etradedemoai.common.flashsale;
+
+import com.turkcell.etradedemoai.common.flashsale.StripedStockCounter.TakeResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Striped stock counter tests")
+class StripedStockCounterTest {
+
+    @Nested
+    @DisplayName("Taking stock")
+    class Taking {
+
+        @Test
+        @DisplayName("Should never hand out more units than it was opened with under concurrent buyers")
+        void givenConcurrentBuyers_whenTakeUntilSoldOut_thenNoOversell() throws Exception {
+            // Given
+            StripedStockCounter counter = new StripedStockCounter(1L, 4, 4);
+            counter.open(1_000, 8);
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<Integer>> futures = new ArrayList<>();
+
+            // When
+            for (int t = 0; t < threads; t++) {
+                int quantity = t % 3 + 1;
+                futures.add(executor.submit(() -> {
+                    int taken = 0;
+                    while (counter.tryTake(quantity) == TakeResult.TAKEN) {
+                        taken += quantity;
+                    }
+                    return taken;
+                }));
+            }
+            long taken = 0;
+            for (Future<Integer> future : futures) {
+                taken += future.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // Then
+            assertThat(taken).isLessThanOrEqualTo(1_000);
+            assertThat(taken + counter.remaining()).isEqualTo(1_000);
+            assertThat(counter.drainSold()).isEqualTo(taken);
+        }
+
+        @Test
+        @DisplayName("Should refill a dry stripe from the reserve and other stripes until every unit is sold")
+        void givenSmallStripeQuota_whenOneBuyerTakesEverything_thenAllUnitsSold() {
+            // Given
+            StripedStockCounter counter = new StripedStockCounter(1L, 2, 1);
+            counter.open(10, 1);
+
+            // When
+            int taken = 0;
+            while (counter.tryTake(1) == TakeResult.TAKEN) {
+                taken++;
+            }
+
+            // Then
+            assertThat(taken).isEqualTo(10);
+            assertThat(counter.tryTake(1)).isEqualTo(TakeResult.SOLD_OUT);
+            assertThat(counter.remaining()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-back")
+    class WriteBack {
+
+        @Test
+        @DisplayName("Should count each sold unit exactly once across flushes, releases and close")
+        void givenSalesAndReleases_whenDrainAndClose_thenSoldCountedOnce() {
+            // Given
+            StripedStockCounter counter = new StripedStockCounter(1L, 4, 4);
+            counter.open(100, 10);
+            counter.tryTake(5);
+            counter.tryTake(3);
+
+            // When
+            long firstFlush = counter.drainSold();
+            counter.release(3);
+            counter.tryTake(2);
+            long sold = counter.close();
+
+            // Then
+            assertThat(firstFlush).isEqualTo(8);
+            assertThat(sold).isEqualTo(-1);
+            assertThat(counter.tryTake(1)).isEqualTo(TakeResult.CLOSED);
+            assertThat(counter.release(1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should keep a failed flush for the next one")
+        void givenFailedFlush_whenRestoreSold_thenDrainedAgain() {
+            // Given
+            StripedStockCounter counter = new StripedStockCounter(1L, 2, 4);
+            counter.open(20, 5);
+            counter.tryTake(4);
+            long drained = counter.drainSold();
+
+            // When
+            counter.restoreSold(drained);
+
+            // Then
+            assertThat(counter.drainSold()).isEqualTo(4);
+            assertThat(counter.remaining()).isEqualTo(16);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.turkcell.etradedemoai.common.inventory;
+
+import com.turkcell.etradedemoai.business.abstracts.InventoryService;
+import com.turkcell.etradedemoai.business.abstracts.OrderService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.InventoryMovementRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.inventory.RecordMovementsRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderLineRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.order.CreateOrderRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.inventory.GetStockResponse;
+import com.turkcell.etradedemoai.business.rules.InventoryBusinessRules;
+import com.turkcell.etradedemoai.common.BusinessException;
+import com.turkcell.etradedemoai.common.inventory.InventoryReconciler.ReconciliationReport;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.OrderRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Inventory ledger against a real database: every stock change made through the services must
+ * leave product rows and ledger (snapshot plus tail) in agreement, before and after compaction.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:inventory-test;DB_CLOSE_DELAY=-1",
+    "etrade.inventory.settle-time=0s",
+    "etrade.inventory.reconciliation-chunk-size=2",
+    "etrade.actuator.token=" + InventoryLedgerTest.TOKEN
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Inventory ledger tests")
+class InventoryLedgerTest {
+
+    static final String TOKEN = "test-actuator-token";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryCompactor compactor;
+
+    @Autowired
+    private InventoryReconciler reconciler;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from inventory_snapshots");
+        inventoryMovementRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    private Long createProduct(String name, int stock) {
+        CreateProductRequest request = new CreateProductRequest();
+        request.setName(name);
+        request.setUnitPrice(new BigDecimal("10.00"));
+        request.setUnitsInStock(stock);
+        return productService.create(request).getId();
+    }
+
+    private void setStock(Long id, String name, int stock) {
+        UpdateProductRequest request = new UpdateProductRequest();
+        request.setName(name);
+        request.setUnitPrice(new BigDecimal("10.00"));
+        request.setUnitsInStock(stock);
+        productService.update(id, request);
+    }
+
+    @Test
+    @DisplayName("Should keep ledger and product stock equal through receipts, sales, updates and compaction")
+    void givenStockChangesAcrossCompaction_whenReconcile_thenNoMismatch() {
+        // Given
+        Long phone = createProduct("Ledger Phone", 10);
+        Long charger = createProduct("Ledger Charger", 5);
+        orderService.placeOrder(new CreateOrderRequest(List.of(
+            new CreateOrderLineRequest(phone, 3), new CreateOrderLineRequest(charger, 2))));
+        setStock(phone, "Ledger Phone", 20);
+        inventoryService.recordMovements(new RecordMovementsRequest("DN-1", List.of(
+            new InventoryMovementRequest(charger, "RECEIPT", 4),
+            new InventoryMovementRequest(phone, "ADJUSTMENT", -1))));
+
+        // When
+        int compacted = compactor.compact();
+        orderService.placeOrder(new CreateOrderRequest(List.of(new CreateOrderLineRequest(phone, 2))));
+        ReconciliationReport report = reconciler.reconcile();
+
+        // Then
+        assertThat(compacted).isEqualTo(2);
+        GetStockResponse stock = inventoryService.getStock(phone).orElseThrow();
+        assertThat(stock.getUnitsInStock()).isEqualTo(17);
+        assertThat(stock.getLedgerUnits()).isEqualTo(17);
+        assertThat(stock.getRecentMovements()).extracting("type")
+            .containsExactly("SALE", "ADJUSTMENT", "ADJUSTMENT", "SALE", "RECEIPT");
+        assertThat(inventoryService.getStock(charger).orElseThrow().getLedgerUnits()).isEqualTo(7);
+        assertThat(report.getProductsChecked()).isEqualTo(2);
+        assertThat(report.getMismatchCount()).isZero();
+        assertThat(report.getUntrackedProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give products without history an opening snapshot on compaction")
+    void givenProductWithoutHistory_whenCompact_thenTracked() {
+        // Given
+        productRepository.save(new Product("Legacy Lamp", new BigDecimal("30.00"), 12, "Imported"));
+        assertThat(reconciler.reconcile().getUntrackedProducts()).isEqualTo(1);
+
+        // When
+        compactor.compact();
+        ReconciliationReport report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.getUntrackedProducts()).isZero();
+        assertThat(report.getMismatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report products whose stock was changed behind the ledger's back")
+    void givenStockChangedOutsideLedger_whenReconcile_thenMismatchReported() {
+        // Given
+        createProduct("Ledger Desk", 4);
+        Long chair = createProduct("Ledger Chair", 6);
+        createProduct("Ledger Shelf", 8);
+        jdbcTemplate.update("update products set units_in_stock = 99 where id = ?", chair);
+
+        // When
+        ReconciliationReport report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(report.getMismatchCount()).isEqualTo(1);
+        assertThat(report.getMismatches()).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.getProductId()).isEqualTo(chair);
+            assertThat(mismatch.getUnitsInStock()).isEqualTo(99);
+            assertThat(mismatch.getLedgerUnits()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch when any product would go below zero")
+    void givenAdjustmentBelowZero_whenRecordMovements_thenNothingRecorded() {
+        // Given
+        Long lamp = createProduct("Ledger Lamp", 2);
+        long movementsBefore = inventoryMovementRepository.count();
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.recordMovements(new RecordMovementsRequest("count", List.of(
+            new InventoryMovementRequest(lamp, "RECEIPT", 1),
+            new InventoryMovementRequest(lamp, "ADJUSTMENT", -5)))))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "NEGATIVE_STOCK");
+        assertThat(inventoryMovementRepository.count()).isEqualTo(movementsBefore);
+        assertThat(productRepository.findById(lamp).orElseThrow().getUnitsInStock()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject movements above the quantity limit instead of overflowing")
+    void givenOversizedReceipts_whenRecordMovements_thenNothingRecorded() {
+        // Given
+        Long lamp = createProduct("Ledger Lamp", 2);
+        long movementsBefore = inventoryMovementRepository.count();
+        int max = InventoryBusinessRules.MAX_MOVEMENT_QUANTITY;
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryService.recordMovements(new RecordMovementsRequest("count", List.of(
+            new InventoryMovementRequest(lamp, "RECEIPT", Integer.MAX_VALUE)))))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "INVALID_INVENTORY_MOVEMENT");
+        assertThatThrownBy(() -> inventoryService.recordMovements(new RecordMovementsRequest("count", List.of(
+            new InventoryMovementRequest(lamp, "RECEIPT", max),
+            new InventoryMovementRequest(lamp, "RECEIPT", max)))))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("businessCode", "INVALID_INVENTORY_MOVEMENT");
+        assertThat(inventoryMovementRepository.count()).isEqualTo(movementsBefore);
+        assertThat(productRepository.findById(lamp).orElseThrow().getUnitsInStock()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only run an on-demand reconciliation with the bearer token")
+    void givenNoToken_whenReconcileThroughActuator_thenUnauthorized() throws Exception {
+        // Given
+        createProduct("Ledger Shelf", 4);
+
+        // When & Then
+        mockMvc.perform(post("/actuator/inventory")).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/inventory").header("Authorization", "Bearer " + TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.mismatchCount").value(0));
+        mockMvc.perform(get("/actuator/inventory"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.mismatchCount").value(0));
+    }
+}
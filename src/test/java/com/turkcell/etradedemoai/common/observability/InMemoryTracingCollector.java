@@ -0,0 +1,31 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * In-process stand-in for the OTLP collector.
+ * Registers an in-memory span exporter next to (or instead of) the OTLP one
+ * so tests can inspect finished spans without a running collector.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class InMemoryTracingCollector {
+
+    @Bean
+    InMemorySpanExporter inMemorySpanExporter() {
+        return InMemorySpanExporter.create();
+    }
+
+    /**
+     * Flushes the batch span processor and returns everything collected so far.
+     */
+    public static List<SpanData> collect(SdkTracerProvider tracerProvider, InMemorySpanExporter exporter) {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        return exporter.getFinishedSpanItems();
+    }
+}
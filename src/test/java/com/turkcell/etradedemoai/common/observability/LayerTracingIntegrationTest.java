@@ -0,0 +1,97 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that a PUT /api/products/{id} produces one trace containing
+ * controller, business rule, repository and JDBC spans.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Import(InMemoryTracingCollector.class)
+@DisplayName("Layer tracing integration tests")
+class LayerTracingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long productId;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        Category category = categoryRepository.save(new Category("Electronics"));
+        Product product = productRepository.save(
+            new Product("Laptop", new BigDecimal("999.99"), 10, "Laptop", category));
+        categoryId = category.getId();
+        productId = product.getId();
+        InMemoryTracingCollector.collect(tracerProvider, spanExporter);
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("Should record controller, rules, repository and JDBC spans in a single trace")
+    void givenProductUpdate_whenTraced_thenAllLayersAppearInOneTrace() throws Exception {
+        String body = "{\"name\":\"Laptop Pro\",\"unitPrice\":1099.99,\"unitsInStock\":5,"
+            + "\"description\":\"Updated\",\"categoryId\":" + categoryId + "}";
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk());
+
+        List<SpanData> spans = InMemoryTracingCollector.collect(tracerProvider, spanExporter);
+        List<String> names = spans.stream().map(SpanData::getName).toList();
+
+        // Span names are kebab-cased and truncated to 50 characters by the tracing bridge
+        assertThat(names).contains(
+            "product-controller.update",
+            "product-business-rules.check-if-product-exists",
+            "product-business-rules.get-category-if-exists",
+            "product-repository.find-by-id",
+            "category-repository.find-by-id",
+            "product-repository.save",
+            "query");
+        assertThat(spans).extracting(SpanData::getTraceId).containsOnly(spans.get(0).getTraceId());
+    }
+}
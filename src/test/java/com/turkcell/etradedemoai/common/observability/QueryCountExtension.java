@@ -0,0 +1,64 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import java.util.Map;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JUnit extension that opens a SQL statistics scope around each test so
+ * service tests backed by a real database can assert how many statements
+ * an operation issues.
+ *
+ * Usage:
+ * <pre>
+ * &#64;RegisterExtension
+ * QueryCountExtension queries = new QueryCountExtension();
+ * ...
+ * queries.reset();
+ * productService.update(id, request);
+ * queries.assertStatementCount(4);
+ * </pre>
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        QueryStatisticsHolder.open();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        QueryStatisticsHolder.close();
+    }
+
+    /**
+     * Discards everything recorded so far, typically after arranging test data.
+     */
+    public void reset() {
+        QueryStatisticsHolder.open();
+    }
+
+    public RequestQueryStatistics statistics() {
+        return QueryStatisticsHolder.current();
+    }
+
+    public void assertStatementCount(int expected) {
+        assertThat(statistics().getStatementCount())
+            .as("SQL statements issued: %s", statistics().getStatementCounts().keySet())
+            .isEqualTo(expected);
+    }
+
+    public void assertStatementCountAtMost(int max) {
+        assertThat(statistics().getStatementCount())
+            .as("SQL statements issued: %s", statistics().getStatementCounts().keySet())
+            .isLessThanOrEqualTo(max);
+    }
+
+    public void assertNoRepeatedStatements() {
+        Map<String, Integer> repeated = statistics().getRepeatedStatements(2);
+        assertThat(repeated).as("Repeated SQL statements (possible N+1)").isEmpty();
+    }
+}
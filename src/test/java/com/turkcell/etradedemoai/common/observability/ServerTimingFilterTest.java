@@ -0,0 +1,88 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "etrade.server-timing.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Server-Timing header tests")
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        Category category = categoryRepository.save(new Category("Electronics"));
+        productId = productRepository.save(
+            new Product("Laptop", new BigDecimal("999.99"), 10, "Laptop", category)).getId();
+    }
+
+    @Test
+    @DisplayName("Should report db, rules, mapping and serialization phases with statement count")
+    void givenApiRequest_whenServerTimingEnabled_thenHeaderContainsBreakdown() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", productId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("Laptop"))
+            .andExpect(header().string(ServerTimingFilter.HEADER,
+                matchesPattern("db;dur=[0-9.]+;desc=\"2 statements\", rules;dur=[0-9.]+, mapping;dur=[0-9.]+, "
+                    + "serialization;dur=[0-9.]+, total;dur=[0-9.]+")));
+    }
+
+    @Test
+    @DisplayName("Should add the header to list responses")
+    void givenGetAll_whenServerTimingEnabled_thenHeaderPresent() throws Exception {
+        mockMvc.perform(get("/api/products"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ServerTimingFilter.HEADER, containsString("statements")));
+    }
+
+    @Test
+    @DisplayName("Should stream a body larger than the buffer limit with the header sent first")
+    void givenBodyAboveBufferLimit_whenServerTimingEnabled_thenHeaderPresentAndBodyComplete() throws Exception {
+        // Given
+        String description = "x".repeat(1000);
+        for (int i = 0; i < 100; i++) {
+            productRepository.save(new Product("Bulk " + i, new BigDecimal("1.00"), 1, description));
+        }
+
+        // When & Then
+        byte[] body = mockMvc.perform(get("/api/products"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ServerTimingFilter.HEADER, containsString("statements")))
+            .andExpect(jsonPath("$.items.length()").value(101))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body.length).isGreaterThan(ServerTimingFilter.BUFFER_LIMIT);
+    }
+}
@@ -0,0 +1,117 @@
+package com.turkcell.etradedemoai.common.observability;
+
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Product;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Slow query log tests")
+class SlowQueryEndpointTest {
+
+    static final String TOKEN = "test-actuator-token";
+
+    @Nested
+    @DisplayName("SQL shape normalisation")
+    class Normalisation {
+
+        @Test
+        @DisplayName("Should replace literals but keep alias digits")
+        void givenLiterals_whenNormalize_thenPlaceholdersAndAliasesKept() {
+            // When
+            String shape = SqlShapes.normalize("SELECT p1_0.id FROM products p1_0\n  WHERE p1_0.name = 'O''Brien' AND p1_0.unit_price > 10.5");
+
+            // Then
+            assertThat(shape).isEqualTo("select p1_0.id from products p1_0 where p1_0.name = ? and p1_0.unit_price > ?");
+        }
+
+        @Test
+        @DisplayName("Should collapse IN lists of any length into one shape")
+        void givenInListsOfDifferentLength_whenNormalize_thenSameShape() {
+            // When
+            String two = SqlShapes.normalize("select * from products where id in (?,?)");
+            String five = SqlShapes.normalize("select * from products where id in (?, ?, ?, ?, ?)");
+
+            // Then
+            assertThat(two).isEqualTo(five).isEqualTo("select * from products where id in (?...)");
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+        "etrade.slow-query.threshold=0ms",
+        "etrade.actuator.token=" + SlowQueryEndpointTest.TOKEN
+    })
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @DisplayName("With every statement counted as slow")
+    class Endpoint {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private SlowQueryLog slowQueryLog;
+
+        private Long productId;
+
+        @BeforeEach
+        void setUp() {
+            productId = productRepository.save(new Product("Secret Laptop", new BigDecimal("999.99"), 10, "Laptop")).getId();
+            slowQueryLog.reset();
+        }
+
+        @Test
+        @DisplayName("Should aggregate by shape, capture the plan once and never expose bind values")
+        void givenRepeatedSelects_whenReadSlowQueries_thenAggregatedWithPlan() throws Exception {
+            // Given
+            productRepository.findById(productId);
+            productRepository.findById(productId + 1);
+
+            // When & Then
+            String body = mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath("$.queries[?(@.sql =~ /select .* from products .* where .*id=\\?.*/)].count", hasItem(2)))
+                .andExpect(jsonPath("$.queries[?(@.sql =~ /select .* from products .* where .*id=\\?.*/)].parameterTypes[0]",
+                    hasItem("Long")))
+                .andExpect(jsonPath("$.queries[?(@.sql =~ /select .* from products .* where .*id=\\?.*/)].plan",
+                    hasItem(containsString("scanCount"))))
+                .andReturn().getResponse().getContentAsString();
+            assertThat(body).doesNotContain("Secret Laptop").doesNotContain("999.99");
+        }
+
+        @Test
+        @DisplayName("Should clear the aggregates on reset")
+        void givenRecordedQueries_whenReset_thenEmpty() throws Exception {
+            // Given
+            productRepository.findById(productId);
+
+            // When
+            mockMvc.perform(delete("/actuator/slowqueries")).andExpect(status().isUnauthorized());
+            mockMvc.perform(delete("/actuator/slowqueries").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isNoContent());
+
+            // Then
+            assertThat(slowQueryLog.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.turkcell.etradedemoai.common.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.business.abstracts.CategoryService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.category.CreateCategoryRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.OutboxEventRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.OutboxAggregateType;
+import com.turkcell.etradedemoai.entities.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Catalog outbox against a real database: events commit and roll back with the change they
+ * describe, and the relay publishes them in id order, at least once.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outbox-test;DB_CLOSE_DELAY=-1",
+    "etrade.outbox.poll-interval=1h",
+    "etrade.outbox.batch-size=2"
+})
+@ActiveProfiles("test")
+@DisplayName("Outbox relay tests")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxPublisher publisher;
+
+    @Autowired
+    private OutboxProperties properties;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private InMemoryOutboxPublisher broker;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        outboxEventRepository.deleteAllInBatch();
+        broker = (InMemoryOutboxPublisher) publisher;
+        broker.clear();
+    }
+
+    private Long createProduct(String name, Long categoryId) {
+        return productService.create(new CreateProductRequest(name, new BigDecimal("10.00"), 5, null, categoryId)).getId();
+    }
+
+    @Test
+    @DisplayName("Should publish product and category changes in the order they were written")
+    void givenCatalogChanges_whenRelay_thenPublishedInOrder() throws Exception {
+        // Given
+        Long categoryId = categoryService.create(new CreateCategoryRequest("Outbox Books")).getId();
+        Long productId = createProduct("Outbox Novel", categoryId);
+        productService.update(productId, new UpdateProductRequest("Outbox Novel", new BigDecimal("12.50"), 5, null, categoryId));
+        productService.deleteById(productId);
+
+        // When
+        int published = relay.relay();
+
+        // Then: batch size 2, so two full batches were drained in one run
+        assertThat(published).isEqualTo(4);
+        List<OutboxMessage> messages = broker.messages();
+        assertThat(messages).extracting(OutboxMessage::getAggregateType, OutboxMessage::getEventType)
+            .containsExactly(
+                tuple(OutboxAggregateType.CATEGORY, OutboxEventType.CREATED),
+                tuple(OutboxAggregateType.PRODUCT, OutboxEventType.CREATED),
+                tuple(OutboxAggregateType.PRODUCT, OutboxEventType.UPDATED),
+                tuple(OutboxAggregateType.PRODUCT, OutboxEventType.DELETED));
+        assertThat(messages).extracting(OutboxMessage::getId).isSorted();
+        JsonNode updated = objectMapper.readTree(messages.get(2).getPayload());
+        assertThat(updated.get("unitPrice").decimalValue()).isEqualByComparingTo("12.50");
+        assertThat(updated.get("categoryId").asLong()).isEqualTo(categoryId);
+        assertThat(outboxEventRepository.countByPublishedAtIsNull()).isZero();
+        assertThat(relay.getBacklog()).isZero();
+        assertThat(relay.relay()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not write an event for a change that was rolled back")
+    void givenRolledBackChange_whenRelay_thenNothingPublished() {
+        // Given
+        Long productId = createProduct("Outbox Lamp", null);
+        relay.relay();
+        broker.clear();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.update(productId, new UpdateProductRequest("Outbox Lamp", new BigDecimal("99.00"), 5, null, null));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(relay.relay()).isZero();
+        assertThat(broker.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep events unpublished while the broker rejects them and publish them later")
+    void givenFailingPublisher_whenRelay_thenEventsRetried() {
+        // Given
+        createProduct("Outbox Chair", null);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay failingRelay = new OutboxRelay(outboxEventRepository, messages -> {
+            throw new IllegalStateException("broker down");
+        }, transactionTemplate, properties, meterRegistry);
+
+        // When
+        int failed = failingRelay.relay();
+        int retried = relay.relay();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(meterRegistry.counter("etrade.outbox.publish.failures").count()).isEqualTo(1);
+        assertThat(retried).isEqualTo(1);
+        assertThat(broker.messages()).singleElement()
+            .extracting(OutboxMessage::getEventType).isEqualTo(OutboxEventType.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should append one JSON line per event with the payload embedded as an object")
+    void givenFilePublisher_whenPublish_thenJsonLinesAppended(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = directory.resolve("events/outbox.jsonl");
+        FileOutboxPublisher filePublisher = new FileOutboxPublisher(file, objectMapper);
+        OutboxMessage message = new OutboxMessage(7L, OutboxAggregateType.CATEGORY, 3L, OutboxEventType.DELETED,
+            "{\"id\":3}", Instant.parse("2025-01-01T00:00:00Z"));
+
+        // When
+        filePublisher.publish(List.of(message));
+        filePublisher.publish(List.of(message));
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode line = objectMapper.readTree(lines.get(0));
+        assertThat(line.get("id").asLong()).isEqualTo(7L);
+        assertThat(line.get("payload").get("id").asLong()).isEqualTo(3L);
+        assertThat(line.get("occurredAt").asText()).isEqualTo("2025-01-01T00:00:00Z");
+    }
+}
@@ -0,0 +1,143 @@
+package com.turkcell.etradedemoai.common.pricing;
+
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.dataAccess.DiscountRuleRepository;
+import com.turkcell.etradedemoai.entities.DiscountRule;
+import com.turkcell.etradedemoai.entities.DiscountScope;
+import com.turkcell.etradedemoai.entities.DiscountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pricing engine tests")
+class PricingEngineTest {
+
+    @Mock
+    private DiscountRuleRepository discountRuleRepository;
+
+    private PricingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PricingEngine(discountRuleRepository);
+    }
+
+    private static DiscountRule rule(long id, DiscountScope scope, long targetId, DiscountType type, String amount) {
+        DiscountRule rule = new DiscountRule("Rule " + id, scope, targetId, type, new BigDecimal(amount), null, null);
+        rule.setId(id);
+        return rule;
+    }
+
+    private static GetProductResponse product(long id, String unitPrice, Long categoryId) {
+        GetProductResponse product = new GetProductResponse();
+        product.setId(id);
+        product.setUnitPrice(new BigDecimal(unitPrice));
+        product.setCategoryId(categoryId);
+        return product;
+    }
+
+    private void load(DiscountRule... rules) {
+        when(discountRuleRepository.findLive(any(Instant.class))).thenReturn(List.of(rules));
+        engine.reload();
+    }
+
+    @Nested
+    @DisplayName("Evaluating prices")
+    class Evaluating {
+
+        @Test
+        @DisplayName("Should give each product the single best of its product and category rules")
+        void givenProductAndCategoryRules_whenApplyTo_thenLowestPriceWins() {
+            // Given
+            load(rule(1, DiscountScope.CATEGORY, 10, DiscountType.PERCENTAGE, "10"),
+                rule(2, DiscountScope.PRODUCT, 1, DiscountType.FIXED_AMOUNT, "25"),
+                rule(3, DiscountScope.PRODUCT, 2, DiscountType.PERCENTAGE, "5"));
+            GetProductResponse first = product(1, "200.00", 10L);
+            GetProductResponse second = product(2, "200.00", 10L);
+            GetProductResponse third = product(3, "99.99", null);
+
+            // When
+            engine.applyTo(List.of(first, second, third));
+
+            // Then
+            assertThat(first.getEffectivePrice()).isEqualByComparingTo("175.00");
+            assertThat(first.getAppliedDiscountId()).isEqualTo(2L);
+            assertThat(second.getEffectivePrice()).isEqualByComparingTo("180.00");
+            assertThat(second.getAppliedDiscountId()).isEqualTo(1L);
+            assertThat(third.getEffectivePrice()).isEqualByComparingTo("99.99");
+            assertThat(third.getAppliedDiscountId()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should round percentages to cents and never go below zero")
+        void givenLargeDiscounts_whenApplyTo_thenRoundedAndFloored() {
+            // Given
+            load(rule(1, DiscountScope.PRODUCT, 1, DiscountType.PERCENTAGE, "33.3"),
+                rule(2, DiscountScope.PRODUCT, 2, DiscountType.FIXED_AMOUNT, "50"));
+            GetProductResponse first = product(1, "10.00", null);
+            GetProductResponse second = product(2, "20.00", null);
+
+            // When
+            engine.applyTo(List.of(first, second));
+
+            // Then
+            assertThat(first.getEffectivePrice()).isEqualByComparingTo("6.67");
+            assertThat(second.getEffectivePrice()).isEqualByComparingTo("0.00");
+        }
+
+        @Test
+        @DisplayName("Should ignore rules outside their time window")
+        void givenRuleNotStartedYet_whenApplyTo_thenUnitPriceKept() {
+            // Given
+            DiscountRule upcoming = rule(1, DiscountScope.PRODUCT, 1, DiscountType.PERCENTAGE, "50");
+            upcoming.setStartsAt(Instant.now().plusSeconds(3600));
+            load(upcoming);
+            GetProductResponse item = product(1, "100.00", null);
+
+            // When
+            engine.applyTo(List.of(item));
+
+            // Then
+            assertThat(item.getEffectivePrice()).isEqualByComparingTo("100.00");
+            assertThat(item.getAppliedDiscountId()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reloading rules")
+    class Reloading {
+
+        @Test
+        @DisplayName("Should price with the new rule set only after a reload")
+        void givenChangedRules_whenReload_thenNewRulesApplied() {
+            // Given
+            load(rule(1, DiscountScope.PRODUCT, 1, DiscountType.PERCENTAGE, "10"));
+            GetProductResponse item = product(1, "100.00", null);
+            when(discountRuleRepository.findLive(any(Instant.class))).thenReturn(List.of());
+
+            // When
+            engine.applyTo(List.of(item));
+            BigDecimal beforeReload = item.getEffectivePrice();
+            engine.reload();
+            engine.applyTo(List.of(item));
+
+            // Then
+            assertThat(beforeReload).isEqualByComparingTo("90.00");
+            assertThat(item.getEffectivePrice()).isEqualByComparingTo("100.00");
+            assertThat(engine.getRuleCount()).isZero();
+        }
+    }
+}
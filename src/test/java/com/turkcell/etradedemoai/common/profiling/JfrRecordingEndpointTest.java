@@ -0,0 +1,145 @@
+package com.turkcell.etradedemoai.common.profiling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.business.abstracts.CategoryService;
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.UpdateProductRequest;
+import com.turkcell.etradedemoai.common.BusinessException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("JFR recording endpoint tests")
+class JfrRecordingEndpointTest {
+
+    private static final String TOKEN = "test-jfr-token";
+
+    @Nested
+    @SpringBootTest(properties = "etrade.jfr.token=" + TOKEN)
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @DisplayName("With a token configured")
+    class WithToken {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ProductService productService;
+
+        @Autowired
+        private CategoryService categoryService;
+
+        @Test
+        @DisplayName("Should reject requests without the bearer token")
+        void givenNoToken_whenListRecordings_thenUnauthorized() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/actuator/jfr")).andExpect(status().isUnauthorized());
+            mockMvc.perform(get("/actuator/jfr").header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown settings profiles")
+        void givenUnknownSettings_whenStart_thenBadRequest() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/actuator/jfr")
+                    .header("Authorization", "Bearer " + TOKEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"settings\":\"nope\"}"))
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should record service operations and rule failures and stream the file back")
+        void givenRunningRecording_whenServicesCalled_thenEventsInDownloadedFile(@TempDir Path tempDir) throws Exception {
+            // Given
+            String started = mockMvc.perform(post("/actuator/jfr")
+                    .header("Authorization", "Bearer " + TOKEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"settings\":\"profile\",\"duration\":\"30s\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andReturn().getResponse().getContentAsString();
+            long id = objectMapper.readTree(started).get("id").asLong();
+
+            // When
+            categoryService.getAll();
+            assertThatThrownBy(() -> productService.update(-1L, new UpdateProductRequest())).isInstanceOf(BusinessException.class);
+            mockMvc.perform(post("/actuator/jfr/{id}", id).header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+            byte[] content = mockMvc.perform(get("/actuator/jfr/{id}", id).header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+            // Then
+            Path file = Files.write(tempDir.resolve("recording.jfr"), content);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.turkcell.etradedemoai.ServiceOperation"))
+                .anySatisfy(event -> {
+                    assertThat(event.getString("service")).isEqualTo("CategoryServiceImpl");
+                    assertThat(event.getString("operation")).isEqualTo("getAll");
+                    assertThat(event.getBoolean("failed")).isFalse();
+                })
+                .anySatisfy(event -> {
+                    assertThat(event.getString("operation")).isEqualTo("update");
+                    assertThat(event.getBoolean("failed")).isTrue();
+                });
+            assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("com.turkcell.etradedemoai.BusinessRuleFailure"))
+                .anySatisfy(event -> assertThat(event.getString("rule"))
+                    .isEqualTo("ProductBusinessRules.checkIfProductExists"));
+
+            String deleted = mockMvc.perform(delete("/actuator/jfr/{id}", id).header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            JsonNode report = objectMapper.readTree(deleted);
+            assertThat(report.get("state").asText()).isEqualTo("CLOSED");
+        }
+    }
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @DisplayName("Without a token configured")
+    class WithoutToken {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("Should refuse every request")
+        void givenNoConfiguredToken_whenListRecordings_thenForbidden() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/actuator/jfr").header("Authorization", "Bearer anything"))
+                .andExpect(status().isForbidden());
+        }
+    }
+}
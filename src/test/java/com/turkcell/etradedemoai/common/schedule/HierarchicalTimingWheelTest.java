@@ -0,0 +1,93 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Hierarchical timing wheel tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should expire entries in deadline order and not before their deadline")
+    void givenEntriesOnLevelZero_whenAdvance_thenExpiredInDeadlineOrder() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("c", START + 50);
+        wheel.schedule("a", START + 10);
+        wheel.schedule("b", START + 30);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(START + 40, expired::add);
+
+        // Then
+        assertThat(expired).containsExactly("a", "b");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cascade far deadlines down the levels and expire them on time")
+    void givenDeadlinesOnHigherLevels_whenAdvance_thenExpiredOnTheirTick() {
+        // Given: 8 slots of 10 ms, so level 1 starts at 80 ms and level 2 at 640 ms ahead
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("level2", START + 3_000);
+        wheel.schedule("level1", START + 250);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(START + 240, expired::add);
+        List<String> beforeLevel1 = List.copyOf(expired);
+        wheel.advance(START + 250, expired::add);
+        wheel.advance(START + 2_990, expired::add);
+        List<String> beforeLevel2 = List.copyOf(expired);
+        wheel.advance(START + 3_000, expired::add);
+
+        // Then
+        assertThat(beforeLevel1).isEmpty();
+        assertThat(beforeLevel2).containsExactly("level1");
+        assertThat(expired).containsExactly("level1", "level2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep deadlines beyond the top level for extra revolutions")
+    void givenDeadlineBeyondWheelSpan_whenAdvance_thenExpiredOnlyAtDeadline() {
+        // Given: 4 slots of 10 ms on 2 levels cover 160 ms
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 2, START);
+        wheel.schedule("far", START + 1_000);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(START + 990, expired::add);
+        List<String> early = List.copyOf(expired);
+        wheel.advance(START + 1_000, expired::add);
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should expire deadlines that have already passed on the next advance")
+    void givenPastDeadline_whenAdvance_thenExpiredOnNextTick() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule("overdue", START - 5_000);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(START, expired::add);
+        List<String> sameTick = List.copyOf(expired);
+        wheel.advance(START + 10, expired::add);
+
+        // Then
+        assertThat(sameTick).isEmpty();
+        assertThat(expired).containsExactly("overdue");
+    }
+}
@@ -0,0 +1,226 @@
+package com.turkcell.etradedemoai.common.schedule;
+
+import com.turkcell.etradedemoai.business.abstracts.ProductService;
+import com.turkcell.etradedemoai.business.abstracts.ScheduledChangeService;
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduleProductChangesRequest;
+import com.turkcell.etradedemoai.business.dtos.requests.schedule.ScheduledProductChangeRequest;
+import com.turkcell.etradedemoai.dataAccess.InventoryMovementRepository;
+import com.turkcell.etradedemoai.dataAccess.PriceHistoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.dataAccess.ScheduledProductChangeRepository;
+import com.turkcell.etradedemoai.entities.InventoryMovement;
+import com.turkcell.etradedemoai.entities.InventoryMovementType;
+import com.turkcell.etradedemoai.entities.ScheduledChangeStatus;
+import com.turkcell.etradedemoai.entities.ScheduledProductChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scheduled changes against a real database with a 50 ms wheel: due changes reach the product,
+ * the ledger, the price history and the cache; missed activations are applied on start.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:scheduled-change-test;DB_CLOSE_DELAY=-1",
+    "etrade.scheduled-changes.tick=50ms",
+    "etrade.scheduled-changes.sweep-interval=1h"
+})
+@ActiveProfiles("test")
+@DisplayName("Scheduled product change tests")
+class ScheduledProductChangeTest {
+
+    @Autowired
+    private ScheduledChangeService scheduledChangeService;
+
+    @Autowired
+    private ScheduledChangeApplier applier;
+
+    @Autowired
+    private ScheduledChangeActivator activator;
+
+    @Autowired
+    private ScheduledChangeProperties properties;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ScheduledProductChangeRepository changeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryMovementRepository inventoryMovementRepository;
+
+    @Autowired
+    private PriceHistoryRepository priceHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        changeRepository.deleteAllInBatch();
+        jdbcTemplate.update("delete from inventory_snapshots");
+        inventoryMovementRepository.deleteAllInBatch();
+        priceHistoryRepository.deleteAllInBatch();
+        productRepository.deleteAll();
+        productId = productService.create(
+            new CreateProductRequest("Scheduled Lamp", new BigDecimal("100.00"), 10, "Desk lamp", null)).getId();
+    }
+
+    private Long schedule(Instant effectiveAt, String price, Integer stock) {
+        ScheduledProductChangeRequest change = new ScheduledProductChangeRequest(
+            productId, effectiveAt, price == null ? null : new BigDecimal(price), stock, null);
+        return scheduledChangeService.create(new ScheduleProductChangesRequest(List.of(change)))
+            .getItems().get(0).getId();
+    }
+
+    private ScheduledProductChange awaitSettled(Long changeId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            ScheduledProductChange change = changeRepository.findById(changeId).orElseThrow();
+            if (change.getStatus() != ScheduledChangeStatus.PENDING) {
+                return change;
+            }
+            Thread.sleep(50);
+        }
+        return changeRepository.findById(changeId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should apply a change at its activation time with ledger, price history and cache updated")
+    void givenScheduledChange_whenDue_thenAppliedToProduct() throws InterruptedException {
+        // Given
+        assertThat(productService.getById(productId)).isPresent();
+        Instant effectiveAt = Instant.now().plusMillis(300);
+
+        // When
+        Long changeId = schedule(effectiveAt, "80.00", 25);
+        assertThat(changeRepository.findById(changeId).orElseThrow().getStatus()).isEqualTo(ScheduledChangeStatus.PENDING);
+        ScheduledProductChange change = awaitSettled(changeId);
+
+        // Then
+        assertThat(change.getStatus()).isEqualTo(ScheduledChangeStatus.APPLIED);
+        assertThat(change.getAppliedAt()).isAfterOrEqualTo(effectiveAt);
+        assertThat(productService.getById(productId)).hasValueSatisfying(product -> {
+            assertThat(product.getUnitPrice()).isEqualByComparingTo("80.00");
+            assertThat(product.getUnitsInStock()).isEqualTo(25);
+        });
+        assertThat(inventoryMovementRepository.findTop20ByProductIdOrderByIdDesc(productId))
+            .first()
+            .satisfies(movement -> {
+                assertThat(movement.getType()).isEqualTo(InventoryMovementType.ADJUSTMENT);
+                assertThat(movement.getQuantity()).isEqualTo(15);
+            });
+        assertThat(priceHistoryRepository.findByProductIdOrderByValidFromAsc(productId)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should apply changes whose activation passed while no activator was running")
+    void givenMissedActivation_whenActivatorStarts_thenChangeCaughtUp() throws InterruptedException {
+        // Given: stored directly, so the running activator's wheel never sees it
+        ScheduledProductChange missed = changeRepository.save(new ScheduledProductChange(
+            productId, Instant.now().minusSeconds(60), null, 4, null));
+
+        // When
+        try (ScheduledChangeActivator restarted = new ScheduledChangeActivator(changeRepository, applier, properties)) {
+            restarted.start();
+            ScheduledProductChange change = awaitSettled(missed.getId());
+
+            // Then
+            assertThat(change.getStatus()).isEqualTo(ScheduledChangeStatus.APPLIED);
+        }
+        assertThat(productRepository.findById(productId).orElseThrow().getUnitsInStock()).isEqualTo(4);
+        assertThat(inventoryMovementRepository.findTop20ByProductIdOrderByIdDesc(productId))
+            .extracting(InventoryMovement::getQuantity)
+            .contains(-6);
+    }
+
+    @Test
+    @DisplayName("Should skip a change that was cancelled before its activation time")
+    void givenCancelledChange_whenDue_thenNotApplied() throws InterruptedException {
+        // Given
+        Long changeId = schedule(Instant.now().plusMillis(200), "50.00", null);
+
+        // When
+        scheduledChangeService.cancel(changeId);
+        Thread.sleep(500);
+
+        // Then
+        assertThat(changeRepository.findById(changeId).orElseThrow().getStatus()).isEqualTo(ScheduledChangeStatus.CANCELLED);
+        assertThat(productRepository.findById(productId).orElseThrow().getUnitPrice()).isEqualByComparingTo("100.00");
+        assertThat(activator.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should mark a change failed when its product no longer exists")
+    void givenDeletedProduct_whenApply_thenChangeFailed() {
+        // Given
+        ScheduledProductChange orphan = changeRepository.save(new ScheduledProductChange(
+            -1L, Instant.now().minusSeconds(1), new BigDecimal("10.00"), null, null));
+
+        // When
+        int applied = applier.apply(List.of(orphan.getId()));
+
+        // Then
+        assertThat(applied).isZero();
+        ScheduledProductChange change = changeRepository.findById(orphan.getId()).orElseThrow();
+        assertThat(change.getStatus()).isEqualTo(ScheduledChangeStatus.FAILED);
+        assertThat(change.getFailureReason()).isEqualTo("Product not found");
+    }
+
+    @Test
+    @DisplayName("Should apply a change once when several instances sweep it at the same time")
+    void givenConcurrentSweeps_whenApplySameChange_thenAppliedOnce() throws Exception {
+        // Given
+        ScheduledProductChange due = changeRepository.save(new ScheduledProductChange(
+            productId, Instant.now().minusSeconds(1), new BigDecimal("90.00"), 13, null));
+        int instances = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(instances);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < instances; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return applier.apply(List.of(due.getId()));
+            }));
+        }
+        start.countDown();
+        int applied = 0;
+        for (Future<Integer> result : results) {
+            applied += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(changeRepository.findById(due.getId()).orElseThrow().getStatus()).isEqualTo(ScheduledChangeStatus.APPLIED);
+        assertThat(inventoryMovementRepository.findTop20ByProductIdOrderByIdDesc(productId))
+            .filteredOn(movement -> ScheduledChangeApplier.LEDGER_REFERENCE.equals(movement.getReference()))
+            .singleElement()
+            .satisfies(movement -> assertThat(movement.getQuantity()).isEqualTo(3));
+        assertThat(priceHistoryRepository.findByProductIdOrderByValidFromAsc(productId)).hasSize(2);
+    }
+}
@@ -0,0 +1,61 @@
+package com.turkcell.etradedemoai.common.startup;
+
+import com.turkcell.etradedemoai.common.CorsConfig;
+import com.turkcell.etradedemoai.config.OpenApiConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Lazy non-critical beans post-processor tests")
+class LazyNonCriticalBeansPostProcessorTest {
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("openApiConfig", new RootBeanDefinition(OpenApiConfig.class));
+        beanFactory.registerBeanDefinition("customOpenAPI", BeanDefinitionBuilder.genericBeanDefinition()
+            .setFactoryMethodOnBean("customOpenAPI", "openApiConfig").getBeanDefinition());
+        beanFactory.registerBeanDefinition("corsConfig", new RootBeanDefinition(CorsConfig.class));
+        beanFactory.registerBeanDefinition("productController", new RootBeanDefinition(
+            "com.turkcell.etradedemoai.api.controllers.ProductController"));
+        RootBeanDefinition infrastructure = new RootBeanDefinition(OpenApiConfig.class);
+        infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        beanFactory.registerBeanDefinition("infrastructure", infrastructure);
+    }
+
+    @Test
+    @DisplayName("Should make beans lazy by class or declaring configuration prefix")
+    void givenPrefixes_whenPostProcessed_thenMatchingBeansLazy() {
+        // When
+        new LazyNonCriticalBeansPostProcessor(List.of(OpenApiConfig.class.getName(), CorsConfig.class.getName()))
+            .postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("openApiConfig").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("customOpenAPI").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("corsConfig").isLazyInit()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave API and infrastructure beans eager")
+    void givenUnmatchedOrInfrastructureBeans_whenPostProcessed_thenStillEager() {
+        // When
+        new LazyNonCriticalBeansPostProcessor(List.of(OpenApiConfig.class.getName()))
+            .postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("productController").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("corsConfig").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("infrastructure").isLazyInit()).isFalse();
+    }
+}
@@ -0,0 +1,130 @@
+package com.turkcell.etradedemoai.common.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.etradedemoai.common.cache.CacheNames;
+import com.turkcell.etradedemoai.common.cache.HotKeyTrackingCacheManager;
+import com.turkcell.etradedemoai.dataAccess.CategoryRepository;
+import com.turkcell.etradedemoai.dataAccess.ProductRepository;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:warmup-test;DB_CLOSE_DELAY=-1",
+    "etrade.warmup.enabled=true",
+    "etrade.warmup.time-budget=10s",
+    "etrade.warmup.pool-connections=3",
+    "etrade.warmup.preload-size=20",
+    "etrade.warmup.round-size=50",
+    "etrade.warmup.stable-rounds=2",
+    "etrade.warmup.stability-tolerance=1.0"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Startup warm-up tests")
+class WarmupRunnerTest {
+
+    @TempDir
+    static Path tempDir;
+
+    @DynamicPropertySource
+    static void hotKeysFile(DynamicPropertyRegistry registry) {
+        registry.add("etrade.warmup.hot-keys-file", () -> tempDir.resolve("hot-keys.json").toString());
+    }
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private HotKeySnapshot hotKeySnapshot;
+
+    @Autowired
+    private HotKeyTrackingCacheManager cacheManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        cacheManager.getCache(CacheNames.PRODUCTS).clear();
+        cacheManager.getCache(CacheNames.CATEGORIES).clear();
+        Category category = categoryRepository.save(new Category("Electronics"));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            products.add(new Product("Product " + i, new BigDecimal("9.99"), i, "Warm-up product", category));
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should open pool connections, preload caches and replay until stable")
+    void givenCatalog_whenWarmUp_thenCachesLoadedAndLatencyStabilised() {
+        // When
+        WarmupResult result = warmupRunner.warmUp();
+
+        // Then
+        assertThat(result.getPoolConnections()).isEqualTo(3);
+        assertThat(result.getPreloadedProducts()).isEqualTo(20);
+        assertThat(result.getPreloadedCategories()).isEqualTo(1);
+        assertThat(result.getRounds()).isGreaterThanOrEqualTo(3);
+        assertThat(result.isStabilised()).isTrue();
+        assertThat(cacheManager.getCache(CacheNames.PRODUCTS).get(productIds.get(0))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should preload the hottest ids from the snapshot before the lowest ids")
+    void givenSnapshot_whenWarmUp_thenHotIdsPreloaded() throws Exception {
+        // Given
+        Long hottest = productIds.get(productIds.size() - 1);
+        objectMapper.writeValue(tempDir.resolve("hot-keys.json").toFile(), Map.of(CacheNames.PRODUCTS, List.of(hottest)));
+
+        // When
+        warmupRunner.warmUp();
+
+        // Then
+        assertThat(cacheManager.getCache(CacheNames.PRODUCTS).get(hottest)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should save the tracked hot keys for the next start")
+    void givenTrackedReads_whenSnapshotSaved_thenHotIdsReadBack() {
+        // Given
+        Long id = productIds.get(5);
+        for (int i = 0; i < 5; i++) {
+            cacheManager.getCache(CacheNames.PRODUCTS).get(id);
+        }
+
+        // When
+        hotKeySnapshot.save(cacheManager);
+
+        // Then
+        assertThat(hotKeySnapshot.load().get(CacheNames.PRODUCTS)).contains(id);
+    }
+}
@@ -0,0 +1,59 @@
+package com.turkcell.etradedemoai.config;
+
+import com.turkcell.etradedemoai.business.dtos.requests.product.CreateProductRequest;
+import com.turkcell.etradedemoai.business.dtos.responses.category.GetAllCategoriesResponse;
+import com.turkcell.etradedemoai.business.dtos.responses.product.GetProductResponse;
+import com.turkcell.etradedemoai.business.mappers.ProductMapperImpl;
+import com.turkcell.etradedemoai.common.BaseEntity;
+import com.turkcell.etradedemoai.common.observability.JdbcTimingSessionListener;
+import com.turkcell.etradedemoai.entities.Category;
+import com.turkcell.etradedemoai.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Native image runtime hints tests")
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeImageHints.Registrar().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register field and constructor access for entities and their base class")
+    void givenEntities_whenRegistered_thenFieldsAndConstructorsReachable() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Product.class)
+            .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Category.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BaseEntity.class)
+            .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register Jackson binding for request and response DTOs")
+    void givenDtos_whenRegistered_thenAccessorsReachable() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(CreateProductRequest.class.getMethod("setName", String.class)))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GetProductResponse.class.getMethod("getCategoryName")))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(GetAllCategoriesResponse.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the generated mappers and the Hibernate session listener")
+    void givenMappersAndListener_whenRegistered_thenConstructorsReachable() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductMapperImpl.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(JdbcTimingSessionListener.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
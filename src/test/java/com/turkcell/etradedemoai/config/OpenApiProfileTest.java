@@ -0,0 +1,87 @@
+package com.turkcell.etradedemoai.config;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("OpenAPI document tests")
+class OpenApiProfileTest {
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @DisplayName("Default profile")
+    class DefaultProfile {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("Should build the document at runtime with the configured metadata")
+        void givenDefaultProfile_whenGetApiDocs_thenDocumentServed() throws Exception {
+            mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.info.title").value("eTradeDemoAI API"))
+                .andExpect(jsonPath("$.paths['/api/products/{id}']").exists());
+        }
+    }
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ActiveProfiles({"test", "prod"})
+    @DisplayName("Prod profile")
+    class ProdProfile {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Test
+        @DisplayName("Should not scan controllers at runtime")
+        void givenProdProfile_whenGetApiDocs_thenNotFound() throws Exception {
+            mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should serve the build-time document as a static resource")
+        void givenProdProfile_whenGetStaticDocument_thenServedUncompressed() throws Exception {
+            mockMvc.perform(get("/openapi/openapi.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.info.title").value("eTradeDemoAI API"));
+        }
+
+        @Test
+        @DisplayName("Should serve the precompressed copy to clients accepting gzip")
+        void givenAcceptEncodingGzip_whenGetStaticDocument_thenGzipVariantServed() throws Exception {
+            // When
+            byte[] body = mockMvc.perform(get("/openapi/openapi.json").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+            // Then
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"title\":\"eTradeDemoAI API\"");
+            }
+        }
+    }
+}